@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+
+/**
+ * An ordered set of indices into a source list, such as the indices of the
+ * elements that pass the predicate of a {@code FilteredList}.
+ * <p>
+ * The members are kept in a treap that is ordered by position. Instead of the
+ * index itself, every node stores the distance to the previous member (its
+ * gap), and every subtree stores its size and the sum of its gaps. This makes
+ * it possible to find the k-th member, to count the members below an index,
+ * to add or remove a member, and to shift all members above an index when the
+ * source list grows or shrinks, in O(log n) time, where n is the number of
+ * members. Sequential calls to {@link #get(int)} take amortized constant time.
+ * When many random accesses happen without modifications in between, the
+ * members are copied to a flat array, which makes the following random
+ * accesses take constant time as well.
+ * <p>
+ * The nodes are stored in primitive arrays, so none of the operations allocate
+ * unless the arrays need to grow.
+ */
+public final class IndexSubset {
+
+    private static final int NIL = -1;
+
+    private int[] left;
+    private int[] right;
+    private int[] priority;
+    private int[] gap;
+    private int[] count;
+    private int[] sum;
+
+    private int root = NIL;
+    private int nodeCount;
+    private int freeList = NIL;
+    private int seed = 0x2545F491;
+
+    // Cursor for sequential access. The stack contains the ancestors of the
+    // cursor node whose left subtree contains the cursor node.
+    private int cursorIndex = -1;
+    private int cursorNode = NIL;
+    private int cursorValue;
+    private int[] cursorStack = new int[32];
+    private int cursorDepth;
+
+    // Flat copy of the members, only valid while flatValid is true. It is
+    // created when the number of random accesses since the last modification
+    // exceeds a fraction of the size.
+    private int[] flat;
+    private boolean flatValid;
+    private int randomAccesses;
+
+    public IndexSubset() {
+        this(16);
+    }
+
+    public IndexSubset(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Returns the number of members.
+     */
+    public int size() {
+        return root == NIL ? 0 : count[root];
+    }
+
+    /**
+     * Returns the member at the given position, which is the
+     * {@code position}-th smallest index in this set.
+     */
+    public int get(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        if (flatValid) {
+            return flat[position];
+        }
+        if (position == cursorIndex) {
+            return cursorValue;
+        }
+        if (position == cursorIndex + 1 && cursorNode != NIL) {
+            advanceCursor();
+            return cursorValue;
+        }
+        if (++randomAccesses > (size() >> 5)) {
+            buildFlat();
+            return flat[position];
+        }
+
+        cursorDepth = 0;
+        int node = root;
+        int k = position;
+        int value = -1;
+        while (true) {
+            int l = left[node];
+            int lc = l == NIL ? 0 : count[l];
+            if (k < lc) {
+                pushCursor(node);
+                node = l;
+            } else {
+                value += (l == NIL ? 0 : sum[l]) + gap[node];
+                if (k == lc) {
+                    break;
+                }
+                k -= lc + 1;
+                node = right[node];
+            }
+        }
+        cursorIndex = position;
+        cursorNode = node;
+        cursorValue = value;
+        return value;
+    }
+
+    /**
+     * Returns the number of members that are smaller than the given index.
+     */
+    public int rank(int index) {
+        int node = root;
+        int rank = 0;
+        int base = -1;
+        while (node != NIL) {
+            int l = left[node];
+            int value = base + (l == NIL ? 0 : sum[l]) + gap[node];
+            if (value < index) {
+                rank += (l == NIL ? 0 : count[l]) + 1;
+                base = value;
+                node = right[node];
+            } else {
+                node = l;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the position of the given index in this set, or
+     * {@code (-(insertion point) - 1)} if it is not a member, in the
+     * same way as {@link Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int index) {
+        int position = rank(index);
+        if (position < size() && get(position) == index) {
+            return position;
+        }
+        return -position - 1;
+    }
+
+    /**
+     * Adds the given index, which must not be a member, and returns its
+     * position.
+     */
+    public int add(int index) {
+        int position = rank(index);
+        int previous = position == 0 ? -1 : get(position - 1);
+        invalidateCursor();
+
+        int node = newNode(index - previous);
+        if (position < size()) {
+            // the next member is now relative to the new member
+            adjustGap(position, previous - index);
+        }
+        int[] parts = split(root, position);
+        root = merge(merge(parts[0], node), parts[1]);
+        return position;
+    }
+
+    /**
+     * Removes the member at the given position.
+     */
+    public void removeAt(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        invalidateCursor();
+        int[] parts = split(root, position);
+        int lower = parts[0];
+        parts = split(parts[1], 1);
+        int node = parts[0];
+        int upper = parts[1];
+        int removedGap = gap[node];
+        freeNode(node);
+        root = merge(lower, upper);
+        if (position < size()) {
+            adjustGap(position, removedGap);
+        }
+    }
+
+    /**
+     * Updates this set after {@code length} elements were inserted into the
+     * source list at {@code from}. Every member greater than or equal to
+     * {@code from} is increased by {@code length}.
+     */
+    public void insertRange(int from, int length) {
+        if (length == 0) {
+            return;
+        }
+        int position = rank(from);
+        if (position < size()) {
+            invalidateCursor();
+            adjustGap(position, length);
+        }
+    }
+
+    /**
+     * Updates this set after {@code length} elements were removed from the
+     * source list at {@code from}. Every member in the removed range is
+     * removed, and every member above the range is decreased by
+     * {@code length}.
+     */
+    public void removeRange(int from, int length) {
+        if (length == 0) {
+            return;
+        }
+        invalidateCursor();
+        int lowerCount = rank(from);
+        int upperStart = rank(from + length);
+        int[] parts = split(root, lowerCount);
+        int lower = parts[0];
+        parts = split(parts[1], upperStart - lowerCount);
+        int removed = parts[0];
+        int upper = parts[1];
+        int removedSum = removed == NIL ? 0 : sum[removed];
+        freeTree(removed);
+        root = merge(lower, upper);
+        if (lowerCount < size()) {
+            adjustGap(lowerCount, removedSum - length);
+        }
+    }
+
+    /**
+     * Removes all members.
+     */
+    public void clear() {
+        invalidateCursor();
+        root = NIL;
+        nodeCount = 0;
+        freeList = NIL;
+    }
+
+    /**
+     * Replaces all members with the first {@code length} elements of the given
+     * array, which must be sorted in ascending order and free of duplicates.
+     * This takes O(length) time.
+     */
+    public void setAll(int[] indices, int length) {
+        clear();
+        if (left.length < length) {
+            allocate(Math.max(length, left.length << 1));
+        }
+        nodeCount = length;
+        root = build(indices, 0, length, 0);
+    }
+
+    private int build(int[] indices, int from, int to, int depth) {
+        if (from >= to) {
+            return NIL;
+        }
+        int mid = (from + to) >>> 1;
+        int node = mid;
+        // Priorities decrease with the depth, which keeps the heap order
+        // of the treap while the tree is perfectly balanced.
+        priority[node] = Integer.MAX_VALUE >>> Math.min(depth, 31);
+        gap[node] = indices[mid] - (mid == 0 ? -1 : indices[mid - 1]);
+        left[node] = build(indices, from, mid, depth + 1);
+        right[node] = build(indices, mid + 1, to, depth + 1);
+        update(node);
+        return node;
+    }
+
+    /*
+     * Adds delta to the gap of the member at the given position.
+     */
+    private void adjustGap(int position, int delta) {
+        int node = root;
+        int k = position;
+        while (true) {
+            sum[node] += delta;
+            int l = left[node];
+            int lc = l == NIL ? 0 : count[l];
+            if (k < lc) {
+                node = l;
+            } else if (k == lc) {
+                gap[node] += delta;
+                return;
+            } else {
+                k -= lc + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    private void advanceCursor() {
+        int node = right[cursorNode];
+        if (node != NIL) {
+            while (left[node] != NIL) {
+                pushCursor(node);
+                node = left[node];
+            }
+        } else {
+            node = cursorStack[--cursorDepth];
+        }
+        cursorNode = node;
+        cursorValue += gap[node];
+        cursorIndex++;
+    }
+
+    private void pushCursor(int node) {
+        if (cursorDepth == cursorStack.length) {
+            cursorStack = Arrays.copyOf(cursorStack, cursorDepth << 1);
+        }
+        cursorStack[cursorDepth++] = node;
+    }
+
+    private void invalidateCursor() {
+        cursorIndex = -1;
+        cursorNode = NIL;
+        flatValid = false;
+        randomAccesses = 0;
+    }
+
+    private void buildFlat() {
+        int size = size();
+        if (flat == null || flat.length < size) {
+            flat = new int[Math.max(size, left.length)];
+        }
+        // in-order traversal
+        int depth = 0;
+        int node = root;
+        int value = -1;
+        int i = 0;
+        int[] stack = cursorStack;
+        while (node != NIL || depth > 0) {
+            while (node != NIL) {
+                if (depth == stack.length) {
+                    stack = cursorStack = Arrays.copyOf(stack, depth << 1);
+                }
+                stack[depth++] = node;
+                node = left[node];
+            }
+            node = stack[--depth];
+            value += gap[node];
+            flat[i++] = value;
+            node = right[node];
+        }
+        // the traversal used the cursor stack
+        cursorIndex = -1;
+        cursorNode = NIL;
+        flatValid = true;
+    }
+
+    /*
+     * Splits the tree into the first k nodes and the remaining nodes.
+     */
+    private int[] split(int node, int k) {
+        splitResult[0] = NIL;
+        splitResult[1] = NIL;
+        if (node != NIL) {
+            splitImpl(node, k);
+        }
+        return splitResult;
+    }
+
+    private final int[] splitResult = new int[2];
+
+    private void splitImpl(int node, int k) {
+        if (node == NIL) {
+            splitResult[0] = NIL;
+            splitResult[1] = NIL;
+            return;
+        }
+        int l = left[node];
+        int lc = l == NIL ? 0 : count[l];
+        if (k <= lc) {
+            splitImpl(l, k);
+            left[node] = splitResult[1];
+            update(node);
+            splitResult[1] = node;
+        } else {
+            splitImpl(right[node], k - lc - 1);
+            right[node] = splitResult[0];
+            update(node);
+            splitResult[0] = node;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priority[a] >= priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        } else {
+            left[b] = merge(a, left[b]);
+            update(b);
+            return b;
+        }
+    }
+
+    private void update(int node) {
+        int l = left[node];
+        int r = right[node];
+        int c = 1;
+        int s = gap[node];
+        if (l != NIL) {
+            c += count[l];
+            s += sum[l];
+        }
+        if (r != NIL) {
+            c += count[r];
+            s += sum[r];
+        }
+        count[node] = c;
+        sum[node] = s;
+    }
+
+    private int newNode(int nodeGap) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            if (nodeCount == left.length) {
+                grow(nodeCount << 1);
+            }
+            node = nodeCount++;
+        }
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        priority[node] = seed >>> 1;
+        left[node] = NIL;
+        right[node] = NIL;
+        gap[node] = nodeGap;
+        count[node] = 1;
+        sum[node] = nodeGap;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        left[node] = freeList;
+        freeList = node;
+    }
+
+    private void freeTree(int node) {
+        if (node != NIL) {
+            freeTree(left[node]);
+            freeTree(right[node]);
+            freeNode(node);
+        }
+    }
+
+    private void allocate(int capacity) {
+        left = new int[capacity];
+        right = new int[capacity];
+        priority = new int[capacity];
+        gap = new int[capacity];
+        count = new int[capacity];
+        sum = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        gap = Arrays.copyOf(gap, capacity);
+        count = Arrays.copyOf(count, capacity);
+        sum = Arrays.copyOf(sum, capacity);
+    }
+}
@@ -32,8 +32,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.RandomAccess;
 
-import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
-
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.collections.ModifiableObservableListBase;
@@ -226,7 +224,9 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
     @Override
     public void doSort(Comparator<? super E> comparator) {
         int[] perm = getSortHelper().sort(backingList, comparator);
-        fireChange(new SimplePermutationChange<>(0, size(), perm, this));
+        beginChange();
+        nextPermutation(0, size(), perm);
+        endChange();
     }
 
     private SortHelper getSortHelper() {
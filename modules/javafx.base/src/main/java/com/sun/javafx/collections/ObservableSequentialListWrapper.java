@@ -31,8 +31,6 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
-import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
-
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.collections.ModifiableObservableListBase;
@@ -246,7 +244,9 @@ public class ObservableSequentialListWrapper<E> extends ModifiableObservableList
     @Override
     public void doSort(Comparator<? super E> comparator) {
         int[] perm = getSortHelper().sort(backingList, comparator);
-        fireChange(new SimplePermutationChange<>(0, size(), perm, this));
+        beginChange();
+        nextPermutation(0, size(), perm);
+        endChange();
     }
 
     private SortHelper getSortHelper() {
@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A one-to-one mapping between the positions of the elements of a source
+ * list and the positions of the same elements in a view of that list, such
+ * as the view of a {@code SortedList}.
+ * <p>
+ * Every element is represented by a node, and the nodes are kept in two
+ * treaps at the same time: one ordered by source position, and one ordered by
+ * view position. Every node knows the size of its subtrees and its parent in
+ * both treaps, so looking up a node by position, computing the position of a
+ * node, and inserting or removing a node at any source and view position all
+ * take O(log n) time, where n is the number of elements. When many lookups
+ * happen without modifications in between, the mapping is copied to flat
+ * arrays, which makes the following lookups take constant time.
+ * <p>
+ * The nodes are numbered from 0 to {@code size() - 1}, so that callers can
+ * keep per-node data in an array. When a node is removed, the node with the
+ * highest number takes over its number, see {@link #remove(int)}.
+ */
+public final class PermutationTree {
+
+    private static final int NIL = -1;
+
+    private final Order view = new Order();
+    private final Order source = new Order();
+    private int[] priority;
+    private int size;
+    private int seed = 0x2545F491;
+
+    // Flat copy of the mapping, only valid while flatValid is true.
+    private int[] nodeByView;
+    private int[] nodeBySource;
+    private int[] viewOf;
+    private int[] sourceOf;
+    private boolean flatValid;
+    private int randomAccesses;
+
+    public PermutationTree() {
+        this(16);
+    }
+
+    public PermutationTree(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        priority = new int[capacity];
+        view.allocate(capacity);
+        source.allocate(capacity);
+    }
+
+    /**
+     * Returns the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the node at the given position in the view.
+     */
+    public int nodeAtView(int position) {
+        Objects.checkIndex(position, size);
+        return lookup() ? nodeByView[position] : view.select(position);
+    }
+
+    /**
+     * Returns the node at the given position in the source list.
+     */
+    public int nodeAtSource(int position) {
+        Objects.checkIndex(position, size);
+        return lookup() ? nodeBySource[position] : source.select(position);
+    }
+
+    /**
+     * Returns the position of the given node in the view.
+     */
+    public int viewIndexOf(int node) {
+        Objects.checkIndex(node, size);
+        return lookup() ? viewOf[node] : view.rankOf(node);
+    }
+
+    /**
+     * Returns the position of the given node in the source list.
+     */
+    public int sourceIndexOf(int node) {
+        Objects.checkIndex(node, size);
+        return lookup() ? sourceOf[node] : source.rankOf(node);
+    }
+
+    /**
+     * Searches the view for a node, in the same way as a binary search on an
+     * array. The function is called with the nodes on the search path and
+     * must return a negative number, zero, or a positive number if the
+     * searched element is smaller than, equal to, or greater than the element
+     * of the node. Returns the view position of a matching node, or
+     * {@code (-(insertion point) - 1)} if there is none.
+     */
+    public int searchView(IntUnaryOperator comparison) {
+        int node = view.root;
+        int position = 0;
+        while (node != NIL) {
+            int c = comparison.applyAsInt(node);
+            int l = view.left[node];
+            if (c < 0) {
+                node = l;
+            } else {
+                position += view.countOf(l);
+                if (c == 0) {
+                    return position;
+                }
+                position++;
+                node = view.right[node];
+            }
+        }
+        return -position - 1;
+    }
+
+    /**
+     * Inserts a new element at the given source and view positions and
+     * returns its node, which is the old value of {@link #size()}.
+     */
+    public int insert(int sourceIndex, int viewIndex) {
+        if (sourceIndex < 0 || sourceIndex > size) {
+            throw new IndexOutOfBoundsException(sourceIndex);
+        }
+        if (viewIndex < 0 || viewIndex > size) {
+            throw new IndexOutOfBoundsException(viewIndex);
+        }
+        if (size == priority.length) {
+            grow(size << 1);
+        }
+        invalidate();
+        int node = size++;
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        priority[node] = seed >>> 1;
+        source.insert(node, sourceIndex);
+        view.insert(node, viewIndex);
+        return node;
+    }
+
+    /**
+     * Removes the element of the given node. The node with the highest number
+     * is then renumbered to the removed node, unless it is the removed node
+     * itself. Returns the old number of the renumbered node, which is the new
+     * value of {@link #size()}.
+     */
+    public int remove(int node) {
+        Objects.checkIndex(node, size);
+        invalidate();
+        source.remove(node);
+        view.remove(node);
+        int last = --size;
+        if (node != last) {
+            priority[node] = priority[last];
+            source.move(last, node);
+            view.move(last, node);
+        }
+        return last;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        invalidate();
+        size = 0;
+        view.root = NIL;
+        source.root = NIL;
+    }
+
+    /**
+     * Replaces the mapping with {@code length} elements. The node of every
+     * element is its view position, and its source position is given by
+     * {@code sourceIndices[node]}. The source positions must be a permutation
+     * of {@code [0, length)}. This takes O(length) time.
+     */
+    public void setAll(int[] sourceIndices, int length) {
+        invalidate();
+        if (priority.length < length) {
+            grow(Math.max(length, priority.length << 1));
+        }
+        size = length;
+        int[] order = new int[length];
+        for (int node = 0; node < length; node++) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            priority[node] = seed >>> 1;
+            order[node] = node;
+        }
+        view.build(order, length);
+        for (int node = 0; node < length; node++) {
+            order[sourceIndices[node]] = node;
+        }
+        source.build(order, length);
+    }
+
+    /**
+     * Reorders the view, so that the element at view position {@code i}
+     * is the element of {@code nodes[i]}. This takes O(n) time.
+     */
+    public void setViewOrder(int[] nodes) {
+        invalidate();
+        view.build(nodes, size);
+    }
+
+    /**
+     * Reorders the source positions, so that the element at source position
+     * {@code i} is the element of {@code nodes[i]}. This takes O(n) time.
+     */
+    public void setSourceOrder(int[] nodes) {
+        invalidate();
+        source.build(nodes, size);
+    }
+
+    private void invalidate() {
+        flatValid = false;
+        randomAccesses = 0;
+    }
+
+    /*
+     * Returns true if the flat arrays can be used for a lookup. They are
+     * created when the number of lookups since the last modification
+     * exceeds a fraction of the size.
+     */
+    private boolean lookup() {
+        if (flatValid) {
+            return true;
+        }
+        if (++randomAccesses <= (size >> 5)) {
+            return false;
+        }
+        if (nodeByView == null || nodeByView.length < size) {
+            int capacity = priority.length;
+            nodeByView = new int[capacity];
+            nodeBySource = new int[capacity];
+            viewOf = new int[capacity];
+            sourceOf = new int[capacity];
+        }
+        view.flatten(nodeByView, viewOf);
+        source.flatten(nodeBySource, sourceOf);
+        flatValid = true;
+        return true;
+    }
+
+    private void grow(int capacity) {
+        priority = Arrays.copyOf(priority, capacity);
+        view.grow(capacity);
+        source.grow(capacity);
+    }
+
+    /*
+     * One of the two orders of the nodes. The priorities of the nodes are
+     * shared by both treaps.
+     */
+    private final class Order {
+        int[] left;
+        int[] right;
+        int[] parent;
+        int[] count;
+        int root = NIL;
+
+        // Results of split
+        private int lower;
+        private int upper;
+
+        void allocate(int capacity) {
+            left = new int[capacity];
+            right = new int[capacity];
+            parent = new int[capacity];
+            count = new int[capacity];
+        }
+
+        void grow(int capacity) {
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            count = Arrays.copyOf(count, capacity);
+        }
+
+        int countOf(int node) {
+            return node == NIL ? 0 : count[node];
+        }
+
+        int select(int position) {
+            int node = root;
+            int k = position;
+            while (true) {
+                int lc = countOf(left[node]);
+                if (k < lc) {
+                    node = left[node];
+                } else if (k == lc) {
+                    return node;
+                } else {
+                    k -= lc + 1;
+                    node = right[node];
+                }
+            }
+        }
+
+        int rankOf(int node) {
+            int rank = countOf(left[node]);
+            for (int p = parent[node]; p != NIL; node = p, p = parent[p]) {
+                if (right[p] == node) {
+                    rank += countOf(left[p]) + 1;
+                }
+            }
+            return rank;
+        }
+
+        void insert(int node, int position) {
+            left[node] = NIL;
+            right[node] = NIL;
+            count[node] = 1;
+            split(root, position);
+            int a = lower;
+            int b = upper;
+            root = merge(merge(a, node), b);
+            parent[root] = NIL;
+        }
+
+        void remove(int node) {
+            int p = parent[node];
+            int m = merge(left[node], right[node]);
+            if (m != NIL) {
+                parent[m] = p;
+            }
+            if (p == NIL) {
+                root = m;
+                return;
+            }
+            if (left[p] == node) {
+                left[p] = m;
+            } else {
+                right[p] = m;
+            }
+            for (; p != NIL; p = parent[p]) {
+                count[p]--;
+            }
+        }
+
+        /*
+         * Renumbers a node that is in this tree.
+         */
+        void move(int from, int to) {
+            int p = parent[from];
+            int l = left[from];
+            int r = right[from];
+            if (p == NIL) {
+                root = to;
+            } else if (left[p] == from) {
+                left[p] = to;
+            } else {
+                right[p] = to;
+            }
+            if (l != NIL) {
+                parent[l] = to;
+            }
+            if (r != NIL) {
+                parent[r] = to;
+            }
+            left[to] = l;
+            right[to] = r;
+            parent[to] = p;
+            count[to] = count[from];
+        }
+
+        /*
+         * Builds the treap of the given nodes in linear time, by keeping the
+         * right spine of the tree on a stack.
+         */
+        void build(int[] nodes, int length) {
+            if (length == 0) {
+                root = NIL;
+                return;
+            }
+            int[] stack = new int[length];
+            int top = -1;
+            for (int i = 0; i < length; i++) {
+                int node = nodes[i];
+                int last = NIL;
+                while (top >= 0 && priority[stack[top]] < priority[node]) {
+                    last = stack[top--];
+                    update(last);
+                }
+                left[node] = last;
+                right[node] = NIL;
+                if (top >= 0) {
+                    right[stack[top]] = node;
+                }
+                stack[++top] = node;
+            }
+            while (top >= 0) {
+                update(stack[top--]);
+            }
+            root = stack[0];
+            parent[root] = NIL;
+        }
+
+        /*
+         * Stores the nodes in order, and the position of every node.
+         */
+        void flatten(int[] nodes, int[] positions) {
+            int node = root;
+            if (node == NIL) {
+                return;
+            }
+            while (left[node] != NIL) {
+                node = left[node];
+            }
+            for (int i = 0; node != NIL; i++) {
+                nodes[i] = node;
+                positions[node] = i;
+                if (right[node] != NIL) {
+                    node = right[node];
+                    while (left[node] != NIL) {
+                        node = left[node];
+                    }
+                } else {
+                    int p = parent[node];
+                    while (p != NIL && right[p] == node) {
+                        node = p;
+                        p = parent[p];
+                    }
+                    node = p;
+                }
+            }
+        }
+
+        /*
+         * Splits the tree into the first k nodes and the remaining nodes,
+         * which are stored in lower and upper.
+         */
+        private void split(int node, int k) {
+            if (node == NIL) {
+                lower = NIL;
+                upper = NIL;
+                return;
+            }
+            int lc = countOf(left[node]);
+            if (k <= lc) {
+                split(left[node], k);
+                left[node] = upper;
+                update(node);
+                upper = node;
+            } else {
+                split(right[node], k - lc - 1);
+                right[node] = lower;
+                update(node);
+                lower = node;
+            }
+        }
+
+        private int merge(int a, int b) {
+            if (a == NIL) {
+                return b;
+            }
+            if (b == NIL) {
+                return a;
+            }
+            if (priority[a] >= priority[b]) {
+                right[a] = merge(right[a], b);
+                update(a);
+                return a;
+            } else {
+                left[b] = merge(a, left[b]);
+                update(b);
+                return b;
+            }
+        }
+
+        /*
+         * Recomputes the size of the subtree of the given node, and sets the
+         * node as the parent of its children.
+         */
+        private void update(int node) {
+            int l = left[node];
+            int r = right[node];
+            int c = 1;
+            if (l != NIL) {
+                c += count[l];
+                parent[l] = node;
+            }
+            if (r != NIL) {
+                c += count[r];
+                parent[r] = node;
+            }
+            count[node] = c;
+        }
+    }
+}
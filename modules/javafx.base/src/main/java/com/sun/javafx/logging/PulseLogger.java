@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,20 @@ import java.util.List;
 public class PulseLogger {
     public static final boolean PULSE_LOGGING_ENABLED;
 
+    /**
+     * The time, in nanoseconds, that the CSS or layout phase of a node and its
+     * subtree must take to be reported with {@link #nodePhase}. It is set in
+     * microseconds by the javafx.pulseLogger.nodeThreshold system property.
+     */
+    public static final long NODE_THRESHOLD;
+
+    /**
+     * True if the time taken by the CSS and layout phases of nodes is reported.
+     * As every node is timed, this must be requested by setting the
+     * javafx.pulseLogger.nodeThreshold system property.
+     */
+    public static final boolean NODE_LOGGING_ENABLED;
+
     private static final String [] DEFAULT_LOGGERS = {"com.sun.javafx.logging.PrintLogger", "com.sun.javafx.logging.jfr.JFRPulseLogger"};
     private static final Logger[] loggers;
 
@@ -46,6 +60,9 @@ public class PulseLogger {
         }
         loggers = list.toArray(new Logger[list.size()]);
         PULSE_LOGGING_ENABLED = loggers.length > 0;
+        long threshold = Long.getLong("javafx.pulseLogger.nodeThreshold", -1);
+        NODE_THRESHOLD = threshold < 0 ? Long.MAX_VALUE : Math.min(threshold, Long.MAX_VALUE / 1000) * 1000;
+        NODE_LOGGING_ENABLED = PULSE_LOGGING_ENABLED && threshold >= 0;
     }
 
     public static void pulseStart() {
@@ -96,6 +113,23 @@ public class PulseLogger {
         }
     }
 
+    /**
+     * Reports the time taken by a phase of the pulse, such as CSS or layout,
+     * for a node and its subtree, when it is at least {@link #NODE_THRESHOLD}.
+     * Nodes are reported after their descendants.
+     *
+     * @param phase the name of the phase
+     * @param nodeType the class name of the node
+     * @param styleClass the style classes of the node, separated by spaces
+     * @param depth the number of ancestors of the node
+     * @param elapsedNanos the time taken by the node and its subtree
+     */
+    public static void nodePhase(String phase, String nodeType, String styleClass, int depth, long elapsedNanos) {
+        for (Logger logger: loggers) {
+            logger.nodePhase(phase, nodeType, styleClass, depth, elapsedNanos);
+        }
+    }
+
     /**
      * @return true if the user requested pulse logging by setting the system
      *         property javafx.pulseLogger to true, false otherwise.
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Counters and gauges of the resources used by the render thread, such as the
+ * texture pool, the glyph cache and the region image cache. They are only
+ * collected when the javafx.renderMetrics system property is set to true, in
+ * which case they are exposed by the "javafx:type=RenderMetrics" MBean of the
+ * platform MBean server, and by a javafx.RenderMetrics JFR event for each
+ * frame when JFR pulse logging is enabled.
+ * <p>
+ * The counters and gauges are updated on the render thread, and published as
+ * a {@link Snapshot} at the end of each frame.
+ */
+public final class RenderMetrics {
+    public static final boolean RENDER_METRICS_ENABLED = Boolean.getBoolean("javafx.renderMetrics");
+
+    private static final String MBEAN_CLASS = "com.sun.javafx.logging.jmx.JMXRenderMetrics";
+
+    private static long regionCacheHits;
+    private static long regionCacheMisses;
+    private static long regionCacheFlushes;
+    private static long rttAllocations;
+    private static long shaderSwitches;
+
+    private static long glyphCacheHits;
+    private static long glyphCacheMisses;
+    private static long glyphCacheEvictions;
+    private static int glyphCacheFill;
+
+    private static long texturePoolUsed;
+    private static long texturePoolTarget;
+    private static long texturePoolMax;
+
+    private static volatile Snapshot snapshot = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    private static Snapshot previousSnapshot = snapshot;
+
+    static {
+        if (RENDER_METRICS_ENABLED) {
+            registerMBean();
+        }
+    }
+
+    private RenderMetrics() {
+    }
+
+    /**
+     * The values of the counters and gauges at the end of a frame. Counters
+     * are totals since the application started.
+     *
+     * @param frames the number of frames rendered
+     * @param regionCacheHits the number of region backgrounds found in the region image cache
+     * @param regionCacheMisses the number of region backgrounds rendered to the region image cache
+     * @param regionCacheFlushes the number of times the region image cache was full and cleared
+     * @param rttAllocations the number of render target textures created
+     * @param shaderSwitches the number of times a different shader was enabled
+     * @param glyphCacheHits the number of glyphs found in a glyph cache
+     * @param glyphCacheMisses the number of glyphs rasterized and uploaded to a glyph cache
+     * @param glyphCacheEvictions the number of times a glyph cache was full and cleared
+     * @param glyphCacheFill the percentage of the fullest glyph cache texture that is in use
+     * @param texturePoolUsed the number of bytes used by the textures of the pool
+     * @param texturePoolTarget the number of bytes the pool tries to stay below
+     * @param texturePoolMax the maximum number of bytes of the pool
+     */
+    public record Snapshot(long frames,
+                           long regionCacheHits, long regionCacheMisses, long regionCacheFlushes,
+                           long rttAllocations, long shaderSwitches,
+                           long glyphCacheHits, long glyphCacheMisses, long glyphCacheEvictions,
+                           int glyphCacheFill,
+                           long texturePoolUsed, long texturePoolTarget, long texturePoolMax) {
+    }
+
+    /**
+     * Returns the values of the counters and gauges at the end of the last
+     * frame. This method can be called on any thread.
+     *
+     * @return the last snapshot
+     */
+    public static Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the values of the counters and gauges at the end of the frame
+     * before the last one. This method must only be called on the render
+     * thread.
+     *
+     * @return the previous snapshot
+     */
+    public static Snapshot getPreviousSnapshot() {
+        return previousSnapshot;
+    }
+
+    public static void regionCacheHit() {
+        regionCacheHits++;
+    }
+
+    public static void regionCacheMiss() {
+        regionCacheMisses++;
+    }
+
+    public static void regionCacheFlushed() {
+        regionCacheFlushes++;
+    }
+
+    public static void rttAllocated() {
+        rttAllocations++;
+    }
+
+    public static void shaderSwitched() {
+        shaderSwitches++;
+    }
+
+    /**
+     * Sets the glyph cache statistics, which are kept by the glyph caches.
+     *
+     * @param hits the number of glyphs found in a glyph cache
+     * @param misses the number of glyphs added to a glyph cache
+     * @param evictions the number of times a glyph cache was cleared
+     * @param fill the percentage of the fullest glyph cache that is in use
+     */
+    public static void setGlyphCache(long hits, long misses, long evictions, int fill) {
+        glyphCacheHits = hits;
+        glyphCacheMisses = misses;
+        glyphCacheEvictions = evictions;
+        glyphCacheFill = fill;
+    }
+
+    /**
+     * Sets the usage of the texture pool.
+     *
+     * @param used the number of bytes used by the textures of the pool
+     * @param target the number of bytes the pool tries to stay below
+     * @param max the maximum number of bytes of the pool
+     */
+    public static void setTexturePool(long used, long target, long max) {
+        texturePoolUsed = used;
+        texturePoolTarget = target;
+        texturePoolMax = max;
+    }
+
+    /**
+     * Publishes the current values of the counters and gauges. This method
+     * is called on the render thread once all of the scenes of a pulse have
+     * been rendered.
+     */
+    public static void frameEnd() {
+        previousSnapshot = snapshot;
+        snapshot = new Snapshot(previousSnapshot.frames() + 1,
+                regionCacheHits, regionCacheMisses, regionCacheFlushes,
+                rttAllocations, shaderSwitches,
+                glyphCacheHits, glyphCacheMisses, glyphCacheEvictions, glyphCacheFill,
+                texturePoolUsed, texturePoolTarget, texturePoolMax);
+    }
+
+    // Registering the MBean reflectively, in case the java.management module isn't available
+    private static void registerMBean() {
+        try {
+            Class<?> klass = Class.forName(MBEAN_CLASS);
+            Method method = klass.getDeclaredMethod("register");
+            method.invoke(null);
+        } catch (NoClassDefFoundError | ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            // Ignore
+        } catch (InvocationTargetException e) {
+            PlatformLogger.getLogger(RenderMetrics.class.getName())
+                    .warning("Cannot register the render metrics MBean", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("javafx.CostlyNode")
+@Label("JavaFX Costly Node")
+@Category("JavaFX")
+@Description("One of the subtrees whose CSS or layout phase took the most time in a pulse, ranked by self time")
+@StackTrace(false)
+@Enabled(false)
+public final class JFRCostlyNodeEvent extends Event {
+    @PulseId
+    @Label("Pulse Id")
+    private int pulseId;
+
+    @Label("Rank")
+    @Description("Rank of the subtree in the pulse, starting at 1 for the most costly")
+    private int rank;
+
+    @Label("Phase Name")
+    private String phaseName;
+
+    @Label("Node Type")
+    private String nodeType;
+
+    @Label("Style Class")
+    private String styleClass;
+
+    @Label("Depth")
+    @Description("Number of ancestors of the node")
+    private int depth;
+
+    @Label("Elapsed Time")
+    @Description("Time taken by the node and its subtree")
+    @Timespan(Timespan.NANOSECONDS)
+    private long elapsedTime;
+
+    @Label("Self Time")
+    @Description("Time taken by the node and its subtree, minus the time of the descendants reported separately")
+    @Timespan(Timespan.NANOSECONDS)
+    private long selfTime;
+
+    void set(int pulseId, int rank, NodePhaseAggregator.NodePhase phase) {
+        this.pulseId = pulseId;
+        this.rank = rank;
+        this.phaseName = phase.phaseName;
+        this.nodeType = phase.nodeType;
+        this.styleClass = phase.styleClass;
+        this.depth = phase.depth;
+        this.elapsedTime = phase.elapsedTime;
+        this.selfTime = phase.selfTime;
+    }
+}
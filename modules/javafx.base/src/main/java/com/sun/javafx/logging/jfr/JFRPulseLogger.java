@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,12 +24,18 @@
  */
 package com.sun.javafx.logging.jfr;
 
+import java.util.List;
+
 import com.sun.javafx.logging.Logger;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.RenderMetrics;
 
 import jdk.jfr.FlightRecorder;
 
 public final class JFRPulseLogger extends Logger {
+    /** The number of costly nodes reported for each pulse */
+    private static final int COSTLY_NODE_COUNT = Integer.getInteger("javafx.pulseLogger.nodeCount", 10);
+
     private final ThreadLocal<JFRPulsePhaseEvent> currentPulsePhaseEvent;
     private final ThreadLocal<JFRInputEvent> currentInputEvent;
 
@@ -37,6 +43,7 @@ public final class JFRPulseLogger extends Logger {
     private int fxPulseNumber;
     private int renderPulseNumber;
     private Thread fxThread;
+    private final NodePhaseAggregator nodePhases = new NodePhaseAggregator();
 
     public static Logger createInstance() {
         if (FlightRecorder.isInitialized() || PulseLogger.isPulseLoggingRequested()) {
@@ -48,6 +55,11 @@ public final class JFRPulseLogger extends Logger {
     private JFRPulseLogger() {
         FlightRecorder.register(JFRInputEvent.class);
         FlightRecorder.register(JFRPulsePhaseEvent.class);
+        FlightRecorder.register(JFRNodePhaseEvent.class);
+        FlightRecorder.register(JFRCostlyNodeEvent.class);
+        if (RenderMetrics.RENDER_METRICS_ENABLED) {
+            FlightRecorder.register(JFRRenderMetricsEvent.class);
+        }
         currentPulsePhaseEvent = new ThreadLocal<>() {
             @Override
             public JFRPulsePhaseEvent initialValue() {
@@ -75,6 +87,7 @@ public final class JFRPulseLogger extends Logger {
     @Override
     public void pulseEnd() {
         newPhase(null);
+        commitCostlyNodes();
         fxPulseNumber = 0;
     }
 
@@ -86,9 +99,24 @@ public final class JFRPulseLogger extends Logger {
     @Override
     public void renderEnd() {
         newPhase(null);
+        if (RenderMetrics.RENDER_METRICS_ENABLED) {
+            commitRenderMetrics();
+        }
         renderPulseNumber = 0;
     }
 
+    /**
+     * Commits an event with the resources used by the render thread since
+     * the previous frame.
+     */
+    private void commitRenderMetrics() {
+        JFRRenderMetricsEvent event = new JFRRenderMetricsEvent();
+        if (event.isEnabled()) {
+            event.set(renderPulseNumber, RenderMetrics.getSnapshot(), RenderMetrics.getPreviousSnapshot());
+            event.commit();
+        }
+    }
+
     /**
      * Finishes the current phase and starts a new one if phaseName is not null.
      *
@@ -122,6 +150,41 @@ public final class JFRPulseLogger extends Logger {
         currentPulsePhaseEvent.set(event);
     }
 
+    @Override
+    public void nodePhase(String phase, String nodeType, String styleClass, int depth, long elapsedNanos) {
+        /*
+         * Nodes are only aggregated on the FX thread during a pulse. Nodes
+         * that are reported between pulses, such as by applyCss() or layout()
+         * in an event handler, are not part of a pulse and are ignored.
+         */
+        if (fxPulseNumber == 0 || Thread.currentThread() != fxThread) {
+            return;
+        }
+
+        NodePhaseAggregator.NodePhase nodePhase = nodePhases.add(phase, nodeType, styleClass, depth, elapsedNanos);
+        JFRNodePhaseEvent event = new JFRNodePhaseEvent();
+        if (event.isEnabled()) {
+            event.set(fxPulseNumber, nodePhase);
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an event for each of the subtrees with the largest self time in
+     * the pulse, and clears the node phases.
+     */
+    private void commitCostlyNodes() {
+        if (new JFRCostlyNodeEvent().isEnabled()) {
+            List<NodePhaseAggregator.NodePhase> top = nodePhases.getTop(COSTLY_NODE_COUNT);
+            for (int i = 0; i < top.size(); i++) {
+                JFRCostlyNodeEvent event = new JFRCostlyNodeEvent();
+                event.set(fxPulseNumber, i + 1, top.get(i));
+                event.commit();
+            }
+        }
+        nodePhases.clear();
+    }
+
     @Override
     public void newInput(String input) {
         JFRInputEvent event = currentInputEvent.get();
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.RenderMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+@Name("javafx.RenderMetrics")
+@Label("JavaFX Render Metrics")
+@Category("JavaFX")
+@Description("Resources used by the render thread to render a frame")
+@StackTrace(false)
+@Enabled(false)
+public final class JFRRenderMetricsEvent extends Event {
+    @PulseId
+    @Label("Pulse Id")
+    private int pulseId;
+
+    @Label("Region Cache Hits")
+    @Description("Number of region backgrounds found in the region image cache")
+    private long regionCacheHits;
+
+    @Label("Region Cache Misses")
+    @Description("Number of region backgrounds rendered to the region image cache")
+    private long regionCacheMisses;
+
+    @Label("Region Cache Flushes")
+    @Description("Number of times the region image cache was full and cleared")
+    private long regionCacheFlushes;
+
+    @Label("RTT Allocations")
+    @Description("Number of render target textures created")
+    private long rttAllocations;
+
+    @Label("Shader Switches")
+    @Description("Number of times a different shader was enabled")
+    private long shaderSwitches;
+
+    @Label("Glyph Cache Hits")
+    @Description("Number of glyphs found in a glyph cache")
+    private long glyphCacheHits;
+
+    @Label("Glyph Cache Misses")
+    @Description("Number of glyphs rasterized and uploaded to a glyph cache")
+    private long glyphCacheMisses;
+
+    @Label("Glyph Cache Evictions")
+    @Description("Number of times a glyph cache was full and cleared")
+    private long glyphCacheEvictions;
+
+    @Label("Glyph Cache Fill")
+    @Description("Part of the fullest glyph cache texture that is in use at the end of the frame")
+    @Percentage
+    private float glyphCacheFill;
+
+    @Label("Texture Pool Used")
+    @Description("Memory used by the textures of the pool at the end of the frame")
+    @DataAmount
+    private long texturePoolUsed;
+
+    @Label("Texture Pool Target")
+    @Description("Memory the texture pool tries to stay below")
+    @DataAmount
+    private long texturePoolTarget;
+
+    @Label("Texture Pool Max")
+    @Description("Maximum memory of the texture pool")
+    @DataAmount
+    private long texturePoolMax;
+
+    /**
+     * Sets the counters to their change between two snapshots, and the
+     * gauges to their values in the current snapshot.
+     */
+    void set(int pulseId, RenderMetrics.Snapshot current, RenderMetrics.Snapshot previous) {
+        this.pulseId = pulseId;
+        this.regionCacheHits = current.regionCacheHits() - previous.regionCacheHits();
+        this.regionCacheMisses = current.regionCacheMisses() - previous.regionCacheMisses();
+        this.regionCacheFlushes = current.regionCacheFlushes() - previous.regionCacheFlushes();
+        this.rttAllocations = current.rttAllocations() - previous.rttAllocations();
+        this.shaderSwitches = current.shaderSwitches() - previous.shaderSwitches();
+        this.glyphCacheHits = current.glyphCacheHits() - previous.glyphCacheHits();
+        this.glyphCacheMisses = current.glyphCacheMisses() - previous.glyphCacheMisses();
+        this.glyphCacheEvictions = current.glyphCacheEvictions() - previous.glyphCacheEvictions();
+        this.glyphCacheFill = current.glyphCacheFill() / 100f;
+        this.texturePoolUsed = current.texturePoolUsed();
+        this.texturePoolTarget = current.texturePoolTarget();
+        this.texturePoolMax = current.texturePoolMax();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the node phases reported during a pulse, to find the subtrees that
+ * took the most time. A node and its subtree are reported after the
+ * descendants that are reported, so the self time of a node, which excludes
+ * the time of these descendants, is known when it is reported: the phases not
+ * yet included in the phase of an ancestor are kept on a stack, and a node
+ * takes the phases of the stack that are deeper than itself.
+ */
+final class NodePhaseAggregator {
+
+    static final class NodePhase {
+        final String phaseName;
+        final String nodeType;
+        final String styleClass;
+        final int depth;
+        final long elapsedTime;
+        final long selfTime;
+
+        NodePhase(String phaseName, String nodeType, String styleClass, int depth,
+                  long elapsedTime, long selfTime) {
+            this.phaseName = phaseName;
+            this.nodeType = nodeType;
+            this.styleClass = styleClass;
+            this.depth = depth;
+            this.elapsedTime = elapsedTime;
+            this.selfTime = selfTime;
+        }
+    }
+
+    private final Map<String, ArrayDeque<NodePhase>> stacks = new HashMap<>();
+    private final List<NodePhase> phases = new ArrayList<>();
+
+    NodePhase add(String phaseName, String nodeType, String styleClass, int depth, long elapsedTime) {
+        ArrayDeque<NodePhase> stack = stacks.computeIfAbsent(phaseName, name -> new ArrayDeque<>());
+        long selfTime = elapsedTime;
+        while (!stack.isEmpty() && stack.peek().depth > depth) {
+            selfTime -= stack.pop().elapsedTime;
+        }
+        NodePhase phase = new NodePhase(phaseName, nodeType, styleClass, depth,
+                elapsedTime, Math.max(0, selfTime));
+        stack.push(phase);
+        phases.add(phase);
+        return phase;
+    }
+
+    /**
+     * Returns at most the given number of phases, with the largest self times
+     * first.
+     */
+    List<NodePhase> getTop(int count) {
+        if (count <= 0 || phases.isEmpty()) {
+            return List.of();
+        }
+        List<NodePhase> sorted = new ArrayList<>(phases);
+        sorted.sort(Comparator.comparingLong((NodePhase phase) -> phase.selfTime).reversed());
+        return sorted.subList(0, Math.min(count, sorted.size()));
+    }
+
+    void clear() {
+        stacks.clear();
+        phases.clear();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import com.sun.javafx.logging.RenderMetrics;
+
+/**
+ * Exposes the {@link RenderMetrics} of the last frame as the read-only
+ * attributes of the "javafx:type=RenderMetrics" MBean. It is a dynamic MBean
+ * so that no interface needs to be exported to the java.management module.
+ */
+public final class JMXRenderMetrics implements DynamicMBean {
+    private static final String OBJECT_NAME = "javafx:type=RenderMetrics";
+
+    private final Map<String, ToLongFunction<RenderMetrics.Snapshot>> attributes = new LinkedHashMap<>();
+    private final MBeanInfo info;
+
+    public static void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new JMXRenderMetrics(), name);
+        }
+    }
+
+    private JMXRenderMetrics() {
+        attributes.put("Frames", RenderMetrics.Snapshot::frames);
+        attributes.put("RegionCacheHits", RenderMetrics.Snapshot::regionCacheHits);
+        attributes.put("RegionCacheMisses", RenderMetrics.Snapshot::regionCacheMisses);
+        attributes.put("RegionCacheFlushes", RenderMetrics.Snapshot::regionCacheFlushes);
+        attributes.put("RTTAllocations", RenderMetrics.Snapshot::rttAllocations);
+        attributes.put("ShaderSwitches", RenderMetrics.Snapshot::shaderSwitches);
+        attributes.put("GlyphCacheHits", RenderMetrics.Snapshot::glyphCacheHits);
+        attributes.put("GlyphCacheMisses", RenderMetrics.Snapshot::glyphCacheMisses);
+        attributes.put("GlyphCacheEvictions", RenderMetrics.Snapshot::glyphCacheEvictions);
+        attributes.put("GlyphCacheFillPercent", RenderMetrics.Snapshot::glyphCacheFill);
+        attributes.put("TexturePoolUsedBytes", RenderMetrics.Snapshot::texturePoolUsed);
+        attributes.put("TexturePoolTargetBytes", RenderMetrics.Snapshot::texturePoolTarget);
+        attributes.put("TexturePoolMaxBytes", RenderMetrics.Snapshot::texturePoolMax);
+
+        MBeanAttributeInfo[] attributeInfos = attributes.keySet().stream()
+                .map(name -> new MBeanAttributeInfo(name, "long", name, true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+        info = new MBeanInfo(getClass().getName(), "JavaFX render thread resource metrics",
+                attributeInfos, null, null, null);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        ToLongFunction<RenderMetrics.Snapshot> getter = attributes.get(attribute);
+        if (getter == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return getter.applyAsLong(RenderMetrics.getSnapshot());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        RenderMetrics.Snapshot snapshot = RenderMetrics.getSnapshot();
+        AttributeList list = new AttributeList();
+        for (String name : names) {
+            ToLongFunction<RenderMetrics.Snapshot> getter = attributes.get(name);
+            if (getter != null) {
+                list.add(new Attribute(name, getter.applyAsLong(snapshot)));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Read-only attribute: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        return info;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 
@@ -391,6 +392,37 @@ public class FXCollections {
         return observableList(backingList);
     }
 
+    /**
+     * Runs the given action in a transaction on the list, so that all
+     * modifications made by the action are reported in a single change
+     * notification, see {@link ObservableListBase#beginTransaction()}.
+     * <p>
+     * Only lists that extend {@code ObservableListBase}, like the lists that
+     * are created by {@link #observableArrayList()} and
+     * {@link #observableList(List)}, support transactions. For all other
+     * lists, the action is run without a transaction.
+     *
+     * @param <E> the type of the elements in the list
+     * @param list the list that is modified by the action
+     * @param action the action that modifies the list
+     * @throws NullPointerException if {@code list} or {@code action} is {@code null}
+     * @since 28
+     */
+    public static <E> void transaction(ObservableList<E> list, Runnable action) {
+        Objects.requireNonNull(list, "list cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (list instanceof ObservableListBase<E> base) {
+            base.beginTransaction();
+            try {
+                action.run();
+            } finally {
+                base.commitTransaction();
+            }
+        } else {
+            action.run();
+        }
+    }
+
     /**
      * Creates and returns unmodifiable wrapper list on top of provided observable list.
      * @param list  an ObservableList that is to be wrapped
@@ -41,6 +41,7 @@ final class ListChangeBuilder<E> {
     private static final int[] EMPTY_PERM = new int[0];
     private final ObservableListBase<E> list;
     private int changeLock;
+    private int transactionLock;
     private List<SubChange<E>> addRemoveChanges;
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
@@ -542,6 +543,19 @@ final class ListChangeBuilder<E> {
         commit();
     }
 
+    public void beginTransaction() {
+        transactionLock++;
+        beginChange();
+    }
+
+    public void commitTransaction() {
+        if (transactionLock <= 0) {
+            throw new IllegalStateException("Called commitTransaction before beginTransaction");
+        }
+        transactionLock--;
+        endChange();
+    }
+
     private static <E> SubChange<E>[] finalizeSubChangeArray(final SubChange<E>[] changes) {
         for (SubChange<E> c : changes) {
             finalizeSubChange(c);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -210,6 +210,56 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
         getListChangeBuilder().endChange();
     }
 
+    /**
+     * Begins a transaction.
+     * <p>
+     * All modifications of this list between this call and the matching
+     * {@link #commitTransaction()} call are reported to the listeners as a
+     * single {@code Change} when the transaction is committed, instead of one
+     * {@code Change} per modification. Modifications that overlap, like
+     * repeatedly setting the same element, are merged, so that the
+     * {@code Change} only describes the difference between the content of
+     * the list before and after the transaction.
+     * <p>
+     * Transactions can be nested, in which case the listeners are notified
+     * when the outer-most transaction is committed. Every call to this method
+     * must be followed by a call to {@code commitTransaction()}, usually in a
+     * {@code finally} block:
+     * <pre>{@code
+     * list.beginTransaction();
+     * try {
+     *     list.set(0, a);
+     *     list.remove(5);
+     *     list.add(b);
+     * } finally {
+     *     list.commitTransaction();
+     * }
+     * }</pre>
+     * <p>
+     * Listeners are not notified during a transaction, so the content of the
+     * list can differ from the content that the listeners have seen last.
+     * This method must be called on the thread that modifies the list.
+     *
+     * @see FXCollections#transaction(ObservableList, Runnable)
+     * @since 28
+     */
+    public final void beginTransaction() {
+        getListChangeBuilder().beginTransaction();
+    }
+
+    /**
+     * Commits the transaction that was started by {@link #beginTransaction()}.
+     * If this is the outer-most transaction, and there is no other change
+     * block in progress, the listeners are notified of all modifications that
+     * were made in the transaction.
+     *
+     * @throws IllegalStateException if there is no transaction in progress
+     * @since 28
+     */
+    public final void commitTransaction() {
+        getListChangeBuilder().commitTransaction();
+    }
+
     private ListChangeBuilder<E> getListChangeBuilder() {
         if (changeBuilder == null) {
             changeBuilder = new ListChangeBuilder<>(this);
@@ -25,15 +25,17 @@
 
 package javafx.collections.transformation;
 
+import com.sun.javafx.collections.IndexSubset;
 import com.sun.javafx.collections.NonIterableChange.GenericAddRemoveChange;
 import com.sun.javafx.collections.SortHelper;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -51,8 +53,19 @@ import javafx.collections.ObservableList;
  */
 public final class FilteredList<E> extends TransformationList<E, E>{
 
-    private int[] filtered;
-    private int size;
+    /**
+     * The minimum size of the source list for which the predicate is evaluated
+     * in parallel when it changes, or 0 if the predicate is always evaluated
+     * on the calling thread. Parallel evaluation must only be enabled if all
+     * predicates are safe to call from multiple threads.
+     */
+    private static final int PARALLEL_THRESHOLD =
+            Integer.getInteger("javafx.collections.filteredList.parallelThreshold", 0);
+
+    /**
+     * The indices of the source elements that pass the predicate.
+     */
+    private final IndexSubset filtered;
 
     private SortHelper helper;
 
@@ -65,13 +78,16 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     public FilteredList(@NamedArg("source") ObservableList<E> source, @NamedArg("predicate") Predicate<? super E> predicate) {
         super(source);
-        filtered = new int[source.size() * 3 / 2  + 1];
+        filtered = new IndexSubset(source.size() + 1);
         if (predicate != null) {
             setPredicate(predicate);
         } else {
-            for (size = 0; size < source.size(); size++) {
-                filtered[size] = size;
+            int size = source.size();
+            int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = i;
             }
+            filtered.setAll(indices, size);
         }
     }
 
@@ -135,8 +151,6 @@ public final class FilteredList<E> extends TransformationList<E, E>{
 
     @Override
     protected void sourceChanged(Change<? extends E> c) {
-        ensureSize(getSource().size());
-
         beginChange();
         while (c.next()) {
             if (c.wasPermutated()) {
@@ -157,7 +171,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public int size() {
-        return size;
+        return filtered.size();
     }
 
     /**
@@ -168,22 +182,22 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
+        if (index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return getSource().get(filtered[index]);
+        return getSource().get(filtered.get(index));
     }
 
     @Override
     public int getSourceIndex(int index) {
-        Objects.checkIndex(index, size);
-        return filtered[index];
+        Objects.checkIndex(index, size());
+        return filtered.get(index);
     }
 
     @Override
     public int getViewIndex(int index) {
         Objects.checkIndex(index, getSource().size());
-        return Arrays.binarySearch(filtered, 0, size, index);
+        return filtered.indexOf(index);
     }
 
     private SortHelper getSortHelper() {
@@ -194,32 +208,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     }
 
     private int findPosition(int p) {
-        if (filtered.length == 0) {
-            return 0;
-        }
-        if (p == 0) {
-            return 0;
-        }
-        int pos = Arrays.binarySearch(filtered, 0, size, p);
-        if (pos < 0 ) {
-            pos = ~pos;
-        }
-        return pos;
-    }
-
-
-    private void ensureSize(int size) {
-        if (filtered.length < size) {
-            int[] replacement = new int[size * 3/2 + 1];
-            System.arraycopy(filtered, 0, replacement, 0, this.size);
-            filtered = replacement;
-        }
-    }
-
-    private void updateIndexes(int from, int delta) {
-        for (int i = from; i < size; ++i) {
-            filtered[i] += delta;
-        }
+        return filtered.rank(p);
     }
 
     private void permutate(Change<? extends E> c) {
@@ -227,11 +216,24 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         int to = findPosition(c.getTo());
 
         if (to > from) {
+            int[] indices = new int[to - from];
             for (int i = from; i < to; ++i) {
-                filtered[i] = c.getPermutation(filtered[i]);
+                indices[i - from] = c.getPermutation(filtered.get(i));
             }
 
-            int[] perm = getSortHelper().sort(filtered, from, to);
+            int[] perm = getSortHelper().sort(indices, 0, indices.length);
+            for (int i = 0; i < perm.length; ++i) {
+                perm[i] += from;
+            }
+
+            // The members in the permutated range are replaced by the sorted,
+            // permutated members
+            for (int i = from; i < to; ++i) {
+                filtered.removeAt(from);
+            }
+            for (int index : indices) {
+                filtered.add(index);
+            }
             nextPermutation(from, to, perm);
         }
     }
@@ -243,43 +245,24 @@ public final class FilteredList<E> extends TransformationList<E, E>{
 
         // Mark the nodes that are going to be removed
         for (int i = from; i < to; ++i) {
-            nextRemove(from, c.getRemoved().get(filtered[i] - c.getFrom()));
+            nextRemove(from, c.getRemoved().get(filtered.get(i) - c.getFrom()));
         }
 
-        // Update indexes of the sublist following the last element that was removed
-        updateIndexes(to, c.getAddedSize() - c.getRemovedSize());
+        // Remove the members in the removed range and shift the indexes of the
+        // members following it
+        filtered.removeRange(c.getFrom(), c.getRemovedSize());
+        filtered.insertRange(c.getFrom(), c.getAddedSize());
 
-        // Replace as many removed elements as possible
+        // Add the elements in the added range that match the predicate
         int fpos = from;
-        int pos = c.getFrom();
-
-        ListIterator<? extends E> it = getSource().listIterator(pos);
-        for (; fpos < to && it.nextIndex() < c.getTo();) {
+        ListIterator<? extends E> it = getSource().listIterator(c.getFrom());
+        while (it.nextIndex() < c.getTo()) {
             if (pred.test(it.next())) {
-                filtered[fpos] = it.previousIndex();
+                filtered.add(it.previousIndex());
                 nextAdd(fpos, fpos + 1);
                 ++fpos;
             }
         }
-
-        if (fpos < to) {
-            // If there were more removed elements than added
-            System.arraycopy(filtered, to, filtered, fpos, size - to);
-            size -= to - fpos;
-        } else {
-            // Add the remaining elements
-            while (it.nextIndex() < c.getTo()) {
-                if (pred.test(it.next())) {
-                    ensureSize(size + 1);
-                    System.arraycopy(filtered, fpos, filtered, fpos + 1, size - fpos);
-                    filtered[fpos] = it.previousIndex();
-                    nextAdd(fpos, fpos + 1);
-                    ++fpos;
-                    ++size;
-                }
-                ++pos;
-            }
-        }
     }
 
     private void update(Change<? extends E> c) {
@@ -292,11 +275,10 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         int pos = filterFrom;
         while (pos < filterTo || sourceFrom < sourceTo) {
             E el = it.next();
-            if (pos < size && filtered[pos] == sourceFrom) {
+            if (pos < filtered.size() && filtered.get(pos) == sourceFrom) {
                 if (!pred.test(el)) {
                     nextRemove(pos, el);
-                    System.arraycopy(filtered, pos + 1, filtered, pos, size - pos - 1);
-                    --size;
+                    filtered.removeAt(pos);
                     --filterTo;
                 } else {
                     nextUpdate(pos);
@@ -305,9 +287,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             } else {
                 if (pred.test(el)) {
                     nextAdd(pos, pos + 1);
-                    System.arraycopy(filtered, pos, filtered, pos + 1, size - pos);
-                    filtered[pos] = sourceFrom;
-                    ++size;
+                    filtered.add(sourceFrom);
                     ++pos;
                     ++filterTo;
                 }
@@ -317,21 +297,36 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     }
 
     private void refilter() {
-        ensureSize(getSource().size());
         List<E> removed = null;
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
-        int i = 0;
+
+        List<? extends E> source = getSource();
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        int sourceSize = source.size();
+        int[] indices = new int[sourceSize];
+        int size = 0;
+        if (PARALLEL_THRESHOLD > 0 && sourceSize >= PARALLEL_THRESHOLD && source instanceof RandomAccess) {
+            boolean[] matches = new boolean[sourceSize];
+            IntStream.range(0, sourceSize).parallel().forEach(i -> matches[i] = pred.test(source.get(i)));
+            for (int i = 0; i < sourceSize; ++i) {
+                if (matches[i]) {
+                    indices[size++] = i;
+                }
+            }
+        } else {
+            int i = 0;
+            for (Iterator<? extends E> it = source.iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    indices[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
+        filtered.setAll(indices, size);
+
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
         }
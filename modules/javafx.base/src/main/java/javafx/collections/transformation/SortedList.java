@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.collections.transformation;
 
 import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
+import com.sun.javafx.collections.PermutationTree;
 import com.sun.javafx.collections.SortHelper;
 import com.sun.javafx.collections.SourceAdapterChange;
 
@@ -34,6 +35,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntUnaryOperator;
 
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
@@ -55,15 +57,40 @@ import javafx.collections.ObservableList;
  */
 public final class SortedList<E> extends TransformationList<E, E>{
 
+    /**
+     * The minimum number of elements for which a complete sort uses a parallel
+     * sort, or 0 if complete sorts always run on the calling thread. Parallel
+     * sorting must only be enabled if all comparators are safe to call from
+     * multiple threads.
+     */
+    private static final int PARALLEL_THRESHOLD =
+            Integer.getInteger("javafx.collections.sortedList.parallelThreshold", 0);
+
+    /**
+     * The minimum number of added and removed elements of a change for which
+     * the change is merged into the mapping at once, rather than applying it
+     * element by element.
+     */
+    private static final int BULK_THRESHOLD = 16;
+
     private Comparator<Element<E>> elementComparator;
+
+    /**
+     * The elements, indexed by their node in the mapping.
+     */
     private Element<E>[] sorted;
-    private int[] perm;
-    private int size;
+
+    /**
+     * The mapping between the source positions and the view positions.
+     */
+    private final PermutationTree mapping;
 
     private final SortHelper helper = new SortHelper();
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    private final IntUnaryOperator tempComparison = node -> elementComparator.compare(tempElement, sorted[node]);
+
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -75,13 +102,15 @@ public final class SortedList<E> extends TransformationList<E, E>{
     @SuppressWarnings("unchecked")
     public SortedList(@NamedArg("source") ObservableList<? extends E> source, @NamedArg("comparator") Comparator<? super E> comparator) {
         super(source);
-        sorted = new Element[source.size() *3/2 + 1];
-        perm = new int[sorted.length];
-        size = source.size();
+        int size = source.size();
+        sorted = new Element[size * 3/2 + 1];
+        mapping = new PermutationTree(sorted.length);
+        int[] sourceIndices = new int[size];
         for (int i = 0; i < size; ++i) {
             sorted[i] = new Element<>(source.get(i), i);
-            perm[i] = i;
+            sourceIndices[i] = i;
         }
+        mapping.setAll(sourceIndices, size);
         if (comparator != null) {
             setComparator(comparator);
         }
@@ -165,10 +194,10 @@ public final class SortedList<E> extends TransformationList<E, E>{
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
+        if (index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return sorted[index].e;
+        return sorted[mapping.nodeAtView(index)].e;
     }
 
     /**
@@ -178,111 +207,125 @@ public final class SortedList<E> extends TransformationList<E, E>{
      */
     @Override
     public int size() {
-        return size;
+        return mapping.size();
     }
 
     private void doSortWithPermutationChange() {
+        int size = size();
         if (elementComparator != null) {
-            int[] perm = helper.sort(sorted, 0, size, elementComparator);
-            for (int i = 0; i < size; i++) {
-                this.perm[sorted[i].index] = i;
-            }
+            int[] perm = sortMapping();
             fireChange(new SimplePermutationChange<>(0, size, perm, this));
         } else {
+            // restore the order of the source list
             int[] perm = new int[size];
-            int[] rperm = new int[size];
-            for (int i = 0; i < size; ++i) {
-                perm[i] = rperm[i] = i;
-            }
             boolean changed = false;
-            int idx = 0;
-            while (idx < size) {
-                final int otherIdx = sorted[idx].index;
-                if (otherIdx == idx) {
-                    ++idx;
-                    continue;
-                }
-                Element<E> other = sorted[otherIdx];
-                sorted[otherIdx] = sorted[idx];
-                sorted[idx] = other;
-                this.perm[idx] = idx;
-                this.perm[otherIdx] = otherIdx;
-                perm[rperm[idx]] = otherIdx;
-                perm[rperm[otherIdx]] = idx;
-                int tp = rperm[idx];
-                rperm[idx] = rperm[otherIdx];
-                rperm[otherIdx] = tp;
-                changed = true;
+            for (int i = 0; i < size; ++i) {
+                perm[i] = mapping.sourceIndexOf(mapping.nodeAtView(i));
+                changed |= perm[i] != i;
             }
             if (changed) {
+                int[] nodes = new int[size];
+                for (int i = 0; i < size; ++i) {
+                    nodes[i] = mapping.nodeAtSource(i);
+                }
+                mapping.setViewOrder(nodes);
                 fireChange(new SimplePermutationChange<>(0, size, perm, this));
             }
         }
     }
 
+    /*
+     * Sorts all elements with the current comparator, and returns the
+     * permutation from the old view positions to the new ones.
+     */
+    @SuppressWarnings("unchecked")
+    private int[] sortMapping() {
+        int size = size();
+        Element<E>[] elements = new Element[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = sorted[mapping.nodeAtView(i)];
+        }
+        sort(elements, size);
+        int[] perm = new int[size];
+        int[] nodes = new int[size];
+        for (int i = 0; i < size; ++i) {
+            int node = elements[i].index;
+            perm[mapping.viewIndexOf(node)] = i;
+            nodes[i] = node;
+        }
+        mapping.setViewOrder(nodes);
+        return perm;
+    }
+
+    /*
+     * Sorts the first length elements. The sort is stable.
+     */
+    private void sort(Element<E>[] elements, int length) {
+        if (PARALLEL_THRESHOLD > 0 && length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(elements, 0, length, elementComparator);
+        } else {
+            helper.sort(elements, 0, length, elementComparator);
+        }
+    }
+
     @Override
     public int getSourceIndex(int index) {
-        Objects.checkIndex(index, size);
-        return sorted[index].index;
+        Objects.checkIndex(index, size());
+        return mapping.sourceIndexOf(mapping.nodeAtView(index));
     }
 
     @Override
     public int getViewIndex(int index) {
-        Objects.checkIndex(index, size);
-        return perm[index];
+        Objects.checkIndex(index, size());
+        return mapping.viewIndexOf(mapping.nodeAtSource(index));
     }
 
     private void updatePermutationIndexes(Change<? extends E> change) {
+        mapping.setSourceOrder(permutedSourceOrder(change));
+    }
+
+    /*
+     * Returns the nodes in the order of the source list after the given
+     * permutation.
+     */
+    private int[] permutedSourceOrder(Change<? extends E> change) {
+        int size = size();
+        int from = change.getFrom();
+        int to = change.getTo();
+        int[] nodes = new int[size];
         for (int i = 0; i < size; ++i) {
-            int p = change.getPermutation(sorted[i].index);
-            sorted[i].index = p;
-            perm[p] = i;
+            int node = mapping.nodeAtSource(i);
+            nodes[i >= from && i < to ? change.getPermutation(i) : i] = node;
         }
+        return nodes;
     }
 
     private void updateUnsorted(Change<? extends E> c) {
         while (c.next()) {
             if (c.wasPermutated()) {
-                Element<E>[] sortedTmp = new Element[sorted.length];
-                for (int i = 0; i < size; ++i) {
-                    if (i >= c.getFrom() && i < c.getTo()) {
-                        int p = c.getPermutation(i);
-                        sortedTmp[p] = sorted[i];
-                        sortedTmp[p].index = p;
-                        perm[i] = i;
-                    } else {
-                        sortedTmp[i] = sorted[i];
-                    }
-                }
-                sorted = sortedTmp;
+                int[] nodes = permutedSourceOrder(c);
+                mapping.setSourceOrder(nodes);
+                mapping.setViewOrder(nodes);
             }
             if (c.wasRemoved()) {
-                final int removedTo = c.getFrom() + c.getRemovedSize();
-                System.arraycopy(sorted, removedTo, sorted, c.getFrom(), size - removedTo);
-                System.arraycopy(perm, removedTo, perm, c.getFrom(), size - removedTo);
-                size -= c.getRemovedSize();
-                updateIndices(removedTo, removedTo, -c.getRemovedSize());
-
-                // Null out out-of-range array elements to avoid maintaining object references
-                final int ct = size + c.getRemovedSize();
-                for (int i = size; i < ct; i++) {
-                    sorted[i] = null;
+                for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
+                    removeNode(mapping.nodeAtSource(c.getFrom()));
                 }
             }
             if (c.wasAdded()) {
-                ensureSize(size + c.getAddedSize());
-                updateIndices(c.getFrom(), c.getFrom(), c.getAddedSize());
-                System.arraycopy(sorted, c.getFrom(), sorted, c.getTo(), size - c.getFrom());
-                System.arraycopy(perm, c.getFrom(), perm, c.getTo(), size - c.getFrom());
-                size += c.getAddedSize();
+                ensureSize(size() + c.getAddedSize());
                 for (int i = c.getFrom(); i < c.getTo(); ++i) {
-                    sorted[i] = new Element<>(c.getList().get(i), i);
-                    perm[i] = i;
+                    insertNode(c.getList().get(i), i, i);
                 }
             }
         }
     }
 
+    /*
+     * An element of the source list. The index is the node of the element in
+     * the mapping, except while new elements are sorted, when it is the
+     * position of the element in the source list.
+     */
     private static class Element<E> {
 
         public Element(E e, int index) {
@@ -309,34 +352,31 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     }
 
+    @SuppressWarnings("unchecked")
     private void ensureSize(int size) {
         if (sorted.length < size) {
             Element<E>[] replacement = new Element[size * 3/2 + 1];
-            System.arraycopy(sorted, 0, replacement, 0, this.size);
+            System.arraycopy(sorted, 0, replacement, 0, size());
             sorted = replacement;
-            int[] replacementPerm = new int[size * 3/2 + 1];
-            System.arraycopy(perm, 0, replacementPerm, 0, this.size);
-            perm = replacementPerm;
         }
     }
 
-    private void updateIndices(int from, int viewFrom, int difference) {
-        for (int i = 0 ; i < size; ++i) {
-            if (sorted[i].index >= from) {
-                sorted[i].index += difference;
-            }
-            if (perm[i] >= viewFrom) {
-                perm[i] += difference;
-            }
-        }
+    private void insertNode(E e, int sourceIndex, int viewIndex) {
+        int node = mapping.insert(sourceIndex, viewIndex);
+        sorted[node] = new Element<>(e, node);
+    }
+
+    private void removeNode(int node) {
+        int last = mapping.remove(node);
+        // the last node was renumbered to the removed node
+        sorted[node] = sorted[last];
+        sorted[node].index = node;
+        sorted[last] = null;
     }
 
     private int findPosition(E e) {
-        if (sorted.length == 0) {
-            return 0;
-        }
         tempElement.e = e;
-        int pos = Arrays.binarySearch(sorted, 0, size, tempElement, elementComparator);
+        int pos = mapping.searchView(tempComparison);
         tempElement.e = null;
         return pos;
     }
@@ -346,68 +386,132 @@ public final class SortedList<E> extends TransformationList<E, E>{
         if (pos < 0) {
             pos = ~pos;
         }
-        ensureSize(size + 1);
-        updateIndices(idx, pos, 1);
-        System.arraycopy(sorted, pos, sorted, pos + 1, size - pos);
-        sorted[pos] = new Element<>(e, idx);
-        System.arraycopy(perm, idx, perm, idx + 1, size - idx);
-        perm[idx] = pos;
-        ++size;
+        ensureSize(size() + 1);
+        insertNode(e, idx, pos);
         nextAdd(pos, pos + 1);
 
     }
 
     private void setAllToMapping(List<? extends E> list, int to) {
         ensureSize(to);
-        size = to;
         for (int i = 0; i < to; ++i) {
             sorted[i] = new Element<>(list.get(i), i);
         }
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
-        System.arraycopy(perm, 0, this.perm, 0, size);
-        nextAdd(0, size);
+        sort(sorted, to);  // elementComparator is never null here
+        int[] sourceIndices = new int[to];
+        for (int i = 0; i < to; ++i) {
+            sourceIndices[i] = sorted[i].index;
+            sorted[i].index = i;
+        }
+        mapping.setAll(sourceIndices, to);
+        nextAdd(0, to);
     }
 
     private void removeFromMapping(int idx, E e) {
-        int pos = perm[idx];
-        System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
-        System.arraycopy(perm, idx + 1, perm, idx, size - idx - 1);
-        --size;
-        sorted[size] = null;
-        updateIndices(idx + 1, pos, - 1);
+        int node = mapping.nodeAtSource(idx);
+        int pos = mapping.viewIndexOf(node);
+        removeNode(node);
 
         nextRemove(pos, e);
     }
 
     private void removeAllFromMapping() {
         List<E> removed = new ArrayList<>(this);
-        for (int i = 0; i < size; ++i) {
-            sorted[i] = null;
-        }
-        size = 0;
+        Arrays.fill(sorted, 0, size(), null);
+        mapping.clear();
         nextRemove(0, removed);
     }
 
-    private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
-        for (int i = 0; i < size; i++) {
-            this.perm[sorted[i].index] = i;
+    /*
+     * Applies a change with many added or removed elements in O(n + k log k)
+     * time, where k is the number of added elements, by sorting the added
+     * elements and merging them with the remaining elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void bulkAddRemove(Change<? extends E> c) {
+        int from = c.getFrom();
+        int removedTo = from + c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int difference = addedSize - c.getRemovedSize();
+        int oldSize = size();
+        int newSize = oldSize + difference;
+
+        // the remaining elements in view order, and their new source positions
+        Element<E>[] remaining = new Element[oldSize - c.getRemovedSize()];
+        int[] remainingSourceIndices = new int[remaining.length];
+        int count = 0;
+        for (int i = 0; i < oldSize; ++i) {
+            Element<E> element = sorted[mapping.nodeAtView(i)];
+            int sourceIndex = mapping.sourceIndexOf(element.index);
+            if (sourceIndex >= from && sourceIndex < removedTo) {
+                nextRemove(count, element.e);
+                continue;
+            }
+            remaining[count] = element;
+            remainingSourceIndices[count++] = sourceIndex < from ? sourceIndex : sourceIndex + difference;
+        }
+
+        Element<E>[] added = new Element[addedSize];
+        for (int i = 0; i < addedSize; ++i) {
+            added[i] = new Element<>(c.getList().get(from + i), from + i);
+        }
+        sort(added, addedSize);
+
+        ensureSize(newSize);
+        int[] sourceIndices = new int[newSize];
+        int a = 0;
+        int r = 0;
+        int addedFrom = -1;
+        for (int i = 0; i < newSize; ++i) {
+            Element<E> element;
+            // added elements go before equal remaining elements, in the same
+            // way as in insertToMapping
+            if (a < addedSize && (r == count || elementComparator.compare(added[a], remaining[r]) <= 0)) {
+                element = added[a++];
+                sourceIndices[i] = element.index;
+                if (addedFrom < 0) {
+                    addedFrom = i;
+                }
+            } else {
+                element = remaining[r];
+                sourceIndices[i] = remainingSourceIndices[r++];
+                if (addedFrom >= 0) {
+                    nextAdd(addedFrom, i);
+                    addedFrom = -1;
+                }
+            }
+            element.index = i;
+            sorted[i] = element;
+        }
+        if (addedFrom >= 0) {
+            nextAdd(addedFrom, newSize);
         }
-        nextPermutation(0, size, perm);
+        if (newSize < oldSize) {
+            Arrays.fill(sorted, newSize, oldSize, null);
+        }
+        mapping.setAll(sourceIndices, newSize);
+    }
+
+    private void update(Change<? extends E> c) {
+        int[] perm = sortMapping();  // elementComparator is never null here
+        nextPermutation(0, size(), perm);
         for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
-            nextUpdate(this.perm[i]);
+            nextUpdate(mapping.viewIndexOf(mapping.nodeAtSource(i)));
         }
     }
 
     private void addRemove(Change<? extends E> c) {
-        if (c.getFrom() == 0 && c.getRemovedSize() == size) {
+        if (c.getFrom() == 0 && c.getRemovedSize() == size()) {
             removeAllFromMapping();
+        } else if (c.getRemovedSize() + c.getAddedSize() >= Math.max(BULK_THRESHOLD, size() >> 3)) {
+            bulkAddRemove(c);
+            return;
         } else {
             for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
                 removeFromMapping(c.getFrom(), c.getRemoved().get(i));
             }
         }
-        if (size == 0) {
+        if (size() == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
         } else {
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import java.util.List;
+
+public class NodePhaseAggregatorShim {
+
+    private final NodePhaseAggregator aggregator = new NodePhaseAggregator();
+
+    /**
+     * Reports a node phase and returns its self time.
+     */
+    public long add(String phaseName, String nodeType, int depth, long elapsedTime) {
+        return aggregator.add(phaseName, nodeType, null, depth, elapsedTime).selfTime;
+    }
+
+    /**
+     * Returns the node types of the phases with the largest self times.
+     */
+    public List<String> getTop(int count) {
+        return aggregator.getTop(count).stream().map(phase -> phase.nodeType).toList();
+    }
+
+    public void clear() {
+        aggregator.clear();
+    }
+}
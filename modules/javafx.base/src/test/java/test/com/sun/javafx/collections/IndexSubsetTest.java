@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.collections;
+
+import com.sun.javafx.collections.IndexSubset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexSubsetTest {
+
+    private static void assertMembers(List<Integer> expected, IndexSubset subset) {
+        assertEquals(expected.size(), subset.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).intValue(), subset.get(i));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        IndexSubset subset = new IndexSubset();
+        assertEquals(0, subset.size());
+        assertEquals(0, subset.rank(10));
+        assertEquals(-1, subset.indexOf(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> subset.get(0));
+    }
+
+    @Test
+    public void testAdd() {
+        IndexSubset subset = new IndexSubset();
+        assertEquals(0, subset.add(5));
+        assertEquals(0, subset.add(2));
+        assertEquals(2, subset.add(9));
+        assertMembers(List.of(2, 5, 9), subset);
+        assertEquals(1, subset.rank(5));
+        assertEquals(2, subset.rank(6));
+        assertEquals(1, subset.indexOf(5));
+        assertEquals(-3, subset.indexOf(6));
+    }
+
+    @Test
+    public void testRemoveAt() {
+        IndexSubset subset = new IndexSubset();
+        subset.setAll(new int[] {1, 3, 5, 7}, 4);
+        subset.removeAt(1);
+        assertMembers(List.of(1, 5, 7), subset);
+        subset.removeAt(2);
+        assertMembers(List.of(1, 5), subset);
+        subset.removeAt(0);
+        assertMembers(List.of(5), subset);
+    }
+
+    @Test
+    public void testInsertRangeShiftsMembers() {
+        IndexSubset subset = new IndexSubset();
+        subset.setAll(new int[] {1, 3, 5, 7}, 4);
+        subset.insertRange(4, 10);
+        assertMembers(List.of(1, 3, 15, 17), subset);
+        subset.insertRange(3, 1);
+        assertMembers(List.of(1, 4, 16, 18), subset);
+        subset.insertRange(100, 1);
+        assertMembers(List.of(1, 4, 16, 18), subset);
+    }
+
+    @Test
+    public void testRemoveRangeRemovesAndShiftsMembers() {
+        IndexSubset subset = new IndexSubset();
+        subset.setAll(new int[] {1, 3, 5, 7, 9}, 5);
+        subset.removeRange(3, 4);
+        assertMembers(List.of(1, 3, 5), subset);
+        subset.removeRange(0, 1);
+        assertMembers(List.of(0, 2, 4), subset);
+        subset.removeRange(1, 1);
+        assertMembers(List.of(0, 1, 3), subset);
+    }
+
+    @Test
+    public void testSetAllReplacesMembers() {
+        IndexSubset subset = new IndexSubset();
+        subset.add(100);
+        subset.setAll(new int[] {0, 4, 8, 12, -1}, 4);
+        assertMembers(List.of(0, 4, 8, 12), subset);
+        subset.clear();
+        assertEquals(0, subset.size());
+    }
+
+    @Test
+    public void testMatchesSortedList() {
+        Random random = new Random(11);
+        IndexSubset subset = new IndexSubset();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(5);
+            if (op == 0) {
+                int index = random.nextInt(200);
+                if (!expected.contains(index)) {
+                    int pos = -Collections.binarySearch(expected, index) - 1;
+                    expected.add(pos, index);
+                    assertEquals(pos, subset.add(index));
+                }
+            } else if (op == 1 && !expected.isEmpty()) {
+                int pos = random.nextInt(expected.size());
+                expected.remove(pos);
+                subset.removeAt(pos);
+            } else if (op == 2) {
+                int from = random.nextInt(200);
+                int length = random.nextInt(5);
+                expected.replaceAll(v -> v >= from ? v + length : v);
+                subset.insertRange(from, length);
+            } else if (op == 3) {
+                int from = random.nextInt(200);
+                int length = random.nextInt(5);
+                expected.removeIf(v -> v >= from && v < from + length);
+                expected.replaceAll(v -> v >= from + length ? v - length : v);
+                subset.removeRange(from, length);
+            } else {
+                int index = random.nextInt(250);
+                int pos = Collections.binarySearch(expected, index);
+                assertEquals(pos, subset.indexOf(index));
+                assertEquals(pos < 0 ? -pos - 1 : pos, subset.rank(index));
+            }
+            if (i % 50 == 0) {
+                assertMembers(expected, subset);
+            }
+        }
+    }
+}
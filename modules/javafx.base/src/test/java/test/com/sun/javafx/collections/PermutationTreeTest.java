@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.collections;
+
+import com.sun.javafx.collections.PermutationTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PermutationTreeTest {
+
+    /*
+     * Checks the tree against the expected nodes in source and view order.
+     */
+    private static void assertMapping(List<Integer> sourceOrder, List<Integer> viewOrder, PermutationTree tree) {
+        assertEquals(sourceOrder.size(), tree.size());
+        for (int i = 0; i < sourceOrder.size(); i++) {
+            assertEquals(sourceOrder.get(i).intValue(), tree.nodeAtSource(i));
+            assertEquals(viewOrder.get(i).intValue(), tree.nodeAtView(i));
+            assertEquals(i, tree.sourceIndexOf(sourceOrder.get(i)));
+            assertEquals(i, tree.viewIndexOf(viewOrder.get(i)));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        PermutationTree tree = new PermutationTree();
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.searchView(node -> 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.nodeAtView(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.nodeAtSource(0));
+    }
+
+    @Test
+    public void testInsert() {
+        PermutationTree tree = new PermutationTree();
+        assertEquals(0, tree.insert(0, 0));
+        assertEquals(1, tree.insert(1, 0));
+        assertEquals(2, tree.insert(1, 1));
+        assertMapping(List.of(0, 2, 1), List.of(1, 2, 0), tree);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.insert(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.insert(0, -1));
+    }
+
+    @Test
+    public void testRemoveRenumbersLastNode() {
+        PermutationTree tree = new PermutationTree();
+        tree.setAll(new int[] {2, 0, 1}, 3);
+        assertMapping(List.of(1, 2, 0), List.of(0, 1, 2), tree);
+
+        // node 2 takes over the number of node 0
+        assertEquals(2, tree.remove(0));
+        assertMapping(List.of(1, 0), List.of(1, 0), tree);
+
+        assertEquals(1, tree.remove(1));
+        assertMapping(List.of(0), List.of(0), tree);
+    }
+
+    @Test
+    public void testSetViewAndSourceOrder() {
+        PermutationTree tree = new PermutationTree();
+        tree.setAll(new int[] {0, 1, 2, 3}, 4);
+        tree.setViewOrder(new int[] {3, 1, 0, 2});
+        assertMapping(List.of(0, 1, 2, 3), List.of(3, 1, 0, 2), tree);
+        tree.setSourceOrder(new int[] {2, 3, 1, 0});
+        assertMapping(List.of(2, 3, 1, 0), List.of(3, 1, 0, 2), tree);
+        tree.clear();
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void testSearchView() {
+        PermutationTree tree = new PermutationTree();
+        int[] values = {10, 20, 30, 40};
+        tree.setAll(new int[] {0, 1, 2, 3}, 4);
+        assertEquals(2, tree.searchView(node -> Integer.compare(30, values[node])));
+        assertEquals(-1, tree.searchView(node -> Integer.compare(5, values[node])));
+        assertEquals(-3, tree.searchView(node -> Integer.compare(25, values[node])));
+        assertEquals(-5, tree.searchView(node -> Integer.compare(45, values[node])));
+    }
+
+    @Test
+    public void testMatchesLists() {
+        Random random = new Random(7);
+        PermutationTree tree = new PermutationTree();
+        List<Integer> sourceOrder = new ArrayList<>();
+        List<Integer> viewOrder = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            int size = tree.size();
+            if (size == 0 || random.nextInt(3) != 0) {
+                int sourceIndex = random.nextInt(size + 1);
+                int viewIndex = random.nextInt(size + 1);
+                int node = tree.insert(sourceIndex, viewIndex);
+                assertEquals(size, node);
+                sourceOrder.add(sourceIndex, node);
+                viewOrder.add(viewIndex, node);
+            } else {
+                int node = random.nextInt(size);
+                int last = tree.remove(node);
+                assertEquals(size - 1, last);
+                sourceOrder.remove(Integer.valueOf(node));
+                viewOrder.remove(Integer.valueOf(node));
+                sourceOrder.replaceAll(n -> n == last ? node : n);
+                viewOrder.replaceAll(n -> n == last ? node : n);
+            }
+            if (i % 25 == 0) {
+                assertMapping(sourceOrder, viewOrder, tree);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.jfr.NodePhaseAggregatorShim;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NodePhaseAggregatorTest {
+
+    private NodePhaseAggregatorShim aggregator;
+
+    @BeforeEach
+    public void setUp() {
+        aggregator = new NodePhaseAggregatorShim();
+    }
+
+    @Test
+    public void testSelfTimeExcludesReportedChildren() {
+        assertEquals(10, aggregator.add("CSS", "Child", 1, 10));
+        assertEquals(5, aggregator.add("CSS", "Root", 0, 15));
+    }
+
+    @Test
+    public void testSiblingsDoNotExcludeEachOther() {
+        assertEquals(10, aggregator.add("CSS", "First", 1, 10));
+        assertEquals(20, aggregator.add("CSS", "Second", 1, 20));
+        assertEquals(30, aggregator.add("CSS", "Third", 1, 30));
+        assertEquals(40, aggregator.add("CSS", "Root", 0, 100));
+    }
+
+    @Test
+    public void testSiblingSubtrees() {
+        assertEquals(4, aggregator.add("CSS", "FirstChild", 2, 4));
+        assertEquals(6, aggregator.add("CSS", "First", 1, 10));
+        assertEquals(8, aggregator.add("CSS", "SecondChild", 2, 8));
+        // Only its own child is excluded, not the subtree of its sibling
+        assertEquals(12, aggregator.add("CSS", "Second", 1, 20));
+        assertEquals(5, aggregator.add("CSS", "Root", 0, 35));
+    }
+
+    @Test
+    public void testUnreportedIntermediateLevels() {
+        // The nodes at depth 1 and 2 are not reported
+        assertEquals(10, aggregator.add("Layout", "GrandGrandChild", 3, 10));
+        assertEquals(15, aggregator.add("Layout", "OtherGrandGrandChild", 3, 15));
+        assertEquals(25, aggregator.add("Layout", "Root", 0, 50));
+    }
+
+    @Test
+    public void testPhasesAreAggregatedSeparately() {
+        assertEquals(10, aggregator.add("CSS", "Child", 1, 10));
+        assertEquals(20, aggregator.add("Layout", "Root", 0, 20));
+        assertEquals(20, aggregator.add("CSS", "Root", 0, 30));
+    }
+
+    @Test
+    public void testClear() {
+        aggregator.add("CSS", "Child", 1, 10);
+        aggregator.clear();
+        assertEquals(30, aggregator.add("CSS", "Root", 0, 30));
+        assertEquals(List.of("Root"), aggregator.getTop(5));
+    }
+
+    @Test
+    public void testTopBySelfTime() {
+        aggregator.add("CSS", "Small", 1, 5);
+        aggregator.add("CSS", "Large", 1, 50);
+        aggregator.add("CSS", "Root", 0, 75);
+        assertEquals(List.of("Large", "Root"), aggregator.getTop(2));
+        assertEquals(List.of("Large", "Root", "Small"), aggregator.getTop(5));
+        assertEquals(List.of(), aggregator.getTop(0));
+    }
+}
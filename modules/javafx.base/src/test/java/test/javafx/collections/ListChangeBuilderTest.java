@@ -31,8 +31,10 @@ import java.util.Collections;
 import java.util.List;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import javafx.collections.FXCollections;
 import javafx.collections.ListChangeBuilderShim;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.collections.ObservableListWrapperShim;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -744,6 +746,169 @@ public class ListChangeBuilderTest {
         list.doEndChange();
     }
 
+    /*
+     * Applies a change to a copy of the old content of the list.
+     */
+    private static <E> List<E> applyChange(List<E> oldContent, ListChangeListener.Change<? extends E> change) {
+        List<E> content = new ArrayList<>(oldContent);
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<E> copy = new ArrayList<>(content);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    content.set(change.getPermutation(i), copy.get(i));
+                }
+            } else if (!change.wasUpdated()) {
+                List<E> removed = content.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                assertEquals(change.getRemoved(), removed);
+                removed.clear();
+                content.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+        return content;
+    }
+
+    @Test
+    public void testTransactionFiresSingleChange() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e", "f")));
+        List<String> oldContent = new ArrayList<>(list);
+        List<List<String>> results = new ArrayList<>();
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            results.add(applyChange(oldContent, change));
+        });
+
+        list.beginTransaction();
+        list.set(1, "bb");
+        list.add(3, "x");
+        list.remove("e");
+        list.set(1, "bbb");
+        list.add("g");
+        list.remove(0);
+        assertTrue(results.isEmpty());
+        list.commitTransaction();
+
+        assertEquals(List.of("bbb", "c", "x", "d", "f", "g"), list);
+        assertEquals(List.of(list), results);
+    }
+
+    @Test
+    public void testNestedTransactions() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c")));
+        List<String> oldContent = new ArrayList<>(list);
+        List<List<String>> results = new ArrayList<>();
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            results.add(applyChange(oldContent, change));
+        });
+
+        list.beginTransaction();
+        list.add("d");
+        list.beginTransaction();
+        list.remove("a");
+        list.commitTransaction();
+        assertTrue(results.isEmpty());
+        list.commitTransaction();
+
+        assertEquals(List.of(List.of("b", "c", "d")), results);
+    }
+
+    @Test
+    public void testCommitTransactionWithoutBeginThrows() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a")));
+        assertThrows(IllegalStateException.class, list::commitTransaction);
+    }
+
+    @Test
+    public void testTransactionKeepsDisjointChangesSeparate() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e", "f", "g")));
+        List<Integer> froms = new ArrayList<>();
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            while (change.next()) {
+                assertEquals(1, change.getRemovedSize());
+                assertEquals(1, change.getAddedSize());
+                froms.add(change.getFrom());
+            }
+        });
+
+        list.beginTransaction();
+        list.set(1, "B");
+        list.set(3, "D");
+        list.set(5, "F");
+        list.commitTransaction();
+
+        assertEquals(List.of(1, 3, 5), froms);
+    }
+
+    @Test
+    public void testTransactionKeepsDistantChangesSeparate() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e", "f", "g")));
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            assertTrue(change.next());
+            assertEquals(0, change.getFrom());
+            assertEquals(List.of("a"), change.getRemoved());
+            assertTrue(change.next());
+            assertEquals(6, change.getFrom());
+            assertEquals(List.of("g"), change.getRemoved());
+            assertFalse(change.next());
+        });
+
+        list.beginTransaction();
+        list.set(0, "A");
+        list.set(6, "G");
+        list.commitTransaction();
+    }
+
+    @Test
+    public void testTransactionMergesTouchingChanges() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e")));
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            assertTrue(change.next());
+            assertEquals(1, change.getFrom());
+            assertEquals(3, change.getTo());
+            assertEquals(List.of("b", "c"), change.getRemoved());
+            assertEquals(List.of("B", "C"), change.getAddedSubList());
+            assertFalse(change.next());
+        });
+
+        list.beginTransaction();
+        list.set(2, "C");
+        list.set(1, "B");
+        list.commitTransaction();
+    }
+
+    @Test
+    public void testTransactionWithSetSortAndAdd() {
+        var list = new ObservableListWrapper<>(new ArrayList<>(List.of("d", "b", "e", "a")));
+        List<String> oldContent = new ArrayList<>(list);
+        List<List<String>> results = new ArrayList<>();
+        list.addListener((ListChangeListener.Change<? extends String> change) -> {
+            results.add(applyChange(oldContent, change));
+        });
+
+        FXCollections.transaction(list, () -> {
+            list.set(2, "c");
+            FXCollections.sort(list);
+            list.add("f");
+        });
+
+        assertEquals(List.of("a", "b", "c", "d", "f"), list);
+        assertEquals(List.of(list), results);
+    }
+
+    @Test
+    public void testFXCollectionsTransaction() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        assertThrows(IllegalArgumentException.class, () -> FXCollections.transaction(list, () -> {
+            list.add("d");
+            list.remove("a");
+            throw new IllegalArgumentException();
+        }));
+
+        assertEquals(List.of("b", "c", "d"), list);
+        observer.check1();
+    }
+
     private static class ExposedObservableList<E> extends ObservableListWrapper<E> {
         ExposedObservableList(List<E> list) {
             super(list);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -476,6 +476,46 @@ public class SortedListTest {
         compareIndices(sl);
     }
 
+    @Test
+    public void testAddAllMergesIntoSortedList() {
+        List<String> added = new ArrayList<>();
+        for (char ch = 'z'; ch >= 'b'; ch--) {
+            added.add(String.valueOf(ch));
+        }
+        list.addAll(2, added);
+
+        List<String> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        assertEquals(expected, sortedList);
+
+        // applying the reported additions to the old content gives the new content
+        List<String> content = new ArrayList<>(Arrays.asList("a", "c", "c", "d"));
+        for (MockListObserver.Call<String> call : mockListObserver.calls) {
+            assertTrue(call.removed.isEmpty());
+            content.addAll(call.from, sortedList.subList(call.from, call.to));
+        }
+        assertEquals(expected, content);
+
+        compareIndices();
+    }
+
+    @Test
+    public void testRemoveAndAddManyElements() {
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            added.add("x" + (i % 10));
+        }
+        list.addAll(added);
+        list.remove(1, 30);
+        list.removeAll("x3");
+
+        List<String> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        assertEquals(expected, sortedList);
+
+        compareIndices();
+    }
+
     @Test
     public void test_rt36353_sortedList() {
         ObservableList<String> data = FXCollections.observableArrayList("2", "1", "3");
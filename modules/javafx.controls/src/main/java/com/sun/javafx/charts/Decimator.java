@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.Arrays;
+import javafx.scene.chart.DoubleSeriesData;
+
+/**
+ * Converts the points of a {@link DoubleSeriesData} to display positions,
+ * keeping only the points needed to draw them at the resolution of the plot
+ * area. The axes are given as linear transforms, where the display position
+ * of a value {@code v} is {@code offset + v * scale}.
+ * <p>
+ * Lines are decimated with the M4 algorithm: for each pixel column, only the
+ * first and last points, and the points with the smallest and largest y
+ * values, are kept. A line through these points draws the same pixels as a
+ * line through all the points, and there are at most four of them per column
+ * whatever the number of points. Points drawn as symbols are decimated by
+ * keeping one point per cell of a grid.
+ * <p>
+ * The resulting positions are kept in this object, which can be reused.
+ */
+public final class Decimator {
+
+    private double[] xs = new double[64];
+    private double[] ys = new double[64];
+    private int size;
+
+    private long[] cells = new long[0];
+
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Converts the points from {@code from}, inclusive, to {@code to},
+     * exclusive, to display positions, skipping points with a NaN value.
+     * When the x values are in ascending order and there are more points
+     * than pixel columns, only the points kept by the M4 algorithm are
+     * converted.
+     */
+    public void decimateLine(DoubleSeriesData data, int from, int to, boolean sortedX,
+                             double xOffset, double xScale, double yOffset, double yScale) {
+        size = 0;
+        if (from >= to) {
+            return;
+        }
+        double width = Math.abs((data.getX(Math.max(from, to - 1)) - data.getX(from)) * xScale);
+        if (!sortedX || to - from <= width) {
+            for (int i = from; i < to; i++) {
+                addPoint(data, i, xOffset, xScale, yOffset, yScale);
+            }
+            return;
+        }
+
+        int first = -1;
+        int last = -1;
+        int min = -1;
+        int max = -1;
+        double column = Double.NaN;
+        double minY = 0;
+        double maxY = 0;
+        for (int i = from; i < to; i++) {
+            double y = data.getY(i);
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            double c = Math.floor(xOffset + data.getX(i) * xScale);
+            if (c != column) {
+                if (first >= 0) {
+                    addColumn(data, first, min, max, last, xOffset, xScale, yOffset, yScale);
+                }
+                column = c;
+                first = min = max = i;
+                minY = maxY = y;
+            } else if (y < minY) {
+                min = i;
+                minY = y;
+            } else if (y > maxY) {
+                max = i;
+                maxY = y;
+            }
+            last = i;
+        }
+        if (first >= 0) {
+            addColumn(data, first, min, max, last, xOffset, xScale, yOffset, yScale);
+        }
+    }
+
+    /**
+     * Converts the points from {@code from}, inclusive, to {@code to},
+     * exclusive, that are inside the given area to display positions, keeping
+     * only the first point in each square cell of the given size.
+     */
+    public void decimatePoints(DoubleSeriesData data, int from, int to,
+                               double xOffset, double xScale, double yOffset, double yScale,
+                               double width, double height, double cellSize) {
+        size = 0;
+        int columns = (int) Math.ceil(width / cellSize) + 1;
+        int rows = (int) Math.ceil(height / cellSize) + 1;
+        int length = (int) Math.min(Integer.MAX_VALUE - 8, ((long) columns * rows + 63) >> 6);
+        if (cells.length < length) {
+            cells = new long[length];
+        } else {
+            Arrays.fill(cells, 0, length, 0);
+        }
+        for (int i = from; i < to; i++) {
+            double x = xOffset + data.getX(i) * xScale;
+            double y = yOffset + data.getY(i) * yScale;
+            if (!(x >= 0 && x <= width && y >= 0 && y <= height)) {
+                // Outside of the area, or NaN
+                continue;
+            }
+            long cell = (long) (y / cellSize) * columns + (long) (x / cellSize);
+            int index = (int) (cell >> 6);
+            long bit = 1L << cell;
+            if (index < length && (cells[index] & bit) == 0) {
+                cells[index] |= bit;
+                add(x, y);
+            }
+        }
+    }
+
+    // Adds the points of a column in the order of their indices
+    private void addColumn(DoubleSeriesData data, int first, int min, int max, int last,
+                           double xOffset, double xScale, double yOffset, double yScale) {
+        addPoint(data, first, xOffset, xScale, yOffset, yScale);
+        int a = Math.min(min, max);
+        int b = Math.max(min, max);
+        if (a != first) {
+            addPoint(data, a, xOffset, xScale, yOffset, yScale);
+        }
+        if (b != a && b != first) {
+            addPoint(data, b, xOffset, xScale, yOffset, yScale);
+        }
+        if (last != b && last != first) {
+            addPoint(data, last, xOffset, xScale, yOffset, yScale);
+        }
+    }
+
+    private void addPoint(DoubleSeriesData data, int index,
+                          double xOffset, double xScale, double yOffset, double yScale) {
+        double x = data.getX(index);
+        double y = data.getY(index);
+        if (!Double.isNaN(x) && !Double.isNaN(y)) {
+            add(xOffset + x * xScale, yOffset + y * yScale);
+        }
+    }
+
+    private void add(double x, double y) {
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+}
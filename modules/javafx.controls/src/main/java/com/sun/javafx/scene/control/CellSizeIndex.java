@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * A sparse cache of cell sizes that supports prefix-sum queries.
+ * <p>
+ * Every slot either holds a known size, or is unknown. Unknown slots are
+ * counted with an estimated size that is supplied by the caller on each
+ * query, which allows the estimate to change without touching the index.
+ * Known sizes and the number of known slots are kept in two Fenwick trees,
+ * so that updating a size, computing the offset of an index, and finding the
+ * index at an offset all take O(log n) time and do not allocate.
+ * <p>
+ * The slots that were ever written form the range {@code [0, size())}; slots
+ * beyond that range are always unknown.
+ */
+public final class CellSizeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Marker for a slot that has no known size. */
+    private static final double UNKNOWN = -1;
+
+    // Raw sizes, indexed from 0. Unknown slots hold UNKNOWN.
+    private double[] sizes;
+
+    // Fenwick trees, indexed from 1. Node i covers the slots
+    // (i - lowbit(i), i].
+    private double[] sumTree;
+    private int[] countTree;
+
+    private int size;
+
+    // Number of in-place updates since the trees were last rebuilt. Used to
+    // bound the rounding error that repeated floating point updates accumulate.
+    private int updates;
+
+    public CellSizeIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of slots, which is one more than the highest index
+     * that was ever written since the last {@link #clear()}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the known size at the given index, or -1 if the size is not known.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            return UNKNOWN;
+        }
+        return sizes[index];
+    }
+
+    /**
+     * Stores the size of the given index. Negative sizes are stored as 0.
+     */
+    public void set(int index, double value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (value < 0) {
+            value = 0;
+        }
+
+        if (index >= sizes.length) {
+            grow(index + 1);
+        }
+        if (index >= size) {
+            size = index + 1;
+        }
+
+        double old = sizes[index];
+        if (old == value) {
+            return;
+        }
+
+        sizes[index] = value;
+        if (++updates > sizes.length) {
+            rebuild();
+            return;
+        }
+
+        double delta = old == UNKNOWN ? value : value - old;
+        int countDelta = old == UNKNOWN ? 1 : 0;
+        for (int i = index + 1; i <= sizes.length; i += i & -i) {
+            sumTree[i] += delta;
+            countTree[i] += countDelta;
+        }
+    }
+
+    /**
+     * Removes all sizes from this index. The backing storage is retained.
+     */
+    public void clear() {
+        Arrays.fill(sizes, 0, size, UNKNOWN);
+        Arrays.fill(sumTree, 0d);
+        Arrays.fill(countTree, 0);
+        size = 0;
+        updates = 0;
+    }
+
+    /**
+     * Returns the number of known sizes in the range {@code [0, toIndex)}.
+     */
+    public int knownCount(int toIndex) {
+        int count = 0;
+        for (int i = Math.min(toIndex, sizes.length); i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the known sizes in the range {@code [0, toIndex)}.
+     */
+    public double knownSum(int toIndex) {
+        double sum = 0;
+        for (int i = Math.min(toIndex, sizes.length); i > 0; i -= i & -i) {
+            sum += sumTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the offset of the start of the given index, which is the sum of
+     * the sizes in the range {@code [0, index)}, where each unknown size
+     * is replaced by {@code estimate}.
+     */
+    public double offsetOf(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        return knownSum(index) + (index - knownCount(index)) * estimate;
+    }
+
+    /**
+     * Returns the smallest index {@code i} in the range {@code [0, count)}
+     * for which {@code offsetOf(i + 1, estimate) > offset}, or {@code count}
+     * if there is no such index. Sizes must not be negative, and unknown sizes
+     * are replaced by {@code estimate}.
+     */
+    public int indexAt(double offset, double estimate, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+
+        // Find the largest position p <= limit for which the offset of p is
+        // not larger than the requested offset.
+        int limit = Math.min(count, size);
+        int pos = 0;
+        double acc = 0;
+        for (int step = Integer.highestOneBit(sizes.length); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= limit) {
+                double value = sumTree[next] + (step - countTree[next]) * estimate;
+                if (acc + value <= offset) {
+                    pos = next;
+                    acc += value;
+                }
+            }
+        }
+
+        if (pos < limit) {
+            return pos;
+        }
+
+        // All slots beyond the limit are unknown.
+        if (limit == count || !(estimate > 0)) {
+            return count;
+        }
+        double n = Math.floor((offset - acc) / estimate);
+        return n < count - limit ? limit + (int) n : count;
+    }
+
+    private void allocate(int capacity) {
+        sizes = new double[capacity];
+        Arrays.fill(sizes, UNKNOWN);
+        sumTree = new double[capacity + 1];
+        countTree = new int[capacity + 1];
+    }
+
+    private void grow(int minCapacity) {
+        double[] old = sizes;
+        allocate(Math.max(minCapacity, old.length << 1));
+        System.arraycopy(old, 0, sizes, 0, size);
+        rebuild();
+    }
+
+    // Rebuilds both trees from the raw sizes in linear time.
+    private void rebuild() {
+        int n = sizes.length;
+        Arrays.fill(sumTree, 0d);
+        Arrays.fill(countTree, 0);
+        for (int i = 1; i <= n; i++) {
+            double value = sizes[i - 1];
+            if (value != UNKNOWN) {
+                sumTree[i] += value;
+                countTree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                sumTree[parent] += sumTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+        updates = 0;
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A set of non-negative ints, stored as the sorted runs of consecutive ints
+ * it contains. It is used in place of a {@link java.util.BitSet} for the
+ * selected indices of controls, where a selection usually consists of a few
+ * long runs: its memory use, and the cost of shifting its values when items
+ * are inserted or removed, depend on the number of runs rather than on the
+ * largest value.
+ * <p>
+ * Adding or removing a value is a binary search followed by an array copy
+ * of the runs after it, which is fast when values are added in ascending
+ * order, as is usual.
+ */
+public final class IntRangeSet {
+
+    // The runs are [starts[i], ends[i]) for i < runs, sorted and separated
+    // by at least one value
+    private int[] starts;
+    private int[] ends;
+    private int runs;
+    private int cardinality;
+
+    // counts[i] is the number of values in the runs before run i. It is
+    // computed when needed after the set has changed.
+    private int[] counts;
+    private boolean countsValid;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntRangeSet() {
+        starts = new int[4];
+        ends = new int[4];
+    }
+
+    /**
+     * Creates a set with the values of the given set.
+     * @param other the set to copy
+     */
+    public IntRangeSet(IntRangeSet other) {
+        starts = Arrays.copyOf(other.starts, Math.max(4, other.runs));
+        ends = Arrays.copyOf(other.ends, Math.max(4, other.runs));
+        runs = other.runs;
+        cardinality = other.cardinality;
+    }
+
+    /**
+     * Returns the number of values in this set.
+     * @return the number of values
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns the number of runs of consecutive values in this set.
+     * @return the number of runs
+     */
+    public int runCount() {
+        return runs;
+    }
+
+    public boolean isEmpty() {
+        return runs == 0;
+    }
+
+    /**
+     * Returns the largest value in this set plus one, or 0 if it is empty.
+     * @return the length of this set
+     */
+    public int length() {
+        return runs == 0 ? 0 : ends[runs - 1];
+    }
+
+    public boolean get(int value) {
+        int run = findRun(value);
+        return run >= 0 && value < ends[run];
+    }
+
+    public void set(int value) {
+        set(value, value + 1);
+    }
+
+    /**
+     * Adds the values from {@code from}, inclusive, to {@code to}, exclusive.
+     * @param from the first value to add
+     * @param to the value after the last value to add
+     */
+    public void set(int from, int to) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("from < 0: " + from);
+        }
+        if (from >= to) {
+            return;
+        }
+        countsValid = false;
+        // Fast path for values added after the last run
+        if (runs == 0 || from > ends[runs - 1]) {
+            insertRun(runs, from, to);
+            cardinality += to - from;
+            return;
+        }
+        // The runs from first to last touch or overlap [from, to), and are
+        // replaced with a single run
+        int first = findRun(from);
+        if (first < 0 || ends[first] < from) {
+            first++;
+        }
+        int last = findRun(to);
+        if (first > last) {
+            insertRun(first, from, to);
+            cardinality += to - from;
+            return;
+        }
+        int start = Math.min(from, starts[first]);
+        int end = Math.max(to, ends[last]);
+        int removed = 0;
+        for (int i = first; i <= last; i++) {
+            removed += ends[i] - starts[i];
+        }
+        starts[first] = start;
+        ends[first] = end;
+        removeRuns(first + 1, last + 1);
+        cardinality += end - start - removed;
+    }
+
+    public void clear(int value) {
+        clear(value, value + 1);
+    }
+
+    /**
+     * Removes the values from {@code from}, inclusive, to {@code to},
+     * exclusive.
+     * @param from the first value to remove
+     * @param to the value after the last value to remove
+     */
+    public void clear(int from, int to) {
+        from = Math.max(0, from);
+        if (from >= to || runs == 0 || from >= ends[runs - 1]) {
+            return;
+        }
+        countsValid = false;
+        int first = findRun(from);
+        if (first >= 0 && from > starts[first] && to < ends[first]) {
+            // Split the run
+            insertRun(first + 1, to, ends[first]);
+            ends[first] = from;
+            cardinality -= to - from;
+            return;
+        }
+        if (first < 0 || ends[first] <= from) {
+            first++;
+        } else if (from > starts[first]) {
+            cardinality -= ends[first] - from;
+            ends[first] = from;
+            first++;
+        }
+        int last = findRun(to - 1);
+        if (last >= first && to < ends[last]) {
+            cardinality -= to - starts[last];
+            starts[last] = to;
+            last--;
+        }
+        for (int i = first; i <= last; i++) {
+            cardinality -= ends[i] - starts[i];
+        }
+        removeRuns(first, last + 1);
+    }
+
+    public void clear() {
+        runs = 0;
+        cardinality = 0;
+        countsValid = false;
+    }
+
+    /**
+     * Returns the smallest value in this set that is greater than or equal
+     * to the given value, or -1 if there is none.
+     * @param from the value to start from
+     * @return the next value, or -1
+     */
+    public int nextSetBit(int from) {
+        int run = findRun(from);
+        if (run >= 0 && from < ends[run]) {
+            return Math.max(from, starts[run]);
+        }
+        return run + 1 < runs ? starts[run + 1] : -1;
+    }
+
+    /**
+     * Returns the largest value in this set that is less than or equal to
+     * the given value, or -1 if there is none.
+     * @param from the value to start from
+     * @return the previous value, or -1
+     */
+    public int previousSetBit(int from) {
+        int run = findRun(from);
+        if (run < 0) {
+            return -1;
+        }
+        return Math.min(from, ends[run] - 1);
+    }
+
+    /**
+     * Returns the number of values in this set that are less than the
+     * given value.
+     * @param value the value
+     * @return the number of smaller values
+     */
+    public int rank(int value) {
+        int run = findRun(value);
+        if (run < 0) {
+            return 0;
+        }
+        updateCounts();
+        return counts[run] + Math.min(value, ends[run]) - starts[run];
+    }
+
+    /**
+     * Returns the value with the given rank, that is the value that has
+     * {@code index} smaller values in this set, or -1 if the index is out of
+     * range.
+     * @param index the rank
+     * @return the value with the given rank, or -1
+     */
+    public int select(int index) {
+        if (index < 0 || index >= cardinality) {
+            return -1;
+        }
+        updateCounts();
+        int low = 0, high = runs - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (counts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return starts[low] + index - counts[low];
+    }
+
+    /**
+     * Inserts a gap of {@code count} values at {@code position}: the values
+     * greater than or equal to {@code position} are increased by
+     * {@code count}.
+     * @param position the position of the gap
+     * @param count the size of the gap
+     */
+    public void insert(int position, int count) {
+        if (count <= 0 || runs == 0 || position >= ends[runs - 1]) {
+            return;
+        }
+        int run = findRun(position);
+        if (run >= 0 && position == starts[run]) {
+            run--;
+        } else if (run >= 0 && position < ends[run]) {
+            // Split the run
+            insertRun(run + 1, position, ends[run]);
+            ends[run] = position;
+        }
+        for (int i = run + 1; i < runs; i++) {
+            starts[i] += count;
+            ends[i] += count;
+        }
+        countsValid = false;
+    }
+
+    /**
+     * Removes the {@code count} values starting at {@code position}: the
+     * values in that range are removed, and the values after it are
+     * decreased by {@code count}.
+     * @param position the first value to remove
+     * @param count the number of values to remove
+     */
+    public void remove(int position, int count) {
+        if (count <= 0) {
+            return;
+        }
+        clear(position, position + count);
+        int run = findRun(position - 1);
+        for (int i = run + 1; i < runs; i++) {
+            starts[i] -= count;
+            ends[i] -= count;
+        }
+        // Join the runs that now touch at position
+        if (run >= 0 && run + 1 < runs && ends[run] == starts[run + 1]) {
+            ends[run] = ends[run + 1];
+            removeRuns(run + 1, run + 2);
+        }
+        countsValid = false;
+    }
+
+    /**
+     * Returns a new set with the values of this set that are not in the
+     * given set.
+     * @param other the values to leave out
+     * @return the difference of the two sets
+     */
+    public IntRangeSet andNot(IntRangeSet other) {
+        IntRangeSet result = new IntRangeSet(this);
+        for (int i = 0; i < other.runs && !result.isEmpty(); i++) {
+            result.clear(other.starts[i], other.ends[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable list of the values of this set in ascending
+     * order. The list is backed by a copy of the runs, so it is not affected
+     * by later changes of this set.
+     * @return the values of this set
+     */
+    public List<Integer> toList() {
+        return new ValueList(new IntRangeSet(this));
+    }
+
+    /**
+     * Returns an unmodifiable list of the values from {@code from},
+     * inclusive, to {@code to}, exclusive.
+     * @param from the first value
+     * @param to the value after the last value
+     * @return the values of the range
+     */
+    public static List<Integer> rangeList(int from, int to) {
+        IntRangeSet set = new IntRangeSet();
+        set.set(from, to);
+        return new ValueList(set);
+    }
+
+    @Override public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof IntRangeSet other
+                && runs == other.runs
+                && Arrays.equals(starts, 0, runs, other.starts, 0, runs)
+                && Arrays.equals(ends, 0, runs, other.ends, 0, runs);
+    }
+
+    @Override public int hashCode() {
+        int hash = runs;
+        for (int i = 0; i < runs; i++) {
+            hash = (hash * 31 + starts[i]) * 31 + ends[i];
+        }
+        return hash;
+    }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < runs; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(starts[i]);
+            if (ends[i] - starts[i] > 1) {
+                sb.append("..").append(ends[i] - 1);
+            }
+        }
+        return sb.append("]").toString();
+    }
+
+    // Returns the index of the last run that starts at or before the given
+    // value, or -1 if there is none
+    private int findRun(int value) {
+        if (runs == 0 || value < starts[0]) {
+            return -1;
+        }
+        if (value >= starts[runs - 1]) {
+            return runs - 1;
+        }
+        int low = 0, high = runs - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= value) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void insertRun(int index, int start, int end) {
+        if (runs == starts.length) {
+            starts = Arrays.copyOf(starts, runs * 2);
+            ends = Arrays.copyOf(ends, runs * 2);
+        }
+        System.arraycopy(starts, index, starts, index + 1, runs - index);
+        System.arraycopy(ends, index, ends, index + 1, runs - index);
+        starts[index] = start;
+        ends[index] = end;
+        runs++;
+        countsValid = false;
+    }
+
+    private void removeRuns(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        System.arraycopy(starts, to, starts, from, runs - to);
+        System.arraycopy(ends, to, ends, from, runs - to);
+        runs -= to - from;
+        countsValid = false;
+    }
+
+    private void updateCounts() {
+        if (countsValid) {
+            return;
+        }
+        if (counts == null || counts.length < runs) {
+            counts = new int[starts.length];
+        }
+        int count = 0;
+        for (int i = 0; i < runs; i++) {
+            counts[i] = count;
+            count += ends[i] - starts[i];
+        }
+        countsValid = true;
+    }
+
+    private static final class ValueList extends AbstractList<Integer> implements RandomAccess {
+        private final IntRangeSet set;
+
+        ValueList(IntRangeSet set) {
+            this.set = set;
+        }
+
+        @Override public Integer get(int index) {
+            if (index < 0 || index >= set.cardinality) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return set.select(index);
+        }
+
+        @Override public int size() {
+            return set.cardinality;
+        }
+
+        @Override public int indexOf(Object o) {
+            if (o instanceof Integer value && set.get(value)) {
+                return set.rank(value);
+            }
+            return -1;
+        }
+
+        @Override public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+
+        @Override public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+    }
+}
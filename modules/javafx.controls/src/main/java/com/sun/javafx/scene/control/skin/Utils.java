@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -71,6 +71,7 @@ import com.sun.javafx.scene.control.behavior.MnemonicInfo;
 import com.sun.javafx.event.EventDispatchChainImpl;
 import com.sun.javafx.scene.text.FontHelper;
 import com.sun.javafx.scene.text.TextLayout;
+import com.sun.javafx.scene.text.TextMeasurer;
 import com.sun.javafx.tk.Toolkit;
 
 /**
@@ -167,16 +168,8 @@ public class Utils {
     }
 
     public static double computeTextWidth(Font font, String text, double wrappingWidth) {
-        TextLayout layout = layout();
-        try {
-            layout.setContent(text != null ? text : "", FontHelper.getNativeFont(font));
-            layout.setWrapWidth((float)wrappingWidth);
-            layout.setLineSpacing(0);
-            layout.setBoundsType(TextLayout.BOUNDS_CENTER);
-            return layout.getBounds().getWidth();
-        } finally {
-            release(layout);
-        }
+        return TextMeasurer.getInstance().computeWidth(text != null ? text : "",
+                FontHelper.getNativeFont(font), wrappingWidth);
     }
 
     public static double computeTextHeight(Font font, String text, double wrappingWidth, TextBoundsType boundsType) {
@@ -184,20 +177,9 @@ public class Utils {
     }
 
     public static double computeTextHeight(Font font, String text, double wrappingWidth, double lineSpacing, TextBoundsType boundsType) {
-        TextLayout layout = layout();
-        try {
-            layout.setContent(text != null ? text : "", FontHelper.getNativeFont(font));
-            layout.setWrapWidth((float)wrappingWidth);
-            layout.setLineSpacing((float)lineSpacing);
-            if (boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER) {
-                layout.setBoundsType(TextLayout.BOUNDS_CENTER);
-            } else {
-                layout.setBoundsType(0);
-            }
-            return layout.getBounds().getHeight();
-        } finally {
-            release(layout);
-        }
+        int type = boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER ? TextLayout.BOUNDS_CENTER : 0;
+        return TextMeasurer.getInstance().computeHeight(text != null ? text : "",
+                FontHelper.getNativeFont(font), wrappingWidth, lineSpacing, type);
     }
 
     public static Point2D computeMnemonicPosition(Font font, String text, int mnemonicIndex, double wrappingWidth,
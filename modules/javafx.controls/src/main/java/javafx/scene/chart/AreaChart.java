@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -60,6 +60,7 @@ import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.util.Duration;
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend.LegendItem;
 
 /**
@@ -178,6 +179,7 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addDoubleDataRange(series, xData, yData);
             }
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
                 xa.invalidateRange(xData);
@@ -434,8 +436,46 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
             final ObservableList<Node> children = ((Group) series.getNode()).getChildren();
             Path fillPath = (Path) children.get(0);
             Path linePath = (Path) children.get(1);
-            makePaths(this, series, constructedPath, fillPath, linePath,
-                      seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            if (series.getDoubleData() != null) {
+                makeDoublePaths(this, series, fillPath, linePath, seriesYAnimMultiplier.get());
+            } else {
+                makePaths(this, series, constructedPath, fillPath, linePath,
+                          seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            }
+        }
+    }
+
+    /**
+     * Sets the elements of the paths of a series with columnar data, using one element for each of the decimated
+     * points of the data.
+     */
+    static <X,Y> void makeDoublePaths(XYChart<X, Y> chart, Series<X, Y> series,
+                                      Path fillPath, Path linePath, double yAnimMultiplier)
+    {
+        final Decimator decimator = chart.decimateLine(series, yAnimMultiplier);
+        final int size = decimator == null ? 0 : decimator.size();
+        final PathElement[] lineElements = new PathElement[size];
+        for (int i = 0; i < size; i++) {
+            final double x = decimator.getX(i);
+            final double y = decimator.getY(i);
+            lineElements[i] = (i == 0) ? new MoveTo(x, y) : new LineTo(x, y);
+        }
+        linePath.getElements().setAll(lineElements);
+
+        if (fillPath != null) {
+            if (size == 0) {
+                fillPath.getElements().clear();
+                return;
+            }
+            final Axis<Y> axisY = chart.getYAxis();
+            final double yOrigin = axisY.getDisplayPosition(axisY.toRealValue(0.0));
+            final PathElement[] fillElements = new PathElement[size + 3];
+            fillElements[0] = new MoveTo(decimator.getX(0), yOrigin);
+            fillElements[1] = new LineTo(decimator.getX(0), decimator.getY(0));
+            System.arraycopy(lineElements, 1, fillElements, 2, size - 1);
+            fillElements[size + 1] = new LineTo(decimator.getX(size - 1), yOrigin);
+            fillElements[size + 2] = new ClosePath();
+            fillPath.getElements().setAll(fillElements);
         }
     }
 
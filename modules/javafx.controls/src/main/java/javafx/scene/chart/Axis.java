@@ -92,6 +92,8 @@ public abstract class Axis<T> extends Region {
     private double oldLength = 0;
     /** True when the current range invalid and all dependent calculations need to be updated */
     boolean rangeValid = false;
+    /** True when the tick marks are up to date, unless the range has changed since it was invalidated by new data */
+    private boolean tickMarksValid = false;
     boolean measureInvalid = false;
     boolean tickLabelsVisibleInvalid = false;
 
@@ -118,6 +120,7 @@ public abstract class Axis<T> extends Region {
             pseudoClassStateChanged(RIGHT_PSEUDOCLASS_STATE, edge == Side.RIGHT);
             pseudoClassStateChanged(BOTTOM_PSEUDOCLASS_STATE, edge == Side.BOTTOM);
             pseudoClassStateChanged(LEFT_PSEUDOCLASS_STATE, edge == Side.LEFT);
+            tickMarksValid = false;
             requestAxisLayout();
         }
 
@@ -431,7 +434,10 @@ public abstract class Axis<T> extends Region {
      * Mark the current range invalid, this will cause anything that depends on the range to be recalculated on the
      * next layout.
      */
-    protected final void invalidateRange() { rangeValid = false; }
+    protected final void invalidateRange() {
+        rangeValid = false;
+        tickMarksValid = false;
+    }
 
     /**
      * This is used to check if any given animation should run. It returns true if animation is enabled, the node
@@ -470,7 +476,8 @@ public abstract class Axis<T> extends Region {
      * @param data The current set of all data that needs to be plotted on this axis
      */
     public void invalidateRange(List<T> data) {
-        invalidateRange();
+        // the tick marks only need to be recreated if the new range differs from the current one
+        rangeValid = false;
         requestAxisLayout();
     }
 
@@ -485,6 +492,14 @@ public abstract class Axis<T> extends Region {
      */
     protected abstract Object autoRange(double length);
 
+    /**
+     * Returns whether the given range, returned by autoRange(), is the current range of this axis, in which case
+     * the tick marks do not need to be recalculated. Axes whose range objects cannot be compared return false.
+     */
+    boolean isCurrentRange(Object range) {
+        return false;
+    }
+
     /**
      * Called to set the current axis range to the given range. If isAnimating() is true then this method should
      * animate the range to the new range.
@@ -650,12 +665,22 @@ public abstract class Axis<T> extends Region {
         final double length = side.isVertical() ? getHeight() : getWidth();
         boolean rangeInvalid = !isRangeValid();
         boolean lengthDiffers = oldLength != length;
+        Object newRange = null;
+        if (rangeInvalid && !lengthDiffers && tickMarksValid && isAutoRanging()) {
+            newRange = autoRange(length);
+            if (isCurrentRange(newRange)) {
+                // only the data has changed, and not enough for the range to cross a tick mark, so the
+                // tick marks, their labels and their positions are still valid
+                rangeValid = true;
+                rangeInvalid = false;
+            }
+        }
         if (lengthDiffers || rangeInvalid) {
             // get range
             Object range;
             if(isAutoRanging()) {
                 // auto range
-                range = autoRange(length);
+                range = newRange != null ? newRange : autoRange(length);
                 // set current range to new range
                 setRange(range, shouldAnimate() && !isFirstPass && rangeInvalid);
             } else {
@@ -705,6 +730,7 @@ public abstract class Axis<T> extends Region {
             // mark all done
             oldLength = length;
             rangeValid = true;
+            tickMarksValid = true;
         }
 
         if (lengthDiffers || rangeInvalid || measureInvalid || tickLabelsVisibleInvalid) {
@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * The points of a {@link XYChart.Series}, stored as two arrays of {@code double}
+ * values rather than as {@link XYChart.Data} items. It is meant for series with
+ * many points, such as long time series or the samples of a real-time feed: a
+ * point takes 16 bytes, and charts only create the path elements needed to draw
+ * the series at the resolution of the plot area.
+ * <p>
+ * A {@code DoubleSeriesData} either grows as points are added, or has a fixed
+ * capacity, in which case adding a point to a full instance removes its oldest
+ * point. The smallest and largest values of the points are kept up to date as
+ * points are added and removed, so that the range of the axes can be computed
+ * without visiting the points.
+ * <p>
+ * Invalidation listeners are notified each time points are added or removed.
+ * Like the rest of the scene graph, a {@code DoubleSeriesData} that is used by a
+ * chart must only be modified on the JavaFX Application Thread.
+ *
+ * @see XYChart.Series#doubleDataProperty()
+ * @since 28
+ */
+public final class DoubleSeriesData implements Observable {
+
+    private static final InvalidationListener[] NO_LISTENERS = new InvalidationListener[0];
+
+    private final int capacity;
+    private double[] xValues;
+    private double[] yValues;
+
+    // The slot of the oldest point, which is always 0 when there is no capacity
+    private int head;
+    private int size;
+    private long addedCount;
+    private boolean sortedX = true;
+
+    private final Extremes minX;
+    private final Extremes maxX;
+    private final Extremes minY;
+    private final Extremes maxY;
+
+    private InvalidationListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Creates an empty {@code DoubleSeriesData} that grows as points are added.
+     */
+    public DoubleSeriesData() {
+        this.capacity = 0;
+        xValues = new double[16];
+        yValues = new double[16];
+        minX = new Extremes(false, 0);
+        maxX = new Extremes(true, 0);
+        minY = new Extremes(false, 0);
+        maxY = new Extremes(true, 0);
+    }
+
+    /**
+     * Creates an empty {@code DoubleSeriesData} with the given capacity. Once it
+     * holds {@code capacity} points, adding a point removes the oldest one.
+     *
+     * @param capacity the maximum number of points
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public DoubleSeriesData(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+        xValues = new double[capacity];
+        yValues = new double[capacity];
+        minX = new Extremes(false, capacity);
+        maxX = new Extremes(true, capacity);
+        minY = new Extremes(false, capacity);
+        maxY = new Extremes(true, capacity);
+    }
+
+    /**
+     * Returns the maximum number of points, or 0 if this {@code DoubleSeriesData}
+     * grows as points are added.
+     *
+     * @return the capacity, or 0
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x value of the point at the given index, where the oldest
+     * point has index 0.
+     *
+     * @param index the index of the point
+     * @return the x value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getX(int index) {
+        return xValues[slot(Objects.checkIndex(index, size))];
+    }
+
+    /**
+     * Returns the y value of the point at the given index, where the oldest
+     * point has index 0.
+     *
+     * @param index the index of the point
+     * @return the y value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getY(int index) {
+        return yValues[slot(Objects.checkIndex(index, size))];
+    }
+
+    /**
+     * Adds a point. If this {@code DoubleSeriesData} has a capacity and is full,
+     * its oldest point is removed.
+     *
+     * @param x the x value
+     * @param y the y value
+     */
+    public void add(double x, double y) {
+        append(x, y);
+        fireInvalidation();
+    }
+
+    /**
+     * Adds the points with the given x and y values, in order, notifying the
+     * listeners once.
+     *
+     * @param xValues the x values
+     * @param yValues the y values
+     * @throws NullPointerException if an array is null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void addAll(double[] xValues, double[] yValues) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("x and y values have different lengths: "
+                    + xValues.length + " != " + yValues.length);
+        }
+        if (xValues.length == 0) {
+            return;
+        }
+        int from = capacity > 0 ? Math.max(0, xValues.length - capacity) : 0;
+        // Only the last points are kept, but the earlier ones are counted as added
+        addedCount += from;
+        ensureCapacity(size + xValues.length - from);
+        for (int i = from; i < xValues.length; i++) {
+            append(xValues[i], yValues[i]);
+        }
+        fireInvalidation();
+    }
+
+    /**
+     * Removes all points.
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        head = 0;
+        size = 0;
+        sortedX = true;
+        minX.clear();
+        maxX.clear();
+        minY.clear();
+        maxY.clear();
+        fireInvalidation();
+    }
+
+    /**
+     * Returns the smallest x value, ignoring NaN values, or NaN if there is
+     * none.
+     *
+     * @return the smallest x value
+     */
+    public double getMinX() {
+        return minX.get(xValues);
+    }
+
+    /**
+     * Returns the largest x value, ignoring NaN values, or NaN if there is
+     * none.
+     *
+     * @return the largest x value
+     */
+    public double getMaxX() {
+        return maxX.get(xValues);
+    }
+
+    /**
+     * Returns the smallest y value, ignoring NaN values, or NaN if there is
+     * none.
+     *
+     * @return the smallest y value
+     */
+    public double getMinY() {
+        return minY.get(yValues);
+    }
+
+    /**
+     * Returns the largest y value, ignoring NaN values, or NaN if there is
+     * none.
+     *
+     * @return the largest y value
+     */
+    public double getMaxY() {
+        return maxY.get(yValues);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addListener(InvalidationListener listener) {
+        Objects.requireNonNull(listener);
+        InvalidationListener[] l = Arrays.copyOf(listeners, listeners.length + 1);
+        l[listeners.length] = listener;
+        listeners = l;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                InvalidationListener[] l = new InvalidationListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, l, 0, i);
+                System.arraycopy(listeners, i + 1, l, i, l.length - i);
+                listeners = l;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the x values are in ascending order and not NaN. Once
+     * this returns false, it does so until the points are cleared.
+     */
+    boolean isSortedX() {
+        return sortedX;
+    }
+
+    /**
+     * Returns the number of points added since this instance was created,
+     * including the points that have been removed since.
+     */
+    long getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Returns the index of the first point whose x value is not less than the
+     * given value. The x values must be in ascending order.
+     */
+    int indexOfX(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xValues[slot(mid)] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return capacity > 0 && slot >= capacity ? slot - capacity : slot;
+    }
+
+    private void append(double x, double y) {
+        if (sortedX && (Double.isNaN(x) || (size > 0 && x < xValues[slot(size - 1)]))) {
+            sortedX = false;
+        }
+        int slot;
+        if (capacity > 0 && size == capacity) {
+            // Overwrite the oldest point
+            slot = head;
+            minX.remove(slot);
+            maxX.remove(slot);
+            minY.remove(slot);
+            maxY.remove(slot);
+            head = head + 1 == capacity ? 0 : head + 1;
+        } else {
+            ensureCapacity(size + 1);
+            slot = slot(size);
+            size++;
+        }
+        xValues[slot] = x;
+        yValues[slot] = y;
+        minX.add(slot, xValues);
+        maxX.add(slot, xValues);
+        minY.add(slot, yValues);
+        maxY.add(slot, yValues);
+        addedCount++;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (capacity == 0 && minCapacity > xValues.length) {
+            int newLength = Math.max(minCapacity, xValues.length + (xValues.length >> 1));
+            xValues = Arrays.copyOf(xValues, newLength);
+            yValues = Arrays.copyOf(yValues, newLength);
+        }
+    }
+
+    private void fireInvalidation() {
+        for (InvalidationListener listener : listeners) {
+            listener.invalidated(this);
+        }
+    }
+
+    /**
+     * Keeps track of the smallest or largest value. Without a capacity points
+     * are never removed, so only the extreme value is kept. With a capacity,
+     * the slots of the points that can still become the extreme value, as
+     * older points are removed, are kept in a deque ordered by age, whose
+     * first slot holds the extreme value. This is the usual sliding window
+     * algorithm: each point is added to and removed from the deque once.
+     */
+    private static final class Extremes {
+        private final boolean max;
+        private final int[] slots;
+        private int head;
+        private int size;
+        private double value = Double.NaN;
+
+        Extremes(boolean max, int capacity) {
+            this.max = max;
+            this.slots = capacity > 0 ? new int[capacity] : null;
+        }
+
+        void add(int slot, double[] values) {
+            double v = values[slot];
+            if (Double.isNaN(v)) {
+                return;
+            }
+            if (slots == null) {
+                if (Double.isNaN(value) || (max ? v > value : v < value)) {
+                    value = v;
+                }
+                return;
+            }
+            // Drop the newer points that can no longer be the extreme value
+            while (size > 0) {
+                double last = values[slots[index(size - 1)]];
+                if (max ? last > v : last < v) {
+                    break;
+                }
+                size--;
+            }
+            slots[index(size)] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            if (size > 0 && slots[head] == slot) {
+                head = index(1);
+                size--;
+            }
+        }
+
+        double get(double[] values) {
+            if (slots == null) {
+                return value;
+            }
+            return size == 0 ? Double.NaN : values[slots[head]];
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+            value = Double.NaN;
+        }
+
+        private int index(int i) {
+            int index = head + i;
+            return index >= slots.length ? index - slots.length : index;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.chart;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,7 +38,9 @@ import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.beans.NamedArg;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -50,13 +53,18 @@ import javafx.css.Styleable;
 import javafx.css.StyleableBooleanProperty;
 import javafx.css.StyleableProperty;
 import javafx.css.converter.BooleanConverter;
+import javafx.geometry.Bounds;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.util.Duration;
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend.LegendItem;
 
 /**
@@ -80,6 +88,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private FadeTransition fadeSymbolTransition = null;
     private Map<Data<X,Y>, Double> XYValueMap = new HashMap<>();
     private Timeline seriesRemoveTimeline = null;
+    /** The incrementally drawn lines of the series with columnar data, when streaming */
+    private final Map<Series<X,Y>, StreamingLine> streamingLines = new HashMap<>();
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -158,6 +168,42 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     public final void setAxisSortingPolicy(SortingPolicy value) { axisSortingPolicy.setValue(value); }
     public final ObjectProperty<SortingPolicy> axisSortingPolicyProperty() { return axisSortingPolicy; }
 
+    /**
+     * Indicates whether the lines of the series with {@link Series#doubleDataProperty() columnar data} are drawn
+     * incrementally, for data that is received in real time. The lines of series whose x values are in ascending
+     * order are then split into several paths: the series node holds the most recent points, and paths sharing its
+     * style classes hold the older points. Points added to the data are appended to the series node, paths whose
+     * points have all been removed from the data or scrolled out of the plot area are removed, and when only the
+     * offset of the x axis changes, for example when its range follows a sliding window of points, the paths are
+     * moved rather than recreated. The paths are recreated when the scale of an axis changes.
+     * <p>
+     * An auto-ranging {@link NumberAxis} only changes its range, and recalculates its tick marks, when the data
+     * crosses a tick mark. For a smoothly scrolling sliding window, the range of the x axis can instead be set to
+     * follow the points, without changing its length.
+     *
+     * @defaultValue false
+     * @since 28
+     */
+    private BooleanProperty streaming = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return LineChart.this;
+        }
+
+        @Override
+        public String getName() {
+            return "streaming";
+        }
+    };
+
+    public final boolean isStreaming() { return streaming.get(); }
+    public final void setStreaming(boolean value) { streaming.set(value); }
+    public final BooleanProperty streamingProperty() { return streaming; }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -198,6 +244,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addDoubleDataRange(series, xData, yData);
             }
             // JDK-8118969 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
@@ -434,10 +481,16 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
         // remove all symbol nodes
         seriesYMultiplierMap.remove(series);
+        final StreamingLine streamingLine = streamingLines.remove(series);
         if (shouldAnimate()) {
             seriesRemoveTimeline = new Timeline(createSeriesRemoveTimeLine(series, 900));
+            if (streamingLine != null) {
+                // the other paths of the line fade out with the series node
+                seriesRemoveTimeline.setOnFinished(e -> streamingLine.dispose());
+            }
             seriesRemoveTimeline.play();
         } else {
+            if (streamingLine != null) streamingLine.dispose();
             getPlotChildren().remove(series.getNode());
             for (Data<X,Y> d:series.getData()) getPlotChildren().remove(d.getNode());
             removeSeriesFromDisplay(series);
@@ -451,7 +504,13 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             Series<X,Y> series = getData().get(seriesIndex);
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
-            if (seriesNode instanceof Path) {
+            if (seriesNode instanceof Path && series.getDoubleData() != null) {
+                if (!isStreaming() || !layoutStreamingLine(series, (Path) seriesNode, seriesYAnimMultiplier.get())) {
+                    final StreamingLine streamingLine = streamingLines.remove(series);
+                    if (streamingLine != null) streamingLine.dispose();
+                    AreaChart.makeDoublePaths(this, series, null, (Path) seriesNode, seriesYAnimMultiplier.get());
+                }
+            } else if (seriesNode instanceof Path) {
                 AreaChart.makePaths(this, series,
                                     constructedPath, null, (Path) seriesNode,
                                     seriesYAnimMultiplier.get(), getAxisSortingPolicy());
@@ -459,6 +518,35 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Updates the incrementally drawn line of a series with columnar data. Returns false if the line cannot be drawn
+     * incrementally, because its x values are not in ascending order or the axes are not value axes.
+     */
+    private boolean layoutStreamingLine(Series<X,Y> series, Path seriesLine, double yAnimMultiplier) {
+        final DoubleSeriesData doubleData = series.getDoubleData();
+        final Axis<X> xa = getXAxis();
+        final Axis<Y> ya = getYAxis();
+        if (!doubleData.isSortedX() || !(xa instanceof ValueAxis) || !(ya instanceof ValueAxis)) {
+            return false;
+        }
+        // value axes map values linearly to display positions
+        final double xOffset = xa.getDisplayPosition(xa.toRealValue(0));
+        final double xScale = xa.getDisplayPosition(xa.toRealValue(1)) - xOffset;
+        final double yOffset = ya.getDisplayPosition(ya.toRealValue(0));
+        final double yScale = (ya.getDisplayPosition(ya.toRealValue(1)) - yOffset) * yAnimMultiplier;
+        if (!(xScale > 0) || !Double.isFinite(xScale) || !Double.isFinite(yScale)) {
+            return false;
+        }
+        StreamingLine streamingLine = streamingLines.get(series);
+        if (streamingLine == null || streamingLine.head != seriesLine) {
+            if (streamingLine != null) streamingLine.dispose();
+            streamingLine = new StreamingLine(seriesLine, getPlotChildren());
+            streamingLines.put(series, streamingLine);
+        }
+        streamingLine.update(doubleData, xOffset, xScale, yOffset, yScale, -xOffset / xScale);
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override void dataBeingRemovedIsAdded(Data item, Series series) {
         if (fadeSymbolTransition != null) {
@@ -586,6 +674,177 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         return getClassCssMetaData();
     }
 
+    /**
+     * The line of a series with columnar data, drawn incrementally. The points are split into chunks of a few dozen
+     * pixels, each drawn by its own path, so that adding points only changes the path of the last chunk, which is
+     * the series node. The coordinates of the paths are computed with the mapping of the axes of the last rebuild,
+     * and the paths are translated by the change of the offset of the x axis since then. The points of the oldest
+     * chunk that have been removed from the data are hidden by a clip, until all its points have been removed.
+     * <p>
+     * Points are identified by their sequence number, which is the number of points added to the data before them.
+     */
+    private static final class StreamingLine {
+        /** The width of a chunk, in pixels */
+        private static final double CHUNK_WIDTH = 64;
+        /** The number of path elements after which a chunk is complete, whatever its width */
+        private static final int CHUNK_SIZE = 1024;
+        /** The translation beyond which the paths are rebuilt, before coordinates lose precision */
+        private static final double MAX_TRANSLATE = 1 << 16;
+
+        final Path head;
+        private final ObservableList<Node> plotChildren;
+        private final Decimator decimator = new Decimator();
+        /** The paths of the complete chunks, oldest first, and the sequence numbers of their last points */
+        private final ArrayDeque<Path> chunks = new ArrayDeque<>();
+        private final ArrayDeque<Long> chunkEnds = new ArrayDeque<>();
+
+        private DoubleSeriesData data;
+        private double xOffset;
+        private double xScale;
+        private double yOffset;
+        private double yScale;
+        /** The sequence numbers of the first point drawn, of the first point of the head, and after the last point */
+        private long first;
+        private long headFirst;
+        private long next;
+
+        StreamingLine(Path head, ObservableList<Node> plotChildren) {
+            this.head = head;
+            this.plotChildren = plotChildren;
+        }
+
+        /**
+         * Updates the paths for the current points of the data and mapping of the axes, given the smallest x value
+         * of the plot area.
+         */
+        void update(DoubleSeriesData data, double xOffset, double xScale, double yOffset, double yScale,
+                    double minX) {
+            final long base = data.getAddedCount() - data.size();
+            if (data != this.data || changed(xScale, this.xScale) || changed(yOffset, this.yOffset)
+                    || changed(yScale, this.yScale)
+                    || Math.abs(xOffset - this.xOffset) > MAX_TRANSLATE
+                    // the last point drawn has been removed, for example when the data was cleared
+                    || next - 1 < base
+                    // points that are not drawn have scrolled into the plot area
+                    || (first > base && data.getX((int) (first - base)) > minX)) {
+                rebuild(data, xOffset, xScale, yOffset, yScale, minX);
+                return;
+            }
+            // remove the chunks whose points have all been removed or scrolled out of the plot area
+            while (!chunks.isEmpty()) {
+                final long last = chunkEnds.peekFirst();
+                if (last >= base && data.getX((int) (last - base)) >= minX) {
+                    break;
+                }
+                removeChunk(chunks.removeFirst());
+                chunkEnds.removeFirst();
+                first = last;
+            }
+            append(data.getAddedCount());
+            // hide the points of the oldest chunk that have been removed from the data
+            final Path oldest = chunks.isEmpty() ? head : chunks.peekFirst();
+            if (first < base) {
+                final double clipX = this.xOffset + data.getX(0) * xScale;
+                final Bounds bounds = oldest.getLayoutBounds();
+                oldest.setClip(new Rectangle(clipX, bounds.getMinY(),
+                        Math.max(0, bounds.getMaxX() - clipX), bounds.getHeight()));
+            } else {
+                oldest.setClip(null);
+            }
+            head.setTranslateX(xOffset - this.xOffset);
+        }
+
+        /** Removes all paths other than the series node, which is cleared */
+        void dispose() {
+            for (Path chunk : chunks) {
+                removeChunk(chunk);
+            }
+            chunks.clear();
+            chunkEnds.clear();
+            head.getElements().clear();
+            head.setClip(null);
+            head.setTranslateX(0);
+            data = null;
+        }
+
+        private void rebuild(DoubleSeriesData data, double xOffset, double xScale, double yOffset, double yScale,
+                             double minX) {
+            dispose();
+            this.data = data;
+            this.xOffset = xOffset;
+            this.xScale = xScale;
+            this.yOffset = yOffset;
+            this.yScale = yScale;
+            // start from the last point before the plot area
+            final long base = data.getAddedCount() - data.size();
+            first = headFirst = next = base + Math.max(0, data.indexOfX(minX) - 1);
+            append(data.getAddedCount());
+        }
+
+        /** Appends the points up to the given sequence number, completing chunks as they reach their width */
+        private void append(long end) {
+            final long base = data.getAddedCount() - data.size();
+            while (next < end) {
+                final int from = (int) (next - base);
+                // the chunk ends with the first point that is a chunk width away from its first point
+                final int headIndex = (int) (Math.max(headFirst, base) - base);
+                final int last = data.indexOfX(data.getX(headIndex) + CHUNK_WIDTH / xScale);
+                final int to = (int) Math.min(end - base, Math.max(from, last) + 1L);
+                decimator.decimateLine(data, from, to, true, xOffset, xScale, yOffset, yScale);
+                final PathElement[] elements = new PathElement[decimator.size()];
+                for (int i = 0; i < elements.length; i++) {
+                    final double x = decimator.getX(i);
+                    final double y = decimator.getY(i);
+                    elements[i] = (i == 0 && head.getElements().isEmpty()) ? new MoveTo(x, y) : new LineTo(x, y);
+                }
+                head.getElements().addAll(elements);
+                next = base + to;
+                if (to > last || head.getElements().size() >= CHUNK_SIZE) {
+                    completeHead(next - 1);
+                }
+            }
+        }
+
+        /** Moves the elements of the head to a new chunk, and starts the head at the last point of the chunk */
+        private void completeHead(long last) {
+            final PathElement[] elements = head.getElements().toArray(new PathElement[0]);
+            headFirst = last;
+            if (elements.length <= 1) {
+                // no line has been drawn yet, the head stays at its first point
+                return;
+            }
+            final Path chunk = new Path(elements);
+            chunk.setStrokeLineJoin(head.getStrokeLineJoin());
+            chunk.setClip(head.getClip());
+            head.setClip(null);
+            Bindings.bindContent(chunk.getStyleClass(), head.getStyleClass());
+            chunk.opacityProperty().bind(head.opacityProperty());
+            chunk.visibleProperty().bind(head.visibleProperty());
+            chunk.translateXProperty().bind(head.translateXProperty());
+            plotChildren.add(plotChildren.indexOf(head), chunk);
+            chunks.addLast(chunk);
+            chunkEnds.addLast(last);
+
+            final PathElement end = elements[elements.length - 1];
+            head.getElements().setAll(end instanceof LineTo lineTo
+                    ? new MoveTo(lineTo.getX(), lineTo.getY())
+                    : new MoveTo(((MoveTo) end).getX(), ((MoveTo) end).getY()));
+        }
+
+        /** Whether a value of the mapping of the axes differs from the previous one by more than a rounding error */
+        private static boolean changed(double value, double oldValue) {
+            return Math.abs(value - oldValue) > Math.max(1, Math.abs(oldValue)) * 1e-9;
+        }
+
+        private void removeChunk(Path chunk) {
+            plotChildren.remove(chunk);
+            Bindings.unbindContent(chunk.getStyleClass(), head.getStyleClass());
+            chunk.opacityProperty().unbind();
+            chunk.visibleProperty().unbind();
+            chunk.translateXProperty().unbind();
+        }
+    }
+
     /**
      * This enum defines a policy for {@link LineChart#axisSortingPolicyProperty()}.
      * @since JavaFX 8u40
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package javafx.scene.chart;
 import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -182,6 +183,10 @@ public final class NumberAxis extends ValueAxis<Number> {
         };
     }
 
+    @Override boolean isCurrentRange(Object range) {
+        return Arrays.equals((Object[]) range, (Object[]) getRange());
+    }
+
     /**
      * Called to set the current axis range to the given range. If isAnimating() is true then this method should
      * animate the range to the new range.
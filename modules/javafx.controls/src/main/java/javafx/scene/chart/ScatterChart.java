@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,11 +30,18 @@ import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.beans.NamedArg;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 import javafx.util.Duration;
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend.LegendItem;
 
 /**
@@ -48,6 +55,9 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     private ParallelTransition parallelTransition;
 
+    /** Half the size of the squares drawn for the points of series with columnar data */
+    private static final double POINT_RADIUS = 1;
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -136,8 +146,22 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override protected void seriesChanged(ListChangeListener.Change<? extends Series> c) {
+        // Update style classes of the paths of series with columnar data
+        for (int i = 0; i < getDataSize(); i++) {
+            final Series<X,Y> s = getData().get(i);
+            if (s.getNode() instanceof Path) setPointsStyleClass(s, i);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        // remove the path drawn for columnar data, if any
+        if (series.getNode() instanceof Path) {
+            getPlotChildren().remove(series.getNode());
+            series.setNode(null);
+        }
         // remove all symbol nodes
         if (shouldAnimate()) {
             parallelTransition = new ParallelTransition();
@@ -184,15 +208,54 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
                     symbol.resizeRelocate(x-(w/2), y-(h/2),w,h);
                 }
             }
+            layoutDoubleData(series, seriesIndex);
         }
     }
 
+    // Draws the points of a series with columnar data as small squares in a single path
+    private void layoutDoubleData(Series<X,Y> series, int seriesIndex) {
+        Path path = (series.getNode() instanceof Path p) ? p : null;
+        if (series.getDoubleData() == null) {
+            if (path != null) path.getElements().clear();
+            return;
+        }
+        if (path == null) {
+            path = new Path();
+            // the fill follows the series color set by CSS on the stroke
+            path.fillProperty().bind(path.strokeProperty());
+            series.setNode(path);
+            setPointsStyleClass(series, seriesIndex);
+            getPlotChildren().add(path);
+        }
+        final Decimator decimator = decimatePoints(series);
+        final int size = decimator == null ? 0 : decimator.size();
+        final PathElement[] elements = new PathElement[size * 5];
+        for (int i = 0; i < size; i++) {
+            final double x = decimator.getX(i);
+            final double y = decimator.getY(i);
+            elements[i * 5] = new MoveTo(x - POINT_RADIUS, y - POINT_RADIUS);
+            elements[i * 5 + 1] = new LineTo(x + POINT_RADIUS, y - POINT_RADIUS);
+            elements[i * 5 + 2] = new LineTo(x + POINT_RADIUS, y + POINT_RADIUS);
+            elements[i * 5 + 3] = new LineTo(x - POINT_RADIUS, y + POINT_RADIUS);
+            elements[i * 5 + 4] = new ClosePath();
+        }
+        path.getElements().setAll(elements);
+    }
+
+    private void setPointsStyleClass(Series<X,Y> series, int seriesIndex) {
+        series.getNode().getStyleClass().setAll("chart-series-line", "series" + seriesIndex,
+                series.defaultColorStyleClass);
+    }
+
     @Override
     LegendItem createLegendItemForSeries(Series<X, Y> series, int seriesIndex) {
         LegendItem legendItem = new LegendItem(series.getName());
         Node node = series.getData().isEmpty() ? null : series.getData().get(0).getNode();
         if (node != null) {
             legendItem.getSymbol().getStyleClass().addAll(node.getStyleClass());
+        } else if (series.getDoubleData() != null) {
+            legendItem.getSymbol().getStyleClass().addAll("chart-symbol", "series" + seriesIndex,
+                    series.defaultColorStyleClass);
         }
         return legendItem;
     }
@@ -26,6 +26,7 @@
 package javafx.scene.chart;
 
 
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend;
 
 import java.text.MessageFormat;
@@ -43,6 +44,7 @@ import com.sun.javafx.scene.control.skin.resources.ControlResources;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -124,6 +126,10 @@ public abstract class XYChart<X,Y> extends Chart {
 
     private boolean suppressAnimation;
 
+    /** The size of the cells used to decimate the points of scatter charts, in pixels */
+    private static final double POINT_CELL_SIZE = 3;
+    private Decimator decimator;
+
     /** This is called when a series is added or removed from the chart */
     private final ListChangeListener<Series<X,Y>> seriesChanged = c -> {
         ObservableList<? extends Series<X, Y>> series = c.getList();
@@ -577,6 +583,12 @@ public abstract class XYChart<X,Y> extends Chart {
         requestChartLayout();
     }
 
+    /** Called when the columnar data of a series, or its points, have changed */
+    void doubleDataChanged(Series<X,Y> series) {
+        invalidateRange();
+        requestChartLayout();
+    }
+
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
         if (currentValueProperty.get() != newValue) invalidateRange();
         dataItemChanged(item);
@@ -714,12 +726,82 @@ public abstract class XYChart<X,Y> extends Chart {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addDoubleDataRange(series, xData, yData);
             }
             if(xData != null) xa.invalidateRange(xData);
             if(yData != null) ya.invalidateRange(yData);
         }
     }
 
+    /**
+     * Adds the smallest and largest values of the columnar data of the series, if any, to the lists of values used
+     * to compute the axis ranges. These values are kept up to date by DoubleSeriesData, so the points are not visited.
+     */
+    final void addDoubleDataRange(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final DoubleSeriesData doubleData = series.getDoubleData();
+        if (doubleData == null || doubleData.size() == 0) return;
+        if (xData != null && !Double.isNaN(doubleData.getMinX())) {
+            xData.add(getXAxis().toRealValue(doubleData.getMinX()));
+            xData.add(getXAxis().toRealValue(doubleData.getMaxX()));
+        }
+        if (yData != null && !Double.isNaN(doubleData.getMinY())) {
+            yData.add(getYAxis().toRealValue(doubleData.getMinY()));
+            yData.add(getYAxis().toRealValue(doubleData.getMaxY()));
+        }
+    }
+
+    /**
+     * Converts the columnar data of the series to the display positions of the points of its line, decimated to the
+     * resolution of the plot area. Returns null if the series has no columnar data or if the axes are not value axes.
+     */
+    final Decimator decimateLine(Series<X,Y> series, double yMultiplier) {
+        return decimate(series, yMultiplier, false);
+    }
+
+    /**
+     * Converts the columnar data of the series to the display positions of its points that are inside the plot area,
+     * keeping only one point for each cell of a few pixels. Returns null if the series has no columnar data or if the
+     * axes are not value axes.
+     */
+    final Decimator decimatePoints(Series<X,Y> series) {
+        return decimate(series, 1, true);
+    }
+
+    private Decimator decimate(Series<X,Y> series, double yMultiplier, boolean points) {
+        final DoubleSeriesData doubleData = series.getDoubleData();
+        final Axis<X> xa = getXAxis();
+        final Axis<Y> ya = getYAxis();
+        if (doubleData == null || !(xa instanceof ValueAxis) || !(ya instanceof ValueAxis)) {
+            return null;
+        }
+        if (decimator == null) {
+            decimator = new Decimator();
+        }
+        // value axes map values linearly to display positions
+        final double xOffset = xa.getDisplayPosition(xa.toRealValue(0));
+        final double xScale = xa.getDisplayPosition(xa.toRealValue(1)) - xOffset;
+        final double yOffset = ya.getDisplayPosition(ya.toRealValue(0));
+        final double yScale = (ya.getDisplayPosition(ya.toRealValue(1)) - yOffset) * yMultiplier;
+        int from = 0;
+        int to = doubleData.size();
+        if (xScale == 0 || !Double.isFinite(xScale) || !Double.isFinite(yScale)) {
+            to = 0;
+        } else if (doubleData.isSortedX()) {
+            // only visit the points in the visible range, and the points next to it
+            final double x1 = -xOffset / xScale;
+            final double x2 = (xa.getWidth() - xOffset) / xScale;
+            from = Math.max(0, doubleData.indexOfX(Math.min(x1, x2)) - 1);
+            to = Math.min(to, doubleData.indexOfX(Math.max(x1, x2)) + 1);
+        }
+        if (points) {
+            decimator.decimatePoints(doubleData, from, to, xOffset, xScale, yOffset, yScale,
+                    xa.getWidth(), ya.getHeight(), POINT_CELL_SIZE);
+        } else {
+            decimator.decimateLine(doubleData, from, to, doubleData.isSortedX(), xOffset, xScale, yOffset, yScale);
+        }
+        return decimator;
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1696,6 +1778,47 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        private final InvalidationListener doubleDataListener = observable -> doubleDataChanged();
+
+        /**
+         * The columnar data of this series. Series with many points, such as long time series or real-time feeds,
+         * can store their points in a {@link DoubleSeriesData} rather than as data items: {@link LineChart},
+         * {@link AreaChart} and {@link ScatterChart} then draw these points at the resolution of the plot area,
+         * without creating nodes or path elements for points that would not be visible, and compute the range of
+         * their axes from the smallest and largest values of the points, without visiting them.
+         * <p>
+         * The points are drawn in the order they were added. Lines are decimated when the x values are in ascending
+         * order. Both axes must be {@link ValueAxis value axes} with a linear scale, or the points are not drawn.
+         * No symbols are created for the points, and changes to the points are not animated. The {@link #getData()
+         * data items} of a series with columnar data should be empty.
+         *
+         * @defaultValue null
+         * @since 28
+         */
+        private final ObjectProperty<DoubleSeriesData> doubleData = new ObjectPropertyBase<>() {
+            private DoubleSeriesData old;
+            @Override protected void invalidated() {
+                final DoubleSeriesData current = get();
+                if (old != null) old.removeListener(doubleDataListener);
+                if (current != null) current.addListener(doubleDataListener);
+                old = current;
+                doubleDataChanged();
+            }
+
+            @Override
+            public Object getBean() {
+                return Series.this;
+            }
+
+            @Override
+            public String getName() {
+                return "doubleData";
+            }
+        };
+        public final DoubleSeriesData getDoubleData() { return doubleData.get(); }
+        public final void setDoubleData(DoubleSeriesData value) { doubleData.set(value); }
+        public final ObjectProperty<DoubleSeriesData> doubleDataProperty() { return doubleData; }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1738,6 +1861,11 @@ public abstract class XYChart<X,Y> extends Chart {
 
         // -------------- PRIVATE/PROTECTED METHODS -----------------------------------
 
+        private void doubleDataChanged() {
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) chart.doubleDataChanged(this);
+        }
+
         /*
          * The following methods are for manipulating the pointers in the linked list
          * when data is deleted.
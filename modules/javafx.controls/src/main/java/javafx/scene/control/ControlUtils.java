@@ -213,7 +213,6 @@ class ControlUtils {
             }
         }
         c.reset();
-        sm.selectedIndices.reset();
 
         if (sm.isAtomic()) {
             return;
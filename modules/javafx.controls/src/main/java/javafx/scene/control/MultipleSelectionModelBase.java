@@ -29,9 +29,9 @@ import com.sun.javafx.collections.NonIterableChange;
 import static javafx.scene.control.SelectionMode.SINGLE;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.sun.javafx.scene.control.IntRangeSet;
 import com.sun.javafx.scene.control.MultipleAdditionAndRemovedChange;
 import com.sun.javafx.scene.control.ReadOnlyUnbackedObservableList;
 import com.sun.javafx.scene.control.SelectedItemsReadOnlyObservableList;
@@ -200,27 +200,21 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         int selectedIndicesCardinality = selectedIndices.size(); // number of true bits
         if (selectedIndicesCardinality == 0) return;
 
-        int selectedIndicesSize = selectedIndices.bitsetSize();   // number of bits reserved
-
-        int[] perm = new int[selectedIndicesSize];
-        Arrays.fill(perm, -1);
-
         // sort the list so that we iterate from highest position to lowest position
         Collections.sort(shifts, (s1, s2) -> Integer.compare(s2.getKey(), s1.getKey()));
         final int lowestShiftPosition = shifts.get(shifts.size() - 1).getKey();
 
         // make a copy of the selectedIndices before so we can compare to it afterwards
-        BitSet selectedIndicesCopy = (BitSet) selectedIndices.bitset.clone();
+        IntRangeSet selectedIndicesCopy = new IntRangeSet(selectedIndices.ranges);
 
+        boolean selectionMoved = false;
         startAtomic();
         for (Pair<Integer, Integer> shift : shifts) {
-            doShift(shift, callback, perm);
+            selectionMoved |= doShift(shift, callback);
         }
         stopAtomic();
 
-        // strip out all useless -1 default values from the perm array
-        final int[] prunedPerm = Arrays.stream(perm).filter(value -> value > -1).toArray();
-        final boolean hasSelectionChanged = prunedPerm.length > 0;
+        final boolean hasSelectionChanged = selectionMoved;
 
         // This ensure that the selection remains accurate when a shift occurs.
         final int selectedIndex = getSelectedIndex();
@@ -256,47 +250,38 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
         if (hasSelectionChanged) {
             // work out what indices were removed and added
-            BitSet removed = (BitSet) selectedIndicesCopy.clone();
-            removed.andNot(selectedIndices.bitset);
-
-            BitSet added = (BitSet) selectedIndices.bitset.clone();
-            added.andNot(selectedIndicesCopy);
+            IntRangeSet removed = selectedIndicesCopy.andNot(selectedIndices.ranges);
+            IntRangeSet added = selectedIndices.ranges.andNot(selectedIndicesCopy);
 
-            selectedIndices.reset();
             selectedIndices.callObservers(new MultipleAdditionAndRemovedChange<>(
-                    added.stream().boxed().collect(Collectors.toList()),
-                    removed.stream().boxed().collect(Collectors.toList()),
+                    added.toList(),
+                    removed.toList(),
                     selectedIndices
             ));
         }
     }
 
-    private void doShift(Pair<Integer, Integer> shiftPair, final Callback<ShiftParams, Void> callback, int[] perm) {
+    // Returns true if a selected index was moved
+    private boolean doShift(Pair<Integer, Integer> shiftPair, final Callback<ShiftParams, Void> callback) {
         final int position = shiftPair.getKey();
         final int shift = shiftPair.getValue();
 
         // with no check here, we get JDK-8114444
-        if (position < 0) return;
-        if (shift == 0) return;
+        if (position < 0) return false;
+        if (shift == 0) return false;
 
-        int idx = (int) Arrays.stream(perm).filter(value -> value > -1).count();
+        if (callback == null) {
+            return selectedIndices.shift(position, shift);
+        }
 
-        int selectedIndicesSize = selectedIndices.bitsetSize() - idx;   // number of bits reserved
+        boolean selectionMoved = false;
+        int selectedIndicesSize = selectedIndices.length();
 
         if (shift > 0) {
             for (int i = selectedIndicesSize - 1; i >= position && i >= 0; i--) {
                 boolean selected = selectedIndices.isSelected(i);
-
-                if (callback == null) {
-                    selectedIndices.clear(i);
-                    selectedIndices.set(i + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i, i + shift, selected));
-                }
-
-                if (selected) {
-                    perm[idx++] = i + 1;
-                }
+                callback.call(new ShiftParams(i, i + shift, selected));
+                selectionMoved |= selected;
             }
             selectedIndices.clear(position);
         } else if (shift < 0) {
@@ -304,19 +289,11 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
                 if ((i + shift) < 0) continue;
                 if ((i + 1 + shift) < position) continue;
                 boolean selected = selectedIndices.isSelected(i + 1);
-
-                if (callback == null) {
-                    selectedIndices.clear(i + 1);
-                    selectedIndices.set(i + 1 + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i + 1, i + 1 + shift, selected));
-                }
-
-                if (selected) {
-                    perm[idx++] = i;
-                }
+                callback.call(new ShiftParams(i + 1, i + 1 + shift, selected));
+                selectionMoved |= selected;
             }
         }
+        return selectionMoved;
     }
 
     void startAtomic() {
@@ -352,11 +329,9 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         // firstly we make a copy of the selection, so that we can send out
         // the correct details in the selection change event.
         // We remove the new selection from the list seeing as it is not removed.
-        BitSet selectedIndicesCopy = new BitSet();
-        selectedIndicesCopy.or(selectedIndices.bitset);
+        IntRangeSet selectedIndicesCopy = new IntRangeSet(selectedIndices.ranges);
         selectedIndicesCopy.clear(row);
-        // No modifications should be made to 'selectedIndicesCopy' to honour the constructor.
-        List<Integer> previousSelectedIndices = new SelectedIndicesList(selectedIndicesCopy);
+        List<Integer> previousSelectedIndices = selectedIndicesCopy.toList();
 
         // JDK-8120351 We used to call quietClearSelection() here, but this
         // resulted in the selectedItems and selectedIndices lists never
@@ -583,12 +558,11 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
     @Override public boolean isSelected(int index) {
         // Note the change in semantics here - we used to check to ensure that
         // the index is less than the item count, but now simply ensure that
-        // it is less than the length of the selectedIndices bitset. This helps
-        // to resolve issues such as JDK-8118464, where isSelected(int) was being
-        // called for indices that exceeded the item count, as a TreeItem (e.g.
-        // the root) was being collapsed.
+        // it is not negative. This helps to resolve issues such as JDK-8118464,
+        // where isSelected(int) was being called for indices that exceeded the
+        // item count, as a TreeItem (e.g. the root) was being collapsed.
 //        if (index >= 0 && index < getItemCount()) {
-        if (index >= 0 && index < selectedIndices.bitsetSize()) {
+        if (index >= 0) {
             return selectedIndices.isSelected(index);
         }
 
@@ -636,11 +610,9 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
      **********************************************************************/
 
     class SelectedIndicesList extends ReadOnlyUnbackedObservableList<Integer> {
-        private final BitSet bitset;
-
-        private int size = -1;
-        private int lastGetIndex = -1;
-        private int lastGetValue = -1;
+        // The selected indices are kept as runs of consecutive indices, so
+        // that selecting or shifting a large range of rows stays cheap
+        private final IntRangeSet ranges = new IntRangeSet();
 
         // Fix for JDK-8116954 (and numerous other issues!)
         private int atomicityCount = 0;
@@ -654,16 +626,6 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
          * Constructs a new instance of SelectedIndicesList
          */
         public SelectedIndicesList() {
-            this(new BitSet());
-        }
-
-        /**
-         * Constructs a new instance of SelectedIndicesList from the provided BitSet.
-         * The underlying source BitSet shouldn't be modified once it has been passed to the constructor.
-         * @param bitset Bitset to be used.
-         */
-        public SelectedIndicesList(BitSet bitset) {
-            this.bitset = bitset;
         }
 
         boolean isAtomic() {
@@ -683,31 +645,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             if (index < 0 || index >= itemCount)  {
                 throw new IndexOutOfBoundsException(index + " >= " + itemCount);
             }
-            if (lastGetIndex == index) {
-                return lastGetValue;
-            } else if (index == (lastGetIndex + 1) && lastGetValue < itemCount) {
-                // we're iterating forward in order, short circuit for
-                // performance reasons (JDK-8093204)
-                lastGetIndex++;
-                lastGetValue = bitset.nextSetBit(lastGetValue + 1);
-                return lastGetValue;
-            } else if (index == (lastGetIndex - 1) && lastGetValue > 0) {
-                // we're iterating backward in order, short circuit for
-                // performance reasons (JDK-8093204)
-                lastGetIndex--;
-                lastGetValue = bitset.previousSetBit(lastGetValue - 1);
-                return lastGetValue;
-            } else {
-                for (lastGetIndex = 0, lastGetValue = bitset.nextSetBit(0);
-                     lastGetValue >= 0 || lastGetIndex == index;
-                     lastGetIndex++, lastGetValue = bitset.nextSetBit(lastGetValue + 1)) {
-                    if (lastGetIndex == index) {
-                        return lastGetValue;
-                    }
-                }
-            }
-
-            return -1;
+            return ranges.select(index);
         }
 
         public void set(int index) {
@@ -716,9 +654,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
 
             _beginChange();
-            size = -1;
-            bitset.set(index);
-            if (index <= lastGetValue) reset();
+            ranges.set(index);
             int indicesIndex = indexOf(index);
             _nextAdd(indicesIndex, indicesIndex + 1);
             _endChange();
@@ -739,18 +675,14 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         public void set(int index, int end, boolean isSet) {
             _beginChange();
             if (isSet) {
-                bitset.set(index, end, true);
-                size = -1;
-                if (index <= lastGetValue) reset();
+                ranges.set(index, end);
                 int indicesIndex = indexOf(index);
                 int span = end - index;
                 _nextAdd(indicesIndex, indicesIndex + span);
             } else {
                 int indicesIndex = indexOf(index);
-                bitset.set(index, end, false);
-                size = -1;
-                if (index <= lastGetValue) reset();
-                List<Integer> removed = IntStream.range(index, end).boxed().toList();
+                ranges.clear(index, end);
+                List<Integer> removed = IntRangeSet.rangeList(index, end);
                 _nextRemove(indicesIndex, removed);
             }
             _endChange();
@@ -816,46 +748,38 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         @Override
         public void clear() {
             _beginChange();
-            List<Integer> removed = bitset.stream().boxed().collect(Collectors.toList());
-            size = 0;
-            bitset.clear();
-            reset();
+            List<Integer> removed = ranges.toList();
+            ranges.clear();
             _nextRemove(0, removed);
             _endChange();
         }
 
         public void clear(int index) {
-            if (!bitset.get(index)) return;
+            if (!ranges.get(index)) return;
 
             int indicesIndex = indexOf(index);
             _beginChange();
-            size = -1;
-            bitset.clear(index);
-            if (index <= lastGetValue) reset();
+            ranges.clear(index);
             _nextRemove(indicesIndex, index);
             _endChange();
         }
 
         public boolean isSelected(int index) {
-            return bitset.get(index);
+            return ranges.get(index);
         }
 
         public boolean isNotSelected(int index) {
             return !isSelected(index);
         }
 
-        /** Returns number of true bits in BitSet */
+        /** Returns the number of selected indices */
         @Override public int size() {
-            if (size >= 0) {
-                return size;
-            }
-            size = bitset.cardinality();
-            return size;
+            return ranges.cardinality();
         }
 
-        /** Returns the number of bits reserved in the BitSet */
-        public int bitsetSize() {
-            return bitset.size();
+        /** Returns the highest selected index plus one */
+        public int length() {
+            return ranges.length();
         }
 
         @Override public int indexOf(Object obj) {
@@ -864,35 +788,44 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
             Number n = (Number) obj;
             int index = n.intValue();
-            if (!bitset.get(index)) {
+            if (!ranges.get(index)) {
                 return -1;
             }
+            return ranges.rank(index);
+        }
 
-            // is left most bit
-            if (index == 0) {
-                return 0;
-            }
-
-            // is right most bit
-            if (index == bitset.length() - 1) {
-                return size() - 1;
-            }
-
-            // count right bit
-            if (index > bitset.length() / 2) {
-                int count = 1;
-                for (int i = bitset.nextSetBit(index+1); i >= 0; i = bitset.nextSetBit(i+1)) {
-                    count++;
+        /**
+         * Moves the selected indices at or after the given position by the
+         * given shift, as done by shiftSelection without a callback, working
+         * on whole runs of indices rather than on one index at a time.
+         * Indices moved beyond the item count are not selected. When removing
+         * items at position 0, the selection of index 0 is kept.
+         * @return true if a selected index was moved
+         */
+        boolean shift(int position, int shift) {
+            boolean moved;
+            if (shift > 0) {
+                moved = ranges.nextSetBit(position) >= 0;
+                ranges.insert(position, shift);
+            } else {
+                int count = -shift;
+                moved = ranges.nextSetBit(Math.max(position + count, count + 1)) >= 0;
+                boolean firstSelected = ranges.get(0);
+                ranges.remove(position, count);
+                if (position == 0) {
+                    if (firstSelected) {
+                        ranges.set(0);
+                    } else {
+                        ranges.clear(0);
+                    }
                 }
-                return size() - count;
             }
-
-            // count left bit
-            int count = 0;
-            for (int i = bitset.previousSetBit(index-1);  i >= 0; i = bitset.previousSetBit(i-1)) {
-                count++;
+            // Only query the item count when needed, as it may be computed
+            // lazily and cause the selection to be shifted again
+            if (moved) {
+                ranges.clear(Math.max(1, getItemCount()), Integer.MAX_VALUE);
             }
-            return count;
+            return moved;
         }
 
         @Override public boolean contains(Object o) {
@@ -900,18 +833,12 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
                 Number n = (Number) o;
                 int index = n.intValue();
 
-                return index >= 0 && index < bitset.length() &&
-                        bitset.get(index);
+                return index >= 0 && ranges.get(index);
             }
 
             return false;
         }
 
-        public void reset() {
-            this.lastGetIndex = -1;
-            this.lastGetValue = -1;
-        }
-
         @Override public void _beginChange() {
             if (!isAtomic()) {
                 super._beginChange();
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.CellSizeIndex;
+
+public class CellSizeIndexTest {
+
+    @Test
+    public void testEmptyIndex() {
+        CellSizeIndex index = new CellSizeIndex();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(0), 0);
+        assertEquals(0, index.offsetOf(0, 10), 0);
+        assertEquals(30, index.offsetOf(3, 10), 0);
+        assertEquals(0, index.indexAt(5, 10, 0));
+        assertEquals(2, index.indexAt(25, 10, 5));
+        assertEquals(5, index.indexAt(50, 10, 5));
+    }
+
+    @Test
+    public void testSetExtendsSize() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(100, 20);
+        assertEquals(101, index.size());
+        assertEquals(20, index.get(100), 0);
+        assertEquals(-1, index.get(99), 0);
+        assertEquals(1, index.knownCount(101));
+        assertEquals(20, index.knownSum(101), 0);
+        assertEquals(0, index.knownCount(100));
+    }
+
+    @Test
+    public void testOffsetOfMixesKnownAndEstimatedSizes() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(0, 10);
+        index.set(2, 30);
+        assertEquals(10 + 5 + 30 + 5, index.offsetOf(4, 5), 0);
+        assertEquals(10 + 1 + 30 + 1, index.offsetOf(4, 1), 0);
+    }
+
+    @Test
+    public void testIndexAtBoundaries() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(0, 10);
+        index.set(1, 20);
+        index.set(2, 30);
+        assertEquals(0, index.indexAt(0, 1, 3));
+        assertEquals(0, index.indexAt(9.5, 1, 3));
+        assertEquals(1, index.indexAt(10, 1, 3));
+        assertEquals(2, index.indexAt(30, 1, 3));
+        assertEquals(3, index.indexAt(60, 1, 3));
+        assertEquals(4, index.indexAt(62.5, 1, 10));
+    }
+
+    @Test
+    public void testUpdateReplacesSize() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(1, 10);
+        index.set(1, 25);
+        assertEquals(25, index.get(1), 0);
+        assertEquals(1, index.knownCount(2));
+        assertEquals(25, index.knownSum(2), 0);
+    }
+
+    @Test
+    public void testClear() {
+        CellSizeIndex index = new CellSizeIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.set(i, i);
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(10), 0);
+        assertEquals(0, index.knownCount(1000));
+        assertEquals(0, index.knownSum(1000), 0);
+        assertEquals(10 * 7, index.offsetOf(10, 7), 0);
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        CellSizeIndex index = new CellSizeIndex();
+        List<Double> sizes = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int cell = random.nextInt(300);
+            double value = random.nextInt(8) * 4 + 0.5;
+            index.set(cell, value);
+            while (sizes.size() <= cell) {
+                sizes.add(null);
+            }
+            sizes.set(cell, value);
+
+            int count = random.nextInt(350);
+            double estimate = random.nextInt(4) * 8 + 0.25;
+            double offset = random.nextDouble() * count * 20;
+
+            double bound = 0;
+            int expectedIndex = count;
+            for (int j = 0; j < count; j++) {
+                Double size = j < sizes.size() ? sizes.get(j) : null;
+                double h = size == null ? estimate : size;
+                if (bound + h > offset) {
+                    expectedIndex = j;
+                    break;
+                }
+                bound += h;
+            }
+            assertEquals(expectedIndex, index.indexAt(offset, estimate, count));
+
+            double expectedOffset = 0;
+            for (int j = 0; j < count; j++) {
+                Double size = j < sizes.size() ? sizes.get(j) : null;
+                expectedOffset += size == null ? estimate : size;
+            }
+            assertEquals(expectedOffset, index.offsetOf(count, estimate), 1e-9);
+        }
+    }
+}
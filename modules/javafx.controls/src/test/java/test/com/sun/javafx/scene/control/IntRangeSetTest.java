@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.IntRangeSet;
+
+public class IntRangeSetTest {
+
+    @Test
+    public void testEmptySet() {
+        IntRangeSet set = new IntRangeSet();
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.cardinality());
+        assertEquals(0, set.length());
+        assertFalse(set.get(0));
+        assertEquals(-1, set.nextSetBit(0));
+        assertEquals(-1, set.select(0));
+        assertEquals(List.of(), set.toList());
+    }
+
+    @Test
+    public void testLargeRangeIsOneRun() {
+        IntRangeSet set = new IntRangeSet();
+        set.set(0, 10_000_000);
+        assertEquals(1, set.runCount());
+        assertEquals(10_000_000, set.cardinality());
+        assertEquals(5_000_000, set.rank(5_000_000));
+        assertEquals(9_999_999, set.select(9_999_999));
+
+        set.clear(100);
+        assertEquals(2, set.runCount());
+        assertEquals(9_999_999, set.cardinality());
+        assertEquals(101, set.select(100));
+    }
+
+    @Test
+    public void testAdjacentRangesAreJoined() {
+        IntRangeSet set = new IntRangeSet();
+        set.set(10, 20);
+        set.set(30, 40);
+        set.set(20, 30);
+        assertEquals(1, set.runCount());
+        assertEquals(30, set.cardinality());
+    }
+
+    @Test
+    public void testInsertSplitsRun() {
+        IntRangeSet set = new IntRangeSet();
+        set.set(0, 10);
+        set.insert(5, 3);
+        assertEquals(2, set.runCount());
+        assertFalse(set.get(5));
+        assertFalse(set.get(7));
+        assertTrue(set.get(8));
+        assertEquals(13, set.length());
+    }
+
+    @Test
+    public void testRemoveJoinsRuns() {
+        IntRangeSet set = new IntRangeSet();
+        set.set(0, 5);
+        set.set(8, 10);
+        set.remove(5, 3);
+        assertEquals(1, set.runCount());
+        assertEquals(7, set.length());
+    }
+
+    @Test
+    public void testToListIsSnapshot() {
+        IntRangeSet set = new IntRangeSet();
+        set.set(1, 4);
+        List<Integer> list = set.toList();
+        set.clear();
+        assertEquals(List.of(1, 2, 3), list);
+        assertEquals(List.of(5, 6), IntRangeSet.rangeList(5, 7));
+    }
+
+    @Test
+    public void testMatchesBitSet() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            BitSet bits = new BitSet();
+            IntRangeSet set = new IntRangeSet();
+            for (int step = 0; step < 30; step++) {
+                int from = random.nextInt(60);
+                int to = from + random.nextInt(12);
+                switch (random.nextInt(6)) {
+                    case 0 -> {
+                        bits.set(from);
+                        set.set(from);
+                    }
+                    case 1 -> {
+                        bits.set(from, to);
+                        set.set(from, to);
+                    }
+                    case 2 -> {
+                        bits.clear(from);
+                        set.clear(from);
+                    }
+                    case 3 -> {
+                        bits.clear(from, to);
+                        set.clear(from, to);
+                    }
+                    case 4 -> {
+                        BitSet shifted = new BitSet();
+                        bits.stream().forEach(i -> shifted.set(i >= from ? i + to - from : i));
+                        bits = shifted;
+                        set.insert(from, to - from);
+                    }
+                    default -> {
+                        BitSet shifted = new BitSet();
+                        bits.stream().filter(i -> i < from || i >= to)
+                                .forEach(i -> shifted.set(i < from ? i : i - to + from));
+                        bits = shifted;
+                        set.remove(from, to - from);
+                    }
+                }
+                assertMatches(bits, set);
+            }
+        }
+    }
+
+    private static void assertMatches(BitSet bits, IntRangeSet set) {
+        assertEquals(bits.cardinality(), set.cardinality());
+        assertEquals(bits.length(), set.length());
+        for (int i = 0; i <= bits.length() + 1; i++) {
+            assertEquals(bits.get(i), set.get(i));
+            assertEquals(bits.nextSetBit(i), set.nextSetBit(i));
+            assertEquals(bits.previousSetBit(i), set.previousSetBit(i));
+            assertEquals(bits.get(0, i).cardinality(), set.rank(i));
+        }
+        assertEquals(bits.stream().boxed().toList(), set.toList());
+    }
+}
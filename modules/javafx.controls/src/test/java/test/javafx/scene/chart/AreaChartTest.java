@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,9 +39,11 @@ import javafx.scene.chart.AreaChart;
 import javafx.scene.chart.Axis;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.Chart;
+import javafx.scene.chart.DoubleSeriesData;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
+import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
@@ -560,6 +562,30 @@ public class AreaChartTest extends XYChartTestBase {
         assertEquals(0, lineElements.size());
     }
 
+    @Test
+    public void testDoubleDataFillPath() {
+        createChart();
+        startApp();
+        DoubleSeriesData data = new DoubleSeriesData();
+        data.addAll(new double[] {10, 20, 30}, new double[] {5, 25, 15});
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setDoubleData(data);
+        ac.getData().add(series);
+        pulse();
+
+        final ObservableList<Node> children = ((Group) series.getNode()).getChildren();
+        ObservableList<PathElement> fillElements = ((Path) children.get(0)).getElements();
+        ObservableList<PathElement> lineElements = ((Path) children.get(1)).getElements();
+        assertEquals(3, lineElements.size());
+        assertEquals(6, fillElements.size());
+        assertTrue(fillElements.get(5) instanceof ClosePath);
+
+        data.clear();
+        pulse();
+        assertEquals(0, fillElements.size());
+        assertEquals(0, lineElements.size());
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
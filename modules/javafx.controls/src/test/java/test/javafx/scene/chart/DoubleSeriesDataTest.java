@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Random;
+import javafx.scene.chart.DoubleSeriesData;
+import org.junit.jupiter.api.Test;
+
+public class DoubleSeriesDataTest {
+
+    @Test
+    public void testEmpty() {
+        DoubleSeriesData data = new DoubleSeriesData();
+        assertEquals(0, data.size());
+        assertEquals(0, data.getCapacity());
+        assertTrue(Double.isNaN(data.getMinX()));
+        assertTrue(Double.isNaN(data.getMaxY()));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.getX(0));
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DoubleSeriesData(0));
+    }
+
+    @Test
+    public void testAddGrows() {
+        DoubleSeriesData data = new DoubleSeriesData();
+        for (int i = 0; i < 1000; i++) {
+            data.add(i, -i);
+        }
+        assertEquals(1000, data.size());
+        assertEquals(500, data.getX(500), 0);
+        assertEquals(-500, data.getY(500), 0);
+        assertEquals(0, data.getMinX(), 0);
+        assertEquals(999, data.getMaxX(), 0);
+        assertEquals(-999, data.getMinY(), 0);
+        assertEquals(0, data.getMaxY(), 0);
+    }
+
+    @Test
+    public void testCapacityRemovesOldestPoints() {
+        DoubleSeriesData data = new DoubleSeriesData(3);
+        for (int i = 0; i < 5; i++) {
+            data.add(i, i * 10);
+        }
+        assertEquals(3, data.size());
+        assertEquals(2, data.getX(0), 0);
+        assertEquals(40, data.getY(2), 0);
+        assertEquals(2, data.getMinX(), 0);
+        assertEquals(20, data.getMinY(), 0);
+    }
+
+    @Test
+    public void testAddAllKeepsLastPoints() {
+        DoubleSeriesData data = new DoubleSeriesData(2);
+        data.addAll(new double[] {1, 2, 3}, new double[] {4, 5, 6});
+        assertEquals(2, data.size());
+        assertEquals(2, data.getX(0), 0);
+        assertEquals(6, data.getY(1), 0);
+        assertThrows(IllegalArgumentException.class, () -> data.addAll(new double[1], new double[2]));
+    }
+
+    @Test
+    public void testNaNIsIgnoredInBounds() {
+        DoubleSeriesData data = new DoubleSeriesData();
+        data.add(1, Double.NaN);
+        assertTrue(Double.isNaN(data.getMinY()));
+        data.add(2, 5);
+        assertEquals(5, data.getMinY(), 0);
+        assertEquals(1, data.getMinX(), 0);
+    }
+
+    @Test
+    public void testListenersAreNotified() {
+        DoubleSeriesData data = new DoubleSeriesData();
+        int[] count = new int[1];
+        data.addListener(o -> count[0]++);
+        data.add(1, 1);
+        data.addAll(new double[] {2, 3}, new double[] {2, 3});
+        data.clear();
+        assertEquals(3, count[0]);
+    }
+
+    @Test
+    public void testBoundsMatchLinearScan() {
+        Random random = new Random(42);
+        DoubleSeriesData data = new DoubleSeriesData(50);
+        for (int i = 0; i < 5000; i++) {
+            data.add(random.nextInt(1000), random.nextGaussian());
+            double minX = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < data.size(); j++) {
+                minX = Math.min(minX, data.getX(j));
+                maxX = Math.max(maxX, data.getX(j));
+                minY = Math.min(minY, data.getY(j));
+                maxY = Math.max(maxY, data.getY(j));
+            }
+            assertEquals(minX, data.getMinX(), 0);
+            assertEquals(maxX, data.getMaxX(), 0);
+            assertEquals(minY, data.getMinY(), 0);
+            assertEquals(maxY, data.getMaxY(), 0);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,20 +27,28 @@ package test.javafx.scene.chart;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import javafx.collections.ObservableList;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.chart.Axis;
 import javafx.scene.chart.Chart;
+import javafx.scene.chart.DoubleSeriesData;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -754,6 +762,186 @@ public class LineChartTest extends XYChartTestBase {
         assertEquals(0, ((Path)series1.getNode()).getElements().size());
     }
 
+    @Test
+    public void testDoubleDataIsDecimated() {
+        createChart();
+        startApp();
+        DoubleSeriesData data = new DoubleSeriesData();
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            double y = (i == count / 3) ? 29 : (i == count / 2) ? 1 : 10 + (i % 7);
+            data.add(i * 90.0 / count, y);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setDoubleData(data);
+        lineChart.getData().add(series);
+        pulse();
+
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        List<PathElement> elements = ((Path) series.getNode()).getElements();
+        assertTrue(elements.size() > 1);
+        assertTrue(elements.size() <= 4 * (xAxis.getWidth() + 1), "elements: " + elements.size());
+
+        // the extreme values are kept
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (PathElement element : elements) {
+            double y = element instanceof LineTo lineTo ? lineTo.getY() : ((MoveTo) element).getY();
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        assertEquals(yAxis.getDisplayPosition(29), minY, 1e-6);
+        assertEquals(yAxis.getDisplayPosition(1), maxY, 1e-6);
+    }
+
+    @Test
+    public void testDoubleDataUpdatesAxisRange() {
+        final NumberAxis xAxis = new NumberAxis();
+        final NumberAxis yAxis = new NumberAxis();
+        xAxis.setForceZeroInRange(false);
+        yAxis.setForceZeroInRange(false);
+        lineChart = new LineChart<>(xAxis, yAxis);
+        lineChart.setAnimated(false);
+        startApp();
+        DoubleSeriesData data = new DoubleSeriesData(1000);
+        for (int i = 0; i < 1000; i++) {
+            data.add(i, i % 10 - 5);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setDoubleData(data);
+        lineChart.getData().add(series);
+        pulse();
+        assertTrue(xAxis.getUpperBound() >= 999);
+        assertTrue(yAxis.getLowerBound() <= -5);
+
+        // the oldest points are removed from the range
+        for (int i = 1000; i < 2000; i++) {
+            data.add(i, 100);
+        }
+        pulse();
+        assertTrue(xAxis.getLowerBound() >= 500, "lower bound: " + xAxis.getLowerBound());
+        assertTrue(xAxis.getUpperBound() >= 1999);
+        assertTrue(yAxis.getLowerBound() > 0, "lower bound: " + yAxis.getLowerBound());
+    }
+
+    @Test
+    public void testTickMarksAreKeptWhenRangeDoesNotChange() {
+        final NumberAxis xAxis = new NumberAxis();
+        final NumberAxis yAxis = new NumberAxis();
+        lineChart = new LineChart<>(xAxis, yAxis);
+        lineChart.setAnimated(false);
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.getData().addAll(new XYChart.Data<>(0, 0), new XYChart.Data<>(100, 10));
+        lineChart.getData().add(series);
+        pulse();
+        List<Axis.TickMark<Number>> tickMarks = new ArrayList<>(xAxis.getTickMarks());
+
+        series.getData().add(new XYChart.Data<>(50, 5));
+        pulse();
+        assertEquals(tickMarks, xAxis.getTickMarks());
+        for (int i = 0; i < tickMarks.size(); i++) {
+            assertSame(tickMarks.get(i), xAxis.getTickMarks().get(i));
+        }
+
+        series.getData().add(new XYChart.Data<>(1000, 5));
+        pulse();
+        assertNotSame(tickMarks.get(0), xAxis.getTickMarks().get(0));
+        assertTrue(xAxis.getUpperBound() >= 1000);
+    }
+
+    @Test
+    public void testStreamingAppendsToLine() {
+        createChart();
+        lineChart.setStreaming(true);
+        startApp();
+        DoubleSeriesData data = new DoubleSeriesData();
+        for (int i = 0; i < 10; i++) {
+            data.add(10 + i * 0.1, 10);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setDoubleData(data);
+        lineChart.getData().add(series);
+        pulse();
+
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        Path line = (Path) series.getNode();
+        PathElement first = line.getElements().get(0);
+        int size = line.getElements().size();
+        data.add(11, 20);
+        pulse();
+        assertSame(first, line.getElements().get(0));
+        assertEquals(size + 1, line.getElements().size());
+        LineTo added = (LineTo) line.getElements().get(size);
+        assertEquals(xAxis.getDisplayPosition(11), added.getX(), 1e-6);
+        assertEquals(yAxis.getDisplayPosition(20), added.getY(), 1e-6);
+
+        // scrolling the x axis moves the line
+        xAxis.setLowerBound(5);
+        xAxis.setUpperBound(95);
+        pulse();
+        assertSame(first, line.getElements().get(0));
+        assertEquals(xAxis.getDisplayPosition(10), ((MoveTo) first).getX() + line.getTranslateX(), 1e-6);
+
+        // changing the scale recreates the line
+        xAxis.setUpperBound(50);
+        pulse();
+        assertEquals(0, line.getTranslateX(), 0);
+        assertEquals(xAxis.getDisplayPosition(10), ((MoveTo) line.getElements().get(0)).getX(), 1e-6);
+    }
+
+    @Test
+    public void testStreamingRemovesOldPaths() {
+        createChart();
+        lineChart.setStreaming(true);
+        startApp();
+        DoubleSeriesData data = new DoubleSeriesData(40);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setDoubleData(data);
+        lineChart.getData().add(series);
+        for (int i = 0; i < 40; i++) {
+            data.add(i, i % 2 == 0 ? 10 : 20);
+            pulse();
+        }
+        List<Path> lines = getSeriesLines();
+        assertTrue(lines.size() > 2, "paths: " + lines.size());
+        assertSame(series.getNode(), lines.get(lines.size() - 1));
+        int elements = lines.stream().mapToInt(path -> path.getElements().size()).sum();
+        assertTrue(elements >= 40 && elements < 40 + lines.size(), "elements: " + elements);
+
+        // the paths of the points that have been removed are removed, and the others are clipped
+        for (int i = 40; i < 70; i++) {
+            data.add(i, i % 2 == 0 ? 10 : 20);
+            pulse();
+        }
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        lines = getSeriesLines();
+        Path oldest = lines.get(0);
+        assertTrue(((MoveTo) oldest.getElements().get(0)).getX() < xAxis.getDisplayPosition(30));
+        assertTrue(oldest.getClip() instanceof Rectangle);
+        assertEquals(xAxis.getDisplayPosition(30), ((Rectangle) oldest.getClip()).getX(), 1e-6);
+        for (int i = 1; i < lines.size(); i++) {
+            assertNull(lines.get(i).getClip());
+            assertEquals(series.getNode().getStyleClass(), lines.get(i).getStyleClass());
+        }
+
+        lineChart.getData().remove(series);
+        pulse();
+        assertEquals(List.of(), getSeriesLines());
+    }
+
+    private List<Path> getSeriesLines() {
+        List<Path> lines = new ArrayList<>();
+        for (Node n : XYChartShim.getPlotChildren(lineChart)) {
+            if (n instanceof Path path && n.getStyleClass().contains("chart-series-line")) {
+                lines.add(path);
+            }
+        }
+        return lines;
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
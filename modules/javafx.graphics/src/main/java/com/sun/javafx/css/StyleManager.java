@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -73,6 +73,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -81,6 +82,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Contains the stylesheet state for a single scene. This includes both the
@@ -937,96 +946,204 @@ final public class StyleManager {
     }
 
     public static Stylesheet loadStylesheet(final String fname) {
+        final PreloadContext preloadContext = PRELOAD_CONTEXT.get();
+        if (preloadContext != null) {
+            // An @import of a stylesheet that is being preloaded. This must not
+            // wait for the styleLock, which may be held by a thread that waits
+            // for the preloaded stylesheet.
+            final Stylesheet stylesheet = loadStylesheetUnlocked(fname);
+            if (stylesheet != null) {
+                preloadContext.fontFaces.addAll(stylesheet.getFontFaces());
+            }
+            return stylesheet;
+        }
+
         synchronized (styleLock) {
-            final String bss = System.getProperty("binary.css");
-            // binary.css is true by default.
-            // parse only if the file is not a .bss
-            // and binary.css is set to false
-            Boolean parse = (!fname.endsWith(".bss") && bss != null) ?
-                    !Boolean.valueOf(bss) : Boolean.FALSE;
-
-            try {
-                final String ext = (parse) ? (".css") : (".bss");
-                java.net.URL url = null;
-                Stylesheet stylesheet = null;
-                // check if url has extension, if not then just url as is and always parse as css text
-                if (!(fname.endsWith(".css") || fname.endsWith(".bss"))) {
-                    url = getURL(fname);
-                } else {
-                    final String name = fname.substring(0, fname.length() - 4);
+            final Future<PreloadedStylesheet> future = preloadedStylesheets.remove(fname);
+            final PreloadedStylesheet preloaded = future != null ? getPreloadedStylesheet(future) : null;
+            if (preloaded != null) {
+                if (errors != null) {
+                    errors.addAll(preloaded.errors());
+                }
+                loadFontFaces(preloaded.fontFaces());
+                return preloaded.stylesheet();
+            }
 
-                    url = getURL(name+ext);
-                    if (url == null && (parse = !parse)) {
-                        // If we failed to get the URL for the .bss file,
-                        // fall back to the .css file.
-                        // Note that 'parse' is toggled in the test.
-                        url = getURL(name+".css");
-                    }
+            final Stylesheet stylesheet = loadStylesheetUnlocked(fname);
+            if (stylesheet != null) {
+                loadFontFaces(stylesheet.getFontFaces());
+            }
+            return stylesheet;
+        }
+    }
 
-                    if ((url != null) && !parse) {
-                        try {
-                            // JDK-8095691: if loadBinary throws an IOException, make sure to try .css
-                            stylesheet = Stylesheet.loadBinary(url);
-                        } catch (IOException ignored) {
-                        }
+    /**
+     * Starts loading the given stylesheets in the background, so that a later
+     * {@link #loadStylesheet(String)} of the same name does not have to parse
+     * it. The stylesheets are loaded in parallel on daemon threads. Each
+     * preloaded stylesheet is used by one call to loadStylesheet, and names
+     * that are already being preloaded are ignored.
+     */
+    public static void preloadStylesheets(final Collection<String> fnames) {
+        for (String fname : fnames) {
+            if (fname != null) {
+                preloadedStylesheets.computeIfAbsent(fname,
+                        name -> getPreloadExecutor().submit(() -> preloadStylesheet(name)));
+            }
+        }
+    }
 
-                        if (stylesheet == null) {
-                            // If we failed to load the .bss file,
-                            // fall back to the .css file.
-                            url = getURL(fname);
+    /*
+     * The state of a thread that preloads a stylesheet. The errors and the
+     * @font-face rules are handed to the thread that uses the stylesheet,
+     * since the list of errors is not thread-safe, and fonts are loaded by
+     * the thread that uses the stylesheet as well.
+     */
+    private static final class PreloadContext {
+        final ObservableList<CssParser.ParseError> errors = FXCollections.observableArrayList();
+        final List<FontFace> fontFaces = new ArrayList<>();
+    }
+
+    private record PreloadedStylesheet(Stylesheet stylesheet,
+                                       List<CssParser.ParseError> errors,
+                                       List<FontFace> fontFaces) {
+    }
+
+    private static final ThreadLocal<PreloadContext> PRELOAD_CONTEXT = new ThreadLocal<>();
+    private static final Map<String, Future<PreloadedStylesheet>> preloadedStylesheets = new ConcurrentHashMap<>();
+    private static ExecutorService preloadExecutor;
+
+    private static synchronized ExecutorService getPreloadExecutor() {
+        if (preloadExecutor == null) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            final int nThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(nThreads, nThreads,
+                    5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, "JavaFX-CSS-Preload-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            preloadExecutor = executor;
+        }
+        return preloadExecutor;
+    }
+
+    private static PreloadedStylesheet preloadStylesheet(final String fname) {
+        final PreloadContext context = new PreloadContext();
+        PRELOAD_CONTEXT.set(context);
+        try {
+            final Stylesheet stylesheet = loadStylesheetUnlocked(fname);
+            if (stylesheet != null) {
+                context.fontFaces.addAll(stylesheet.getFontFaces());
+            }
+            return new PreloadedStylesheet(stylesheet, context.errors, context.fontFaces);
+        } finally {
+            PRELOAD_CONTEXT.remove();
+        }
+    }
+
+    // Returns null if the stylesheet could not be preloaded, in which case
+    // it is loaded again by the caller.
+    private static PreloadedStylesheet getPreloadedStylesheet(final Future<PreloadedStylesheet> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static void loadFontFaces(final List<FontFace> fontFaces) {
+        faceLoop: for(FontFace fontFace: fontFaces) {
+            if (fontFace instanceof FontFaceImpl) {
+                for(FontFaceImpl.FontFaceSrc src: ((FontFaceImpl)fontFace).getSources()) {
+                    if (src.getType() == FontFaceImpl.FontFaceSrcType.URL) {
+                        Font loadedFont = Font.loadFont(src.getSrc(),10);
+                        if (loadedFont == null) {
+                            getLogger().info("Could not load @font-face font [" + src.getSrc() + "]");
                         }
+                        continue faceLoop;
                     }
                 }
+            }
+        }
+    }
 
-                if (stylesheet == null) {
-                    DataURI dataUri = null;
+    // Must either hold the styleLock, or be called on a preload thread.
+    private static Stylesheet loadStylesheetUnlocked(final String fname) {
+        // On a preload thread, this is the list of errors of the preload.
+        final List<CssParser.ParseError> errors = getErrors();
+        final String bss = System.getProperty("binary.css");
+        // binary.css is true by default.
+        // parse only if the file is not a .bss
+        // and binary.css is set to false
+        Boolean parse = (!fname.endsWith(".bss") && bss != null) ?
+                !Boolean.valueOf(bss) : Boolean.FALSE;
 
-                    if (url != null) {
-                        stylesheet = new CssParser().parse(url);
-                    } else {
-                        dataUri = DataURI.tryParse(fname);
+        try {
+            final String ext = (parse) ? (".css") : (".bss");
+            java.net.URL url = null;
+            Stylesheet stylesheet = null;
+            // check if url has extension, if not then just url as is and always parse as css text
+            if (!(fname.endsWith(".css") || fname.endsWith(".bss"))) {
+                url = getURL(fname);
+            } else {
+                final String name = fname.substring(0, fname.length() - 4);
+
+                url = getURL(name+ext);
+                if (url == null && (parse = !parse)) {
+                    // If we failed to get the URL for the .bss file,
+                    // fall back to the .css file.
+                    // Note that 'parse' is toggled in the test.
+                    url = getURL(name+".css");
+                }
+
+                if ((url != null) && !parse) {
+                    try {
+                        // JDK-8095691: if loadBinary throws an IOException, make sure to try .css
+                        stylesheet = Stylesheet.loadBinary(url);
+                    } catch (IOException ignored) {
                     }
 
-                    if (dataUri != null) {
-                        boolean isText =
-                            "text".equalsIgnoreCase(dataUri.getMimeType())
-                                && ("css".equalsIgnoreCase(dataUri.getMimeSubtype())
-                                    || "plain".equalsIgnoreCase(dataUri.getMimeSubtype()));
+                    if (stylesheet == null) {
+                        // If we failed to load the .bss file,
+                        // fall back to the .css file.
+                        url = getURL(fname);
+                    }
+                }
+            }
 
-                        boolean isBinary =
-                            "application".equalsIgnoreCase(dataUri.getMimeType())
-                                && "octet-stream".equalsIgnoreCase(dataUri.getMimeSubtype());
+            if (stylesheet == null) {
+                DataURI dataUri = null;
 
-                        if (isText) {
-                            String charsetName = dataUri.getParameters().get("charset");
-                            Charset charset;
+                if (url != null) {
+                    stylesheet = new CssParser().parse(url);
+                } else {
+                    dataUri = DataURI.tryParse(fname);
+                }
 
-                            try {
-                                charset = charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
-                            } catch (IllegalCharsetNameException | UnsupportedCharsetException ex) {
-                                String message = String.format(
-                                    "Unsupported charset \"%s\" in stylesheet URI \"%s\"", charsetName, dataUri);
+                if (dataUri != null) {
+                    boolean isText =
+                        "text".equalsIgnoreCase(dataUri.getMimeType())
+                            && ("css".equalsIgnoreCase(dataUri.getMimeSubtype())
+                                || "plain".equalsIgnoreCase(dataUri.getMimeSubtype()));
 
-                                if (errors != null) {
-                                    errors.add(new CssParser.ParseError(message));
-                                }
+                    boolean isBinary =
+                        "application".equalsIgnoreCase(dataUri.getMimeType())
+                            && "octet-stream".equalsIgnoreCase(dataUri.getMimeSubtype());
 
-                                if (getLogger().isLoggable(Level.WARNING)) {
-                                    getLogger().warning(message);
-                                }
-
-                                return null;
-                            }
+                    if (isText) {
+                        String charsetName = dataUri.getParameters().get("charset");
+                        Charset charset;
 
-                            var stylesheetText = new String(dataUri.getData(), charset);
-                            stylesheet = new CssParser().parse(stylesheetText);
-                        } else if (isBinary) {
-                            try (InputStream stream = new ByteArrayInputStream(dataUri.getData())) {
-                                stylesheet = Stylesheet.loadBinary(stream);
-                            }
-                        } else {
-                            String message = String.format("Unexpected MIME type \"%s/%s\" in stylesheet URI \"%s\"",
-                                dataUri.getMimeType(), dataUri.getMimeSubtype(), dataUri);
+                        try {
+                            charset = charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+                        } catch (IllegalCharsetNameException | UnsupportedCharsetException ex) {
+                            String message = String.format(
+                                "Unsupported charset \"%s\" in stylesheet URI \"%s\"", charsetName, dataUri);
 
                             if (errors != null) {
                                 errors.add(new CssParser.ParseError(message));
@@ -1038,68 +1155,71 @@ final public class StyleManager {
 
                             return null;
                         }
-                    }
-                }
 
-                if (stylesheet == null) {
-                    if (errors != null) {
-                        CssParser.ParseError error =
-                            new CssParser.ParseError(
-                                "Resource \""+fname+"\" not found."
-                            );
-                        errors.add(error);
-                    }
-                    if (getLogger().isLoggable(Level.WARNING)) {
-                        getLogger().warning(
-                            String.format("Resource \"%s\" not found.", fname)
-                        );
-                    }
-                }
+                        var stylesheetText = new String(dataUri.getData(), charset);
+                        stylesheet = new CssParser().parse(stylesheetText);
+                    } else if (isBinary) {
+                        try (InputStream stream = new ByteArrayInputStream(dataUri.getData())) {
+                            stylesheet = Stylesheet.loadBinary(stream);
+                        }
+                    } else {
+                        String message = String.format("Unexpected MIME type \"%s/%s\" in stylesheet URI \"%s\"",
+                            dataUri.getMimeType(), dataUri.getMimeSubtype(), dataUri);
 
-                // load any fonts from @font-face
-                if (stylesheet != null) {
-                    faceLoop: for(FontFace fontFace: stylesheet.getFontFaces()) {
-                        if (fontFace instanceof FontFaceImpl) {
-                            for(FontFaceImpl.FontFaceSrc src: ((FontFaceImpl)fontFace).getSources()) {
-                                if (src.getType() == FontFaceImpl.FontFaceSrcType.URL) {
-                                    Font loadedFont = Font.loadFont(src.getSrc(),10);
-                                    if (loadedFont == null) {
-                                        getLogger().info("Could not load @font-face font [" + src.getSrc() + "]");
-                                    }
-                                    continue faceLoop;
-                                }
-                            }
+                        if (errors != null) {
+                            errors.add(new CssParser.ParseError(message));
                         }
+
+                        if (getLogger().isLoggable(Level.WARNING)) {
+                            getLogger().warning(message);
+                        }
+
+                        return null;
                     }
                 }
+            }
 
-                return stylesheet;
-
-            } catch (FileNotFoundException fnfe) {
+            if (stylesheet == null) {
                 if (errors != null) {
                     CssParser.ParseError error =
                         new CssParser.ParseError(
-                            "Stylesheet \""+fname+"\" not found."
+                            "Resource \""+fname+"\" not found."
                         );
                     errors.add(error);
                 }
-                if (getLogger().isLoggable(Level.INFO)) {
-                    getLogger().info("Could not find stylesheet: " + fname);//, fnfe);
+                if (getLogger().isLoggable(Level.WARNING)) {
+                    getLogger().warning(
+                        String.format("Resource \"%s\" not found.", fname)
+                    );
                 }
-            } catch (IOException ioe) {
-                // For data URIs, use the pretty-printed version for logging
-                var dataUri = DataURI.tryParse(fname);
-                String stylesheetName = dataUri != null ? dataUri.toString() : fname;
+            }
 
-                if (errors != null) {
-                    errors.add(new CssParser.ParseError("Could not load stylesheet: " + stylesheetName));
-                }
-                if (getLogger().isLoggable(Level.INFO)) {
-                    getLogger().info("Could not load stylesheet: " + stylesheetName);
-                }
+            return stylesheet;
+
+        } catch (FileNotFoundException fnfe) {
+            if (errors != null) {
+                CssParser.ParseError error =
+                    new CssParser.ParseError(
+                        "Stylesheet \""+fname+"\" not found."
+                    );
+                errors.add(error);
+            }
+            if (getLogger().isLoggable(Level.INFO)) {
+                getLogger().info("Could not find stylesheet: " + fname);//, fnfe);
+            }
+        } catch (IOException ioe) {
+            // For data URIs, use the pretty-printed version for logging
+            var dataUri = DataURI.tryParse(fname);
+            String stylesheetName = dataUri != null ? dataUri.toString() : fname;
+
+            if (errors != null) {
+                errors.add(new CssParser.ParseError("Could not load stylesheet: " + stylesheetName));
+            }
+            if (getLogger().isLoggable(Level.INFO)) {
+                getLogger().info("Could not load stylesheet: " + stylesheetName);
             }
-            return null;
         }
+        return null;
     }
 
     //--------------------------------------------------------------------------
@@ -1806,7 +1926,8 @@ final public class StyleManager {
      * @return
      */
     public static ObservableList<CssParser.ParseError> getErrors() {
-        return errors;
+        final PreloadContext preloadContext = PRELOAD_CONTEXT.get();
+        return preloadContext != null ? preloadContext.errors : errors;
     }
 
     //--------------------------------------------------------------------------
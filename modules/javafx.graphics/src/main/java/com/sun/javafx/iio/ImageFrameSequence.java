@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * The images of an image stream, such as the frames of an animated GIF,
+ * which are either all decoded, or decoded in order by a {@link Decoder}
+ * when they are needed. In the latter case, only the first image is
+ * decoded, and the encoded image stream is kept in memory instead of the
+ * other images.
+ *
+ * @see ImageStorage#loadSequence(java.io.InputStream, ImageLoadListener, double, double, boolean, float, boolean, long)
+ */
+public final class ImageFrameSequence {
+
+    private final ImageStorage storage;
+    private final byte[] data;
+    private final ImageLoadListener listener;
+    private final double width, height;
+    private final boolean preserveAspectRatio, smooth;
+    private final float devPixelScale, imgPixelScale;
+    private final ImageFrame[] frames;
+    private final int[] delayTimes;
+
+    // Creates a sequence of images that are all decoded.
+    ImageFrameSequence(ImageFrame[] frames) {
+        this(null, null, null, 0, 0, false, 1, 1, false, frames, null);
+    }
+
+    // Creates a sequence of images of which only the first one is decoded.
+    ImageFrameSequence(ImageStorage storage, byte[] data, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, float imgPixelScale, boolean smooth,
+            ImageFrame[] frames, int[] delayTimes) {
+        this.storage = storage;
+        this.data = data;
+        this.listener = listener;
+        this.width = width;
+        this.height = height;
+        this.preserveAspectRatio = preserveAspectRatio;
+        this.devPixelScale = devPixelScale;
+        this.imgPixelScale = imgPixelScale;
+        this.smooth = smooth;
+        this.frames = frames;
+        this.delayTimes = delayTimes;
+    }
+
+    /**
+     * Returns whether all the images are decoded.
+     */
+    public boolean isDecoded() {
+        return data == null;
+    }
+
+    public int getFrameCount() {
+        return delayTimes != null ? delayTimes.length : frames.length;
+    }
+
+    /**
+     * Returns the image at the given index, or null if that image is not
+     * decoded. The first image is always decoded.
+     */
+    public ImageFrame getFrame(int index) {
+        return index < frames.length ? frames[index] : null;
+    }
+
+    /**
+     * Returns the delay time of the image at the given index in milliseconds,
+     * or null if the image has no delay time.
+     */
+    public Integer getDelayTime(int index) {
+        if (delayTimes != null) {
+            return delayTimes[index];
+        }
+        ImageMetadata metadata = frames[index].getMetadata();
+        return metadata != null ? metadata.delayTime : null;
+    }
+
+    /**
+     * Creates a decoder of the images, starting with the first image.
+     */
+    public Decoder createDecoder() throws IOException {
+        if (data == null) {
+            throw new IllegalStateException("All the images are decoded");
+        }
+        ImageLoader loader = storage.findImageLoader(new ByteArrayInputStream(data), listener);
+        if (loader == null) {
+            throw new IOException("No loader for image data");
+        }
+        return new Decoder(loader);
+    }
+
+    /**
+     * Decodes the images of a sequence in order. A decoder is used by one
+     * thread at a time.
+     */
+    public final class Decoder {
+        private final ImageLoader loader;
+        private int index;
+
+        private Decoder(ImageLoader loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * Returns the index of the image that {@link #next} decodes.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Decodes the next image, or returns null if there is no image left.
+         */
+        public ImageFrame next() throws IOException {
+            if (index == getFrameCount()) {
+                return null;
+            }
+            ImageFrame frame = loader.load(index, width, height, preserveAspectRatio, smooth,
+                                           devPixelScale, imgPixelScale);
+            if (frame != null) {
+                index++;
+            }
+            return frame;
+        }
+
+        public void dispose() {
+            loader.dispose();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package com.sun.javafx.iio;
 
+import com.sun.javafx.iio.common.ImageTools;
 import java.io.IOException;
 
 /**
@@ -79,4 +80,64 @@ public interface ImageLoader {
     ImageFrame load(int imageIndex, double width, double height,
             boolean preserveAspectRatio, boolean smooth,
             float screenPixelScale, float imagePixelScale) throws IOException;
+
+    /**
+     * Loads a region of the image at a given index in an image stream, at
+     * the resolution of the image. The region is clipped to the bounds of
+     * the image. If no image exists at that index, or if the clipped region
+     * is empty, <code>null</code> will be returned.
+     * <p>
+     * The default implementation loads the whole image and copies the
+     * region. Loaders that can skip the parts of the image that are outside
+     * of the region override this method.
+     *
+     * @param imageIndex the zero-relative index of the image to load.
+     * @param x the x coordinate of the region, in pixels.
+     * @param y the y coordinate of the region, in pixels.
+     * @param width the width of the region, in pixels.
+     * @param height the height of the region, in pixels.
+     * @return the region of the image at the specified index or
+     * <code>null</code>.
+     */
+    default ImageFrame loadRegion(int imageIndex, int x, int y, int width, int height) throws IOException {
+        ImageFrame image = load(imageIndex, 0, 0, false, false, 1, 1);
+        if (image == null) {
+            return null;
+        }
+        int x0 = Math.max(x, 0), y0 = Math.max(y, 0);
+        int x1 = (int) Math.min((long) x + width, image.getWidth());
+        int y1 = (int) Math.min((long) y + height, image.getHeight());
+        if (x0 >= x1 || y0 >= y1) {
+            return null;
+        }
+        return ImageTools.cropImageFrame(image, x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**
+     * Returns whether this loader can skip images with {@link #skipImage()}.
+     * <p>
+     * The default implementation returns <code>false</code>. Loaders of
+     * formats with more than one image override this method.
+     *
+     * @return whether this loader can skip images.
+     */
+    default boolean canSkipImages() {
+        return false;
+    }
+
+    /**
+     * Skips the next image in the image stream without decoding it. The
+     * images that follow a skipped image may depend on it, so they should
+     * not be loaded with the same loader.
+     * <p>
+     * The default implementation throws an
+     * <code>UnsupportedOperationException</code>. It must only be called if
+     * {@link #canSkipImages()} returns <code>true</code>.
+     *
+     * @return the delay time of the skipped image in milliseconds, or -1 if
+     * there is no image left.
+     */
+    default int skipImage() throws IOException {
+        throw new UnsupportedOperationException();
+    }
 }
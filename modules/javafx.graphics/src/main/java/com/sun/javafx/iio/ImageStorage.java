@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,11 +39,14 @@ import com.sun.javafx.util.Logging;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -356,6 +359,42 @@ public class ImageStorage {
         return images;
     }
 
+    /**
+     * Load a region of the first image present in the specified input, at
+     * the resolution of the image. Unlike loading the whole image and
+     * cropping it, this does not need memory for the whole image when the
+     * loader supports decoding regions, which makes it possible to show a
+     * viewport of an image that is too large to be decoded at once.
+     *
+     * @param input the image data stream.
+     * @param listener a listener to receive notifications about image loading.
+     * @param x the x coordinate of the region, in pixels.
+     * @param y the y coordinate of the region, in pixels.
+     * @param width the width of the region, in pixels.
+     * @param height the height of the region, in pixels.
+     * @return the region of the image, clipped to the bounds of the image,
+     * or <code>null</code> if the clipped region is empty.
+     */
+    public ImageFrame loadRegion(InputStream input, ImageLoadListener listener,
+            int x, int y, int width, int height) throws ImageStorageException {
+        ImageLoader loader = null;
+        try {
+            loader = findImageLoader(input, listener);
+            if (loader == null) {
+                throw new ImageStorageException("No loader for image data");
+            }
+            return loader.loadRegion(0, x, y, width, height);
+        } catch (ImageStorageException ise) {
+            throw ise;
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        } finally {
+            if (loader != null) {
+                loader.dispose();
+            }
+        }
+    }
+
     /**
      * Load all images present in the specified input. For more details refer to
      * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean)}.
@@ -442,49 +481,9 @@ public class ImageStorage {
                         loader = imageLoader;
                     }
                 } else {
-                    // Use Mac Retina conventions for >= 1.5f (rounded to the next integer scale)
-                    // first, check if the scale is not already requested in the input
-                    if (ImageTools.hasScaledName(input)) {
-                        // scaled name exists, assume user explicitly wants it and attempt loading
-                        // if we can't find the resource this should throw and cancel the load
-                        theStream = ImageTools.createInputStream(input);
-                    }
-
-                    if (theStream == null) {
-                        // not the case, find the highest available scale
-                        for (int imageScale = Math.round(devPixelScale); imageScale >= 2; --imageScale) {
-                            try {
-                                String scaledName = ImageTools.getScaledImageName(input, imageScale);
-                                theStream = ImageTools.createInputStream(scaledName);
-                                imgPixelScale = imageScale;
-                                break;
-                            } catch (IOException ignored) {
-                            }
-                        }
-                    }
-
-                    IOException mainException = null;
-                    if (theStream == null) {
-                        try {
-                            theStream = ImageTools.createInputStream(input);
-                        } catch (IOException e) {
-                            // hold on to this exception for a moment, in case below fallback fails too
-                            mainException = e;
-                        }
-                    }
-
-                    if (theStream == null) {
-                        try {
-                            // last fallback, try to see if the file exists with @1x suffix
-                            String scaled1xName = ImageTools.getScaledImageName(input, 1);
-                            theStream = ImageTools.createInputStream(scaled1xName);
-                        } catch (IOException e) {
-                            // fallback failed, throw previous exception with this one as suppressed
-                            mainException.addSuppressed(e);
-                            throw mainException;
-                        }
-                    }
-
+                    ScaledStream scaledStream = openScaledStream(input, devPixelScale);
+                    theStream = scaledStream.stream();
+                    imgPixelScale = scaledStream.pixelScale();
                     loader = findImageLoader(theStream, listener);
                 }
             } catch (Exception e) {
@@ -511,6 +510,283 @@ public class ImageStorage {
         return images;
     }
 
+    private record ScaledStream(InputStream stream, float pixelScale) {}
+
+    /**
+     * An input stream that keeps a copy of the bytes read from it, until
+     * recording is stopped. It doesn't support mark and reset, so that all
+     * the bytes are read through it.
+     */
+    private static final class RecordingInputStream extends FilterInputStream {
+        private ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+
+        RecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0 && recorded != null) {
+                recorded.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0 && recorded != null) {
+                recorded.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (recorded == null) {
+                return in.skip(n);
+            }
+            return Math.max(read(new byte[(int) Math.min(n, 8192)]), 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readlimit) {
+        }
+
+        @Override
+        public void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        void stopRecording() {
+            recorded = null;
+        }
+
+        /**
+         * Returns the bytes read so far followed by the rest of the stream.
+         */
+        byte[] readAllRecorded() throws IOException {
+            in.transferTo(recorded);
+            byte[] bytes = recorded.toByteArray();
+            recorded = null;
+            return bytes;
+        }
+    }
+
+    private ScaledStream openScaledStream(String input, float devPixelScale) throws IOException {
+        InputStream theStream = null;
+        float imgPixelScale = 1.0f;
+
+        // Use Mac Retina conventions for >= 1.5f (rounded to the next integer scale)
+        // first, check if the scale is not already requested in the input
+        if (ImageTools.hasScaledName(input)) {
+            // scaled name exists, assume user explicitly wants it and attempt loading
+            // if we can't find the resource this should throw and cancel the load
+            theStream = ImageTools.createInputStream(input);
+        }
+
+        if (theStream == null) {
+            // not the case, find the highest available scale
+            for (int imageScale = Math.round(devPixelScale); imageScale >= 2; --imageScale) {
+                try {
+                    String scaledName = ImageTools.getScaledImageName(input, imageScale);
+                    theStream = ImageTools.createInputStream(scaledName);
+                    imgPixelScale = imageScale;
+                    break;
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        IOException mainException = null;
+        if (theStream == null) {
+            try {
+                theStream = ImageTools.createInputStream(input);
+            } catch (IOException e) {
+                // hold on to this exception for a moment, in case below fallback fails too
+                mainException = e;
+            }
+        }
+
+        if (theStream == null) {
+            try {
+                // last fallback, try to see if the file exists with @1x suffix
+                String scaled1xName = ImageTools.getScaledImageName(input, 1);
+                theStream = ImageTools.createInputStream(scaled1xName);
+            } catch (IOException e) {
+                // fallback failed, throw previous exception with this one as suppressed
+                mainException.addSuppressed(e);
+                throw mainException;
+            }
+        }
+
+        return new ScaledStream(theStream, imgPixelScale);
+    }
+
+    /**
+     * Load the images present in the specified stream, like
+     * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean)},
+     * as long as the decoded images fit in {@code maxSize} bytes. If they
+     * don't, and the loader can skip images, only the first image is decoded
+     * and the delay times of the other images are read without decoding them.
+     * The returned sequence then keeps the image data, so that the other
+     * images can be decoded when they are needed.
+     *
+     * @param maxSize the maximum size in bytes of the decoded images.
+     * @return the sequence of images in the specified source.
+     */
+    public ImageFrameSequence loadSequence(InputStream input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth, long maxSize) throws ImageStorageException {
+        return loadSequence(input, listener, width, height, preserveAspectRatio, pixelScale, 1, smooth, maxSize);
+    }
+
+    /**
+     * Load the images present in the specified input. For more details refer to
+     * {@link #loadSequence(InputStream, ImageLoadListener, double, double, boolean, float, boolean, long)}.
+     * All the images of a data URI are decoded.
+     */
+    public ImageFrameSequence loadSequence(String input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, boolean smooth, long maxSize) throws ImageStorageException {
+
+        if (input == null || input.isEmpty()) {
+            throw new ImageStorageException("URL can't be null or empty");
+        }
+
+        if (DataURI.tryParse(input) != null) {
+            return new ImageFrameSequence(loadAll(input, listener, width, height, preserveAspectRatio, devPixelScale, smooth));
+        }
+
+        ScaledStream scaledStream;
+        try {
+            scaledStream = openScaledStream(input, devPixelScale);
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        }
+        try (InputStream stream = scaledStream.stream()) {
+            return loadSequence(stream, listener, width, height, preserveAspectRatio,
+                    devPixelScale, scaledStream.pixelScale(), smooth, maxSize);
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        }
+    }
+
+    private ImageFrameSequence loadSequence(InputStream input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, float imgPixelScale, boolean smooth, long maxSize) throws ImageStorageException {
+        RecordingInputStream stream = new RecordingInputStream(input);
+        ImageLoader loader = null;
+        byte[] data;
+        try {
+            loader = findImageLoader(stream, listener);
+            if (loader == null) {
+                throw new ImageStorageException("No loader for image data");
+            }
+            if (!loader.canSkipImages()) {
+                // The images can't be decoded on demand, so decode them all
+                // without keeping the image data
+                stream.stopRecording();
+                ImageFrame[] images = loadAll(loader, width, height, preserveAspectRatio,
+                                              devPixelScale, imgPixelScale, smooth);
+                if (images == null) {
+                    throw new ImageStorageException("No image in image data");
+                }
+                return new ImageFrameSequence(images);
+            }
+            data = stream.readAllRecorded();
+        } catch (ImageStorageException ise) {
+            throw ise;
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        } finally {
+            if (loader != null) {
+                loader.dispose();
+            }
+        }
+        return loadSequence(data, listener, width, height, preserveAspectRatio, devPixelScale, imgPixelScale, smooth, maxSize);
+    }
+
+    private ImageFrameSequence loadSequence(byte[] data, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, float imgPixelScale, boolean smooth, long maxSize) throws ImageStorageException {
+        ImageLoader loader = null;
+        try {
+            // Read the delay times of the images without decoding them, to
+            // know whether the decoded images fit in maxSize
+            int[] delayTimes = readDelayTimes(data, listener);
+
+            loader = findImageLoader(new ByteArrayInputStream(data), listener);
+            if (loader == null) {
+                throw new ImageStorageException("No loader for image data");
+            }
+            ImageFrame image;
+            try {
+                image = loader.load(0, width, height, preserveAspectRatio, smooth, devPixelScale, imgPixelScale);
+            } catch (Exception e) {
+                throw new ImageStorageException(e.getMessage(), e);
+            }
+            if (image == null) {
+                throw new ImageStorageException("No image in image data");
+            }
+
+            long imageSize = (long) image.getStride() * image.getHeight();
+            if (delayTimes.length > 1 && imageSize * delayTimes.length > maxSize) {
+                return new ImageFrameSequence(this, data, listener, width, height, preserveAspectRatio,
+                        devPixelScale, imgPixelScale, smooth, new ImageFrame[] { image }, delayTimes);
+            }
+
+            ArrayList<ImageFrame> list = new ArrayList<>();
+            list.add(image);
+            try {
+                while ((image = loader.load(list.size(), width, height, preserveAspectRatio,
+                                            smooth, devPixelScale, imgPixelScale)) != null) {
+                    list.add(image);
+                }
+            } catch (Exception e) {
+                // allow partially loaded animated images
+            }
+            return new ImageFrameSequence(list.toArray(new ImageFrame[0]));
+        } catch (ImageStorageException ise) {
+            throw ise;
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        } finally {
+            if (loader != null) {
+                loader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reads the delay times of the images in the specified image data by
+     * skipping the images.
+     */
+    private int[] readDelayTimes(byte[] data, ImageLoadListener listener) throws IOException {
+        int[] delayTimes = new int[0];
+        ImageLoader loader = findImageLoader(new ByteArrayInputStream(data), listener);
+        if (loader == null) {
+            return delayTimes;
+        }
+        try {
+            for (int delayTime = loader.skipImage(); delayTime >= 0; delayTime = loader.skipImage()) {
+                delayTimes = Arrays.copyOf(delayTimes, delayTimes.length + 1);
+                delayTimes[delayTimes.length - 1] = delayTime;
+            }
+        } catch (IOException e) {
+            // allow partially loaded animated images
+        } finally {
+            loader.dispose();
+        }
+        return delayTimes;
+    }
+
     private synchronized int getMaxSignatureLength() {
         if (maxSignatureLength < 0) {
             maxSignatureLength = 0;
@@ -558,7 +834,7 @@ public class ImageStorage {
         return images;
     }
 
-    private ImageLoader findImageLoader(InputStream stream, ImageLoadListener listener) throws IOException {
+    ImageLoader findImageLoader(InputStream stream, ImageLoadListener listener) throws IOException {
         if (isIOS) {
             return IosImageLoaderFactory.getInstance().createImageLoader(stream);
         }
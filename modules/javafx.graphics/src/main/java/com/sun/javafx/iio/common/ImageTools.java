@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -253,6 +253,25 @@ public class ImageTools {
                 destWidth, destHeight, destWidth * numBands, src.getMetadata());
     }
 
+    /**
+     * Returns a copy of a region of an image frame. The region must be
+     * inside the bounds of the frame.
+     */
+    public static ImageFrame cropImageFrame(ImageFrame src,
+            int x, int y, int width, int height)
+    {
+        int numBands = ImageStorage.getInstance().getNumBands(src.getImageType());
+        ByteBuffer srcData = (ByteBuffer) src.getImageData();
+        int srcStride = src.getStride();
+        int stride = width * numBands;
+        byte dst[] = new byte[stride * height];
+        for (int row = 0; row != height; ++row) {
+            srcData.get((y + row) * srcStride + x * numBands, dst, row * stride, stride);
+        }
+        return new ImageFrame(src.getImageType(), ByteBuffer.wrap(dst),
+                width, height, stride, src.getPixelScale(), src.getMetadata());
+    }
+
     public static ByteBuffer scaleImage(ByteBuffer src,
             int sourceWidth, int sourceHeight, int numBands,
             int destWidth, int destHeight, boolean isSmooth)
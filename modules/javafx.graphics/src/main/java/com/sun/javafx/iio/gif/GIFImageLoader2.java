@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -248,6 +248,29 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
                 width, height, width * 4, imagePixelScale, metadata);
     }
 
+    @Override
+    public boolean canSkipImages() {
+        return true;
+    }
+
+    @Override
+    public int skipImage() throws IOException {
+        int imageControlCode = waitForImageFrame();
+
+        if (imageControlCode < 0) {
+            return -1;
+        }
+
+        skipBytes(8); // left, top, width and height
+        int imgCtrl = readByte();
+        if ((imgCtrl & 0x80) != 0) {
+            skipBytes(3 * (2 << (imgCtrl & 7))); // local palette
+        }
+        readByte(); // initial LZW code size
+        consumeAnExtension(); // image data sub-blocks
+        return getDelayTime(imageControlCode & 0xFFFF);
+    }
+
     // IO helpers
     private int readByte() throws IOException {
         int ch = stream.read();
@@ -332,10 +355,15 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
         return ByteBuffer.wrap(img);
     }
 
+    // converts the delay time of a frame to milliseconds
+    private static int getDelayTime(int delayTime) {
+        return delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS;
+    }
+
     // fill metadata
     private ImageMetadata updateMetadata(int w, int h, int delayTime) {
         ImageMetadata metaData = new ImageMetadata(null, true, null, null, null,
-                delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS, loopCount, w, h, null, null, null);
+                getDelayTime(delayTime), loopCount, w, h, null, null, null);
         updateImageMetadata(metaData);
         return metaData;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,7 +32,10 @@ package com.sun.javafx.iio.png;
 import com.sun.javafx.iio.*;
 import com.sun.javafx.iio.common.*;
 import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.zip.*;
 
@@ -321,10 +324,51 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
+    // Views of byte arrays as ints and longs, to unfilter the pixels of
+    // 4 or 8 bytes with one operation for all their bytes. The byte order
+    // does not matter since the bytes are added separately.
+    private static final VarHandle INTS =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Adds the bytes of x and y, modulo 256, without carrying into the next byte.
+    private static int addBytes(int x, int y) {
+        return ((x & 0x7f7f7f7f) + (y & 0x7f7f7f7f)) ^ ((x ^ y) & 0x80808080);
+    }
+
+    private static long addBytes(long x, long y) {
+        return ((x & 0x7f7f7f7f7f7f7f7fL) + (y & 0x7f7f7f7f7f7f7f7fL))
+                ^ ((x ^ y) & 0x8080808080808080L);
+    }
+
+    // Returns the average of the bytes of x and y, rounded down.
+    private static int averageBytes(int x, int y) {
+        return (x & y) + (((x ^ y) & 0xfefefefe) >>> 1);
+    }
+
+    private static long averageBytes(long x, long y) {
+        return (x & y) + (((x ^ y) & 0xfefefefefefefefeL) >>> 1);
+    }
+
     private void doSubFilter(byte line[], int bpp) {
         int l = line.length;
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i] + line[i - bpp]);
+        if (bpp == 4) {
+            int left = (int) INTS.get(line, 0);
+            for (int i = 4; i != l; i += 4) {
+                left = addBytes((int) INTS.get(line, i), left);
+                INTS.set(line, i, left);
+            }
+        } else if (bpp == 8) {
+            long left = (long) LONGS.get(line, 0);
+            for (int i = 8; i != l; i += 8) {
+                left = addBytes((long) LONGS.get(line, i), left);
+                LONGS.set(line, i, left);
+            }
+        } else {
+            for (int i = bpp; i != l; ++i) {
+                line[i] = (byte) (line[i] + line[i - bpp]);
+            }
         }
     }
 
@@ -340,9 +384,23 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         for (int i = 0; i != bpp; ++i) {
             line[i] = (byte) (line[i] + (pline[i] & 0xFF) / 2);
         }
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i]
-                    + (((line[i - bpp] & 0xFF) + (pline[i] & 0xFF))) / 2);
+        if (bpp == 4) {
+            int left = (int) INTS.get(line, 0);
+            for (int i = 4; i != l; i += 4) {
+                left = addBytes((int) INTS.get(line, i), averageBytes(left, (int) INTS.get(pline, i)));
+                INTS.set(line, i, left);
+            }
+        } else if (bpp == 8) {
+            long left = (long) LONGS.get(line, 0);
+            for (int i = 8; i != l; i += 8) {
+                left = addBytes((long) LONGS.get(line, i), averageBytes(left, (long) LONGS.get(pline, i)));
+                LONGS.set(line, i, left);
+            }
+        } else {
+            for (int i = bpp; i != l; ++i) {
+                line[i] = (byte) (line[i]
+                        + (((line[i - bpp] & 0xFF) + (pline[i] & 0xFF))) / 2);
+            }
         }
     }
 
@@ -525,6 +583,10 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     private static final int starting_x[] = {0, 4, 0, 2, 0, 1, 0, 0};
     private static final int increment_y[] = {8, 8, 8, 4, 4, 2, 2, 1};
     private static final int increment_x[] = {8, 8, 4, 4, 2, 2, 1, 1};
+    // the spacing of the pixels that are known after the first n passes
+    // of an interlaced image, indexed by n - 1
+    private static final int grid_y[] = {8, 8, 4, 4, 2, 2, 1};
+    private static final int grid_x[] = {8, 4, 4, 2, 2, 1, 1};
 
     private static int mipSize(int size, int mip, int start[], int increment[]) {
         return (size - start[mip] + increment[mip] - 1) / increment[mip];
@@ -534,10 +596,17 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return start[mip] + pos * increment[mip];
     }
 
-    private void loadMip(byte image[], InputStream data, int mip) throws IOException {
+    private static int gridSize(int size, int grid) {
+        return (size + grid - 1) / grid;
+    }
+
+    // Stores the pixels of a pass in an image that only has the pixels of
+    // the given grid.
+    private void loadMip(byte image[], InputStream data, int mip, int gridX, int gridY) throws IOException {
 
         int mipWidth = mipSize(width, mip, starting_x, increment_x);
         int mipHeight = mipSize(height, mip, starting_y, increment_y);
+        int imageWidth = gridSize(width, gridX);
 
         int scanLineSize = (mipWidth * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
         byte scanLine0[] = new byte[scanLineSize];
@@ -548,27 +617,13 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
 
         for (int y = 0; y != mipHeight; ++y) {
-            int filterByte = data.read();
-            if (filterByte == -1) {
-                throw new EOFException();
-            }
-
-            if (data.read(scanLine0) != scanLineSize) {
-                throw new EOFException();
-            }
+            readScanLine(data, scanLine0, scanLine1, srcBpp);
 
-            doFilter(scanLine0, scanLine1, filterByte, srcBpp);
+            int pos = (mipPos(y, mip, starting_y, increment_y) / gridY * imageWidth
+                    + starting_x[mip] / gridX) * resultBpp;
+            int step = increment_x[mip] / gridX;
 
-            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
-            int step = increment_x[mip];
-
-            if (bitDepth == 16) {
-                downsample16to8(scanLine0, image, pos, step, resultBpp);
-            } else if (bitDepth < 8) {
-                upsampleTo8(scanLine0, image, pos, mipWidth, step, resultBpp);
-            } else {
-                copy(scanLine0, image, pos, step, resultBpp);
-            }
+            convertScanLine(scanLine0, image, pos, mipWidth, step, resultBpp);
 
             byte scanLineSwp[] = scanLine0;
             scanLine0 = scanLine1;
@@ -576,49 +631,91 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
-    private void load(byte image[], InputStream data) throws IOException {
+    private void readScanLine(InputStream data, byte scanLine[], byte prevScanLine[], int srcBpp) throws IOException {
+        int filterByte = data.read();
+        if (filterByte == -1) {
+            throw new EOFException();
+        }
+
+        if (data.read(scanLine) != scanLine.length) {
+            throw new EOFException();
+        }
+
+        doFilter(scanLine, prevScanLine, filterByte, srcBpp);
+    }
+
+    private void convertScanLine(byte scanLine[], byte image[], int pos, int w, int step, int resultBpp) {
+        if (bitDepth == 16) {
+            downsample16to8(scanLine, image, pos, step, resultBpp);
+        } else if (bitDepth < 8) {
+            upsampleTo8(scanLine, image, pos, w, step, resultBpp);
+        } else {
+            copy(scanLine, image, pos, step, resultBpp);
+        }
+    }
+
+    // Loads the first passes of an interlaced image, or the whole image.
+    private void load(byte image[], InputStream data, int passes) throws IOException {
         if (isInterlaced) {
-            for (int mip = 0; mip != 7; ++mip) {
+            int gridX = grid_x[passes - 1], gridY = grid_y[passes - 1];
+            for (int mip = 0; mip != passes; ++mip) {
                 if (width > starting_x[mip] && height > starting_y[mip]) {
-                    loadMip(image, data, mip);
+                    loadMip(image, data, mip, gridX, gridY);
                 }
             }
         } else {
-            loadMip(image, data, 7);
+            loadMip(image, data, 7, 1, 1);
         }
     }
 
-    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
-        int bpp = tRNS_present ? 4 : 3;
-        if (width >= (Integer.MAX_VALUE / height / bpp)) {
-            throw new IOException("Bad PNG image size!");
+    // Returns the number of passes of an interlaced image that are needed to
+    // scale it to the given size, which is the smallest number of passes
+    // whose pixels form an image at least as large as the requested one.
+    private int getPassCount(int rWidth, int rHeight) {
+        if (!isInterlaced) {
+            return 7;
         }
-        byte newImage[] = new byte[width * height * bpp];
-        int l = width * height;
+        int passes = 1;
+        while (passes < 7 && (gridSize(width, grid_x[passes - 1]) < rWidth ||
+                              gridSize(height, grid_y[passes - 1]) < rHeight)) {
+            passes++;
+        }
+        return passes;
+    }
 
+    private int paletteBpp() {
+        return tRNS_present ? 4 : 3;
+    }
+
+    private void decodePalette(byte src[], int srcPos, byte dst[], int dstPos, int count) {
         if (tRNS_present) {
-            for (int i = 0, j = 0; i != l; j += 4, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
-                newImage[j + 3] = palette[3][index];
+            for (int i = srcPos, j = dstPos, l = srcPos + count; i != l; j += 4, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+                dst[j + 3] = palette[3][index];
             }
         } else {
-            for (int i = 0, j = 0; i != l; j += 3, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
+            for (int i = srcPos, j = dstPos, l = srcPos + count; i != l; j += 3, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
             }
         }
+    }
 
-        ImageStorage.ImageType type = tRNS_present
-                ? ImageStorage.ImageType.RGBA
-                : ImageStorage.ImageType.RGB;
+    private ImageFrame decodePalette(byte srcImage[], int w, int h, ImageMetadata metadata) throws IOException {
+        int bpp = paletteBpp();
+        if (w >= (Integer.MAX_VALUE / h / bpp)) {
+            throw new IOException("Bad PNG image size!");
+        }
+        byte newImage[] = new byte[w * h * bpp];
+        decodePalette(srcImage, 0, newImage, 0, w * h);
 
-        return new ImageFrame(type, ByteBuffer.wrap(newImage), width, height,
-                width * bpp, metadata);
+        return new ImageFrame(getOutputType(), ByteBuffer.wrap(newImage), w, h,
+                w * bpp, metadata);
     }
 
     // we won`t decode palette on fly, we will do it later
@@ -634,6 +731,65 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return bitDepth == 16 ? 2 : 1;
     }
 
+    // the number of bands of the decoded image, after palette expansion
+    private int outputBpp() {
+        return colorType == PNG_COLOR_PALETTE ? paletteBpp() : bpp();
+    }
+
+    private ImageStorage.ImageType getOutputType() {
+        if (colorType == PNG_COLOR_PALETTE) {
+            return tRNS_present
+                    ? ImageStorage.ImageType.RGBA
+                    : ImageStorage.ImageType.RGB;
+        }
+        return getType();
+    }
+
+    /*
+     * Reads the rows of a non-interlaced image one at a time, with 8 bits per
+     * sample and with the palette applied, so that the image does not need
+     * to be stored at full size when only a part or a scaled version of it
+     * is returned.
+     */
+    private final class RowReader {
+        private final InputStream data;
+        private final int srcBpp, resultBpp;
+        private byte scanLine0[], scanLine1[];
+        private final byte row[], outputRow[];
+
+        RowReader(InputStream data) {
+            this.data = data;
+            srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
+            resultBpp = bpp();
+            int scanLineSize = (width * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
+            scanLine0 = new byte[scanLineSize];
+            scanLine1 = new byte[scanLineSize];
+            row = new byte[width * resultBpp];
+            outputRow = colorType == PNG_COLOR_PALETTE ? new byte[width * paletteBpp()] : row;
+        }
+
+        // Reads the next row, which is only converted if convert is true.
+        byte[] readRow(boolean convert) throws IOException {
+            readScanLine(data, scanLine0, scanLine1, srcBpp);
+            if (convert) {
+                convertScanLine(scanLine0, row, 0, width, 1, resultBpp);
+                if (outputRow != row) {
+                    decodePalette(row, 0, outputRow, 0, width);
+                }
+            }
+
+            byte scanLineSwp[] = scanLine0;
+            scanLine0 = scanLine1;
+            scanLine1 = scanLineSwp;
+            return outputRow;
+        }
+    }
+
+    private InputStream openImageData(int dataSize, Inflater inf) throws IOException {
+        PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
+        return new BufferedInputStream(new InflaterInputStream(iDat, inf));
+    }
+
     @Override
     public ImageFrame load(int imageIndex, double w, double h,
             boolean preserveAspectRatio, boolean smooth,
@@ -665,32 +821,116 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
+        boolean scaled = width != rWidth || height != rHeight;
+        if (scaled && !isInterlaced) {
+            // Scale each row as soon as it is decoded
+            PushbroomScaler scaler = ScalerFactory.createScaler(width, height, outputBpp(),
+                    rWidth, rHeight, smooth);
+            Inflater inf = new Inflater();
+            try {
+                RowReader reader = new RowReader(openImageData(dataSize, inf));
+                for (int y = 0; y != height; ++y) {
+                    scaler.putSourceScanline(reader.readRow(true), 0);
+                }
+            } finally {
+                inf.end();
+            }
+            return new ImageFrame(getOutputType(), scaler.getDestination(),
+                    rWidth, rHeight, rWidth * outputBpp(), metaData);
+        }
 
-        PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
-        Inflater inf = new Inflater();
-        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
+        // Only decode the passes of an interlaced image that are needed
+        // for the requested size
+        int passes = scaled ? getPassCount(rWidth, rHeight) : 7;
+        int imageWidth = isInterlaced ? gridSize(width, grid_x[passes - 1]) : width;
+        int imageHeight = isInterlaced ? gridSize(height, grid_y[passes - 1]) : height;
+
+        ByteBuffer bb = ByteBuffer.allocate(bpp * imageWidth * imageHeight);
 
+        Inflater inf = new Inflater();
         try {
-            load(bb.array(), data);
-        } catch (IOException e) {
-            throw e;
+            load(bb.array(), openImageData(dataSize, inf), passes);
         } finally {
-            if (inf != null) {
-                inf.end();
-            }
+            inf.end();
         }
 
         ImageFrame imgPNG = colorType == PNG_COLOR_PALETTE
-                ? decodePalette(bb.array(), metaData)
-                : new ImageFrame(getType(), bb, width, height, bpp * width, metaData);
-
-        imgPNG.setPixelScale(imagePixelScale);
+                ? decodePalette(bb.array(), imageWidth, imageHeight, metaData)
+                : new ImageFrame(getType(), bb, imageWidth, imageHeight, bpp * imageWidth, metaData);
 
-        if (width != rWidth || height != rHeight) {
+        if (!scaled) {
+            imgPNG.setPixelScale(imagePixelScale);
+        } else if (imageWidth != rWidth || imageHeight != rHeight) {
             imgPNG = ImageTools.scaleImageFrame(imgPNG, rWidth, rHeight, smooth);
         }
 
         return imgPNG;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The rows below the region of a non-interlaced image are not decoded,
+     * and only the region is stored.
+     */
+    @Override
+    public ImageFrame loadRegion(int imageIndex, int x, int y, int w, int h) throws IOException {
+        if (imageIndex != 0) {
+            return null;
+        }
+
+        int dataSize = parsePngMeta();
+
+        if (dataSize == 0) {
+            emitWarning("No image data in PNG");
+            return null;
+        }
+
+        int x0 = Math.max(x, 0), y0 = Math.max(y, 0);
+        int x1 = (int) Math.min((long) x + w, width), y1 = (int) Math.min((long) y + h, height);
+        if (x0 >= x1 || y0 >= y1) {
+            return null;
+        }
+        int rWidth = x1 - x0, rHeight = y1 - y0;
+
+        ImageMetadata metaData = new ImageMetadata(null, true,
+                null, null, null, null, null, rWidth, rHeight, null, null, null);
+        updateImageMetadata(metaData);
+
+        int bpp = outputBpp();
+        if (isInterlaced) {
+            // The rows of the region are spread over all the passes
+            int imageBpp = bpp();
+            if (width >= (Integer.MAX_VALUE / height / imageBpp)) {
+                throw new IOException("Bad PNG image size!");
+            }
+            ByteBuffer bb = ByteBuffer.allocate(imageBpp * width * height);
+            Inflater inf = new Inflater();
+            try {
+                load(bb.array(), openImageData(dataSize, inf), 7);
+            } finally {
+                inf.end();
+            }
+            ImageFrame image = colorType == PNG_COLOR_PALETTE
+                    ? decodePalette(bb.array(), width, height, metaData)
+                    : new ImageFrame(getType(), bb, width, height, imageBpp * width, metaData);
+            return ImageTools.cropImageFrame(image, x0, y0, rWidth, rHeight);
+        }
+
+        byte region[] = new byte[rWidth * rHeight * bpp];
+        Inflater inf = new Inflater();
+        try {
+            RowReader reader = new RowReader(openImageData(dataSize, inf));
+            for (int row = 0; row != y1; ++row) {
+                byte line[] = reader.readRow(row >= y0);
+                if (row >= y0) {
+                    System.arraycopy(line, x0 * bpp, region, (row - y0) * rWidth * bpp, rWidth * bpp);
+                }
+            }
+        } finally {
+            inf.end();
+        }
+        return new ImageFrame(getOutputType(), ByteBuffer.wrap(region),
+                rWidth, rHeight, rWidth * bpp, metaData);
+    }
 }
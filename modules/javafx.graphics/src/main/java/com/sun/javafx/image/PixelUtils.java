@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -58,28 +58,67 @@ public class PixelUtils {
                          (xrgb      ) & 0xff);
     }
 
+    // The reciprocals of the alpha values, scaled by 2^24, for unpremultiply.
+    private static final long[] RECIPROCALS = new long[0x100];
+    static {
+        for (int a = 1; a < 0x100; a++) {
+            RECIPROCALS[a] = ((1L << 24) + a - 1) / a;
+        }
+    }
+
+    /**
+     * Returns {@code (c * a + 0x7f) / 0xff}, the premultiplied value of the
+     * color component {@code c} with the alpha {@code a}, both in the range
+     * [0, 0xff], without dividing.
+     */
+    public static int premultiply(int c, int a) {
+        int t = c * a + 0x80;
+        return (t + (t >> 8)) >> 8;
+    }
+
+    /**
+     * Returns {@code (c * 0xff + (a >> 1)) / a}, the non-premultiplied value
+     * of the color component {@code c} with the alpha {@code a}, where
+     * {@code c} is in the range [0, 0xff] and {@code a} is in the range
+     * [1, 0xff], by multiplying with the reciprocal of {@code a}. The result
+     * is larger than 0xff if {@code c} is larger than {@code a}.
+     */
+    public static int unpremultiply(int c, int a) {
+        return (int) ((c * 0xff + (a >> 1)) * RECIPROCALS[a] >>> 24);
+    }
+
+    /**
+     * Premultiplies the color components of an {@code argb} pixel with the
+     * alpha {@code a}, which is not used from the pixel. The red and blue
+     * components are multiplied together in separate 16-bit lanes of one
+     * int, so that a pixel needs two multiplications and no division.
+     * The result is the same as using {@link #premultiply(int, int)} for
+     * each component.
+     */
+    public static int premultiplyRgb(int argb, int a) {
+        int rb = (argb & 0x00ff00ff) * a + 0x00800080;
+        int g = (argb & 0x0000ff00) * a + 0x00008000;
+        rb = ((rb + ((rb >>> 8) & 0x00ff00ff)) >>> 8) & 0x00ff00ff;
+        g = ((g + ((g >>> 8) & 0x0000ff00)) >>> 8) & 0x0000ff00;
+        return (a << 24) | rb | g;
+    }
+
     public static int NonPretoPre(int nonpre, int alpha) {
         if (alpha == 0xff) return nonpre;
         if (alpha == 0x00) return 0;
-        return (nonpre * alpha + 0x7f) / 0xff;
+        return premultiply(nonpre, alpha);
     }
 
     public static int PreToNonPre(int pre, int alpha) {
         if (alpha == 0xff || alpha == 0x00) return pre;
-        return (pre >= alpha) ? 0xff : (pre * 0xff + (alpha >> 1)) / alpha;
+        return (pre >= alpha) ? 0xff : unpremultiply(pre, alpha);
     }
 
     public static int NonPretoPre(int nonpre) {
         int a = nonpre >>> 24;
         if (a == 0xff) return nonpre;
         if (a == 0x00) return 0;
-        int r = (nonpre >> 16) & 0xff;
-        int g = (nonpre >>  8) & 0xff;
-        int b = (nonpre      ) & 0xff;
-        r = (r * a + 0x7f) / 0xff;
-        g = (g * a + 0x7f) / 0xff;
-        b = (b * a + 0x7f) / 0xff;
-        return (a << 24) | (r << 16) | (g << 8) | b;
+        return premultiplyRgb(nonpre, a);
     }
 
     public static int PretoNonPre(int pre) {
@@ -88,10 +127,9 @@ public class PixelUtils {
         int r = (pre >> 16) & 0xff;
         int g = (pre >>  8) & 0xff;
         int b = (pre      ) & 0xff;
-        int halfa = a >> 1;
-        r = (r >= a) ? 0xff : (r * 0xff + halfa) / a;
-        g = (g >= a) ? 0xff : (g * 0xff + halfa) / a;
-        b = (b >= a) ? 0xff : (b * 0xff + halfa) / a;
+        r = (r >= a) ? 0xff : unpremultiply(r, a);
+        g = (g >= a) ? 0xff : unpremultiply(g, a);
+        b = (b >= a) ? 0xff : unpremultiply(b, a);
         return (a << 24) | (r << 16) | (g << 8) | b;
     }
 
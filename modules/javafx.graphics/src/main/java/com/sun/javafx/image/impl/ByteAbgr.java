@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -147,9 +147,9 @@ public final class ByteAbgr {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) PixelUtils.premultiply(b & 0xff, a);
+                            g = (byte) PixelUtils.premultiply(g & 0xff, a);
+                            r = (byte) PixelUtils.premultiply(r & 0xff, a);
                         }
                     }
                     dstarr[dstoff++] = b;
@@ -180,9 +180,9 @@ public final class ByteAbgr {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) PixelUtils.premultiply(b & 0xff, a);
+                            g = (byte) PixelUtils.premultiply(g & 0xff, a);
+                            r = (byte) PixelUtils.premultiply(r & 0xff, a);
                         }
                     }
                     dstbuf.put(dstoff    , b);
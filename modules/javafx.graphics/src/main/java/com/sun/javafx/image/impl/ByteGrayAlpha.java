@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -157,7 +157,7 @@ public class ByteGrayAlpha {
                         if (a == 0) {
                             g = 0;
                         } else {
-                            g = (g * (a & 0xff) + 0x7f) / 0xff;
+                            g = PixelUtils.premultiply(g, a & 0xff);
                         }
                     }
                     dstarr[dstoff++] = (byte) g;
@@ -183,7 +183,7 @@ public class ByteGrayAlpha {
                         if (a == 0) {
                             g = 0;
                         } else {
-                            g = (g * (a & 0xff) + 0x7f) / 0xff;
+                            g = PixelUtils.premultiply(g, a & 0xff);
                         }
                     }
                     dstbuf.put(dstoff++, (byte) g);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -154,9 +154,9 @@ public class ByteRgba {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) PixelUtils.premultiply(b & 0xff, a);
+                            g = (byte) PixelUtils.premultiply(g & 0xff, a);
+                            r = (byte) PixelUtils.premultiply(r & 0xff, a);
                         }
                     }
                     dstarr[dstoff++] = b;
@@ -187,9 +187,9 @@ public class ByteRgba {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) PixelUtils.premultiply(b & 0xff, a);
+                            g = (byte) PixelUtils.premultiply(g & 0xff, a);
+                            r = (byte) PixelUtils.premultiply(r & 0xff, a);
                         }
                     }
                     dstbuf.put(dstoff    , b);
@@ -279,9 +279,9 @@ public class ByteRgba {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
+                            b = PixelUtils.premultiply(b, a);
+                            g = PixelUtils.premultiply(g, a);
+                            r = PixelUtils.premultiply(r, a);
                         }
                     }
                     dstarr[dstoff++] =
@@ -309,9 +309,9 @@ public class ByteRgba {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
+                            b = PixelUtils.premultiply(b, a);
+                            g = PixelUtils.premultiply(g, a);
+                            r = PixelUtils.premultiply(r, a);
                         }
                     }
                     dstbuf.put(dstoff + x, (a << 24) | (r << 16) | (g << 8) | b);
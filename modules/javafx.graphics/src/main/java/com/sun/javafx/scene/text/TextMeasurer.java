@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.text;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.tk.Toolkit;
+
+/**
+ * Measures strings on any thread, and remembers the measurements so that
+ * strings which were measured before, for example by the skin of a cell
+ * that was laid out again, are not shaped again.
+ * <p>
+ * Each thread measures with a {@link TextLayout} of its own, created by the
+ * {@link TextLayoutFactory} of the toolkit. Since all the text layouts share
+ * the cache of shaped strings of the toolkit, measuring a string also makes
+ * the layout of a {@code Text} node with the same string and font cheaper.
+ * <p>
+ * The measurements are kept in a least recently used cache, whose size is
+ * the number of chars of the measured strings. Strings shorter than
+ * {@link #MIN_CACHED_LENGTH} are cheap to measure and are never cached.
+ */
+public final class TextMeasurer {
+
+    /**
+     * The minimum length of a string whose measurements are cached.
+     */
+    public static final int MIN_CACHED_LENGTH = 8;
+
+    private static final int DEFAULT_MAX_SIZE = 1 << 18;
+
+    private static final TextMeasurer INSTANCE = new TextMeasurer(DEFAULT_MAX_SIZE);
+
+    public static TextMeasurer getInstance() {
+        return INSTANCE;
+    }
+
+    private record Key(String text, Object font, float wrapWidth, float lineSpacing, int boundsType) {}
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, float[]> measurements = new LinkedHashMap<>(64, 0.75f, true);
+    private final ThreadLocal<TextLayout> layouts =
+            ThreadLocal.withInitial(() -> Toolkit.getToolkit().getTextLayoutFactory().createLayout());
+    private int size;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a measurer that caches at most {@code maxSize} chars of
+     * measured strings.
+     */
+    public TextMeasurer(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the width of the logical bounds of a string, as
+     * {@code Text.getLayoutBounds().getWidth()} would for a {@code Text}
+     * node with the same string, font and wrapping width.
+     *
+     * @param text the string
+     * @param font the native font, as returned by {@link FontHelper#getNativeFont}
+     * @param wrapWidth the wrapping width, or 0 if the string is not wrapped
+     */
+    public double computeWidth(String text, Object font, double wrapWidth) {
+        return measure(text, font, (float) wrapWidth, 0, TextLayout.BOUNDS_CENTER)[0];
+    }
+
+    /**
+     * Returns the height of the bounds of a string.
+     *
+     * @param text the string
+     * @param font the native font, as returned by {@link FontHelper#getNativeFont}
+     * @param wrapWidth the wrapping width, or 0 if the string is not wrapped
+     * @param lineSpacing the line spacing
+     * @param boundsType {@link TextLayout#BOUNDS_CENTER} or 0
+     */
+    public double computeHeight(String text, Object font, double wrapWidth,
+                                double lineSpacing, int boundsType) {
+        return measure(text, font, (float) wrapWidth, (float) lineSpacing, boundsType)[1];
+    }
+
+    /**
+     * Removes all measurements from the cache.
+     */
+    public synchronized void clear() {
+        measurements.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the total number of chars of the strings in the cache.
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of measurements that were found in the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of cacheable measurements that had to be computed.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of measurements that were evicted to stay within
+     * the size of the cache.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private float[] measure(String text, Object font, float wrapWidth, float lineSpacing, int boundsType) {
+        if (text.length() < MIN_CACHED_LENGTH || text.length() > maxSize) {
+            return layout(text, font, wrapWidth, lineSpacing, boundsType);
+        }
+        Key key = new Key(text, font, wrapWidth, lineSpacing, boundsType);
+        synchronized (this) {
+            float[] measurement = measurements.get(key);
+            if (measurement != null) {
+                hitCount++;
+                return measurement;
+            }
+            missCount++;
+        }
+
+        // Two threads may measure the same string at the same time, in which
+        // case they put equal measurements in the cache.
+        float[] measurement = layout(text, font, wrapWidth, lineSpacing, boundsType);
+        synchronized (this) {
+            float[] old = measurements.put(key, measurement);
+            if (old == null) {
+                size += text.length();
+                evict();
+            }
+        }
+        return measurement;
+    }
+
+    private float[] layout(String text, Object font, float wrapWidth, float lineSpacing, int boundsType) {
+        TextLayout layout = layouts.get();
+        layout.setContent(text, font);
+        layout.setWrapWidth(wrapWidth);
+        layout.setLineSpacing(lineSpacing);
+        layout.setBoundsType(boundsType);
+        BaseBounds bounds = layout.getBounds();
+        return new float[] { bounds.getWidth(), bounds.getHeight() };
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, float[]>> it = measurements.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= it.next().getKey().text().length();
+            it.remove();
+            evictionCount++;
+        }
+    }
+}
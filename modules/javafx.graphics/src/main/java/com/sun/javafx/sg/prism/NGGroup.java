@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -283,8 +283,9 @@ public class NGGroup extends NGNode {
             if (clipBounds == null) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
-            TEMP_TRANSFORM.deriveWithNewTransform(tx).deriveWithConcatenation(getTransform()).deriveWithConcatenation(clip.getTransform());
-            if (!checkBoundsInQuad(clipBounds, dirtyRegion, TEMP_TRANSFORM, pvTx)) {
+            final BaseTransform clipTx = scratch().transform.deriveWithNewTransform(tx)
+                    .deriveWithConcatenation(getTransform()).deriveWithConcatenation(clip.getTransform());
+            if (!checkBoundsInQuad(clipBounds, dirtyRegion, clipTx, pvTx)) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
         }
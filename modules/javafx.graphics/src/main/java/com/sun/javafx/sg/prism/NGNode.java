@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -99,15 +99,30 @@ public abstract class NGNode {
     private String name;
 
     /**
-     * Temporary bounds for use by this class or subclasses, designed to
-     * reduce the amount of garbage we generate. If we get to the point
-     * where we have multi-threaded rasterization, we might need to make
-     * this per-instance instead of static.
+     * Temporary transform for use by subclasses while rendering, designed to
+     * reduce the amount of garbage we generate. It must only be used on the
+     * render thread.
      */
-    private static final BoxBounds TEMP_BOUNDS = new BoxBounds();
-    private static final RectBounds TEMP_RECT_BOUNDS = new RectBounds();
     protected static final Affine3D TEMP_TRANSFORM = new Affine3D();
 
+    /**
+     * Temporary objects used while computing dirty regions, culling bits and
+     * render roots. These computations may run for several scenes at once
+     * (see {@code prism.renderPrepThreads}), so each thread has its own set.
+     */
+    static final class Scratch {
+        final BoxBounds bounds = new BoxBounds();
+        final RectBounds rectBounds = new RectBounds();
+        final Affine3D transform = new Affine3D();
+        final Point2D[] points = new Point2D[] { new Point2D(), new Point2D(), new Point2D(), new Point2D() };
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    static Scratch scratch() {
+        return SCRATCH.get();
+    }
+
     /**
      * Statics for defining what the culling bits are. We use 2 bits to
      * determine culling status
@@ -699,7 +714,7 @@ public abstract class NGNode {
         // @see JDK-8091880
         if (false && this instanceof NGGroup) {
             List<NGNode> children = ((NGGroup)this).getChildren();
-            BaseBounds tmp = TEMP_BOUNDS;
+            BaseBounds tmp = scratch().bounds;
             for (int i=0; i<children.size(); i++) {
                 float minX = bounds.getMinX();
                 float minY = bounds.getMinY();
@@ -1159,7 +1174,7 @@ public abstract class NGNode {
         if (effectFilter != null) {
             try {
                 myClip = new RectBounds();
-                BaseBounds myClipBaseBounds = renderTx.inverseTransform(clip, TEMP_BOUNDS);
+                BaseBounds myClipBaseBounds = renderTx.inverseTransform(clip, scratch().bounds);
                 myClipBaseBounds.flattenInto(myClip);
             } catch (NoninvertibleTransformException ex) {
                 return DirtyRegionContainer.DTR_OK;
@@ -1367,17 +1382,20 @@ public abstract class NGNode {
         // either the actual root, or the root of a sub-render operation such as occurs with
         // render-to-texture for effects!
 
+        final Scratch scratch = scratch();
+        final BoxBounds tempBounds = scratch.bounds;
+        final RectBounds nodeBounds = scratch.rectBounds;
         if (tx.isIdentity()) {
-            TEMP_BOUNDS.deriveWithNewBounds(transformedBounds);
+            tempBounds.deriveWithNewBounds(transformedBounds);
         } else {
-            tx.transform(transformedBounds, TEMP_BOUNDS);
+            tx.transform(transformedBounds, tempBounds);
         }
 
         if (!pvTx.isIdentity()) {
-            pvTx.transform(TEMP_BOUNDS, TEMP_BOUNDS);
+            pvTx.transform(tempBounds, tempBounds);
         }
 
-        TEMP_BOUNDS.flattenInto(TEMP_RECT_BOUNDS);
+        tempBounds.flattenInto(nodeBounds);
 
         cullingBits = 0;
         RectBounds region;
@@ -1394,9 +1412,9 @@ public abstract class NGNode {
             // care about marking child nodes which are within a parent which
             // is wholly contained within the dirty region.
             if ((cullingRegionsBitsOfParent == -1 || (cullingRegionsBitsOfParent & mask) != 0) &&
-                    region.intersects(TEMP_RECT_BOUNDS)) {
+                    region.intersects(nodeBounds)) {
                 int b = DIRTY_REGION_INTERSECTS_NODE_BOUNDS;
-                if (region.contains(TEMP_RECT_BOUNDS)) {
+                if (region.contains(nodeBounds)) {
                     b = DIRTY_REGION_CONTAINS_NODE_BOUNDS;
                 }
                 cullingBits = cullingBits | (b << (2 * i));
@@ -1405,7 +1423,7 @@ public abstract class NGNode {
         }//for
 
 //        System.out.printf("%s bits: %s bounds: %s\n",
-//            this, Integer.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
+//            this, Integer.toBinaryString(cullingBits), nodeBounds);
     }
 
     /**
@@ -1517,10 +1535,11 @@ public abstract class NGNode {
                               Rectangle clipBounds, int[] colorBuffer, int dirtyRegionIndex) {
         if ((painted & (1 << (dirtyRegionIndex * 2))) != 0) {
             // Transforming the content bounds (which includes the clip) to screen coordinates
-            tx.copy().deriveWithConcatenation(getTransform()).transform(contentBounds, TEMP_BOUNDS);
-            if (pvTx != null) pvTx.transform(TEMP_BOUNDS, TEMP_BOUNDS);
+            final BoxBounds tempBounds = scratch().bounds;
+            tx.copy().deriveWithConcatenation(getTransform()).transform(contentBounds, tempBounds);
+            if (pvTx != null) pvTx.transform(tempBounds, tempBounds);
             RectBounds bounds = new RectBounds();
-            TEMP_BOUNDS.flattenInto(bounds);
+            tempBounds.flattenInto(bounds);
 
             // Adjust the bounds so that they are relative to the clip. The colorBuffer is sized
             // exactly the same as the clip, and the elements of the colorBuffer represent the
@@ -1671,9 +1690,6 @@ public abstract class NGNode {
         return computeNodeRenderRoot(path, dirtyRegion, cullingIndex, tx, pvTx);
     }
 
-    private static Point2D[] TEMP_POINTS2D_4 =
-            new Point2D[] { new Point2D(), new Point2D(), new Point2D(), new Point2D() };
-
     // Whether (px, py) is clockwise or counter-clockwise to a->b
     private static int ccw(double px, double py, Point2D a, Point2D b) {
         return (int)Math.signum(((b.x - a.x) * (py - a.y)) - (b.y - a.y) * (px - a.x));
@@ -1734,7 +1750,7 @@ public abstract class NGNode {
 
         final BaseTransform localToParentTx = getTransform();
 
-        BaseTransform localToSceneTx = TEMP_TRANSFORM.deriveWithNewTransform(tx).deriveWithConcatenation(localToParentTx);
+        BaseTransform localToSceneTx = scratch().transform.deriveWithNewTransform(tx).deriveWithConcatenation(localToParentTx);
 
         // Now check if the dirty region is fully contained in our opaque region. Suppose the above
         // transform included a rotation about Z. In these cases, the transformed
@@ -1758,32 +1774,34 @@ public abstract class NGNode {
                 | BaseTransform.TYPE_MASK_SCALE)) == 0) {
             // If pvTx is identity and there's simple transformation that will result in axis-aligned rectangle,
             // we can do a quick test by using bound.contains()
+            final Scratch scratch = scratch();
             if (tx.isIdentity()) {
-                TEMP_BOUNDS.deriveWithNewBounds(untransformedQuad);
+                scratch.bounds.deriveWithNewBounds(untransformedQuad);
             } else {
-                tx.transform(untransformedQuad, TEMP_BOUNDS);
+                tx.transform(untransformedQuad, scratch.bounds);
             }
 
-            TEMP_BOUNDS.flattenInto(TEMP_RECT_BOUNDS);
+            scratch.bounds.flattenInto(scratch.rectBounds);
 
-            return TEMP_RECT_BOUNDS.contains(innerBounds);
+            return scratch.rectBounds.contains(innerBounds);
         } else {
-            TEMP_POINTS2D_4[0].setLocation(untransformedQuad.getMinX(), untransformedQuad.getMinY());
-            TEMP_POINTS2D_4[1].setLocation(untransformedQuad.getMaxX(), untransformedQuad.getMinY());
-            TEMP_POINTS2D_4[2].setLocation(untransformedQuad.getMaxX(), untransformedQuad.getMaxY());
-            TEMP_POINTS2D_4[3].setLocation(untransformedQuad.getMinX(), untransformedQuad.getMaxY());
+            final Point2D[] points = scratch().points;
+            points[0].setLocation(untransformedQuad.getMinX(), untransformedQuad.getMinY());
+            points[1].setLocation(untransformedQuad.getMaxX(), untransformedQuad.getMinY());
+            points[2].setLocation(untransformedQuad.getMaxX(), untransformedQuad.getMaxY());
+            points[3].setLocation(untransformedQuad.getMinX(), untransformedQuad.getMaxY());
 
-            for (Point2D p : TEMP_POINTS2D_4) {
+            for (Point2D p : points) {
                 tx.transform(p, p);
                 if (!pvTx.isIdentity()) {
                     pvTx.transform(p, p);
                 }
             }
 
-            return (pointInConvexQuad(innerBounds.getMinX(), innerBounds.getMinY(), TEMP_POINTS2D_4)
-                    && pointInConvexQuad(innerBounds.getMaxX(), innerBounds.getMinY(), TEMP_POINTS2D_4)
-                    && pointInConvexQuad(innerBounds.getMaxX(), innerBounds.getMaxY(), TEMP_POINTS2D_4)
-                    && pointInConvexQuad(innerBounds.getMinX(), innerBounds.getMaxY(), TEMP_POINTS2D_4));
+            return (pointInConvexQuad(innerBounds.getMinX(), innerBounds.getMinY(), points)
+                    && pointInConvexQuad(innerBounds.getMaxX(), innerBounds.getMinY(), points)
+                    && pointInConvexQuad(innerBounds.getMaxX(), innerBounds.getMaxY(), points)
+                    && pointInConvexQuad(innerBounds.getMinX(), innerBounds.getMaxY(), points));
         }
     }
 
@@ -1856,9 +1874,10 @@ public abstract class NGNode {
                     }
                     // We have to take into account any transform specified on the clip to put
                     // it into the same coordinate system as this node
-                    final BaseBounds b = clip.getTransform().transform(clipOpaqueRegion, TEMP_BOUNDS);
-                    b.flattenInto(TEMP_RECT_BOUNDS);
-                    opaqueRegion.intersectWith(TEMP_RECT_BOUNDS);
+                    final Scratch scratch = scratch();
+                    final BaseBounds b = clip.getTransform().transform(clipOpaqueRegion, scratch.bounds);
+                    b.flattenInto(scratch.rectBounds);
+                    opaqueRegion.intersectWith(scratch.rectBounds);
 
                 }
             } else {
@@ -2475,7 +2494,8 @@ public abstract class NGNode {
 
     private static class EffectDirtyBoundsHelper extends Effect {
         private BaseBounds bounds;
-        private static EffectDirtyBoundsHelper instance = null;
+        private static final ThreadLocal<EffectDirtyBoundsHelper> instance =
+                ThreadLocal.withInitial(EffectDirtyBoundsHelper::new);
         private DirtyRegionContainer drc;
 
         public void setInputBounds(BaseBounds inputBounds) {
@@ -2507,10 +2527,7 @@ public abstract class NGNode {
         }
 
         public static EffectDirtyBoundsHelper getInstance() {
-            if (instance == null) {
-                instance = new EffectDirtyBoundsHelper();
-            }
-            return instance;
+            return instance.get();
         }
 
         @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,7 +30,9 @@ import java.util.HashMap;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.RenderMetrics;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+import static com.sun.javafx.logging.RenderMetrics.RENDER_METRICS_ENABLED;
 import com.sun.prism.Graphics;
 import com.sun.prism.RTTexture;
 import com.sun.prism.ResourceFactory;
@@ -121,6 +123,9 @@ class RegionImageCache {
             if (cache.equals(rect.width, rect.height, background, shape)) {
                 rect.x = cache.x;
                 rect.y = cache.y;
+                if (RENDER_METRICS_ENABLED) {
+                    RenderMetrics.regionCacheHit();
+                }
                 return false;
             }
             // hash collision, mark rectangle empty indicates the caller to
@@ -142,6 +147,12 @@ class RegionImageCache {
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.incrementCounter("Region image cache flushed");
             }
+            if (RENDER_METRICS_ENABLED) {
+                RenderMetrics.regionCacheFlushed();
+            }
+        }
+        if (RENDER_METRICS_ENABLED) {
+            RenderMetrics.regionCacheMiss();
         }
         imageMap.put(key, new CachedImage(rect, background, shape));
         return true;
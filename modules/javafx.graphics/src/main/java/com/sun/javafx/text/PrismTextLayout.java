@@ -28,8 +28,6 @@ package com.sun.javafx.text;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.PathElement;
@@ -62,9 +60,7 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
+    private static final TextLayoutCache stringCache = new TextLayoutCache();
     private static final int MAX_STRING_SIZE = 256;
 
     private final int maxCacheSize;
@@ -72,7 +68,7 @@ public class PrismTextLayout implements TextLayout {
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private TextLayoutCache.Key cacheKey;
     private PrismTextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -85,6 +81,14 @@ public class PrismTextLayout implements TextLayout {
     private int flags;
     private TabAdvancePolicy tabAdvancePolicy;
 
+    /**
+     * Returns the cache of the layouts of single font strings that is shared
+     * by all instances of this class.
+     */
+    public static TextLayoutCache getLayoutCache() {
+        return stringCache;
+    }
+
     public PrismTextLayout(int maxCacheSize) {
         this.maxCacheSize = maxCacheSize;
         logicalBounds = new RectBounds();
@@ -143,10 +147,11 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
+        this.cacheKey = null;
         if (maxCacheSize > 0) {
             int length = text.length();
             if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
+                cacheKey = new TextLayoutCache.Key(this.text, text.hashCode(), this.font);
             }
         }
         return true;
@@ -736,7 +741,7 @@ public class PrismTextLayout implements TextLayout {
         if (cacheKey != null) {
             if (layoutCache == null) {
                 LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
@@ -1501,15 +1506,7 @@ public class PrismTextLayout implements TextLayout {
                 layoutCache.layoutWidth = layoutWidth;
                 layoutCache.layoutHeight = layoutHeight;
                 layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > maxCacheSize) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
-                }
+                stringCache.put(cacheKey, layoutCache, maxCacheSize);
             }
             layoutCache.valid = true;
         }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import com.sun.javafx.font.PGFont;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The cache of the layouts of single font strings, which is shared by all
+ * {@link PrismTextLayout} instances.
+ * <p>
+ * The cache is split into segments, each of which is a least recently used
+ * map with a lock of its own, so that threads that lay out text at the same
+ * time rarely contend. The size of the cache is the number of chars of the
+ * cached strings. When adding a layout makes a segment exceed its share of
+ * the maximum size, only the least recently used layouts of that segment are
+ * evicted.
+ */
+public final class TextLayoutCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    /**
+     * The key of a layout. Two keys are equal only if their fonts are equal
+     * and their texts have the same chars, so layouts of different strings
+     * with the same hash code never replace each other.
+     */
+    public static final class Key {
+        private final char[] text;
+        private final PGFont font;
+        private final int hash;
+
+        /**
+         * Creates a key. The text array must not be modified afterwards, and
+         * {@code textHash} must be the hash code of the equivalent string.
+         */
+        public Key(char[] text, int textHash, PGFont font) {
+            this.text = text;
+            this.font = font;
+            this.hash = 31 * textHash + font.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            return obj instanceof Key k &&
+                   hash == k.hash &&
+                   font.equals(k.font) &&
+                   Arrays.equals(text, k.text);
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, LayoutCache> {
+        private int size;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+
+        Segment() {
+            super(16, 0.75f, true);
+        }
+    }
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public TextLayoutCache() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    private Segment segmentFor(Key key) {
+        int h = key.hash;
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    LayoutCache get(Key key) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            LayoutCache cache = segment.get(key);
+            if (cache != null) {
+                segment.hitCount++;
+            } else {
+                segment.missCount++;
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Adds a layout, then evicts the least recently used layouts of its
+     * segment until the segment holds at most its share of {@code maxSize}
+     * chars. Each segment can hold at least one layout of any size.
+     */
+    void put(Key key, LayoutCache cache, int maxSize) {
+        int size = cache.text.length;
+        int maxSegmentSize = Math.max(maxSize / SEGMENT_COUNT, size);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            LayoutCache old = segment.put(key, cache);
+            if (old != null) {
+                segment.size -= old.text.length;
+            }
+            segment.size += size;
+
+            Iterator<Map.Entry<Key, LayoutCache>> it = segment.entrySet().iterator();
+            while (segment.size > maxSegmentSize && it.hasNext()) {
+                Map.Entry<Key, LayoutCache> eldest = it.next();
+                if (eldest.getKey() == key) {
+                    continue;
+                }
+                segment.size -= eldest.getValue().text.length;
+                it.remove();
+                segment.evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Removes all layouts from the cache. The statistics are not reset.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+                segment.size = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of chars of the cached layouts.
+     */
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups that found a layout.
+     */
+    public long getHitCount() {
+        long count = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                count += segment.hitCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a layout.
+     */
+    public long getMissCount() {
+        long count = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                count += segment.missCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of layouts that were evicted to make room for others.
+     */
+    public long getEvictionCount() {
+        long count = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                count += segment.evictionCount;
+            }
+        }
+        return count;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,4 +34,11 @@ public interface ImageLoader {
     public int getLoopCount();
     public double getWidth();
     public double getHeight();
+
+    // Returns whether the frames of an animated image are decoded while the
+    // animation plays, in which case getFrame returns null for a frame that
+    // is not decoded yet, and the frames should not be kept by the caller.
+    public default boolean isStreaming() {
+        return false;
+    }
 }
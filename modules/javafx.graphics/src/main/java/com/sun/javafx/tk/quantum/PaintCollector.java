@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,9 +36,15 @@ import com.sun.glass.ui.Application;
 import com.sun.glass.ui.Window;
 import com.sun.javafx.tk.CompletionListener;
 import com.sun.javafx.tk.RenderJob;
+import com.sun.prism.GraphicsPipeline;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.impl.GlyphCache;
+import com.sun.prism.impl.TextureResourcePool;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+import static com.sun.javafx.logging.RenderMetrics.RENDER_METRICS_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.RenderMetrics;
 
 /**
  * Manages the collection and rendering of dirty scenes. This class has
@@ -306,6 +312,12 @@ final class PaintCollector implements CompletionListener {
 
             Application.GetApplication().notifyRenderingFinished();
 
+            // The render metrics are published before renderEnd, so that
+            // the pulse loggers can report them for this frame
+            if (RENDER_METRICS_ENABLED) {
+                updateRenderMetrics();
+            }
+
             // If pulse logging is enabled, then we must call renderEnd now
             // that we know that all of the scene's being rendered are finished
             if (PULSE_LOGGING_ENABLED) {
@@ -318,6 +330,23 @@ final class PaintCollector implements CompletionListener {
         allWorkCompletedLatch.countDown();
     }
 
+    /**
+     * Samples the gauges of the resources used by the render thread and
+     * publishes the render metrics of the frame.
+     *
+     * <p>This method must only be called on the render thread</p>
+     */
+    private void updateRenderMetrics() {
+        ResourceFactory factory = GraphicsPipeline.getDefaultResourceFactory();
+        TextureResourcePool<?> pool = factory != null ? factory.getTextureResourcePool() : null;
+        if (pool != null) {
+            RenderMetrics.setTexturePool(pool.used(), pool.target(), pool.max());
+        }
+        RenderMetrics.setGlyphCache(GlyphCache.getHitCount(), GlyphCache.getMissCount(),
+                                    GlyphCache.getEvictionCount(), GlyphCache.getFillPercent());
+        RenderMetrics.frameEnd();
+    }
+
     /**
      * Run a full pulse and repaint before returning.
      */
@@ -337,6 +366,37 @@ final class PaintCollector implements CompletionListener {
          });
      }
 
+    /**
+     * Prepares the painters of the given paint jobs in parallel, and then runs
+     * the jobs one after the other. The render lock is held for the whole
+     * batch, so that the scene graph cannot change between preparing and
+     * painting a scene. This method is only called on the render thread.
+     */
+    private void paintBatch(List<PaintRenderJob> jobs) {
+        ViewPainter.renderLock.lock();
+        try {
+            final List<ViewPainter> painters = new ArrayList<>(jobs.size());
+            for (PaintRenderJob job : jobs) {
+                final ViewPainter painter = ((ViewScene) job.getScene()).getPainter();
+                if (painter != null) {
+                    painters.add(painter);
+                }
+            }
+            if (painters.size() > 1) {
+                toolkit.preparePainters(painters);
+            }
+
+            for (PaintRenderJob job : jobs) {
+                job.run();
+            }
+            for (ViewPainter painter : painters) {
+                painter.discardPrepared();
+            }
+        } finally {
+            ViewPainter.renderLock.unlock();
+        }
+    }
+
     /**
      * Called by QuantumToolkit during a pulse to render whatever dirty scenes
      * we have. This method is only called on the FX thread.
@@ -429,6 +489,11 @@ final class PaintCollector implements CompletionListener {
             // processed.
             allWorkCompletedLatch = new CountDownLatch(dirtyScenes.size());
 
+            // If enabled, the view scenes are painted by a single render job which
+            // first prepares all of them in parallel, and then paints them in order.
+            final List<PaintRenderJob> batch =
+                    dirtyScenes.size() > 1 && toolkit.canPreparePaintersInParallel() ? new ArrayList<>() : null;
+
             for (final GlassScene gs : dirtyScenes) {
                 // Only post the vsync hint if there are synchronous scenes
                 if (!needsHint) {
@@ -439,11 +504,22 @@ final class PaintCollector implements CompletionListener {
                 // swap on a per-window basis
                 gs.setDoPresent(true);
                 try {
-                    gs.repaint();
+                    if (batch != null && gs instanceof ViewScene vs) {
+                        final PaintRenderJob job = vs.claimPaintRenderJob();
+                        if (job != null) {
+                            batch.add(job);
+                        }
+                    } else {
+                        gs.repaint();
+                    }
                 } catch (Throwable t) {
                     t.printStackTrace();
                 }
             }
+
+            if (batch != null && !batch.isEmpty()) {
+                toolkit.addRenderJob(new RenderJob(() -> paintBatch(batch)));
+            }
         }
 
         dirtyScenes.clear();
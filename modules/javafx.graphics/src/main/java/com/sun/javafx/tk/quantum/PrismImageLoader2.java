@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package com.sun.javafx.tk.quantum;
 import java.io.InputStream;
 
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameSequence;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
@@ -38,6 +39,7 @@ import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.prism.Image;
 import com.sun.prism.impl.PrismSettings;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -49,6 +51,12 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
     private static PlatformLogger imageioLogger = null;
 
+    // The size in bytes of the decoded frames of an animated image, above
+    // which the frames are decoded while the animation plays, and only the
+    // frames that fit in that size are kept ahead of the current frame.
+    // Animated images are decoded at once unless this is set.
+    private static final long ANIMATION_BUFFER_SIZE = Long.getLong("javafx.image.animationBufferSize", 0);
+
     private Image[] images;
     private int[] delayTimes;
     private int loopCount;
@@ -57,6 +65,16 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     private float pixelScale;
     private Exception exception;
 
+    // The frames of a streamed animation, and the state of their decoding,
+    // guarded by this loader. Only the first frame, and the bufferSize
+    // frames starting at the current frame, are kept in images.
+    private ImageFrameSequence sequence;
+    private int bufferSize;
+    private int currentFrame;
+    private ImageFrameSequence.Decoder decoder;
+    private boolean decoding;
+    private boolean decodingFailed;
+
     public PrismImageLoader2(String url, double width, double height,
                              boolean preserveRatio, float pixelScale,
                              boolean smooth)
@@ -93,9 +111,17 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         if (images == null) {
             return null;
         }
+        if (sequence != null) {
+            return getStreamedFrame(index);
+        }
         return images[index];
     }
 
+    @Override
+    public boolean isStreaming() {
+        return sequence != null;
+    }
+
     @Override
     public int getFrameDelay(int index) {
         if (images == null) {
@@ -123,9 +149,14 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.getInstance().loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
-            convertAll(imgFrames);
+            if (ANIMATION_BUFFER_SIZE > 0) {
+                convertSequence(ImageStorage.getInstance().loadSequence(
+                        url, listener, w, h, preserveRatio, pixelScale, smooth, ANIMATION_BUFFER_SIZE));
+            } else {
+                ImageFrame[] imgFrames =
+                    ImageStorage.getInstance().loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
+                convertAll(imgFrames);
+            }
         } catch (ImageStorageException e) {
             handleException(e);
         } catch (Exception e) {
@@ -138,9 +169,14 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.getInstance().loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
-            convertAll(imgFrames);
+            if (ANIMATION_BUFFER_SIZE > 0) {
+                convertSequence(ImageStorage.getInstance().loadSequence(
+                        stream, listener, w, h, preserveRatio, 1.0f, smooth, ANIMATION_BUFFER_SIZE));
+            } else {
+                ImageFrame[] imgFrames =
+                    ImageStorage.getInstance().loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
+                convertAll(imgFrames);
+            }
         } catch (ImageStorageException e) {
             handleException(e);
         } catch (Exception e) {
@@ -190,6 +226,115 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         }
     }
 
+    private void convertSequence(ImageFrameSequence sequence) {
+        int numFrames = sequence.getFrameCount();
+        if (sequence.isDecoded()) {
+            ImageFrame[] imgFrames = new ImageFrame[numFrames];
+            for (int i = 0; i < numFrames; i++) {
+                imgFrames[i] = sequence.getFrame(i);
+            }
+            convertAll(imgFrames);
+            return;
+        }
+
+        ImageFrame firstFrame = sequence.getFrame(0);
+        convertAll(new ImageFrame[] { firstFrame });
+        images = Arrays.copyOf(images, numFrames);
+        delayTimes = new int[numFrames];
+        for (int i = 0; i < numFrames; i++) {
+            Integer delay = sequence.getDelayTime(i);
+            if (delay != null) {
+                delayTimes[i] = delay.intValue();
+            }
+        }
+        long frameSize = (long) firstFrame.getStride() * firstFrame.getHeight();
+        bufferSize = (int) Math.max(1, Math.min(numFrames - 1, ANIMATION_BUFFER_SIZE / frameSize));
+        this.sequence = sequence;
+    }
+
+    private synchronized Image getStreamedFrame(int index) {
+        currentFrame = index;
+        // Release the frames that were shown, and are not needed until the
+        // animation starts again
+        for (int i = 1; i < images.length; i++) {
+            if (images[i] != null && !isBuffered(i)) {
+                images[i] = null;
+            }
+        }
+        if (!decoding && !decodingFailed && findMissingFrame() >= 0) {
+            decoding = true;
+            AsyncImageLoader.BG_LOADING_EXECUTOR.execute(this::decodeFrames);
+        }
+        return images[index];
+    }
+
+    // The first frame is always kept
+    private boolean isBuffered(int index) {
+        return index == 0 || (index - currentFrame + images.length) % images.length < bufferSize;
+    }
+
+    private int findMissingFrame() {
+        for (int i = 0; i < bufferSize; i++) {
+            int index = (currentFrame + i) % images.length;
+            if (images[index] == null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    // Decodes the frames in order, on a background thread, until all the
+    // frames from the current frame on are buffered. The decoder starts
+    // again from the first frame when the animation starts again.
+    private void decodeFrames() {
+        try {
+            while (true) {
+                ImageFrameSequence.Decoder frameDecoder;
+                synchronized (this) {
+                    int missingFrame = findMissingFrame();
+                    if (missingFrame < 0) {
+                        decoding = false;
+                        return;
+                    }
+                    if (decoder == null || missingFrame < decoder.getIndex()) {
+                        if (decoder != null) {
+                            decoder.dispose();
+                        }
+                        decoder = sequence.createDecoder();
+                    }
+                    frameDecoder = decoder;
+                }
+
+                int index = frameDecoder.getIndex();
+                ImageFrame frame = frameDecoder.next();
+                if (frame == null) {
+                    throw new IllegalStateException("Missing frame " + index);
+                }
+                synchronized (this) {
+                    // The first frame is kept, and other frames are only
+                    // decoded to compose the frames that follow them
+                    if (index == 0 || !isBuffered(index)) {
+                        continue;
+                    }
+                }
+                Image image = com.sun.prism.Image.convertImageFrame(frame);
+                synchronized (this) {
+                    if (isBuffered(index)) {
+                        images[index] = image;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (PrismSettings.verbose) {
+                e.printStackTrace(System.err);
+            }
+            synchronized (this) {
+                decoding = false;
+                decodingFailed = true;
+            }
+        }
+    }
+
     /**
      * Returns the PlatformLogger for logging imageio-related activities.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,8 +25,13 @@
 
 package com.sun.javafx.tk.quantum;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RunnableFuture;
@@ -63,9 +68,28 @@ final class QuantumRenderer extends ThreadPoolExecutor  {
     private Throwable       _initThrowable = null;
     private CountDownLatch  initLatch = new CountDownLatch(1);
 
+    /*
+     * Worker threads that help the render thread to prepare several scenes
+     * at once, or null if -Dprism.renderPrepThreads is less than 2. The
+     * render thread itself counts as one of the threads.
+     */
+    private final ExecutorService prepPool;
+
     private QuantumRenderer() {
         super(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
         setThreadFactory(new QuantumThreadFactory());
+
+        if (PrismSettings.renderPrepThreads > 1) {
+            final AtomicInteger threadNumber = new AtomicInteger(0);
+            prepPool = Executors.newFixedThreadPool(PrismSettings.renderPrepThreads - 1, r -> {
+                Thread th = new Thread(r);
+                th.setName("QuantumRenderer-prep-" + threadNumber.getAndIncrement());
+                th.setDaemon(true);
+                return th;
+            });
+        } else {
+            prepPool = null;
+        }
     }
 
     protected Throwable initThrowable() {
@@ -187,6 +211,9 @@ final class QuantumRenderer extends ThreadPoolExecutor  {
 
     protected void stopRenderer() {
         shutdown();
+        if (prepPool != null) {
+            prepPool.shutdown();
+        }
 
         if (PrismSettings.verbose) {
             System.out.println("QuantumRenderer: shutdown");
@@ -210,6 +237,74 @@ final class QuantumRenderer extends ThreadPoolExecutor  {
         return (submit(r));
     }
 
+    boolean isPrepEnabled() {
+        return prepPool != null;
+    }
+
+    /*
+     * Prepares the given painters (see ViewPainter.prepare) using the worker
+     * threads, while the render thread prepares the first one. Must be called
+     * on the render thread with the render lock held. A painter that fails to
+     * prepare is painted as usual.
+     */
+    void preparePainters(List<ViewPainter> painters) {
+        assert Thread.currentThread() == _renderer;
+        assert ViewPainter.renderLock.isHeldByCurrentThread();
+
+        final int n = painters.size();
+        final List<Future<?>> futures = new ArrayList<>(n);
+        for (int i = 1; i < n; i++) {
+            final ViewPainter painter = painters.get(i);
+            try {
+                futures.add(prepPool.submit(painter::prepare));
+            } catch (RuntimeException e) {
+                // The pool was shut down; the painter will compute
+                // its dirty regions while it paints.
+                futures.add(null);
+            }
+        }
+
+        prepare(painters.get(0));
+
+        for (int i = 1; i < n; i++) {
+            final Future<?> future = futures.get(i - 1);
+            if (future == null) {
+                continue;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // The worker may still be reading the scene graph,
+                    // so we have to wait for it in any case.
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (PrismSettings.verbose) {
+                        e.getCause().printStackTrace();
+                    }
+                    painters.get(i).discardPrepared();
+                    break;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void prepare(ViewPainter painter) {
+        try {
+            painter.prepare();
+        } catch (RuntimeException e) {
+            if (PrismSettings.verbose) {
+                e.printStackTrace();
+            }
+            painter.discardPrepared();
+        }
+    }
+
     /* java.util.concurrent.ThreadPoolExecutor */
 
     @Override public void afterExecute(Runnable r, Throwable t) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -315,6 +315,18 @@ public final class QuantumToolkit extends Toolkit {
         return !multithreaded;
     }
 
+    /*
+     * Whether the paint jobs of several scenes may be run as a single render
+     * job that prepares the scenes in parallel (see -Dprism.renderPrepThreads).
+     */
+    boolean canPreparePaintersInParallel() {
+        return renderer.isPrepEnabled() && !noRenderJobs && !singleThreaded;
+    }
+
+    void preparePainters(List<ViewPainter> painters) {
+        renderer.preparePainters(painters);
+    }
+
     /**
      * Method to initialize the Scene Graph on the JavaFX application thread.
      * Specifically, we will do static initialization for those classes in
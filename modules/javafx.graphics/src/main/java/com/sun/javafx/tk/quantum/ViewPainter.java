@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -60,11 +60,12 @@ import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
  */
 abstract class ViewPainter implements Runnable {
     /**
-     * An array of initially empty ROOT_PATHS. They are created on demand as
+     * An array of initially empty root paths. They are created on demand as
      * needed. Each path is associated with a different dirty region. We have
-     * up to PrismSettings.dirtyRegionCount max dirty regions
+     * up to PrismSettings.dirtyRegionCount max dirty regions. The paths are
+     * per painter so that several scenes can be prepared at the same time.
      */
-    private static NodePath[] ROOT_PATHS = new NodePath[PrismSettings.dirtyRegionCount];
+    private final NodePath[] rootPaths = new NodePath[PrismSettings.dirtyRegionCount];
 
     /*
      * This could be a per-scene lock but there is no guarantee that the
@@ -123,6 +124,13 @@ abstract class ViewPainter implements Runnable {
      */
     private RTTexture sceneBuffer;
 
+    /**
+     * Whether the dirty regions and render roots were computed ahead of time
+     * by {@link #prepare()}, and the status of that computation.
+     */
+    private boolean prepared;
+    private int preparedStatus;
+
     protected ViewPainter(GlassScene gs) {
         sceneState = gs.getSceneState();
         if (sceneState == null) {
@@ -162,10 +170,91 @@ abstract class ViewPainter implements Runnable {
         }
     }
 
+    /**
+     * Computes the dirty regions, culling bits and render roots of the scene
+     * so that the next call to {@link #paintImpl} does not have to. This is
+     * only done when the next paint is expected to use dirty regions, and
+     * {@code paintImpl} falls back to painting the entire scene if it turns
+     * out otherwise.
+     * <p>
+     * This method only reads the scene graph and does not use any graphics
+     * resources. It may be called on a worker thread while the render thread
+     * holds the {@link #renderLock}, and different painters may be prepared
+     * at the same time.
+     */
+    final void prepare() {
+        prepared = false;
+        if (!PrismSettings.dirtyOptsEnabled || PrismSettings.showDirtyRegions ||
+                PrismSettings.showOverdraw || root == null || overlayRoot != null ||
+                !sceneState.isValid()) {
+            return;
+        }
+        final GlassScene scene = sceneState.getScene();
+        if (scene == null || scene.isEntireSceneDirty() || scene.getDepthBuffer()) {
+            return;
+        }
+        width = sceneState.getWidth();
+        height = sceneState.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        preparedStatus = accumulateDirtyRegions();
+        if (preparedStatus == DirtyRegionContainer.DTR_OK) {
+            computeRenderRoots(dirtyRegionContainer.size());
+        }
+        prepared = true;
+    }
+
+    /**
+     * Drops the result of {@link #prepare()} if it was not used by a paint,
+     * for example because the window was hidden in the meantime.
+     */
+    final void discardPrepared() {
+        if (prepared) {
+            prepared = false;
+            clearRootPaths();
+        }
+    }
+
+    private int accumulateDirtyRegions() {
+        clip.setBounds(0, 0, width, height);
+        dirtyRegionTemp.makeEmpty();
+        dirtyRegionContainer.reset();
+        tx.setToIdentity();
+        projTx.setIdentity();
+        adjustPerspective(sceneState.getCamera());
+        int status = root.accumulateDirtyRegions(clip, dirtyRegionTemp,
+                                                 dirtyRegionPool, dirtyRegionContainer,
+                                                 tx, projTx);
+        dirtyRegionContainer.roundOut();
+        if (status == DirtyRegionContainer.DTR_OK) {
+            root.doPreCulling(dirtyRegionContainer, tx, projTx);
+        }
+        return status;
+    }
+
+    private void computeRenderRoots(int dirtyRegionSize) {
+        for (int i = 0; i < dirtyRegionSize; ++i) {
+            NodePath path = getRootPath(i);
+            path.clear();
+            root.getRenderRoot(path, dirtyRegionContainer.getDirtyRegion(i), i, tx, projTx);
+        }
+    }
+
+    private void clearRootPaths() {
+        for (NodePath path : rootPaths) {
+            if (path != null) {
+                path.clear();
+            }
+        }
+    }
+
     protected void paintImpl(final Graphics backBufferGraphics) {
         // We should not be painting anything with a width / height
         // that is <= 0, so we might as well bail right off.
         if (width <= 0 || height <= 0 || backBufferGraphics == null) {
+            discardPrepared();
             root.renderForcedContent(backBufferGraphics);
             return;
         }
@@ -233,25 +322,23 @@ abstract class ViewPainter implements Runnable {
         // The status will be set only if we're rendering with dirty regions
         int status = -1;
 
+        // The dirty regions and render roots may already have been computed by prepare(),
+        // in which case they are only valid if we still render with dirty regions.
+        final boolean usePrepared = prepared && !renderEverything;
+        if (prepared && renderEverything) {
+            clearRootPaths();
+        }
+        prepared = false;
+
         // If we're rendering with dirty regions, then we'll call the root node to accumulate
         // the dirty regions and then again to do the pre culling.
-        if (!renderEverything) {
+        if (usePrepared) {
+            status = preparedStatus;
+        } else if (!renderEverything) {
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.newPhase("Dirty Opts Computed");
             }
-            clip.setBounds(0, 0, width, height);
-            dirtyRegionTemp.makeEmpty();
-            dirtyRegionContainer.reset();
-            tx.setToIdentity();
-            projTx.setIdentity();
-            adjustPerspective(sceneState.getCamera());
-            status = root.accumulateDirtyRegions(clip, dirtyRegionTemp,
-                                                     dirtyRegionPool, dirtyRegionContainer,
-                                                     tx, projTx);
-            dirtyRegionContainer.roundOut();
-            if (status == DirtyRegionContainer.DTR_OK) {
-                root.doPreCulling(dirtyRegionContainer, tx, projTx);
-            }
+            status = accumulateDirtyRegions();
         }
 
         // We're going to need to iterate over the dirty region container a lot, so we
@@ -265,13 +352,11 @@ abstract class ViewPainter implements Runnable {
             g.setHasPreCullingBits(true);
 
             // Find the render roots. There is a different render root for each dirty region
-            if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.newPhase("Render Roots Discovered");
-            }
-            for (int i = 0; i < dirtyRegionSize; ++i) {
-                NodePath path = getRootPath(i);
-                path.clear();
-                root.getRenderRoot(getRootPath(i), dirtyRegionContainer.getDirtyRegion(i), i, tx, projTx);
+            if (!usePrepared) {
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.newPhase("Render Roots Discovered");
+                }
+                computeRenderRoots(dirtyRegionSize);
             }
 
             // For debug purposes, write out to the pulse logger the number and size of the dirty
@@ -412,11 +497,11 @@ abstract class ViewPainter implements Runnable {
         texture.unlock();
     }
 
-    private static NodePath getRootPath(int i) {
-        if (ROOT_PATHS[i] == null) {
-            ROOT_PATHS[i] = new NodePath();
+    private NodePath getRootPath(int i) {
+        if (rootPaths[i] == null) {
+            rootPaths[i] = new NodePath();
         }
-        return ROOT_PATHS[i];
+        return rootPaths[i];
     }
 
     protected void disposePresentable() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -161,6 +161,18 @@ class ViewScene extends GlassScene {
         }
     }
 
+    /*
+     * Claims the paint job of this scene so that the caller can run it as
+     * part of a larger render job, instead of submitting it like repaint()
+     * does. Returns null if the scene does not need to be painted.
+     */
+    PaintRenderJob claimPaintRenderJob() {
+        if (platformView == null || setPainting(true)) {
+            return null;
+        }
+        return paintRenderJob;
+    }
+
     @Override
     public void enableInputMethodEvents(boolean enable) {
         platformView.enableInputMethodEvents(enable);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ import java.util.ListIterator;
 import java.util.Map;
 
 import com.sun.glass.ui.Screen;
+import com.sun.javafx.logging.RenderMetrics;
 import com.sun.prism.Image;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.Mesh;
@@ -358,6 +359,9 @@ class D3DResourceFactory extends BaseShaderFactory {
         // (Decora relies on the Java2D behavior, where an image is expected
         // to be fully transparent after initialization)
         rtt.createGraphics().clear();
+        if (RenderMetrics.RENDER_METRICS_ENABLED) {
+            RenderMetrics.rttAllocated();
+        }
         return rtt;
     }
 
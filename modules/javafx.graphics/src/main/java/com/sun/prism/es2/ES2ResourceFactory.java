@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,7 @@ import java.util.Map;
 
 import com.sun.glass.ui.Screen;
 import com.sun.javafx.PlatformUtil;
+import com.sun.javafx.logging.RenderMetrics;
 import com.sun.prism.Image;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.Mesh;
@@ -162,7 +163,11 @@ public class ES2ResourceFactory extends BaseShaderFactory {
 
     @Override
     public RTTexture createRTTexture(int width, int height, WrapMode wrapMode, boolean msaa) {
-        return ES2RTTexture.create(context, width, height, wrapMode, msaa);
+        ES2RTTexture rtt = ES2RTTexture.create(context, width, height, wrapMode, msaa);
+        if (RenderMetrics.RENDER_METRICS_ENABLED && rtt != null) {
+            RenderMetrics.rttAllocated();
+        }
+        return rtt;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -41,11 +41,11 @@ import com.sun.prism.impl.shape.MaskData;
 import com.sun.prism.paint.Color;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
 import java.util.WeakHashMap;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.RenderMetrics;
 
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
@@ -70,8 +70,8 @@ public class GlyphCache {
     private static final int SEGSHIFT = 5;
     private static final int SEGSIZE  = 1 << SEGSHIFT;
     private static final int SEGMASK  = SEGSIZE - 1;
-    HashMap<Integer, GlyphData[]>
-        glyphDataMap = new HashMap<>();
+    IntObjectHashMap<GlyphData[]>
+        glyphDataMap = new IntObjectHashMap<>();
 
     // Because of SEGSHIFT the 5 high bit in the key to glyphDataMap are unused
     // Using them for subpixel
@@ -90,6 +90,16 @@ public class GlyphCache {
     static WeakHashMap<BaseContext, RectanglePacker> lcdPackerMap =
         new WeakHashMap<>();
 
+    /* Statistics shared by all glyph caches, only collected when
+     * -Dprism.glyphCacheStats=true or -Djavafx.renderMetrics=true is
+     * specified. They are only updated on the render thread.
+     */
+    private static final boolean collectStats =
+            PrismSettings.glyphCacheStats || RenderMetrics.RENDER_METRICS_ENABLED;
+    private static long hitCount;
+    private static long missCount;
+    private static long evictionCount;
+
     public GlyphCache(BaseContext context, FontStrike strike) {
         this.context = context;
         this.strike = strike;
@@ -231,6 +241,12 @@ public class GlyphCache {
     }
 
     private void clearAll() {
+        if (collectStats) {
+            evictionCount++;
+            if (PrismSettings.glyphCacheStats) {
+                printStats();
+            }
+        }
         // flush any pending vertices that may depend on the current state
         // of the glyph cache texture.
         context.flushVertexBuffer();
@@ -245,12 +261,18 @@ public class GlyphCache {
         GlyphData[] segment = glyphDataMap.get(segIndex);
         if (segment != null) {
             if (segment[subIndex] != null) {
+                if (collectStats) {
+                    hitCount++;
+                }
                 return segment[subIndex];
             }
         } else {
             segment = new GlyphData[SEGSIZE];
             glyphDataMap.put(segIndex, segment);
         }
+        if (collectStats) {
+            missCount++;
+        }
 
         // Render the glyph and insert it in the cache
         GlyphData data = null;
@@ -407,6 +429,55 @@ public class GlyphCache {
         }
     }
 
+    /**
+     * Returns the number of glyph lookups that were satisfied by a glyph
+     * cache. Always 0 unless -Dprism.glyphCacheStats=true or
+     * -Djavafx.renderMetrics=true is specified.
+     */
+    public static long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of glyph lookups that required a glyph to be
+     * rasterized and uploaded. Always 0 unless -Dprism.glyphCacheStats=true
+     * or -Djavafx.renderMetrics=true is specified.
+     */
+    public static long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of times all glyph caches were cleared because the
+     * backing store was full. Always 0 unless -Dprism.glyphCacheStats=true
+     * or -Djavafx.renderMetrics=true is specified.
+     */
+    public static long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the percentage of the fullest glyph cache backing store that
+     * is in use. This method must only be called on the render thread.
+     */
+    public static int getFillPercent() {
+        float fill = 0f;
+        for (RectanglePacker packer : greyPackerMap.values()) {
+            fill = Math.max(fill, packer.getFill());
+        }
+        for (RectanglePacker packer : lcdPackerMap.values()) {
+            fill = Math.max(fill, packer.getFill());
+        }
+        return Math.round(fill * 100f);
+    }
+
+    private static void printStats() {
+        long lookups = hitCount + missCount;
+        double hitRate = lookups == 0 ? 0.0 : (100.0 * hitCount) / lookups;
+        System.err.printf("GlyphCache: %d hits, %d misses (%.1f%% hit rate), %d evictions%n",
+                          hitCount, missCount, hitRate, evictionCount);
+    }
+
     public static void disposeForContext(BaseContext ctx) {
         disposePackerForContext(ctx, greyPackerMap);
         disposePackerForContext(ctx, lcdPackerMap);
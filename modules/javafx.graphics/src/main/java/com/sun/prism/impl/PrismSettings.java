@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -61,6 +61,11 @@ public final class PrismSettings {
     public static final boolean printRenderGraph;
     public static final int minRTTSize;
     public static final int dirtyRegionCount;
+    public static final int renderPrepThreads;
+    public static final int swTileThreads;
+    public static final int swTileThreshold;
+    public static final long maskCacheSize;
+    public static final int maskCacheSubpixels;
     public static final boolean disableBadDriverWarning;
     public static final boolean forceGPU;
     public static final int maxTextureSize;
@@ -76,6 +81,7 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final boolean glyphCacheStats;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -132,6 +138,28 @@ public final class PrismSettings {
         // support at present is 15.
         dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 15);
 
+        // The number of threads used to compute the dirty regions and render
+        // roots of several scenes at once. Values less than 2 disable it.
+        renderPrepThreads = Math.max(0, getInt(systemProperties, "prism.renderPrepThreads", 0,
+                "Try -Dprism.renderPrepThreads=<number>"));
+
+        // The number of threads used by the software pipeline to render large
+        // primitives in horizontal bands, and the minimum number of pixels a
+        // primitive must cover to be split. Values less than 2 disable it.
+        swTileThreads = Math.max(0, getInt(systemProperties, "prism.sw.tileThreads", 0,
+                "Try -Dprism.sw.tileThreads=<number>"));
+        swTileThreshold = Math.max(0, getInt(systemProperties, "prism.sw.tileThreshold", 65536,
+                "Try -Dprism.sw.tileThreshold=<number>"));
+
+        // The number of bytes of coverage masks that are kept to avoid
+        // rasterizing the same shape again, and the number of sub-pixel
+        // positions per pixel that the masks are cached for. A size of 0
+        // disables the cache.
+        maskCacheSize = getLong(systemProperties, "prism.maskCacheSize", 0,
+                "Try -Dprism.maskCacheSize=<long>[kKmMgG]");
+        maskCacheSubpixels = Utils.clamp(1, getInt(systemProperties, "prism.maskCacheSubpixels", 4,
+                "Try -Dprism.maskCacheSubpixels=<number>"), 16);
+
         // Scrolling cache optimization
         // Disabled as a workaround for JDK-8093860.
         scrollCacheOpt = getBoolean(systemProperties, "prism.scrollcacheopt", false);
@@ -332,6 +360,7 @@ public final class PrismSettings {
                 "Try -Dprism.glyphCacheWidth=<number>");
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
+        glyphCacheStats = getBoolean(systemProperties, "prism.glyphCacheStats", false);
 
         /*
          * Performance Logger flags
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2006, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2006, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -159,6 +159,15 @@ public class RectanglePacker {
         return newLevel.add(rect, x, y, requestedLength, requestedSize, vertical);
     }
 
+    /**
+     * Returns the fraction of the backing store, from 0 to 1, that is taken
+     * by the levels of rectangles. Once it reaches 1, rectangles that do not
+     * fit in the existing levels can no longer be added.
+     */
+    public final float getFill() {
+        return size > 0 ? (float) sizeOffset / size : 0f;
+    }
+
     /**
      * Clears all Rectangles contained in this RectanglePacker.
      */
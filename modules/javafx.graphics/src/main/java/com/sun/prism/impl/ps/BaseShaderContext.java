@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,7 @@ import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.logging.RenderMetrics;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.prism.CompositeMode;
 import com.sun.prism.PixelFormat;
@@ -685,6 +686,9 @@ public abstract class BaseShaderContext extends BaseContext {
                 flushVertexBuffer();
                 shader.enable();
                 state.lastShader = shader;
+                if (RenderMetrics.RENDER_METRICS_ENABLED) {
+                    RenderMetrics.shaderSwitched();
+                }
                 // the transform matrix is part of the state of each shader
                 // (in ES2 at least), so we need to make sure the transform
                 // is updated for the current shader by setting isXformValid=false
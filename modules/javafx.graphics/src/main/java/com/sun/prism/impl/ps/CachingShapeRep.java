@@ -310,7 +310,7 @@ class CachingShapeRepState {
 
             // did not find an existing mask; create a new one here
             MaskData maskData =
-                ShapeUtil.rasterizeShape(shape, stroke, xformBounds, xform, true, antialiasedShape);
+                ShapeUtil.rasterizeShape(shape, stroke, xformBounds, xform, true, antialiasedShape, true);
             int mw = maskData.getWidth();
             int mh = maskData.getHeight();
             texData.maskX = maskData.getOriginX();
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl.shape;
+
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Line2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.RoundRectangle2D;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the coverage masks produced by a {@link ShapeRasterizer}, so
+ * that a shape which is drawn again with the same geometry, stroke and
+ * transform, apart from an integer translation, is copied from the cache
+ * rather than rasterized again. This typically happens with the many
+ * identical markers of a chart.
+ * <p>
+ * The translation of the transform is rounded to a multiple of
+ * {@code 1 / subpixels} before the shape is rasterized, and the fractional
+ * part of the rounded translation is part of the key, so that a cached mask
+ * is exactly the mask that the rasterizer would have produced. A mask is
+ * only cached when it was not cut by the clip, and only reused when it fits
+ * entirely in the clip. When the clip is the bounds of the shape itself, the
+ * mask is never cut by it.
+ * <p>
+ * The least recently used masks are evicted when the total size of the
+ * masks exceeds the budget of the cache. Masks larger than
+ * {@link #MAX_MASK_DIM} in either dimension are never cached. All methods
+ * of this class are thread safe, and the rasterizer is called without
+ * holding the lock of the cache.
+ */
+public final class CoverageMaskCache {
+
+    /**
+     * The maximum width and height of a cached mask.
+     */
+    public static final int MAX_MASK_DIM = 256;
+
+    private static final class Key {
+        Shape shape;
+        BasicStroke stroke;
+        double mxx, mxy, myx, myy;
+        int fracX, fracY;
+        boolean close;
+        boolean antialiasedShape;
+        int hash;
+
+        void set(Shape shape, BasicStroke stroke, BaseTransform xform,
+                 int fracX, int fracY, boolean close, boolean antialiasedShape)
+        {
+            this.shape = shape;
+            this.stroke = stroke;
+            this.mxx = xform.getMxx();
+            this.mxy = xform.getMxy();
+            this.myx = xform.getMyx();
+            this.myy = xform.getMyy();
+            this.fracX = fracX;
+            this.fracY = fracY;
+            this.close = close;
+            this.antialiasedShape = antialiasedShape;
+
+            int h = shape.hashCode();
+            h = 31 * h + (stroke == null ? 0 : stroke.hashCode());
+            h = 31 * h + Double.hashCode(mxx);
+            h = 31 * h + Double.hashCode(mxy);
+            h = 31 * h + Double.hashCode(myx);
+            h = 31 * h + Double.hashCode(myy);
+            h = 31 * h + fracX;
+            h = 31 * h + fracY;
+            h = 31 * h + (close ? 1 : 0);
+            h = 31 * h + (antialiasedShape ? 1 : 0);
+            this.hash = h;
+        }
+
+        // Returns a key that does not share any mutable state with the
+        // caller, since the shapes and strokes of the scene graph are reused
+        // and mutated (NGPath reuses a single Path2D instance, for example).
+        Key copy() {
+            Key key = new Key();
+            key.shape = shape.copy();
+            key.stroke = stroke == null ? null : stroke.copy();
+            key.mxx = mxx;
+            key.mxy = mxy;
+            key.myx = myx;
+            key.myy = myy;
+            key.fracX = fracX;
+            key.fracY = fracY;
+            key.close = close;
+            key.antialiasedShape = antialiasedShape;
+            key.hash = hash;
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) obj;
+            return hash == k.hash &&
+                   mxx == k.mxx && mxy == k.mxy &&
+                   myx == k.myx && myy == k.myy &&
+                   fracX == k.fracX && fracY == k.fracY &&
+                   close == k.close && antialiasedShape == k.antialiasedShape &&
+                   shape.equals(k.shape) &&
+                   (stroke == null ? k.stroke == null : stroke.equals(k.stroke));
+        }
+    }
+
+    private static final class Entry {
+        // The origin of the mask, relative to the integer part of the
+        // rounded translation.
+        final int dx;
+        final int dy;
+        final int width;
+        final int height;
+        final byte[] alphas;
+
+        Entry(int dx, int dy, int width, int height, byte[] alphas) {
+            this.dx = dx;
+            this.dy = dy;
+            this.width = width;
+            this.height = height;
+            this.alphas = alphas;
+        }
+    }
+
+    private final ShapeRasterizer rasterizer;
+    private final long maxSize;
+    private final int subpixels;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Key lookupKey = new Key();
+    private long size;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a cache of the masks of the given rasterizer.
+     *
+     * @param rasterizer the rasterizer that produces the masks
+     * @param maxSize the maximum total number of bytes of the cached masks
+     * @param subpixels the number of positions per pixel, along each axis,
+     *        that masks are cached for
+     */
+    public CoverageMaskCache(ShapeRasterizer rasterizer, long maxSize, int subpixels) {
+        if (subpixels < 1) {
+            throw new IllegalArgumentException("subpixels must be positive");
+        }
+        this.rasterizer = rasterizer;
+        this.maxSize = maxSize;
+        this.subpixels = subpixels;
+    }
+
+    /**
+     * Returns the mask of the given shape, either from the cache or from the
+     * rasterizer. The arguments are the same as for
+     * {@link ShapeRasterizer#getMaskData}, except that the translation of
+     * {@code xform} may be rounded as described above.
+     */
+    public MaskData getMaskData(Shape shape, BasicStroke stroke,
+                                RectBounds xformBounds,
+                                BaseTransform xform,
+                                boolean close, boolean antialiasedShape)
+    {
+        return getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape, false);
+    }
+
+    /**
+     * Returns the mask of the given shape, like
+     * {@link #getMaskData(Shape, BasicStroke, RectBounds, BaseTransform, boolean, boolean)}.
+     * If {@code shapeBounds} is true, {@code xformBounds} are the transformed
+     * bounds of the shape, including its stroke, rather than a clip. The
+     * mask then cannot be cut by them, even where it touches them, so it is
+     * always cached.
+     */
+    public MaskData getMaskData(Shape shape, BasicStroke stroke,
+                                RectBounds xformBounds,
+                                BaseTransform xform,
+                                boolean close, boolean antialiasedShape,
+                                boolean shapeBounds)
+    {
+        if (!isCacheable(shape, xform)) {
+            return rasterizer.getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape);
+        }
+
+        long qx = Math.round(xform.getMxt() * subpixels);
+        long qy = Math.round(xform.getMyt() * subpixels);
+        int fracX = (int) Math.floorMod(qx, (long) subpixels);
+        int fracY = (int) Math.floorMod(qy, (long) subpixels);
+        double intX = Math.floorDiv(qx, (long) subpixels);
+        double intY = Math.floorDiv(qy, (long) subpixels);
+        if (Math.abs(intX) > Integer.MAX_VALUE / 2 || Math.abs(intY) > Integer.MAX_VALUE / 2) {
+            return rasterizer.getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape);
+        }
+        int ix = (int) intX;
+        int iy = (int) intY;
+
+        Rectangle clip = xformBounds == null ? null : new Rectangle(xformBounds);
+        Entry entry;
+        Key key;
+        synchronized (this) {
+            lookupKey.set(shape, stroke, xform, fracX, fracY, close, antialiasedShape);
+            entry = entries.get(lookupKey);
+            key = entry == null ? lookupKey.copy() : null;
+            lookupKey.shape = null;
+            lookupKey.stroke = null;
+            if (entry != null && fits(clip, ix + entry.dx, iy + entry.dy, entry.width, entry.height)) {
+                hitCount++;
+                return MaskData.create(entry.alphas, ix + entry.dx, iy + entry.dy,
+                                       entry.width, entry.height);
+            }
+            missCount++;
+        }
+
+        BaseTransform snapped = new Affine2D(xform.getMxx(), xform.getMyx(),
+                                             xform.getMxy(), xform.getMyy(),
+                                             ix + (double) fracX / subpixels,
+                                             iy + (double) fracY / subpixels);
+        MaskData maskData = rasterizer.getMaskData(shape, stroke, xformBounds, snapped, close, antialiasedShape);
+        if (key == null) {
+            // the cached mask did not fit in the clip
+            return maskData;
+        }
+
+        int w = maskData.getWidth();
+        int h = maskData.getHeight();
+        int ox = maskData.getOriginX();
+        int oy = maskData.getOriginY();
+        if (w <= 0 || h <= 0 || w > MAX_MASK_DIM || h > MAX_MASK_DIM ||
+            (long) w * h > maxSize || !(shapeBounds || isInside(clip, ox, oy, w, h)))
+        {
+            return maskData;
+        }
+
+        byte[] alphas = new byte[w * h];
+        maskData.getMaskBuffer().duplicate().clear().get(alphas);
+        synchronized (this) {
+            Entry old = entries.put(key, new Entry(ox - ix, oy - iy, w, h, alphas));
+            if (old != null) {
+                size -= old.alphas.length;
+            }
+            size += alphas.length;
+            evict();
+        }
+        return maskData;
+    }
+
+    /**
+     * Removes all masks from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the total number of bytes of the cached masks.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of masks that were copied from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of cacheable masks that had to be rasterized.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of masks that were evicted to stay within the budget.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= it.next().getValue().alphas.length;
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    // Only shapes that compare their geometry in equals() can be found
+    // again in the cache.
+    private static boolean isCacheable(Shape shape, BaseTransform xform) {
+        return (shape instanceof Path2D ||
+                shape instanceof Ellipse2D ||
+                shape instanceof RoundRectangle2D ||
+                shape instanceof Line2D) &&
+               xform.is2D();
+    }
+
+    // Returns true if the mask is strictly inside the clip, which means that
+    // it was not cut by the clip.
+    private static boolean isInside(Rectangle clip, int x, int y, int w, int h) {
+        return clip == null ||
+               (x > clip.x && y > clip.y &&
+                x + w < clip.x + clip.width &&
+                y + h < clip.y + clip.height);
+    }
+
+    private static boolean fits(Rectangle clip, int x, int y, int w, int h) {
+        return clip == null ||
+               (x >= clip.x && y >= clip.y &&
+                x + w <= clip.x + clip.width &&
+                y + h <= clip.y + clip.height);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -43,15 +43,48 @@ public class ShapeUtil {
         }
     }
 
+    private static final CoverageMaskCache maskCache =
+        PrismSettings.maskCacheSize > 0
+            ? new CoverageMaskCache(shapeRasterizer, PrismSettings.maskCacheSize,
+                                    PrismSettings.maskCacheSubpixels)
+            : null;
+
     public static MaskData rasterizeShape(Shape shape,
                                           BasicStroke stroke,
                                           RectBounds xformBounds,
                                           BaseTransform xform,
                                           boolean close, boolean antialiasedShape)
     {
+        return rasterizeShape(shape, stroke, xformBounds, xform, close, antialiasedShape, false);
+    }
+
+    /**
+     * Rasterizes the given shape. If {@code shapeBounds} is true,
+     * {@code xformBounds} are the transformed bounds of the shape, including
+     * its stroke, rather than the clip of a graphics.
+     */
+    public static MaskData rasterizeShape(Shape shape,
+                                          BasicStroke stroke,
+                                          RectBounds xformBounds,
+                                          BaseTransform xform,
+                                          boolean close, boolean antialiasedShape,
+                                          boolean shapeBounds)
+    {
+        if (maskCache != null) {
+            return maskCache.getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape,
+                                         shapeBounds);
+        }
         return shapeRasterizer.getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape);
     }
 
+    /**
+     * Returns the cache of coverage masks, or null if it is disabled with
+     * {@code -Dprism.maskCacheSize}.
+     */
+    public static CoverageMaskCache getMaskCache() {
+        return maskCache;
+    }
+
     public static Shape createCenteredStrokedShape(Shape s, BasicStroke stroke) {
         return DMarlinRasterizer.createCenteredStrokedShape(s, stroke);
     }
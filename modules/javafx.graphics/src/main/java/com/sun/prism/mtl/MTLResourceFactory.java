@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.prism.mtl;
 
 import com.sun.glass.ui.Screen;
+import com.sun.javafx.logging.RenderMetrics;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.Mesh;
 import com.sun.prism.MeshView;
@@ -368,6 +369,9 @@ class MTLResourceFactory extends BaseShaderFactory {
         }
 
         MTLRTTexture rtt = MTLRTTexture.create(context, createw, createh, width, height, wrapMode, msaa, size);
+        if (RenderMetrics.RENDER_METRICS_ENABLED && rtt != null) {
+            RenderMetrics.rttAllocated();
+        }
         return rtt;
     }
 
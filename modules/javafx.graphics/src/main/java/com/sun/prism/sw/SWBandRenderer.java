@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.pisces.JavaSurface;
+import com.sun.pisces.PiscesRenderer;
+import com.sun.pisces.RendererBase;
+import com.sun.prism.impl.PrismSettings;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Renders large primitives of an {@link SWRTTexture} in horizontal bands on
+ * several threads.
+ * <p>
+ * A primitive is described once by a {@link BandOp}, which is then replayed
+ * into each band with a renderer of its own. All renderers of a texture write
+ * into the same pixel array, and each one is clipped to its own rows, so the
+ * bands never touch the same pixels and need no merging afterwards.
+ * <p>
+ * This is enabled with {@code -Dprism.sw.tileThreads=<n>} for any {@code n}
+ * greater than 1. Primitives that cover fewer than
+ * {@code -Dprism.sw.tileThreshold} pixels are rendered as usual.
+ */
+final class SWBandRenderer {
+
+    // Bands smaller than this are not worth a task of their own.
+    private static final int MIN_BAND_HEIGHT = 16;
+
+    private static ForkJoinPool pool;
+
+    /**
+     * A primitive that can be painted into any band.
+     */
+    interface BandOp {
+        /**
+         * Paints the primitive with the renderer of the given band. The
+         * renderer is already clipped to {@code clip}, and has the composite
+         * rule of the graphics, but its paint must be set by this method.
+         */
+        void paint(Band band, Rectangle clip);
+    }
+
+    static final class Band extends RecursiveAction {
+        final PiscesRenderer pr;
+        final SWPaint paint;
+        final SWContext.ShapeRenderer shapeRenderer;
+
+        private final Rectangle clip = new Rectangle();
+        private int compositeRule;
+        private BandOp op;
+
+        private Band(SWRTTexture target, SWContext context) {
+            final JavaSurface surface = new JavaSurface(target.getDataNoClone(), RendererBase.TYPE_INT_ARGB_PRE,
+                    target.getPhysicalWidth(), target.getPhysicalHeight());
+            this.pr = new PiscesRenderer(surface);
+            this.paint = new SWPaint(context, pr);
+            this.shapeRenderer = context.createShapeRenderer();
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                pr.setClip(clip.x, clip.y, clip.width, clip.height);
+                pr.setCompositeRule(compositeRule);
+                op.paint(this, clip);
+            } finally {
+                op = null;
+            }
+        }
+    }
+
+    private final Band[] bands;
+
+    SWBandRenderer(SWRTTexture target, SWContext context) {
+        bands = new Band[PrismSettings.swTileThreads];
+        for (int i = 0; i < bands.length; i++) {
+            bands[i] = new Band(target, context);
+        }
+    }
+
+    static boolean isEnabled() {
+        return PrismSettings.swTileThreads > 1;
+    }
+
+    private static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(PrismSettings.swTileThreads, p -> {
+                final ForkJoinWorkerThread th = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                th.setName("Prism-SW-Band-" + th.getPoolIndex());
+                th.setDaemon(true);
+                return th;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * Paints a primitive in bands. The primitive is expected to touch only
+     * the device bounds {@code [x0, x1) x [y0, y1)}, which only need to be an
+     * estimate: the bands always cover the whole clip, and the estimate is
+     * only used to decide whether to split the primitive, and how.
+     *
+     * @return false if the primitive is too small to be split, in which case
+     *         nothing was painted
+     */
+    boolean paint(Rectangle clip, int compositeRule, float compositeAlpha,
+                  int x0, int y0, int x1, int y1, BandOp op) {
+        x0 = Math.max(x0, clip.x);
+        y0 = Math.max(y0, clip.y);
+        x1 = Math.min(x1, clip.x + clip.width);
+        y1 = Math.min(y1, clip.y + clip.height);
+        if (x1 <= x0 || y1 <= y0 || (long) (x1 - x0) * (y1 - y0) < PrismSettings.swTileThreshold) {
+            return false;
+        }
+
+        final int height = y1 - y0;
+        final int n = Math.min(bands.length, height / MIN_BAND_HEIGHT);
+        if (n < 2) {
+            return false;
+        }
+
+        final Band[] tasks = new Band[n];
+        int top = clip.y;
+        for (int i = 0; i < n; i++) {
+            final int bottom = (i == n - 1) ? clip.y + clip.height : y0 + (int) ((long) height * (i + 1) / n);
+            final Band band = bands[i];
+            band.reinitialize();
+            band.clip.setBounds(clip.x, top, clip.width, bottom - top);
+            band.compositeRule = compositeRule;
+            band.paint.setCompositeAlpha(compositeAlpha);
+            band.op = op;
+            tasks[i] = band;
+            top = bottom;
+        }
+
+        getPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return true;
+    }
+}
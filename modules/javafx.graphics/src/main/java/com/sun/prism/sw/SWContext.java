@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -196,11 +196,14 @@ final class SWContext {
 
     SWContext(ResourceFactory factory) {
         this.factory = factory;
+        this.shapeRenderer = createShapeRenderer();
+    }
+
+    ShapeRenderer createShapeRenderer() {
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
-                break;
+                return new DMarlinShapeRenderer();
         }
     }
 
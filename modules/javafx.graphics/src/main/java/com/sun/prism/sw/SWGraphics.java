@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import com.sun.javafx.font.FontStrike;
 import com.sun.javafx.font.Glyph;
 import com.sun.javafx.font.Metrics;
 import com.sun.javafx.font.PrismFontFactory;
+import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.Ellipse2D;
 import com.sun.javafx.geom.Line2D;
 import com.sun.javafx.geom.Point2D;
@@ -63,6 +64,7 @@ import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.ImagePattern;
 import com.sun.prism.paint.Paint;
+import java.util.function.Consumer;
 
 final class SWGraphics implements ReadbackGraphics {
 
@@ -74,10 +76,12 @@ final class SWGraphics implements ReadbackGraphics {
     private final SWContext context;
     private final SWRTTexture target;
     private final SWPaint swPaint;
+    private final SWBandRenderer bandRenderer;
 
     private final BaseTransform tx = new Affine2D();
 
     private CompositeMode compositeMode = CompositeMode.SRC_OVER;
+    private int compositeRule = RendererBase.COMPOSITE_SRC_OVER;
 
     private Rectangle clip;
     private final Rectangle finalClip = new Rectangle();
@@ -108,11 +112,12 @@ final class SWGraphics implements ReadbackGraphics {
         return renderRoot;
     }
 
-    public SWGraphics(SWRTTexture target, SWContext context, PiscesRenderer pr) {
+    public SWGraphics(SWRTTexture target, SWContext context, PiscesRenderer pr, SWBandRenderer bandRenderer) {
         this.target = target;
         this.context = context;
         this.pr = pr;
         this.swPaint = new SWPaint(context, pr);
+        this.bandRenderer = bandRenderer;
 
         this.setClipRect(null);
     }
@@ -381,6 +386,7 @@ final class SWGraphics implements ReadbackGraphics {
             default:
                 throw new InternalError("Unrecognized composite mode: "+mode);
         }
+        this.compositeRule = piscesComp;
         this.pr.setCompositeRule(piscesComp);
     }
 
@@ -478,31 +484,48 @@ final class SWGraphics implements ReadbackGraphics {
                     tex.update(ip.getImage());
 
                     final float compositeAlpha = swPaint.getCompositeAlpha();
-                    final int imageMode;
-                    if (compositeAlpha == 1f) {
-                        imageMode = RendererBase.IMAGE_MODE_NORMAL;
-                    } else {
-                        imageMode = RendererBase.IMAGE_MODE_MULTIPLY;
-                        this.pr.setColor(255, 255, 255, (int)(255 * compositeAlpha));
+                    final int imageMode = (compositeAlpha == 1f) ?
+                            RendererBase.IMAGE_MODE_NORMAL : RendererBase.IMAGE_MODE_MULTIPLY;
+                    final int bboxX = (int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES);
+                    final int bboxY = (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES);
+                    final int bboxW = (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES);
+                    final int bboxH = (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES);
+
+                    final Consumer<PiscesRenderer> draw = renderer -> {
+                        if (imageMode == RendererBase.IMAGE_MODE_MULTIPLY) {
+                            renderer.setColor(255, 255, 255, (int)(255 * compositeAlpha));
+                        }
+                        renderer.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
+                                tex.getDataNoClone(), tex.getContentWidth(), tex.getContentHeight(),
+                                tex.getOffset(), tex.getPhysicalWidth(),
+                                piscesTx,
+                                tex.getWrapMode() == Texture.WrapMode.REPEAT,
+                                tex.getLinearFiltering(),
+                                bboxX, bboxY, bboxW, bboxH,
+                                RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP,
+                                RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP,
+                                0, 0, tex.getContentWidth()-1, tex.getContentHeight()-1,
+                                tex.hasAlpha());
+                    };
+                    if (!paintInBands(bboxX, bboxY, bboxW, bboxH, (band, bandClip) -> draw.accept(band.pr))) {
+                        draw.accept(this.pr);
                     }
-
-                    this.pr.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
-                            tex.getDataNoClone(), tex.getContentWidth(), tex.getContentHeight(),
-                            tex.getOffset(), tex.getPhysicalWidth(),
-                            piscesTx,
-                            tex.getWrapMode() == Texture.WrapMode.REPEAT,
-                            tex.getLinearFiltering(),
-                            (int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES), (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES),
-                            (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES), (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES),
-                            RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP,
-                            RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP,
-                            0, 0, tex.getContentWidth()-1, tex.getContentHeight()-1,
-                            tex.hasAlpha());
                 }
             } else {
-                swPaint.setPaintFromShape(this.paint, this.tx, null, this.nodeBounds, x, y, width, height);
-                this.pr.fillRect((int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES), (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES),
-                        (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES), (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES));
+                final int rectX = (int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES);
+                final int rectY = (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES);
+                final int rectW = (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES);
+                final int rectH = (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES);
+                final Paint p = this.paint;
+                final RectBounds nb = this.nodeBounds;
+                final SWBandRenderer.BandOp op = (band, bandClip) -> {
+                    band.paint.setPaintFromShape(p, this.tx, null, nb, x, y, width, height);
+                    band.pr.fillRect(rectX, rectY, rectW, rectH);
+                };
+                if (!paintInBands(rectX, rectY, rectW, rectH, op)) {
+                    swPaint.setPaintFromShape(this.paint, this.tx, null, this.nodeBounds, x, y, width, height);
+                    this.pr.fillRect(rectX, rectY, rectW, rectH);
+                }
             }
         } else {
             this.fillRoundRect(x, y, width, height, 0, 0);
@@ -541,10 +564,61 @@ final class SWGraphics implements ReadbackGraphics {
             }
             return;
         }
+        if (bandRenderer != null && this.paint.getType() != Paint.Type.IMAGE_PATTERN &&
+                paintShapeInBands(shape, st, tr)) {
+            return;
+        }
         swPaint.setPaintFromShape(this.paint, this.tx, shape, this.nodeBounds, 0,0,0,0);
         this.paintShapePaintAlreadySet(shape, st, tr);
     }
 
+    private boolean paintShapeInBands(Shape shape, BasicStroke st, BaseTransform tr) {
+        if (st != null && st.getType() != BasicStroke.TYPE_CENTERED) {
+            // Stroke the shape once here rather than once per band
+            shape = st.createStrokedShape(shape);
+            st = null;
+        }
+
+        // Estimate the device bounds of the shape, including the stroke
+        BaseBounds bounds = shape.getBounds();
+        if (st != null) {
+            final float pad = st.getLineWidth() *
+                    (st.getLineJoin() == BasicStroke.JOIN_MITER ? Math.max(1f, st.getMiterLimit()) : 1f);
+            bounds = bounds.deriveWithPadding(pad, pad, 0);
+        }
+        bounds = tr.transform(bounds, bounds);
+        final int x0 = SWUtils.fastFloor(bounds.getMinX()) - 1;
+        final int y0 = SWUtils.fastFloor(bounds.getMinY()) - 1;
+        final int x1 = SWUtils.fastCeil(bounds.getMaxX()) + 1;
+        final int y1 = SWUtils.fastCeil(bounds.getMaxY()) + 1;
+
+        final Shape s = shape;
+        final BasicStroke bs = st;
+        final Paint p = this.paint;
+        final RectBounds nb = this.nodeBounds;
+        final boolean aa = isAntialiasedShape();
+        return bandRenderer.paint(finalClip, compositeRule, swPaint.getCompositeAlpha(), x0, y0, x1, y1,
+                (band, bandClip) -> {
+                    band.paint.setPaintFromShape(p, this.tx, s, nb, 0, 0, 0, 0);
+                    band.shapeRenderer.renderShape(band.pr, s, bs, tr, bandClip, aa);
+                });
+    }
+
+    /*
+     * Paints the given operation in bands if the band renderer is enabled and
+     * the device rectangle, given in 16.16 fixed point, is large enough.
+     */
+    private boolean paintInBands(int x, int y, int w, int h, SWBandRenderer.BandOp op) {
+        if (bandRenderer == null || finalClip.isEmpty()) {
+            return false;
+        }
+        final int x0 = x >> 16;
+        final int y0 = y >> 16;
+        final int x1 = (int) (((long) x + w + 0xFFFF) >> 16);
+        final int y1 = (int) (((long) y + h + 0xFFFF) >> 16);
+        return bandRenderer.paint(finalClip, compositeRule, swPaint.getCompositeAlpha(), x0, y0, x1, y1, op);
+    }
+
     private void paintShapePaintAlreadySet(Shape shape, BasicStroke st, BaseTransform tr) {
         if (this.finalClip.isEmpty()) {
             if (PrismSettings.debug) {
@@ -747,18 +821,22 @@ final class SWGraphics implements ReadbackGraphics {
                              float dx1, float dy1, float dx2, float dy2,
                              float sx1, float sy1, float sx2, float sy2,
                              int lEdge, int rEdge, int tEdge, int bEdge) {
-        final int imageMode;
         final float compositeAlpha = swPaint.getCompositeAlpha();
         if (compositeAlpha == 1f) {
-            imageMode = RendererBase.IMAGE_MODE_NORMAL;
+            this.drawTexture(tex, RendererBase.IMAGE_MODE_NORMAL, null,
+                    dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, lEdge, rEdge, tEdge, bEdge);
         } else {
-            imageMode = RendererBase.IMAGE_MODE_MULTIPLY;
-            this.pr.setColor(255, 255, 255, (int)(255 * compositeAlpha));
+            final int alpha = (int)(255 * compositeAlpha);
+            this.drawTexture(tex, RendererBase.IMAGE_MODE_MULTIPLY, r -> r.setColor(255, 255, 255, alpha),
+                    dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, lEdge, rEdge, tEdge, bEdge);
         }
-        this.drawTexture(tex, imageMode, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, lEdge, rEdge, tEdge, bEdge);
     }
 
-    private void drawTexture(Texture tex, int imageMode,
+    /*
+     * Draws the texture. If the image mode is IMAGE_MODE_MULTIPLY, then
+     * modulation sets the paint that the texture is multiplied with.
+     */
+    private void drawTexture(Texture tex, int imageMode, Consumer<PiscesRenderer> modulation,
                             float dx1, float dy1, float dx2, float dy2,
                             float sx1, float sy1, float sx2, float sy2,
                             int lEdge, int rEdge, int tEdge, int bEdge) {
@@ -800,17 +878,29 @@ final class SWGraphics implements ReadbackGraphics {
         final int txMax = Math.min(tex.getContentWidth() - 1, SWUtils.fastCeil(Math.max(sx1, sx2)) - 1);
         final int tyMax = Math.min(tex.getContentHeight() - 1, SWUtils.fastCeil(Math.max(sy1, sy2)) - 1);
 
-        this.pr.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
-                data, tex.getContentWidth(), tex.getContentHeight(),
-                swTex.getOffset(), tex.getPhysicalWidth(),
-                piscesTx,
-                tex.getWrapMode() == Texture.WrapMode.REPEAT,
-                tex.getLinearFiltering(),
-                (int)(SWUtils.TO_PISCES * dstBBox.getMinX()), (int)(SWUtils.TO_PISCES * dstBBox.getMinY()),
-                (int)(SWUtils.TO_PISCES * dstBBox.getWidth()), (int)(SWUtils.TO_PISCES * dstBBox.getHeight()),
-                lEdge, rEdge, tEdge, bEdge,
-                txMin, tyMin, txMax, tyMax,
-                swTex.hasAlpha());
+        final int bboxX = (int)(SWUtils.TO_PISCES * dstBBox.getMinX());
+        final int bboxY = (int)(SWUtils.TO_PISCES * dstBBox.getMinY());
+        final int bboxW = (int)(SWUtils.TO_PISCES * dstBBox.getWidth());
+        final int bboxH = (int)(SWUtils.TO_PISCES * dstBBox.getHeight());
+
+        final Consumer<PiscesRenderer> draw = renderer -> {
+            if (modulation != null) {
+                modulation.accept(renderer);
+            }
+            renderer.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
+                    data, tex.getContentWidth(), tex.getContentHeight(),
+                    swTex.getOffset(), tex.getPhysicalWidth(),
+                    piscesTx,
+                    tex.getWrapMode() == Texture.WrapMode.REPEAT,
+                    tex.getLinearFiltering(),
+                    bboxX, bboxY, bboxW, bboxH,
+                    lEdge, rEdge, tEdge, bEdge,
+                    txMin, tyMin, txMax, tyMax,
+                    swTex.hasAlpha());
+        };
+        if (!paintInBands(bboxX, bboxY, bboxW, bboxH, (band, bandClip) -> draw.accept(band.pr))) {
+            draw.accept(this.pr);
+        }
 
         if (PrismSettings.debug) {
             System.out.println("* drawTexture, DONE");
@@ -903,9 +993,10 @@ final class SWGraphics implements ReadbackGraphics {
                              0xffffff | (((int)(botopacity * 255)) << 24) };
         final Transform6 t6 = new Transform6();
         SWUtils.convertToPiscesTransform(this.tx, t6);
-        this.pr.setLinearGradient(0, (int)(SWUtils.TO_PISCES * dy1), 0, (int)(SWUtils.TO_PISCES * dy2), fractions, argb,
-                                  GradientColorMap.CYCLE_NONE, t6);
-        this.drawTexture(tex, RendererBase.IMAGE_MODE_MULTIPLY, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+        final Consumer<PiscesRenderer> modulation = r ->
+                r.setLinearGradient(0, (int)(SWUtils.TO_PISCES * dy1), 0, (int)(SWUtils.TO_PISCES * dy2), fractions, argb,
+                                    GradientColorMap.CYCLE_NONE, t6);
+        this.drawTexture(tex, RendererBase.IMAGE_MODE_MULTIPLY, modulation, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
                 RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP,
                 RendererBase.IMAGE_FRAC_EDGE_KEEP, RendererBase.IMAGE_FRAC_EDGE_KEEP);
     }
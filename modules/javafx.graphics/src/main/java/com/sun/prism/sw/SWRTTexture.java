@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -41,6 +41,7 @@ import java.nio.IntBuffer;
 class SWRTTexture extends SWArgbPreTexture implements RTTexture {
 
     private PiscesRenderer pr;
+    private SWBandRenderer bandRenderer;
     private JavaSurface surface;
     private final Rectangle dimensions = new Rectangle();
     private boolean isOpaque;
@@ -115,10 +116,14 @@ class SWRTTexture extends SWArgbPreTexture implements RTTexture {
 
     @Override
     public Graphics createGraphics() {
+        final SWContext context = getResourceFactory().getContext();
         if (pr == null) {
             pr = new PiscesRenderer(this.surface);
         }
-        return new SWGraphics(this, getResourceFactory().getContext(), pr);
+        if (bandRenderer == null && SWBandRenderer.isEnabled()) {
+            bandRenderer = new SWBandRenderer(this, context);
+        }
+        return new SWGraphics(this, context, pr, bandRenderer);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -37,6 +37,7 @@ import javafx.stage.Stage;
 import com.sun.javafx.application.LauncherImpl;
 import com.sun.javafx.application.ParametersImpl;
 import com.sun.javafx.application.PlatformImpl;
+import com.sun.javafx.css.StyleManager;
 
 /**
  * Application class from which JavaFX applications extend.
@@ -538,4 +539,31 @@ public abstract class Application {
             PlatformImpl.setPlatformUserAgentStylesheet(url);
         }
     }
+
+    /**
+     * Starts loading the given stylesheets in the background, so that they
+     * are ready when they are later added to the stylesheets of a {@code Scene}
+     * or a {@code Parent}, or set as the user agent stylesheet. The stylesheets
+     * are parsed in parallel, and this method returns without waiting for them.
+     * An application that uses many stylesheets can call this method from
+     * {@link #init()}, so that its stylesheets are parsed while the
+     * application is being initialized rather than on the JavaFX Application
+     * Thread when its scenes are first shown.
+     * <p>
+     * The URLs have the same form as the URL of
+     * {@link #setUserAgentStylesheet(String)}, and a preloaded stylesheet is
+     * only used when the same string is later used to load it. Each preloaded
+     * stylesheet is used once; loading the same URL again loads the
+     * stylesheet again. Errors that occur while a stylesheet is preloaded are
+     * reported when the stylesheet is used.
+     * <p>
+     * This method may be called on any thread.
+     *
+     * @param urls the URLs of the stylesheets
+     * @throws NullPointerException if {@code urls} or any of its elements is null
+     * @since 28
+     */
+    public static void preloadStylesheets(String... urls) {
+        StyleManager.preloadStylesheets(List.of(urls));
+    }
 }
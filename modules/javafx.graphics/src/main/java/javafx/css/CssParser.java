@@ -4252,8 +4252,10 @@ final public class CssParser {
 
     }
 
-    // keep track of what is in process of being parsed to avoid import loops
-    private static Stack<String> imports;
+    // keep track of what is in process of being parsed to avoid import loops.
+    // Stylesheets can be parsed on several threads at once, and an imported
+    // stylesheet is parsed on the thread that parses the importing one.
+    private static final ThreadLocal<Stack<String>> imports = ThreadLocal.withInitial(Stack::new);
 
     private void parse(Stylesheet stylesheet, CssLexer lexer) {
         MediaRule mediaRule = null;
@@ -4297,23 +4299,22 @@ final public class CssParser {
 
             } else if ("import".equals(keyword)) {
 
-                if (CssParser.imports == null) {
-                    CssParser.imports = new Stack<>();
-                }
+                final Stack<String> imports = CssParser.imports.get();
 
                 if (!imports.contains(sourceOfStylesheet)) {
 
                     imports.push(sourceOfStylesheet);
 
-                    StylesheetImport importedStylesheet = handleImport(lexer);
-                    if (importedStylesheet != null) {
-                        stylesheet.addStylesheetImport(importedStylesheet);
-                    }
-
-                    imports.pop();
-
-                    if (CssParser.imports.isEmpty()) {
-                        CssParser.imports = null;
+                    try {
+                        StylesheetImport importedStylesheet = handleImport(lexer);
+                        if (importedStylesheet != null) {
+                            stylesheet.addStylesheetImport(importedStylesheet);
+                        }
+                    } finally {
+                        imports.pop();
+                        if (imports.isEmpty()) {
+                            CssParser.imports.remove();
+                        }
                     }
 
                 } else {
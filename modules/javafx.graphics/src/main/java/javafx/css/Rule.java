@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,11 +34,11 @@ import com.sun.javafx.css.BinarySerializer;
 import com.sun.javafx.css.RuleHelper;
 import com.sun.javafx.css.media.MediaRule;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -84,8 +84,7 @@ final public class Rule {
         if (declarations == null && serializedDecls != null) {
 
             try {
-                ByteArrayInputStream bis = new ByteArrayInputStream(serializedDecls);
-                DataInputStream dis = new DataInputStream(bis);
+                DataInputStream dis = new BssInputStream(serializedDecls.duplicate());
 
                 short nDeclarations = dis.readShort();
                 declarations = new ArrayList<>(nDeclarations);
@@ -202,10 +201,13 @@ final public class Rule {
         }
     }
 
-    private byte[] serializedDecls;
+    // The declarations in binary form, until they are first needed. This is
+    // a slice of the whole stylesheet when it was loaded from a buffer, which
+    // may be a memory-mapped file.
+    private ByteBuffer serializedDecls;
     private final int bssVersion;
 
-    private Rule(MediaRule mediaRule, List<Selector> selectors, byte[] buf, int bssVersion) {
+    private Rule(MediaRule mediaRule, List<Selector> selectors, ByteBuffer buf, int bssVersion) {
         this.mediaRule = mediaRule;
         this.selectors = selectors;
         this.declarations = null;
@@ -408,12 +410,17 @@ final public class Rule {
             return new Rule(null, selectors, declarations);
         }
 
-        // de-serialize decls into byte array
+        // keep the serialized decls until they are needed
         int nBytes = is.readInt();
-        byte[] buf = new byte[nBytes];
-
-        if (nBytes > 0) {
-            is.readFully(buf);
+        ByteBuffer buf;
+        if (is instanceof BssInputStream bss) {
+            buf = bss.slice(nBytes);
+        } else {
+            byte[] bytes = new byte[nBytes];
+            if (nBytes > 0) {
+                is.readFully(bytes);
+            }
+            buf = ByteBuffer.wrap(bytes);
         }
         return new Rule(mediaRule, selectors, buf, bssVersion);
     }
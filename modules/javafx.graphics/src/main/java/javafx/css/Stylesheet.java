@@ -37,7 +37,6 @@ import com.sun.javafx.css.media.MediaQueryList;
 import com.sun.javafx.css.media.MediaRule;
 import com.sun.javafx.css.media.TriState;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -47,7 +46,16 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -325,9 +333,21 @@ public class Stylesheet {
     private String[] stringStore;
     final String[] getStringStore() { return stringStore; }
 
+    // Binary stylesheets that are at least this large are memory-mapped when
+    // they are loaded from a file; smaller ones are cheaper to read. The rules
+    // keep slices of the mapped buffer, so the file stays mapped until the
+    // stylesheet and all of its rules are garbage collected. On Windows, the
+    // file cannot be deleted or replaced while it is mapped.
+    private static final int MIN_MAPPED_SIZE = 16 * 1024;
+
     /**
      * Loads a binary stylesheet from a {@code URL}.
      *
+     * @implNote A large binary stylesheet that is loaded from a {@code file:} URL
+     * may be memory-mapped. The file then stays mapped until the stylesheet and
+     * its rules are no longer reachable, and on some platforms it cannot be
+     * deleted or replaced until then.
+     *
      * @param url the {@code URL} from which the {@code Stylesheet} will be loaded
      * @return the loaded {@code Stylesheet}
      * @throws IOException if the binary stream corresponds to a more recent binary
@@ -338,6 +358,22 @@ public class Stylesheet {
             return null;
         }
 
+        Path path = getPath(url);
+        if (path != null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                ByteBuffer buffer;
+                if (size >= MIN_MAPPED_SIZE && size <= Integer.MAX_VALUE) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                } else {
+                    buffer = ByteBuffer.wrap(Channels.newInputStream(channel).readAllBytes());
+                }
+                return loadBinary(buffer, url.toExternalForm());
+            } catch (NoSuchFileException | AccessDeniedException ex) {
+                return null;
+            }
+        }
+
         try (InputStream stream = url.openStream()) {
             return loadBinary(stream, url.toExternalForm());
         } catch (FileNotFoundException ex) {
@@ -345,6 +381,19 @@ public class Stylesheet {
         }
     }
 
+    // Returns the path of a "file:" URL, or null if the URL does not denote
+    // a file of the default file system.
+    private static Path getPath(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException ex) {
+            return null;
+        }
+    }
+
     /**
      * Loads a binary stylesheet from a stream.
      *
@@ -360,43 +409,49 @@ public class Stylesheet {
     }
 
     private static Stylesheet loadBinary(InputStream stream, String uri) throws IOException {
-        Stylesheet stylesheet = null;
-
-        try (DataInputStream dataInputStream =
-                     new DataInputStream(new BufferedInputStream(stream, 40 * 1024))) {
-
-            // read file version
-            final int bssVersion = dataInputStream.readShort();
-            if (bssVersion > Stylesheet.BINARY_CSS_VERSION) {
-                throw new IOException(
-                    String.format("Wrong binary CSS version %s, expected version less than or equal to %s",
-                        uri != null ? bssVersion + " in stylesheet \"" + uri + "\"" : bssVersion,
-                        Stylesheet.BINARY_CSS_VERSION));
-            }
-            // read strings
-            final String[] strings = StringStore.readBinary(dataInputStream);
-            // read binary data
-            stylesheet = new Stylesheet(uri);
+        byte[] data;
+        try (stream) {
+            data = stream.readAllBytes();
+        }
+        return loadBinary(ByteBuffer.wrap(data), uri);
+    }
+
+    // The declarations of the rules are not decoded here. Each rule keeps a
+    // slice of the buffer, and decodes its declarations when they are first
+    // needed, which is typically when one of its selectors first matches.
+    private static Stylesheet loadBinary(ByteBuffer buffer, String uri) throws IOException {
+        BssInputStream dataInputStream = new BssInputStream(buffer);
+
+        // read file version
+        final int bssVersion = dataInputStream.readShort();
+        if (bssVersion > Stylesheet.BINARY_CSS_VERSION) {
+            throw new IOException(
+                String.format("Wrong binary CSS version %s, expected version less than or equal to %s",
+                    uri != null ? bssVersion + " in stylesheet \"" + uri + "\"" : bssVersion,
+                    Stylesheet.BINARY_CSS_VERSION));
+        }
+        // read strings
+        final String[] strings = StringStore.readBinary(dataInputStream);
+        // read binary data
+        Stylesheet stylesheet = new Stylesheet(uri);
+        final int start = dataInputStream.position();
 
-            try {
+        try {
 
-                dataInputStream.mark(Integer.MAX_VALUE);
-                stylesheet.readBinary(bssVersion, dataInputStream, strings);
+            stylesheet.readBinary(bssVersion, dataInputStream, strings);
 
-            } catch (Exception e) {
+        } catch (Exception e) {
 
-                stylesheet = new Stylesheet(uri);
+            stylesheet = new Stylesheet(uri);
 
-                dataInputStream.reset();
+            dataInputStream.position(start);
 
-                if (bssVersion == 2) {
-                    // JDK-8116809
-                    stylesheet.readBinary(3, dataInputStream, strings);
-                } else {
-                    stylesheet.readBinary(Stylesheet.BINARY_CSS_VERSION, dataInputStream, strings);
-                }
+            if (bssVersion == 2) {
+                // JDK-8116809
+                stylesheet.readBinary(3, dataInputStream, strings);
+            } else {
+                stylesheet.readBinary(Stylesheet.BINARY_CSS_VERSION, dataInputStream, strings);
             }
-
         }
 
         // return stylesheet
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.PickRay;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Vec3d;
+import com.sun.javafx.scene.input.PickResultChooser;
+
+/**
+ * A uniform grid over the bounds in parent of the children of a
+ * {@code Parent}, used to find the children that can be hit by a pick ray
+ * that is parallel to the z axis without testing every child.
+ * <p>
+ * The grid is built from the children in view order, and is rebuilt
+ * whenever the children list or the view order changes. Bounds changes and
+ * visibility changes of individual children are applied incrementally on
+ * the next pick. Children that are larger than {@link #MAX_CELLS_PER_CHILD}
+ * cells, or that are not contained in the extent of the grid, are kept in
+ * a separate overflow list that is tested for every pick.
+ */
+final class ChildPickIndex {
+
+    private static final int MAX_GRID_SIZE = 1024;
+    private static final int MAX_CELLS_PER_CHILD = 64;
+    private static final int MIN_OUTSIDE_FOR_REBUILD = 16;
+
+    // Bounds are stored in float precision while the pick ray is transformed
+    // in double precision, so points on the edge of a child are tested with
+    // some slack.
+    private static final double SLACK = 1e-3;
+
+    private static final Comparator<Entry> TOPMOST_FIRST = (a, b) -> Integer.compare(b.order, a.order);
+
+    private static final class Entry {
+        final Node node;
+        final int order;
+        float minX, minY, maxX, maxY;
+        boolean empty;
+        boolean dirty;
+        boolean inOverflow;
+        boolean outside;
+        // cell range, or -1 if the entry is not stored in the grid
+        int col0 = -1, row0, col1, row1;
+
+        Entry(Node node, int order) {
+            this.node = node;
+            this.order = order;
+        }
+
+        boolean contains(double x, double y) {
+            return !empty
+                    && x >= minX - slack(minX) && x <= maxX + slack(maxX)
+                    && y >= minY - slack(minY) && y <= maxY + slack(maxY);
+        }
+    }
+
+    private static double slack(float v) {
+        return SLACK + Math.ulp(v) * 2;
+    }
+
+    private final Parent parent;
+    private final IdentityHashMap<Node, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> pending = new ArrayList<>();
+    private final List<Entry> overflow = new ArrayList<>();
+    private BaseBounds tmp = new RectBounds();
+    private boolean valid;
+
+    private float originX, originY, extentX, extentY, cellWidth, cellHeight;
+    private int cols, rows;
+    private int outsideCount;
+    private Entry[][] cells;
+    private int[] cellCounts;
+
+    private Entry[] candidates = new Entry[16];
+
+    ChildPickIndex(Parent parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Discards the grid. It will be rebuilt on the next pick.
+     */
+    void invalidate() {
+        if (valid) {
+            valid = false;
+            entries.clear();
+            pending.clear();
+            overflow.clear();
+            cells = null;
+            cellCounts = null;
+        }
+    }
+
+    /**
+     * Records that the bounds or the visibility of a child have changed.
+     */
+    void childChanged(Node node) {
+        if (!valid) {
+            return;
+        }
+        Entry entry = entries.get(node);
+        if (entry == null) {
+            invalidate();
+        } else if (!entry.dirty) {
+            entry.dirty = true;
+            pending.add(entry);
+        }
+    }
+
+    /**
+     * Picks the children in the same way as testing all of them in reverse
+     * view order would. The pick ray must be parallel to the z axis.
+     *
+     * @return false if the pick result was closed by one of the children
+     */
+    boolean pick(List<Node> orderedChildren, PickRay pickRay, PickResultChooser result) {
+        if (!valid) {
+            build(orderedChildren);
+        } else if (!pending.isEmpty()) {
+            for (int i = 0, max = pending.size(); i < max; i++) {
+                Entry entry = pending.get(i);
+                entry.dirty = false;
+                remove(entry);
+                updateBounds(entry);
+                insert(entry);
+            }
+            pending.clear();
+            if (outsideCount > Math.max(MIN_OUTSIDE_FOR_REBUILD, entries.size() >> 3)) {
+                // Too many children moved out of the grid
+                build(orderedChildren);
+            }
+        }
+
+        Vec3d origin = pickRay.getOriginNoClone();
+        double x = origin.x;
+        double y = origin.y;
+        int count = 0;
+
+        for (int i = 0, max = overflow.size(); i < max; i++) {
+            Entry entry = overflow.get(i);
+            if (entry.contains(x, y)) {
+                count = addCandidate(entry, count);
+            }
+        }
+
+        if (x >= originX - slack(originX) && x <= extentX + slack(extentX)
+                && y >= originY - slack(originY) && y <= extentY + slack(extentY)) {
+            int col = Math.clamp((long) Math.floor((x - originX) / cellWidth), 0, cols - 1);
+            int row = Math.clamp((long) Math.floor((y - originY) / cellHeight), 0, rows - 1);
+            int cell = row * cols + col;
+            Entry[] cellEntries = cells[cell];
+            for (int i = 0, max = cellCounts[cell]; i < max; i++) {
+                Entry entry = cellEntries[i];
+                if (entry.contains(x, y)) {
+                    count = addCandidate(entry, count);
+                }
+            }
+        }
+
+        Arrays.sort(candidates, 0, count, TOPMOST_FIRST);
+        try {
+            for (int i = 0; i < count; i++) {
+                candidates[i].node.pickNode(pickRay, result);
+                if (result.isClosed()) {
+                    return false;
+                }
+            }
+        } finally {
+            Arrays.fill(candidates, 0, count, null);
+        }
+        return true;
+    }
+
+    private int addCandidate(Entry entry, int count) {
+        if (count == candidates.length) {
+            candidates = Arrays.copyOf(candidates, count << 1);
+        }
+        candidates[count] = entry;
+        return count + 1;
+    }
+
+    private void build(List<Node> orderedChildren) {
+        entries.clear();
+        pending.clear();
+        overflow.clear();
+        outsideCount = 0;
+
+        int size = orderedChildren.size();
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+        Entry[] all = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = new Entry(orderedChildren.get(i), i);
+            updateBounds(entry);
+            if (!entry.empty) {
+                minX = Math.min(minX, entry.minX);
+                minY = Math.min(minY, entry.minY);
+                maxX = Math.max(maxX, entry.maxX);
+                maxY = Math.max(maxY, entry.maxY);
+            }
+            entries.put(entry.node, entry);
+            all[i] = entry;
+        }
+
+        if (minX > maxX) {
+            // no child can be picked, use a single empty cell
+            minX = minY = 0;
+            maxX = maxY = 1;
+        }
+
+        int side = Math.max(1, Math.min(MAX_GRID_SIZE, (int) Math.ceil(Math.sqrt(size))));
+        cols = rows = side;
+        originX = minX;
+        originY = minY;
+        extentX = maxX;
+        extentY = maxY;
+        cellWidth = Math.max((maxX - minX) / cols, Float.MIN_NORMAL);
+        cellHeight = Math.max((maxY - minY) / rows, Float.MIN_NORMAL);
+        cells = new Entry[cols * rows][];
+        cellCounts = new int[cols * rows];
+
+        for (Entry entry : all) {
+            insert(entry);
+        }
+        valid = true;
+    }
+
+    private void updateBounds(Entry entry) {
+        Node node = entry.node;
+        if (!node.isVisible()) {
+            entry.empty = true;
+            return;
+        }
+        tmp = parent.getChildBoundsInParent(node, tmp);
+        entry.empty = tmp.isEmpty();
+        entry.minX = tmp.getMinX();
+        entry.minY = tmp.getMinY();
+        entry.maxX = tmp.getMaxX();
+        entry.maxY = tmp.getMaxY();
+    }
+
+    private void insert(Entry entry) {
+        if (entry.empty) {
+            // invisible or empty children cannot be picked
+            return;
+        }
+
+        int col0 = (int) Math.floor((entry.minX - originX) / cellWidth);
+        int row0 = (int) Math.floor((entry.minY - originY) / cellHeight);
+        int col1 = (int) Math.floor((entry.maxX - originX) / cellWidth);
+        int row1 = (int) Math.floor((entry.maxY - originY) / cellHeight);
+
+        // The right and bottom edges of the grid belong to the last cell
+        col1 = Math.min(col1, cols - 1);
+        row1 = Math.min(row1, rows - 1);
+
+        // Grow by one cell where the slack could reach into a neighbor
+        col0 = Math.max(col0 - 1, 0);
+        row0 = Math.max(row0 - 1, 0);
+        col1 = Math.min(col1 + 1, cols - 1);
+        row1 = Math.min(row1 + 1, rows - 1);
+
+        entry.outside = entry.minX < originX || entry.minY < originY
+                || entry.maxX > extentX || entry.maxY > extentY;
+        long cellCount = (long) (col1 - col0 + 1) * (row1 - row0 + 1);
+        if (entry.outside || cellCount > MAX_CELLS_PER_CHILD) {
+            if (entry.outside) {
+                outsideCount++;
+            }
+            entry.inOverflow = true;
+            overflow.add(entry);
+            return;
+        }
+
+        entry.col0 = col0;
+        entry.row0 = row0;
+        entry.col1 = col1;
+        entry.row1 = row1;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * cols + col;
+                Entry[] cellEntries = cells[cell];
+                int n = cellCounts[cell];
+                if (cellEntries == null) {
+                    cellEntries = cells[cell] = new Entry[4];
+                } else if (n == cellEntries.length) {
+                    cellEntries = cells[cell] = Arrays.copyOf(cellEntries, n << 1);
+                }
+                cellEntries[n] = entry;
+                cellCounts[cell] = n + 1;
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entry.inOverflow) {
+            if (entry.outside) {
+                outsideCount--;
+            }
+            entry.inOverflow = false;
+            entry.outside = false;
+            overflow.remove(entry);
+            return;
+        }
+        if (entry.col0 < 0) {
+            return;
+        }
+        for (int row = entry.row0; row <= entry.row1; row++) {
+            for (int col = entry.col0; col <= entry.col1; col++) {
+                int cell = row * cols + col;
+                Entry[] cellEntries = cells[cell];
+                int last = --cellCounts[cell];
+                for (int i = 0; i <= last; i++) {
+                    if (cellEntries[i] == entry) {
+                        cellEntries[i] = cellEntries[last];
+                        break;
+                    }
+                }
+                cellEntries[last] = null;
+            }
+        }
+        entry.col0 = -1;
+    }
+}
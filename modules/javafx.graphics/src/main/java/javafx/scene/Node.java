@@ -149,6 +149,7 @@ import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.perf.PerformanceTracker;
 import com.sun.javafx.scene.AbstractNode;
 import com.sun.javafx.scene.BoundsAccessor;
@@ -10048,6 +10049,7 @@ public abstract sealed class Node
     }
 
     void processCSS() {
+        final long start = PulseLogger.NODE_LOGGING_ENABLED && cssFlag != CssFlags.CLEAN ? System.nanoTime() : 0;
         switch (cssFlag) {
             case CLEAN:
                 break;
@@ -10068,6 +10070,24 @@ public abstract sealed class Node
             default:
                 NodeHelper.processCSS(this);
         }
+        if (start != 0) {
+            logNodePhase("CSS", start);
+        }
+    }
+
+    /**
+     * Reports the time taken by a phase of the pulse for this node and its
+     * subtree to the pulse loggers, if it is at least the node threshold.
+     */
+    final void logNodePhase(String phase, long start) {
+        final long elapsed = System.nanoTime() - start;
+        if (elapsed >= PulseLogger.NODE_THRESHOLD) {
+            int depth = 0;
+            for (Parent p = getParent(); p != null; p = p.getParent()) {
+                depth++;
+            }
+            PulseLogger.nodePhase(phase, getClass().getName(), String.join(" ", getStyleClass()), depth, elapsed);
+        }
     }
 
     /**
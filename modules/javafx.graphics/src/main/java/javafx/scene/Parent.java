@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,8 +47,10 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Vec3d;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.scene.input.PickResultChooser;
@@ -85,6 +87,11 @@ public abstract non-sealed class Parent extends Node {
     // parent if it is currently a child of another parent.
     private static final boolean warnOnAutoMove = Boolean.getBoolean("javafx.sg.warn");
 
+    // If set to a positive value, picking in a parent with at least this many
+    // children uses a spatial index over the bounds of the children instead
+    // of testing every child. Disabled by default. Not final for testing.
+    static int pickIndexThreshold = Integer.getInteger("javafx.sg.pickIndexThreshold", 0);
+
     /**
      * Threshold when it's worth to populate list of removed children.
      */
@@ -265,6 +272,9 @@ public abstract non-sealed class Parent extends Node {
 
     void markViewOrderChildrenDirty() {
         viewOrderChildren.clear();
+        if (pickIndex != null) {
+            pickIndex.invalidate();
+        }
         NodeHelper.markDirty(this, DirtyBits.PARENT_CHILDREN_VIEW_ORDER);
     }
 
@@ -479,6 +489,10 @@ public abstract non-sealed class Parent extends Node {
                 markViewOrderChildrenDirty();
             }
 
+            if (pickIndex != null) {
+                pickIndex.invalidate();
+            }
+
             c.reset();
             updateStructuralPseudoClasses(c, firstDirtyChildIndex);
         }
@@ -865,8 +879,31 @@ public abstract non-sealed class Parent extends Node {
         }
     }
 
+    /**
+     * The spatial index used for picking, or null if it is not used. It is
+     * only created when pickIndexThreshold is enabled and reached.
+     */
+    private ChildPickIndex pickIndex;
+
     boolean pickChildrenNode(PickRay pickRay, PickResultChooser result) {
         List<Node> orderedChildren = getOrderedChildren();
+        if (pickIndexThreshold > 0) {
+            if (orderedChildren.size() >= pickIndexThreshold) {
+                // The index only applies to rays that hit a single point
+                // in the x/y plane of this parent.
+                Vec3d dir = pickRay.getDirectionNoClone();
+                if (dir.x == 0 && dir.y == 0 && dir.z != 0) {
+                    if (pickIndex == null) {
+                        pickIndex = new ChildPickIndex(this);
+                    }
+                    return pickIndex.pick(orderedChildren, pickRay, result);
+                }
+            } else {
+                pickIndex = null;
+            }
+        } else {
+            pickIndex = null;
+        }
         for (int i = orderedChildren.size() - 1; i >= 0; i--) {
             orderedChildren.get(i).pickNode(pickRay, result);
             if (result.isClosed()) {
@@ -1264,6 +1301,7 @@ public abstract non-sealed class Parent extends Node {
         // Hence we need to cache and reset it before performing layout.
         LayoutFlags flag = layoutFlag;
         setLayoutFlag(LayoutFlags.CLEAN);
+        final long start = PulseLogger.NODE_LOGGING_ENABLED && flag != LayoutFlags.CLEAN ? System.nanoTime() : 0;
         switch(flag) {
             case CLEAN:
                 break;
@@ -1296,6 +1334,9 @@ public abstract non-sealed class Parent extends Node {
                 performingLayout = false;
                 break;
         }
+        if (start != 0) {
+            logNodePhase("Layout", start);
+        }
     }
 
     /**
@@ -1926,6 +1967,11 @@ public abstract non-sealed class Parent extends Node {
         return bounds;
     }
 
+    // Used by ChildPickIndex
+    BaseBounds getChildBoundsInParent(Node node, BaseBounds bounds) {
+        return getChildTransformedBounds(node, BaseTransform.IDENTITY_TRANSFORM, bounds);
+    }
+
     /**
      * Called by Node whenever its bounds have changed.
      */
@@ -1946,6 +1992,10 @@ public abstract non-sealed class Parent extends Node {
 
         cachedBoundsInvalid = true;
 
+        if (pickIndex != null) {
+            pickIndex.childChanged(node);
+        }
+
         // mark the node such that the parent knows that the child's bounds
         // are not in sync with this parent. In this way, when the bounds
         // need to be computed, we'll come back and figure out the new bounds
@@ -1973,6 +2023,10 @@ public abstract non-sealed class Parent extends Node {
             childExcluded(node);
         }
 
+        if (pickIndex != null) {
+            pickIndex.childChanged(node);
+        }
+
         NodeHelper.geomChanged(this);
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,7 +32,11 @@ import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.regex.Pattern;
@@ -857,7 +861,7 @@ public class Image {
      */
     public void cancel() {
         if (backgroundTask != null) {
-            backgroundTask.cancel();
+            backgroundTask.cancel(this);
         }
     }
 
@@ -893,13 +897,25 @@ public class Image {
                 loader = loadImage(inputSource, getRequestedWidth(), getRequestedHeight(),
                                    isPreserveRatio(), isSmooth());
             } else {
-                loader = loadImage(getUrl(), getRequestedWidth(), getRequestedHeight(),
-                                   isPreserveRatio(), isSmooth());
+                final ImageCache cache = ImageCache.getInstance();
+                final ImageCache.Key key = cache != null ? getCacheKey() : null;
+                loader = key != null ? cache.get(key) : null;
+                if (loader == null) {
+                    loader = loadImage(getUrl(), getRequestedWidth(), getRequestedHeight(),
+                                       isPreserveRatio(), isSmooth());
+                    if (key != null) {
+                        cache.put(key, loader);
+                    }
+                }
             }
             finishImage(loader);
         }
     }
 
+    private ImageCache.Key getCacheKey() {
+        return new ImageCache.Key(url, requestedWidth, requestedHeight, preserveRatio, smooth);
+    }
+
     private void finishImage(ImageLoader loader) {
         final Exception loadingException = loader.getException();
         if (loadingException != null) {
@@ -932,14 +948,21 @@ public class Image {
     // the animation, so most of the data can be garbage collected while
     // the animation is still running.
     private PlatformImage[] animFrames;
+    // The loader of an animation whose frames are decoded while it plays,
+    // instead of animFrames.
+    private ImageLoader streamingLoader;
 
     // Generates the animation Timeline for multiframe images.
     private void initializeAnimatedImage(ImageLoader loader) {
         final int frameCount = loader.getFrameCount();
-        animFrames = new PlatformImage[frameCount];
+        if (loader.isStreaming()) {
+            streamingLoader = loader;
+        } else {
+            animFrames = new PlatformImage[frameCount];
 
-        for (int i = 0; i < frameCount; ++i) {
-            animFrames[i] = loader.getFrame(i);
+            for (int i = 0; i < frameCount; ++i) {
+                animFrames[i] = loader.getFrame(i);
+            }
         }
 
         PlatformImage zeroFrame = loader.getFrame(0);
@@ -995,8 +1018,14 @@ public class Image {
         private void updateImage(final int frameIndex) {
             final Image image = imageRef.get();
             if (image != null) {
-                image.platformImagePropertyImpl().set(
-                        image.animFrames[frameIndex]);
+                final PlatformImage frame = image.streamingLoader != null
+                        ? image.streamingLoader.getFrame(frameIndex)
+                        : image.animFrames[frameIndex];
+                // A streamed frame that is not decoded yet is skipped, and
+                // the previous frame is shown instead
+                if (frame != null) {
+                    image.platformImagePropertyImpl().set(frame);
+                }
             } else {
                 timeline.stop();
             }
@@ -1010,7 +1039,7 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
+    private static void cycleTasks() {
         synchronized (pendingTasks) {
             runningTasks--;
             // do we have any pending tasks to run ?
@@ -1025,14 +1054,37 @@ public class Image {
     }
 
     private void loadInBackground() {
-        backgroundTask = new ImageTask();
+        final ImageCache cache = inputSource == null ? ImageCache.getInstance() : null;
+        final ImageCache.Key key = cache != null ? getCacheKey() : null;
+        if (key != null) {
+            final ImageLoader loader = cache.get(key);
+            if (loader != null) {
+                finishImage(loader);
+                return;
+            }
+        }
+
         // This is an artificial throttle on background image loading tasks.
         // It has been shown that with large images, we can quickly use up the
         // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
+        // The default limit of MAX_RUNNING_TASKS is arbitrary, and was based
+        // on initial testing with
         // about 60 2-6 megapixel images.
         synchronized (pendingTasks) {
+            if (key != null) {
+                // Wait for the image that is already being loaded with the
+                // same key, if any.
+                final ImageTask sharedTask = sharedTasks.get(key);
+                if (sharedTask != null) {
+                    sharedTask.images.add(this);
+                    backgroundTask = sharedTask;
+                    return;
+                }
+            }
+            backgroundTask = new ImageTask(this, key);
+            if (key != null) {
+                sharedTasks.put(key, backgroundTask);
+            }
             if (runningTasks >= MAX_RUNNING_TASKS) {
                 pendingTasks.offer(backgroundTask);
             } else {
@@ -1087,35 +1139,55 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
+    private static final int MAX_RUNNING_TASKS =
+            Math.max(1, Integer.getInteger("javafx.image.maxLoadingTasks", 4));
     private static int runningTasks = 0;
     private static final Queue<ImageTask> pendingTasks =
             new LinkedList<>();
+    // The tasks that load cacheable images, which images with the same key
+    // wait for rather than loading the image again.
+    private static final Map<ImageCache.Key, ImageTask> sharedTasks =
+            new HashMap<>();
 
-    private final class ImageTask
+    private static final class ImageTask
             implements AsyncOperationListener<ImageLoader> {
 
         private final AsyncOperation peer;
-
-        public ImageTask() {
-            peer = constructPeer();
+        private final ImageCache.Key cacheKey;
+        // The images that wait for this task, guarded by pendingTasks
+        private final List<Image> images = new ArrayList<>(1);
+
+        public ImageTask(Image image, ImageCache.Key cacheKey) {
+            this.cacheKey = cacheKey;
+            images.add(image);
+            peer = constructPeer(image);
         }
 
         @Override
         public void onCancel() {
-            finishImage(new CancellationException("Loading cancelled"));
+            for (Image image : takeImages()) {
+                image.finishImage(new CancellationException("Loading cancelled"));
+            }
             cycleTasks();
         }
 
         @Override
         public void onException(Exception exception) {
-            finishImage(exception);
+            for (Image image : takeImages()) {
+                image.finishImage(exception);
+            }
             cycleTasks();
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
-            finishImage(value);
+            final ImageCache cache = ImageCache.getInstance();
+            if (cacheKey != null && cache != null) {
+                cache.put(cacheKey, value);
+            }
+            for (Image image : takeImages()) {
+                image.finishImage(value);
+            }
             cycleTasks();
         }
 
@@ -1123,8 +1195,10 @@ public class Image {
         public void onProgress(long cur, long max) {
             if (max > 0) {
                 double curProgress = (double) cur / max;
-                if ((curProgress < 1) && (curProgress >= (getProgress() + 0.1))) {
-                    setProgress(curProgress);
+                for (Image image : getImages()) {
+                    if ((curProgress < 1) && (curProgress >= (image.getProgress() + 0.1))) {
+                        image.setProgress(curProgress);
+                    }
                 }
             }
         }
@@ -1133,16 +1207,55 @@ public class Image {
             peer.start();
         }
 
-        public void cancel() {
-            peer.cancel();
+        // Cancels the loading of the given image. The task itself is only
+        // cancelled when no other image waits for it.
+        public void cancel(Image image) {
+            final boolean shared;
+            synchronized (pendingTasks) {
+                if (!images.contains(image)) {
+                    return;
+                }
+                shared = images.size() > 1;
+                if (shared) {
+                    images.remove(image);
+                } else if (cacheKey != null) {
+                    // Stop sharing the task before cancelling it, so that
+                    // no other image waits for a cancelled task
+                    sharedTasks.remove(cacheKey, this);
+                }
+            }
+            if (shared) {
+                image.finishImage(new CancellationException("Loading cancelled"));
+            } else {
+                peer.cancel();
+            }
+        }
+
+        private List<Image> getImages() {
+            synchronized (pendingTasks) {
+                return List.copyOf(images);
+            }
+        }
+
+        private List<Image> takeImages() {
+            synchronized (pendingTasks) {
+                if (cacheKey != null) {
+                    sharedTasks.remove(cacheKey, this);
+                }
+                final List<Image> result = List.copyOf(images);
+                images.clear();
+                return result;
+            }
         }
 
-        private AsyncOperation constructPeer() {
-            if(inputSource == null) {
-                return loadImageAsync(this, url, requestedWidth, requestedHeight, preserveRatio, smooth);
+        private AsyncOperation constructPeer(Image image) {
+            if(image.inputSource == null) {
+                return loadImageAsync(this, image.url, image.requestedWidth, image.requestedHeight,
+                                      image.preserveRatio, image.smooth);
             }
 
-            return loadImageAsync(this, inputSource, requestedWidth, requestedHeight, preserveRatio, smooth);
+            return loadImageAsync(this, image.inputSource, image.requestedWidth, image.requestedHeight,
+                                  image.preserveRatio, image.smooth);
         }
     }
 
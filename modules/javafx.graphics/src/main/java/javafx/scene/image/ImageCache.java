@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.tk.ImageLoader;
+
+/**
+ * A process-wide cache of the decoded images that were loaded from a URL,
+ * so that {@code Image} instances with the same URL, requested size, smooth
+ * and preserveRatio flags share the same platform images instead of
+ * decoding them again.
+ * <p>
+ * The cache is disabled unless the {@code javafx.image.cacheSize} system
+ * property is set to a positive number of bytes. The least recently used
+ * images are evicted when the estimated size of the cached images exceeds
+ * that budget. Evicted images are still softly referenced, so that they
+ * can be found again until the garbage collector needs their memory.
+ * All methods of this class are thread safe.
+ */
+final class ImageCache {
+
+    record Key(String url, double width, double height,
+               boolean preserveRatio, boolean smooth) {}
+
+    private static final class SoftEntry extends SoftReference<ImageLoader> {
+        final Key key;
+
+        SoftEntry(Key key, ImageLoader loader, ReferenceQueue<ImageLoader> queue) {
+            super(loader, queue);
+            this.key = key;
+        }
+    }
+
+    private static final long DEFAULT_MAX_SIZE = Long.getLong("javafx.image.cacheSize", 0);
+
+    // Not final, so that tests can enable the cache.
+    static ImageCache instance = DEFAULT_MAX_SIZE > 0 ? new ImageCache(DEFAULT_MAX_SIZE) : null;
+
+    private final long maxSize;
+    private final LinkedHashMap<Key, ImageLoader> images = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Key, SoftEntry> evictedImages = new HashMap<>();
+    private final ReferenceQueue<ImageLoader> queue = new ReferenceQueue<>();
+    private long size;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    ImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache, or null if the cache is disabled.
+     */
+    static ImageCache getInstance() {
+        return instance;
+    }
+
+    synchronized ImageLoader get(Key key) {
+        expungeClearedEntries();
+        ImageLoader loader = images.get(key);
+        if (loader == null) {
+            SoftEntry entry = evictedImages.remove(key);
+            loader = entry != null ? entry.get() : null;
+            if (loader != null) {
+                add(key, loader);
+            }
+        }
+        if (loader != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return loader;
+    }
+
+    /**
+     * Adds an image that was loaded without error. Images that are larger
+     * than the whole budget, and animations whose frames are decoded while
+     * they play, are not added.
+     */
+    synchronized void put(Key key, ImageLoader loader) {
+        if (loader.getException() != null || loader.isStreaming() || getSize(loader) > maxSize) {
+            return;
+        }
+        expungeClearedEntries();
+        evictedImages.remove(key);
+        ImageLoader old = images.remove(key);
+        if (old != null) {
+            size -= getSize(old);
+        }
+        add(key, loader);
+    }
+
+    synchronized void clear() {
+        images.clear();
+        evictedImages.clear();
+        size = 0;
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void add(Key key, ImageLoader loader) {
+        images.put(key, loader);
+        size += getSize(loader);
+
+        Iterator<Map.Entry<Key, ImageLoader>> it = images.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Map.Entry<Key, ImageLoader> eldest = it.next();
+            size -= getSize(eldest.getValue());
+            it.remove();
+            evictedImages.put(eldest.getKey(), new SoftEntry(eldest.getKey(), eldest.getValue(), queue));
+            evictionCount++;
+        }
+    }
+
+    private void expungeClearedEntries() {
+        SoftEntry entry;
+        while ((entry = (SoftEntry) queue.poll()) != null) {
+            evictedImages.remove(entry.key, entry);
+        }
+    }
+
+    // An estimate of the memory used by the frames of an image, which are
+    // stored with 4 bytes per pixel.
+    private static long getSize(ImageLoader loader) {
+        int frameCount = loader.getFrameCount();
+        if (frameCount == 0) {
+            return 0;
+        }
+        double scale = loader.getFrame(0).getPixelScale();
+        return (long) (loader.getWidth() * scale) * (long) (loader.getHeight() * scale) * 4 * frameCount;
+    }
+}
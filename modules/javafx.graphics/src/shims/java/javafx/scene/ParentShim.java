@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -62,4 +62,12 @@ public class ParentShim extends Parent {
     public static List<Node> test_getViewOrderChildren(Parent p) {
         return p.test_getViewOrderChildren();
     }
+
+    public static int getPickIndexThreshold() {
+        return Parent.pickIndexThreshold;
+    }
+
+    public static void setPickIndexThreshold(int threshold) {
+        Parent.pickIndexThreshold = threshold;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -68,4 +68,16 @@ public class ImageShim extends Image {
         image.setProgress(value);
     }
 
+    public static void setImageCacheSize(long maxSize) {
+        ImageCache.instance = maxSize > 0 ? new ImageCache(maxSize) : null;
+    }
+
+    public static long getImageCacheSize() {
+        return ImageCache.getInstance().getSize();
+    }
+
+    public static long getImageCacheHitCount() {
+        return ImageCache.getInstance().getHitCount();
+    }
+
 }
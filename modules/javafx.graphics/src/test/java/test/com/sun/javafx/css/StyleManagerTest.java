@@ -44,12 +44,18 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
+import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.AfterAll;
@@ -58,6 +64,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1175,4 +1183,73 @@ public class StyleManagerTest {
             Application.setUserAgentStylesheet(userAgentStylesheet);
         }
     }
+
+    @Test
+    public void testPreloadedStylesheetIsUsedOnce() {
+        String url = "/test/com/sun/javafx/css/ua0.css";
+        StyleManager.preloadStylesheets(List.of(url));
+
+        Stylesheet preloaded = StyleManager.loadStylesheet(url);
+        assertNotNull(preloaded);
+        assertFalse(preloaded.getRules().isEmpty());
+
+        Stylesheet loaded = StyleManager.loadStylesheet(url);
+        assertNotSame(preloaded, loaded);
+        assertEquals(preloaded.getRules().size(), loaded.getRules().size());
+    }
+
+    @Test
+    public void testPreloadErrorsAreReportedWhenStylesheetIsUsed() {
+        var errors = StyleManager.errorsProperty();
+        errors.clear();
+        try {
+            String url = "/test/com/sun/javafx/css/does-not-exist.css";
+            StyleManager.preloadStylesheets(List.of(url));
+            assertNull(StyleManager.loadStylesheet(url));
+            assertEquals(1, errors.size());
+        } finally {
+            errors.clear();
+        }
+    }
+
+    @Test
+    public void testStylesheetsWithImportsArePreloadedInParallel() throws Exception {
+        Path dir = Files.createTempDirectory("preload");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        var errors = StyleManager.errorsProperty();
+        errors.clear();
+        try {
+            Files.writeString(dir.resolve("base.css"), ".base { -fx-fill: red; }");
+            Files.writeString(dir.resolve("middle.css"), "@import \"base.css\";\n.middle { -fx-fill: green; }");
+            List<String> urls = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                Path file = dir.resolve("sheet" + i + ".css");
+                Files.writeString(file, "@import \"middle.css\";\n@import \"base.css\";\n.sheet" + i + " { -fx-fill: blue; }");
+                urls.add(file.toUri().toString());
+            }
+
+            // Parse the stylesheets on other threads while they are preloaded
+            StyleManager.preloadStylesheets(urls);
+            List<Future<Stylesheet>> parsed = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                for (String url : urls) {
+                    parsed.add(executor.submit(() -> new CssParser().parse(new URL(url))));
+                }
+            }
+            for (Future<Stylesheet> stylesheet : parsed) {
+                assertEquals(4, stylesheet.get().getRules().size());
+            }
+            for (String url : urls) {
+                assertEquals(4, StyleManager.loadStylesheet(url).getRules().size());
+            }
+            assertTrue(errors.isEmpty());
+        } finally {
+            executor.shutdown();
+            errors.clear();
+            for (File file : dir.toFile().listFiles()) {
+                file.delete();
+            }
+            Files.delete(dir);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package test.com.sun.javafx.iio;
 
 import com.sun.javafx.iio.ImageFormatDescription;
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameSequence;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageLoaderFactory;
 import com.sun.javafx.iio.ImageStorage;
@@ -148,6 +149,54 @@ public class ImageStorageTest {
         assertEquals(frames.length, 2);
     }
 
+    private static byte[] getData(ImageFrame frame) {
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void testLoadSequenceDecodesFramesThatFit() throws ImageStorageException {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrameSequence sequence = new ImageStorage().loadSequence(path, null, 0, 0, true, 1.0f, true, Long.MAX_VALUE);
+        assertTrue(sequence.isDecoded());
+        assertEquals(3, sequence.getFrameCount());
+        assertNotNull(sequence.getFrame(2));
+    }
+
+    @Test
+    public void testLoadSequenceDecodesFramesOnDemand() throws IOException {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrame[] frames = new ImageStorage().loadAll(path, null, 0, 0, true, 1.0f, true);
+        ImageFrameSequence sequence = new ImageStorage().loadSequence(path, null, 0, 0, true, 1.0f, true, 1);
+        assertFalse(sequence.isDecoded());
+        assertEquals(3, sequence.getFrameCount());
+        assertArrayEquals(getData(frames[0]), getData(sequence.getFrame(0)));
+        assertNull(sequence.getFrame(1));
+
+        // The decoders start again from the first frame
+        for (int pass = 0; pass < 2; pass++) {
+            ImageFrameSequence.Decoder decoder = sequence.createDecoder();
+            for (int i = 0; i < frames.length; i++) {
+                assertEquals(i, decoder.getIndex());
+                assertEquals(frames[i].getMetadata().delayTime, sequence.getDelayTime(i));
+                assertArrayEquals(getData(frames[i]), getData(decoder.next()));
+            }
+            assertNull(decoder.next());
+            decoder.dispose();
+        }
+    }
+
+    @Test
+    public void testLoadSequenceOfSingleImage() throws ImageStorageException {
+        String path = getResourcePath("lightblue.png");
+        ImageFrameSequence sequence = new ImageStorage().loadSequence(path, null, 0, 0, true, 1.0f, true, 1);
+        assertTrue(sequence.isDecoded());
+        assertEquals(1, sequence.getFrameCount());
+        assertEquals(40, sequence.getFrame(0).getWidth());
+    }
+
     @Test
     public void testCorruptFirstFrame() {
         String path = getResourcePath("gif/animation/testBad.gif");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,15 +25,32 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.common.ImageTools;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class PNGImageLoaderTest {
@@ -86,4 +103,211 @@ public class PNGImageLoaderTest {
             testImage(stream);
         });
     }
+
+    private static byte[] createImage(int w, int h, int type, boolean interlaced) throws IOException {
+        BufferedImage bImg = new BufferedImage(w, h, type);
+        ImageTestHelper.drawImageRandom(bImg);
+        return write(bImg, interlaced);
+    }
+
+    private static byte[] write(BufferedImage bImg, boolean interlaced) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            try {
+                writer.write(null, new IIOImage(bImg, null, null), iwp);
+            } finally {
+                writer.dispose();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static ImageFrame load(byte[] png, int w, int h, boolean smooth) throws IOException {
+        return new PNGImageLoader2(new ByteArrayInputStream(png)).load(0, w, h, false, smooth, 1, 1);
+    }
+
+    private static byte[] getData(ImageFrame frame) {
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static void assertSameImage(ImageFrame expected, ImageFrame actual) {
+        assertEquals(expected.getImageType(), actual.getImageType());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertArrayEquals(getData(expected), getData(actual));
+    }
+
+    private static void testScaledLoad(int type, boolean smooth) throws IOException {
+        byte[] png = createImage(300, 200, type, false);
+        ImageFrame full = load(png, 0, 0, smooth);
+        ImageFrame expected = ImageTools.scaleImageFrame(full, 70, 40, smooth);
+        assertSameImage(expected, load(png, 70, 40, smooth));
+    }
+
+    @Test
+    public void testScaledLoadRGB() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_RGB, true);
+        testScaledLoad(BufferedImage.TYPE_INT_RGB, false);
+    }
+
+    @Test
+    public void testScaledLoadARGB() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_ARGB, true);
+    }
+
+    @Test
+    public void testScaledLoadPalette() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_BYTE_INDEXED, true);
+    }
+
+    @Test
+    public void testScaledLoadOnlyDecodesFirstPassOfInterlacedImage() throws IOException {
+        byte[] png = createImage(160, 96, BufferedImage.TYPE_INT_RGB, true);
+        ImageFrame full = load(png, 0, 0, false);
+
+        // The first pass has every 8th pixel of every 8th row
+        int w = 20, h = 12;
+        byte[] fullData = getData(full);
+        byte[] firstPass = new byte[w * h * 3];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                System.arraycopy(fullData, (y * 8 * full.getWidth() + x * 8) * 3, firstPass, (y * w + x) * 3, 3);
+            }
+        }
+        ImageFrame expected = ImageTools.scaleImageFrame(
+                new ImageFrame(full.getImageType(), ByteBuffer.wrap(firstPass), w, h, w * 3, null), 16, 10, true);
+        assertSameImage(expected, load(png, 16, 10, true));
+
+        // Larger sizes need more passes
+        assertSameImage(full, load(png, 160, 96, true));
+        assertEquals(100, load(png, 100, 50, true).getWidth());
+    }
+
+    private static void testLoadRegion(boolean interlaced) throws IOException {
+        byte[] png = createImage(120, 90, BufferedImage.TYPE_INT_ARGB, interlaced);
+        ImageFrame full = load(png, 0, 0, false);
+
+        ImageFrame region = new PNGImageLoader2(new ByteArrayInputStream(png)).loadRegion(0, 30, 20, 50, 40);
+        assertSameImage(ImageTools.cropImageFrame(full, 30, 20, 50, 40), region);
+
+        // The region is clipped to the image
+        region = new PNGImageLoader2(new ByteArrayInputStream(png)).loadRegion(0, 100, -10, 50, 40);
+        assertSameImage(ImageTools.cropImageFrame(full, 100, 0, 20, 30), region);
+    }
+
+    @Test
+    public void testLoadRegion() throws IOException {
+        testLoadRegion(false);
+    }
+
+    @Test
+    public void testLoadRegionOfInterlacedImage() throws IOException {
+        testLoadRegion(true);
+    }
+
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a), pb = Math.abs(p - b), pc = Math.abs(p - c);
+        return (pa <= pb && pa <= pc) ? a : (pb <= pc) ? b : c;
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(type.getBytes(StandardCharsets.US_ASCII));
+        crc.update(data);
+        out.writeInt(data.length);
+        out.writeBytes(type);
+        out.write(data);
+        out.writeInt((int) crc.getValue());
+    }
+
+    // Encodes the rows of an image with each filter type in turn.
+    private static byte[] encode(byte[] pixels, int w, int h, int bitDepth, int colorType, int bpp) throws IOException {
+        int rowSize = w * bpp;
+        ByteArrayOutputStream filtered = new ByteArrayOutputStream();
+        for (int y = 0; y < h; y++) {
+            int filter = y % 5;
+            filtered.write(filter);
+            for (int i = 0; i < rowSize; i++) {
+                int pos = y * rowSize + i;
+                int x = pixels[pos] & 0xff;
+                int a = i >= bpp ? pixels[pos - bpp] & 0xff : 0;
+                int b = y > 0 ? pixels[pos - rowSize] & 0xff : 0;
+                int c = i >= bpp && y > 0 ? pixels[pos - rowSize - bpp] & 0xff : 0;
+                int predictor = switch (filter) {
+                    case 1 -> a;
+                    case 2 -> b;
+                    case 3 -> (a + b) / 2;
+                    case 4 -> paeth(a, b, c);
+                    default -> 0;
+                };
+                filtered.write(x - predictor);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[] {(byte) 137, 80, 78, 71, 13, 10, 26, 10});
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(w);
+        headerOut.writeInt(h);
+        headerOut.write(new byte[] {(byte) bitDepth, (byte) colorType, 0, 0, 0});
+        writeChunk(out, "IHDR", header.toByteArray());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            filtered.writeTo(deflater);
+        }
+        writeChunk(out, "IDAT", compressed.toByteArray());
+        writeChunk(out, "IEND", new byte[0]);
+        return bytes.toByteArray();
+    }
+
+    private static void testFilters(int bitDepth, int colorType, int bands) throws IOException {
+        int w = 67, h = 45, bpp = bands * bitDepth / 8;
+        byte[] pixels = new byte[w * h * bpp];
+        new Random(42).nextBytes(pixels);
+        ImageFrame frame = load(encode(pixels, w, h, bitDepth, colorType, bpp), 0, 0, false);
+
+        byte[] expected = pixels;
+        if (bitDepth == 16) {
+            expected = new byte[w * h * bands];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = pixels[i * 2];
+            }
+        }
+        assertArrayEquals(expected, getData(frame));
+    }
+
+    @Test
+    public void testFiltersGray() throws IOException {
+        testFilters(8, 0, 1);
+    }
+
+    @Test
+    public void testFiltersRGB() throws IOException {
+        testFilters(8, 2, 3);
+    }
+
+    @Test
+    public void testFiltersRGBA() throws IOException {
+        testFilters(8, 6, 4);
+    }
+
+    @Test
+    public void testFilters16BitGrayAlpha() throws IOException {
+        testFilters(16, 4, 2);
+    }
+
+    @Test
+    public void testFilters16BitRGBA() throws IOException {
+        testFilters(16, 6, 4);
+    }
 }
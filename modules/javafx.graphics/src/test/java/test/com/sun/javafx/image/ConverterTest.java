@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -668,6 +668,24 @@ public class ConverterTest {
         assertNotNull(PixelUtils.getConverter(ByteBgraPre.getter, IntArgbPre.setter));
     }
 
+    @Test
+    public void testPremultiplyHelpers() {
+        for (int a = 0; a <= 0xff; a++) {
+            for (int c = 0; c <= 0xff; c++) {
+                assertEquals((c * a + 0x7f) / 0xff, PixelUtils.premultiply(c, a));
+                if (a > 0) {
+                    assertEquals((c * 0xff + (a >> 1)) / a, PixelUtils.unpremultiply(c, a));
+                }
+                int argb = (c << 16) | ((0xff - c) << 8) | (c ^ 0x5a);
+                int expected = (a << 24)
+                        | (PixelUtils.premultiply(c, a) << 16)
+                        | (PixelUtils.premultiply(0xff - c, a) << 8)
+                        | PixelUtils.premultiply(c ^ 0x5a, a);
+                assertEquals(expected, PixelUtils.premultiplyRgb(argb, a));
+            }
+        }
+    }
+
     @Test
     public void testIntAccessors() {
         testIntAccessors(heapIntBuffer(0, 2));
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.text;
+
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextMeasurer;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TextMeasurerTest {
+
+    private static final String TEXT = "The quick brown fox";
+
+    private Font font;
+    private Object nativeFont;
+    private TextMeasurer measurer;
+
+    @BeforeEach
+    public void setUp() {
+        font = Font.font("Amble", 11);
+        nativeFont = FontHelper.getNativeFont(font);
+        measurer = new TextMeasurer(64);
+    }
+
+    @Test
+    public void measurementsMatchTextNode() {
+        Text text = new Text(TEXT);
+        text.setFont(font);
+        assertEquals(text.getLayoutBounds().getWidth(), measurer.computeWidth(TEXT, nativeFont, 0), 0);
+        assertEquals(text.getLayoutBounds().getHeight(), measurer.computeHeight(TEXT, nativeFont, 0, 0, 0), 0);
+    }
+
+    @Test
+    public void measurementIsCached() {
+        double width = measurer.computeWidth(TEXT, nativeFont, 0);
+        assertEquals(1, measurer.getMissCount());
+        assertEquals(TEXT.length(), measurer.getSize());
+
+        assertEquals(width, measurer.computeWidth(TEXT, nativeFont, 0), 0);
+        assertEquals(1, measurer.getHitCount());
+
+        measurer.computeWidth(TEXT, nativeFont, 50);
+        measurer.computeHeight(TEXT, nativeFont, 0, 0, 0);
+        measurer.computeWidth(TEXT, FontHelper.getNativeFont(Font.font("Amble", 12)), 0);
+        assertEquals(1, measurer.getHitCount());
+    }
+
+    @Test
+    public void shortStringsAreNotCached() {
+        measurer.computeWidth("Text", nativeFont, 0);
+        measurer.computeWidth("Text", nativeFont, 0);
+        assertEquals(0, measurer.getMissCount());
+        assertEquals(0, measurer.getHitCount());
+        assertEquals(0, measurer.getSize());
+    }
+
+    @Test
+    public void stringsMeasuredOnOtherThreadAreFound() throws Exception {
+        measurer = new TextMeasurer(1024);
+        Thread thread = new Thread(() -> {
+            measurer.computeWidth(TEXT, nativeFont, 0);
+            measurer.computeHeight(TEXT + TEXT, nativeFont, 0, 0, 0);
+        });
+        thread.start();
+        thread.join(5000);
+        assertEquals(2, measurer.getMissCount());
+
+        Text text = new Text(TEXT);
+        text.setFont(font);
+        assertEquals(text.getLayoutBounds().getWidth(), measurer.computeWidth(TEXT, nativeFont, 0), 0);
+        measurer.computeHeight(TEXT + TEXT, nativeFont, 0, 0, 0);
+        assertEquals(2, measurer.getMissCount());
+        assertEquals(2, measurer.getHitCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedMeasurementsAreEvicted() {
+        for (int i = 0; i < 10; i++) {
+            measurer.computeWidth(TEXT + i, nativeFont, 0);
+        }
+        assertEquals(60, measurer.getSize());
+        assertEquals(7, measurer.getEvictionCount());
+
+        measurer.computeWidth(TEXT + 9, nativeFont, 0);
+        assertEquals(1, measurer.getHitCount());
+        measurer.computeWidth(TEXT + 0, nativeFont, 0);
+        assertEquals(1, measurer.getHitCount());
+    }
+}
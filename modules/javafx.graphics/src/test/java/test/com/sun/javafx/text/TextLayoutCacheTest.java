@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextLayout;
+import com.sun.javafx.text.PrismTextLayout;
+import com.sun.javafx.text.TextLayoutCache;
+import javafx.scene.text.Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.com.sun.javafx.pgstub.StubTextLayout;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextLayoutCacheTest {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private final TextLayoutCache cache = PrismTextLayout.getLayoutCache();
+    private Object font;
+    private StubTextLayout layout;
+
+    @BeforeEach
+    public void setUp() {
+        font = FontHelper.getNativeFont(Font.font("Amble", 11));
+        layout = new StubTextLayout(MAX_CACHE_SIZE);
+        cache.clear();
+    }
+
+    private void layout(String text, Object font) {
+        layout.setContent(text, font);
+        layout.setBoundsType(TextLayout.BOUNDS_CENTER);
+        layout.getBounds();
+    }
+
+    @Test
+    public void sameTextAndFontIsFound() {
+        long hits = cache.getHitCount();
+        layout("TEXT", font);
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(4, cache.getSize());
+
+        layout("TEXT", font);
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(4, cache.getSize());
+    }
+
+    @Test
+    public void differentFontIsNotFound() {
+        layout("TEXT", font);
+        long hits = cache.getHitCount();
+        layout("TEXT", FontHelper.getNativeFont(Font.font("Amble", 12)));
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(8, cache.getSize());
+    }
+
+    @Test
+    public void collidingHashCodesDoNotShareLayouts() {
+        // "Aa" and "BB" have the same hash code
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        layout("Aa", font);
+        long hits = cache.getHitCount();
+        layout("BB", font);
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(4, cache.getSize());
+    }
+
+    @Test
+    public void cacheStaysWithinItsSizeWithoutCollapsing() {
+        long evictions = cache.getEvictionCount();
+        for (int i = 0; i < 2000; i++) {
+            layout("cell " + i, font);
+        }
+        assertTrue(cache.getSize() <= MAX_CACHE_SIZE);
+        assertTrue(cache.getEvictionCount() > evictions);
+
+        // the most recent strings are still cached
+        long hits = cache.getHitCount();
+        layout("cell 1999", font);
+        assertEquals(hits + 1, cache.getHitCount());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.IntObjectHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntObjectHashMapTest {
+
+    @Test
+    public void getReturnsNullForMissingKey() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertNull(map.get(-1));
+    }
+
+    @Test
+    public void putReplacesExistingValue() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertNull(map.put(0, "a"));
+        assertEquals("a", map.put(0, "b"));
+        assertEquals("b", map.get(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void nullValuesAreRejected() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void clearRemovesAllMappings() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "v" + i);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertNull(map.get(i));
+        }
+    }
+
+    @Test
+    public void matchesHashMap() {
+        Random random = new Random(7);
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            // Same shape as glyph cache keys: segment index and subpixel bits
+            int key = random.nextInt(512) | (random.nextInt(4) << 27);
+            assertEquals(expected.put(key, i), map.put(key, i));
+        }
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> e : expected.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey()));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl.shape;
+
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.impl.shape.CoverageMaskCache;
+import com.sun.prism.impl.shape.DMarlinRasterizer;
+import com.sun.prism.impl.shape.MaskData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CoverageMaskCacheTest {
+
+    private static final RectBounds CLIP = new RectBounds(0, 0, 1000, 1000);
+
+    private DMarlinRasterizer rasterizer;
+    private Path2D marker;
+
+    @BeforeEach
+    public void setUp() {
+        rasterizer = new DMarlinRasterizer();
+        marker = new Path2D();
+        marker.moveTo(0, 0);
+        marker.lineTo(10.5f, 3.25f);
+        marker.lineTo(4.75f, 12);
+        marker.closePath();
+    }
+
+    private static byte[] alphas(MaskData maskData) {
+        byte[] alphas = new byte[maskData.getWidth() * maskData.getHeight()];
+        maskData.getMaskBuffer().duplicate().clear().get(alphas);
+        return alphas;
+    }
+
+    private static void assertSameMask(MaskData expected, MaskData actual) {
+        assertEquals(expected.getOriginX(), actual.getOriginX());
+        assertEquals(expected.getOriginY(), actual.getOriginY());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertArrayEquals(alphas(expected), alphas(actual));
+    }
+
+    @Test
+    public void integerTranslationReusesMask() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10.25, 20.5), true, true);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        BaseTransform tx = BaseTransform.getTranslateInstance(110.25, 320.5);
+        MaskData cached = cache.getMaskData(marker, null, CLIP, tx, true, true);
+        assertEquals(1, cache.getHitCount());
+        assertSameMask(rasterizer.getMaskData(marker, null, CLIP, tx, true, true), cached);
+    }
+
+    @Test
+    public void translationIsRoundedToSubpixels() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10.26, 20.49), true, true);
+        MaskData cached = cache.getMaskData(marker, null, CLIP,
+                BaseTransform.getTranslateInstance(50.24, 60.51), true, true);
+        assertEquals(1, cache.getHitCount());
+        assertSameMask(rasterizer.getMaskData(marker, null, CLIP,
+                BaseTransform.getTranslateInstance(50.25, 60.5), true, true), cached);
+
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(50.5, 60.5), true, true);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void scaleIsPartOfTheKey() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        Affine2D scaled = new Affine2D();
+        scaled.translate(20, 20);
+        scaled.scale(2, 2);
+        cache.getMaskData(marker, null, CLIP, scaled, true, true);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void mutatedShapeIsNotFound() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        marker.lineTo(20, 20);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void clippedMaskIsNotCached() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        RectBounds clip = new RectBounds(0, 0, 15, 15);
+        cache.getMaskData(marker, null, clip, BaseTransform.getTranslateInstance(10, 10), true, true);
+        assertEquals(0, cache.getSize());
+    }
+
+    private RectBounds shapeBounds(BaseTransform tx) {
+        return (RectBounds) tx.transform(marker.getBounds(), new RectBounds());
+    }
+
+    @Test
+    public void maskInShapeBoundsIsCached() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        BaseTransform tx = BaseTransform.getTranslateInstance(10.25, 20.5);
+        // As a clip, the bounds of the shape cut the mask
+        cache.getMaskData(marker, null, shapeBounds(tx), tx, true, true);
+        assertEquals(0, cache.getSize());
+
+        cache.getMaskData(marker, null, shapeBounds(tx), tx, true, true, true);
+        assertTrue(cache.getSize() > 0);
+
+        tx = BaseTransform.getTranslateInstance(110.25, 320.5);
+        MaskData cached = cache.getMaskData(marker, null, shapeBounds(tx), tx, true, true, true);
+        assertEquals(1, cache.getHitCount());
+        assertSameMask(rasterizer.getMaskData(marker, null, shapeBounds(tx), tx, true, true), cached);
+    }
+
+    @Test
+    public void cachedMaskOutsideClipIsNotUsed() {
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 1 << 20, 4);
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        RectBounds clip = new RectBounds(0, 0, 15, 15);
+        BaseTransform tx = BaseTransform.getTranslateInstance(10, 10);
+        MaskData clipped = cache.getMaskData(marker, null, clip, tx, true, true);
+        assertEquals(0, cache.getHitCount());
+        assertTrue(clipped.getOriginX() + clipped.getWidth() <= 15);
+    }
+
+    @Test
+    public void leastRecentlyUsedMasksAreEvicted() {
+        MaskData mask = rasterizer.getMaskData(marker, null, CLIP,
+                BaseTransform.getTranslateInstance(10, 10), true, true);
+        int maskSize = mask.getWidth() * mask.getHeight();
+        CoverageMaskCache cache = new CoverageMaskCache(rasterizer, 2 * maskSize, 1);
+
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        Path2D other = new Path2D(marker);
+        other.setWindingRule(Path2D.WIND_EVEN_ODD);
+        cache.getMaskData(other, null, CLIP, BaseTransform.getTranslateInstance(10, 10), true, true);
+        // touch the first mask so that the second one is the eldest
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(30, 30), true, true);
+        assertEquals(1, cache.getHitCount());
+
+        // the same mask under a third key
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(10, 10), false, true);
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.getSize() <= 2 * maskSize);
+
+        cache.getMaskData(marker, null, CLIP, BaseTransform.getTranslateInstance(40, 40), true, true);
+        assertEquals(2, cache.getHitCount());
+        cache.getMaskData(other, null, CLIP, BaseTransform.getTranslateInstance(40, 40), true, true);
+        assertEquals(2, cache.getHitCount());
+    }
+}
@@ -25,6 +25,7 @@
 
 package test.javafx.css;
 
+import com.sun.javafx.PlatformUtil;
 import com.sun.javafx.css.RuleHelper;
 import com.sun.javafx.css.SimpleSelector;
 import com.sun.javafx.css.StyleManager;
@@ -46,6 +47,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
@@ -685,6 +687,44 @@ public class StylesheetTest {
         assertEquals("0x0000ffff", decl.getParsedValue().getValue().toString());
     }
 
+    @Test
+    public void testLoadLargeBinaryStylesheetFromFile() throws IOException {
+        // large enough to be memory-mapped
+        var cssText = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            cssText.append(".rect").append(i).append(" { -fx-fill: blue; -fx-stroke: red; }\n");
+        }
+        byte[] stylesheetData = convertCssTextToBinary(cssText.toString());
+        assertTrue(stylesheetData.length > 16 * 1024);
+
+        File file = File.createTempFile("large_", ".bss");
+        try {
+            Files.write(file.toPath(), stylesheetData);
+            var rules = Stylesheet.loadBinary(file.toURI().toURL()).getRules();
+            assertEquals(1000, rules.size());
+
+            var rule = rules.get(999);
+            assertEquals("*.rect999", rule.getSelectors().get(0).toString());
+            assertEquals(2, rule.getDeclarations().size());
+            assertEquals("-fx-stroke", rule.getDeclarations().get(1).getProperty());
+            assertEquals("0xff0000ff", rule.getDeclarations().get(1).getParsedValue().getValue().toString());
+        } finally {
+            // The file stays mapped while the stylesheet is reachable, which
+            // prevents it from being deleted on Windows
+            if (!file.delete()) {
+                assertTrue(PlatformUtil.isWindows());
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    @Test
+    public void testLoadBinaryStylesheetFromMissingFile() throws IOException {
+        File file = File.createTempFile("missing_", ".bss");
+        file.delete();
+        assertNull(Stylesheet.loadBinary(file.toURI().toURL()));
+    }
+
     @Test
     public void testLoadStylesheetFromDataURI() {
         var rect = new Rectangle();
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.ParentShim;
+import javafx.scene.Scene;
+import javafx.scene.SceneShim;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests picking with the spatial index over the children of a Parent.
+ */
+public class ParentPickIndexTest {
+
+    private int oldThreshold;
+    private Group root;
+    private Scene scene;
+    private Rectangle[] rects;
+
+    @BeforeEach
+    public void setUp() {
+        oldThreshold = ParentShim.getPickIndexThreshold();
+        ParentShim.setPickIndexThreshold(10);
+
+        // 20 x 20 grid of 10 x 10 rectangles with a gap of 5
+        root = new Group();
+        rects = new Rectangle[400];
+        for (int i = 0; i < rects.length; i++) {
+            rects[i] = new Rectangle((i % 20) * 15, (i / 20) * 15, 10, 10);
+            root.getChildren().add(rects[i]);
+        }
+        scene = new Scene(root, 400, 400);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ParentShim.setPickIndexThreshold(oldThreshold);
+    }
+
+    private Node pick(double x, double y) {
+        return SceneShim.test_pick(scene, x, y);
+    }
+
+    @Test
+    public void testPickChildren() {
+        assertSame(rects[0], pick(5, 5));
+        assertSame(rects[21], pick(20, 20));
+        assertSame(rects[399], pick(290, 290));
+        assertNull(pick(12, 12));
+        assertNull(pick(350, 350));
+    }
+
+    @Test
+    public void testPickOnEdges() {
+        assertSame(rects[0], pick(0, 0));
+        assertSame(rects[19], pick(285, 0));
+        assertSame(rects[380], pick(0, 285));
+    }
+
+    @Test
+    public void testPickAfterMove() {
+        assertSame(rects[0], pick(5, 5));
+        rects[0].setX(320);
+        assertNull(pick(5, 5));
+        assertSame(rects[0], pick(325, 5));
+        rects[0].setTranslateY(50);
+        assertNull(pick(325, 5));
+        assertSame(rects[0], pick(325, 55));
+    }
+
+    @Test
+    public void testPickAfterVisibilityChange() {
+        assertSame(rects[21], pick(20, 20));
+        rects[21].setVisible(false);
+        assertNull(pick(20, 20));
+        rects[21].setVisible(true);
+        assertSame(rects[21], pick(20, 20));
+    }
+
+    @Test
+    public void testPickRespectsChildOrder() {
+        Rectangle top = new Rectangle(0, 0, 30, 30);
+        root.getChildren().add(top);
+        assertSame(top, pick(5, 5));
+        top.toBack();
+        assertSame(rects[0], pick(5, 5));
+        assertSame(top, pick(12, 12));
+    }
+
+    @Test
+    public void testPickRespectsViewOrder() {
+        Rectangle bottom = new Rectangle(0, 0, 30, 30);
+        root.getChildren().add(bottom);
+        assertSame(bottom, pick(5, 5));
+        bottom.setViewOrder(1);
+        assertSame(rects[0], pick(5, 5));
+        rects[0].setViewOrder(2);
+        assertSame(bottom, pick(5, 5));
+    }
+
+    @Test
+    public void testPickAfterRemove() {
+        root.getChildren().remove(rects[21]);
+        assertNull(pick(20, 20));
+        assertSame(rects[22], pick(35, 20));
+    }
+
+    @Test
+    public void testPickLargeChild() {
+        Rectangle large = new Rectangle(-100, -100, 1000, 1000);
+        root.getChildren().add(0, large);
+        assertSame(large, pick(12, 12));
+        assertSame(large, pick(-50, -50));
+        assertSame(rects[0], pick(5, 5));
+    }
+
+    @Test
+    public void testPickUsesShapeGeometry() {
+        Circle circle = new Circle(100, 100, 50);
+        root.getChildren().add(circle);
+        assertSame(circle, pick(100, 100));
+        // inside the bounds of the circle, but outside of its shape
+        assertSame(rects[63], pick(52, 52));
+    }
+}
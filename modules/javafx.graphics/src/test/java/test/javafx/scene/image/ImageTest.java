@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -477,6 +478,80 @@ public final class ImageTest {
         lastAsyncImageLoader.finish();
     }
 
+    @Test
+    public void cachedImagesShareTheirPlatformImageTest() {
+        final String url = "file:test.png";
+        registerImage(url, 200, 100);
+
+        ImageShim.setImageCacheSize(1024 * 1024);
+        try {
+            final Image image1 = new Image(url);
+            final Image image2 = new Image(url);
+            assertEquals(1, ImageShim.getImageCacheHitCount());
+            assertEquals(200 * 100 * 4, ImageShim.getImageCacheSize());
+            assertSame(getPlatformImage(image1), getPlatformImage(image2));
+
+            final Image image3 = new Image(url, 100, 50, false, false);
+            assertEquals(1, ImageShim.getImageCacheHitCount());
+            assertNotSame(getPlatformImage(image1), getPlatformImage(image3));
+            verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
+        } finally {
+            ImageShim.setImageCacheSize(0);
+        }
+    }
+
+    @Test
+    public void imagesLoadedInBackgroundShareTheirLoadingTest() {
+        final String url = "file:test.png";
+        registerImage(url, 200, 100);
+
+        ImageShim.setImageCacheSize(1024 * 1024);
+        try {
+            final Image image1 = new Image(url, true);
+            final StubAsyncImageLoader asyncImageLoader = getLastAsyncImageLoader();
+            final Image image2 = new Image(url, true);
+            final Image image3 = new Image(url, true);
+            assertSame(asyncImageLoader, getLastAsyncImageLoader());
+
+            image3.cancel();
+            assertTrue(image3.isError());
+            assertFalse(asyncImageLoader.isCancelled());
+
+            asyncImageLoader.finish();
+            verifyLoadedImage(image1, 0, 0, false, false, 200, 100);
+            verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
+            assertSame(getPlatformImage(image1), getPlatformImage(image2));
+
+            final Image image4 = new Image(url, true);
+            assertSame(asyncImageLoader, getLastAsyncImageLoader());
+            assertSame(getPlatformImage(image1), getPlatformImage(image4));
+        } finally {
+            ImageShim.setImageCacheSize(0);
+        }
+    }
+
+    @Test
+    public void cancelledLoadingIsNotSharedTest() {
+        final String url = "file:test.png";
+        registerImage(url, 200, 100);
+
+        ImageShim.setImageCacheSize(1024 * 1024);
+        try {
+            final Image image1 = new Image(url, true);
+            final StubAsyncImageLoader asyncImageLoader = getLastAsyncImageLoader();
+            image1.cancel();
+            assertTrue(image1.isError());
+            assertTrue(asyncImageLoader.isCancelled());
+
+            final Image image2 = new Image(url, true);
+            assertNotSame(asyncImageLoader, getLastAsyncImageLoader());
+            getLastAsyncImageLoader().finish();
+            verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
+        } finally {
+            ImageShim.setImageCacheSize(0);
+        }
+    }
+
     private static void verifyLoadedImage(final Image image,
                                           final int loadWidth,
                                           final int loadHeight,
@@ -28,7 +28,9 @@ import com.sun.media.jfxmedia.MediaError;
 import com.sun.media.jfxmedia.MediaException;
 import com.sun.media.jfxmediaimpl.MediaUtils;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -41,7 +43,9 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -66,6 +70,10 @@ final class HLSConnectionHolder extends ConnectionHolder {
     private boolean isBitrateAdjustable = false;
     private boolean hasAudioExtStream = false;
     private long readStartTime = -1;
+    private int segmentLength = 0;
+    private final BandwidthEstimator bandwidthEstimator = new BandwidthEstimator();
+    private final SegmentLoader segmentLoader =
+            PREFETCH_SEGMENTS > 0 ? new SegmentLoader(bandwidthEstimator) : null;
     private boolean sendHeader = false;
     private boolean isInitialized = false;
     private int duration = -1;
@@ -87,6 +95,13 @@ final class HLSConnectionHolder extends ConnectionHolder {
     static final int HLS_VALUE_MIMETYPE_AAC = 4;
     static final String CHARSET_UTF_8 = "UTF-8";
     static final String CHARSET_US_ASCII = "US-ASCII";
+    // Number of segments loaded ahead of playback. If 0, each segment is
+    // loaded only when the pipeline asks for it.
+    static final int PREFETCH_SEGMENTS =
+            Math.max(0, Integer.getInteger("jfxmedia.hls.prefetchSegments", 0));
+    // Fraction of the estimated bandwidth that the bitrate of a variant
+    // can use, leaving room for the estimate to be too high.
+    static final double BANDWIDTH_FRACTION = 0.85;
 
     HLSConnectionHolder(URI uri) {
         playlistLoader = new PlaylistLoader();
@@ -128,9 +143,13 @@ final class HLSConnectionHolder extends ConnectionHolder {
 
         int read = super.readNextBlock();
         if (isBitrateAdjustable && read == -1) {
-            long readTime = System.currentTimeMillis() - readStartTime;
+            // Prefetched segments are measured by the segment loader
+            if (segmentLoader == null) {
+                long readTime = System.currentTimeMillis() - readStartTime;
+                bandwidthEstimator.addSample(segmentLength, readTime);
+            }
             readStartTime = -1;
-            adjustBitrate(readTime);
+            adjustBitrate();
         } else if (isAudioExtStream && read == -1) {
             adjustBitrateAudioExt();
         }
@@ -180,6 +199,7 @@ final class HLSConnectionHolder extends ConnectionHolder {
             if (currentPlaylist.seek((long)audioPosition) == -1) {
                 return -1; // Something wrong or EOS
             }
+            prefetchSegments();
 
             // Now video stream at correct segment, but its start time will not be aligned with
             // audio segment, so we need to return audio segment start time instead. In this
@@ -187,13 +207,20 @@ final class HLSConnectionHolder extends ConnectionHolder {
             // be in sync.
             return (long) (audioPosition * HLS_VALUE_FLOAT_MULTIPLIER);
         } else {
-            return (long) (currentPlaylist.seek(position) * HLS_VALUE_FLOAT_MULTIPLIER);
+            double time = currentPlaylist.seek(position);
+            if (time != -1) {
+                prefetchSegments();
+            }
+            return (long) (time * HLS_VALUE_FLOAT_MULTIPLIER);
         }
     }
 
     @Override
     public void closeConnection() {
         currentPlaylist.close();
+        if (segmentLoader != null) {
+            segmentLoader.close();
+        }
         super.closeConnection();
         resetConnection();
         playlistLoader.putState(PlaylistLoader.STATE_EXIT);
@@ -379,18 +406,43 @@ final class HLSConnectionHolder extends ConnectionHolder {
             return -1;
         }
 
-        try {
-            URI uri = new URI(mediaFile);
-            urlConnection = uri.toURL().openConnection();
-            channel = openChannel();
-        } catch (IOException | URISyntaxException e) {
-            return -1;
+        if (segmentLoader != null) {
+            byte[] data;
+            try {
+                data = segmentLoader.take(mediaFile);
+            } catch (InterruptedException e) {
+                return -1;
+            }
+            prefetchSegments();
+            if (data != null) {
+                channel = Channels.newChannel(new ByteArrayInputStream(data));
+                segmentLength = data.length;
+            }
+        }
+
+        if (channel == null) {
+            try {
+                URI uri = new URI(mediaFile);
+                urlConnection = uri.toURL().openConnection();
+                channel = openChannel();
+                segmentLength = urlConnection.getContentLength();
+            } catch (IOException | URISyntaxException e) {
+                return -1;
+            }
         }
 
         if (currentPlaylist.isCurrentMediaFileDiscontinuity()) {
-            return (-1 * (urlConnection.getContentLength() + headerLength));
+            return (-1 * (segmentLength + headerLength));
         } else {
-            return (urlConnection.getContentLength() + headerLength);
+            return (segmentLength + headerLength);
+        }
+    }
+
+    // Loads the segments that follow the current segment in the background
+    private void prefetchSegments() {
+        if (segmentLoader != null) {
+            segmentLoader.prefetch(currentPlaylist.getMediaFiles(
+                    currentPlaylist.getMediaFileIndex() + 1, PREFETCH_SEGMENTS));
         }
     }
 
@@ -402,8 +454,12 @@ final class HLSConnectionHolder extends ConnectionHolder {
         return Channels.newChannel(headerConnection.getInputStream());
     }
 
-    private void adjustBitrate(long readTime) {
-        int avgBitrate = (int) (((long) urlConnection.getContentLength() * 8 * 1000) / readTime);
+    private void adjustBitrate() {
+        long bandwidth = bandwidthEstimator.getEstimate();
+        if (bandwidth < 0) {
+            return;
+        }
+        int avgBitrate = (int) Math.min(bandwidth * BANDWIDTH_FRACTION, Integer.MAX_VALUE);
 
         Playlist playlist = variantPlaylist.getPlaylistBasedOnBitrate(avgBitrate);
         if (playlist != null && playlist != currentPlaylist) {
@@ -428,6 +484,9 @@ final class HLSConnectionHolder extends ConnectionHolder {
                 Playlist audioPlaylist = variantPlaylist.getAudioExtPlaylist(audioGroupID);
                 getAudioStream().setNewCurrentPlaylist(audioPlaylist);
             }
+
+            // Segments prefetched from the previous playlist are dropped
+            prefetchSegments();
         }
     }
 
@@ -450,6 +509,7 @@ final class HLSConnectionHolder extends ConnectionHolder {
                 }
 
                 newCurrentPlaylist = null;
+                prefetchSegments();
             }
         }
     }
@@ -669,6 +729,170 @@ final class HLSConnectionHolder extends ConnectionHolder {
         }
     }
 
+    // Estimates the network bandwidth from the time it takes to load
+    // segments, as the smaller of a fast and a slow moving average that are
+    // weighted by the load time, so that the estimate drops quickly when
+    // loading slows down and rises slowly when it speeds up.
+    private static class BandwidthEstimator {
+
+        private static final double FAST_HALF_LIFE = 2.0; // In seconds
+        private static final double SLOW_HALF_LIFE = 5.0;
+        // Smaller segments mostly measure the latency of the request
+        private static final long MIN_SAMPLE_BYTES = 16000;
+        private final MovingAverage fast = new MovingAverage(FAST_HALF_LIFE);
+        private final MovingAverage slow = new MovingAverage(SLOW_HALF_LIFE);
+
+        synchronized void addSample(long bytes, long millis) {
+            if (bytes < MIN_SAMPLE_BYTES) {
+                return;
+            }
+            double seconds = Math.max(millis, 1) / 1000.0;
+            double bitsPerSecond = bytes * 8 / seconds;
+            fast.add(seconds, bitsPerSecond);
+            slow.add(seconds, bitsPerSecond);
+        }
+
+        // Returns the estimated bandwidth in bits per second, or -1 if no
+        // segment was measured yet.
+        synchronized long getEstimate() {
+            if (fast.totalWeight == 0) {
+                return -1;
+            }
+            return (long) Math.min(fast.get(), slow.get());
+        }
+
+        private static class MovingAverage {
+            private final double alpha;
+            private double estimate = 0;
+            private double totalWeight = 0;
+
+            MovingAverage(double halfLife) {
+                alpha = Math.exp(Math.log(0.5) / halfLife);
+            }
+
+            void add(double weight, double value) {
+                double adjustedAlpha = Math.pow(alpha, weight);
+                estimate = value * (1 - adjustedAlpha) + adjustedAlpha * estimate;
+                totalWeight += weight;
+            }
+
+            // The average starts at 0, which is corrected for by the total
+            // weight of the samples.
+            double get() {
+                return estimate / (1 - Math.pow(alpha, totalWeight));
+            }
+        }
+    }
+
+    // Loads segments ahead of playback, one at a time in playback order,
+    // and keeps them in memory until the pipeline asks for them.
+    private static class SegmentLoader extends Thread {
+
+        private final BandwidthEstimator bandwidthEstimator;
+        // Segments to load and loaded segments in playback order, by URI.
+        // Guarded by this.
+        private final Map<String, Segment> segments = new LinkedHashMap<>();
+        private volatile boolean stopped = false;
+
+        private static class Segment {
+            boolean loading = false;
+            boolean loaded = false;
+            byte[] data = null; // null if loading failed
+        }
+
+        SegmentLoader(BandwidthEstimator bandwidthEstimator) {
+            this.bandwidthEstimator = bandwidthEstimator;
+            setName("JFXMedia HLS Segment Thread");
+            setDaemon(true);
+        }
+
+        // Sets the segments to load after the current one. Other segments
+        // that were not taken yet are dropped.
+        synchronized void prefetch(List<String> mediaFiles) {
+            if (getState() == State.NEW) {
+                start();
+            }
+            segments.keySet().retainAll(mediaFiles);
+            for (String mediaFile : mediaFiles) {
+                segments.putIfAbsent(mediaFile, new Segment());
+            }
+            notifyAll();
+        }
+
+        // Returns the data of a segment, waiting for it if it is being
+        // loaded. Returns null if the segment was not loaded ahead, in which
+        // case the caller loads it.
+        synchronized byte[] take(String mediaFile) throws InterruptedException {
+            Segment segment = segments.remove(mediaFile);
+            if (segment == null || !segment.loading) {
+                return null;
+            }
+            while (!segment.loaded && !stopped) {
+                wait();
+            }
+            return segment.data;
+        }
+
+        void close() {
+            // Wake up the readers that wait for a segment being loaded
+            synchronized (this) {
+                stopped = true;
+                notifyAll();
+            }
+            interrupt();
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                String mediaFile = null;
+                Segment segment = null;
+                synchronized (this) {
+                    for (Map.Entry<String, Segment> entry : segments.entrySet()) {
+                        if (!entry.getValue().loading) {
+                            mediaFile = entry.getKey();
+                            segment = entry.getValue();
+                            segment.loading = true;
+                            break;
+                        }
+                    }
+                    if (segment == null) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                        }
+                        continue;
+                    }
+                }
+
+                byte[] data = load(mediaFile);
+                synchronized (this) {
+                    segment.data = data;
+                    segment.loaded = true;
+                    notifyAll();
+                }
+            }
+        }
+
+        private byte[] load(String mediaFile) {
+            URLConnection connection = null;
+            try {
+                long startTime = System.currentTimeMillis();
+                connection = new URI(mediaFile).toURL().openConnection();
+                byte[] data;
+                try (InputStream stream = connection.getInputStream()) {
+                    data = stream.readAllBytes();
+                }
+                bandwidthEstimator.addSample(data.length, System.currentTimeMillis() - startTime);
+                return data;
+            } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+                return null;
+            } finally {
+                Locator.closeConnection(connection);
+            }
+        }
+    }
+
     private static class PlaylistParser {
 
         private URI playlistURI = null;
@@ -1365,6 +1589,18 @@ final class HLSConnectionHolder extends ConnectionHolder {
             }
         }
 
+        // Returns up to count media files starting at the given index
+        List<String> getMediaFiles(int index, int count) {
+            synchronized (lock) {
+                int fromIndex = Math.max(index, 0);
+                int toIndex = Math.min(index + count, mediaFiles.size());
+                if (fromIndex >= toIndex) {
+                    return List.of();
+                }
+                return new ArrayList<>(mediaFiles.subList(fromIndex, toIndex));
+            }
+        }
+
         String getHeaderFile() {
             synchronized (lock) {
                 if (mediaFiles.size() > 0) {
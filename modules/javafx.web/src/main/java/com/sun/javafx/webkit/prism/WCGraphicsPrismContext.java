@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -556,6 +556,31 @@ class WCGraphicsPrismContext extends WCGraphicsContext {
         }.paint();
     }
 
+    @Override
+    public void fillRects(final float[] rects, final int count, final Color color) {
+        if (!canBatch() || !state.getPerspectiveTransformNoClone().isIdentity()) {
+            super.fillRects(rects, count, color);
+            return;
+        }
+        if (shouldCalculateIntersection()) {
+            boolean render = false;
+            for (int i = 0; i < count * 4 && !render; i += 4) {
+                render = shouldRenderRect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3], null, null);
+            }
+            if (!render) {
+                return;
+            }
+        }
+        new Composite() {
+            @Override void doPaint(Graphics g) {
+                g.setPaint((color != null) ? color : state.getPaintNoClone());
+                for (int i = 0; i < count * 4; i += 4) {
+                    g.fillRect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3]);
+                }
+            }
+        }.paint();
+    }
+
     @Override
     public void fillRoundedRect(final float x, final float y, final float w, final float h,
         final float topLeftW, final float topLeftH, final float topRightW, final float topRightH,
@@ -974,6 +999,44 @@ class WCGraphicsPrismContext extends WCGraphicsContext {
         }.paint();
     }
 
+    @Override
+    public void drawStrings(final WCFont f, final int[][] glyphs, final float[][] advances,
+                            final float[] positions, final int count)
+    {
+        if (!canBatch() || state.isTextStroke() || shouldCalculateIntersection()) {
+            super.drawStrings(f, glyphs, advances, positions, count);
+            return;
+        }
+        PGFont font = (PGFont)f.getPlatformFont();
+        final FontStrike strike = font.getStrike(getTransformNoClone(), getFontSmoothingType());
+        new Composite() {
+            @Override void doPaint(Graphics g) {
+                Paint paint = state.isTextFill()
+                        ? state.getPaintNoClone()
+                        : null;
+                if (paint != null) {
+                    g.setPaint(paint);
+                    for (int i = 0; i < count; i++) {
+                        float x = positions[i * 2];
+                        float y = positions[i * 2 + 1];
+                        TextRun gl = TextUtilities.createGlyphList(glyphs[i], advances[i], x, y);
+                        g.drawString(gl, strike, x, y, null, 0, 0);
+                    }
+                }
+            }
+        }.paint();
+    }
+
+    // Returns whether painting several primitives in one Composite gives the
+    // same result as painting each of them in its own Composite, which is
+    // the case when they are painted directly and one after the other.
+    private boolean canBatch() {
+        int op = state.getCompositeOperation();
+        return (op == COMPOSITE_SOURCE_OVER || op == COMPOSITE_COPY)
+                && state.getShadowNoClone() == null
+                && !log.isLoggable(Level.FINE);
+    }
+
     @Override public void drawString(WCFont f, String str, boolean rtl,
             int from, int to, float x, float y)
     {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.sun.prism.paint.Color;
 import java.lang.annotation.Native;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 public final class GraphicsDecoder  {
     @Native public final static int FILLRECT_FFFFI         = 0;
@@ -90,6 +91,27 @@ public final class GraphicsDecoder  {
     private final static PlatformLogger log =
             PlatformLogger.getLogger(GraphicsDecoder.class.getName());
 
+    private static final int COLOR_CACHE_BITS = 6;
+
+    // The decoders are reused by each thread that decodes render queues
+    private static final ThreadLocal<GraphicsDecoder> decoders =
+            ThreadLocal.withInitial(GraphicsDecoder::new);
+
+    // The colors that were read last, indexed by a hash of their components.
+    // A color is immutable, so commands with the same color share it.
+    private final Color[] colors = new Color[1 << COLOR_CACHE_BITS];
+
+    // The rectangles of consecutive FILLRECT commands with the same color
+    private float[] rects = new float[64];
+
+    // The glyph runs of consecutive DRAWSTRING_FAST commands with the same font
+    private int[][] glyphs = new int[16][];
+    private float[][] advances = new float[16][];
+    private float[] positions = new float[32];
+
+    private GraphicsDecoder() {
+    }
+
     static void decode(WCGraphicsManager gm, WCGraphicsContext gc, BufferData bdata) {
         if (gc == null || !gc.isValid()) {
             log.fine("GraphicsDecoder::decode : GC is " +
@@ -98,26 +120,18 @@ public final class GraphicsDecoder  {
             return;
         }
 
+        decoders.get().replay(gm, gc, bdata);
+    }
+
+    private void replay(WCGraphicsManager gm, WCGraphicsContext gc, BufferData bdata) {
         ByteBuffer buf = bdata.getBuffer();
         buf.order(ByteOrder.nativeOrder());
         while (buf.remaining() > 0) {
             int op = buf.getInt();
             switch(op) {
                 case FILLRECT_FFFF:
-                    gc.fillRect(
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        null);
-                    break;
                 case FILLRECT_FFFFI:
-                    gc.fillRect(
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        buf.getFloat(),
-                        getColor(buf));
+                    fillRects(gc, buf, op);
                     break;
                 case FILL_ROUNDED_RECT:
                     gc.fillRoundedRect(
@@ -303,12 +317,7 @@ public final class GraphicsDecoder  {
                         buf.getFloat(), buf.getFloat());// (x,y) position
                     break;
                 case DRAWSTRING_FAST:
-                    gc.drawString(
-                        (WCFont) gm.getRef(buf.getInt()),
-                        bdata.getIntArray(buf.getInt()), //glyphs
-                        bdata.getFloatArray(buf.getInt()), //offsets
-                        buf.getFloat(),
-                        buf.getFloat());
+                    drawStrings(gm, gc, bdata, buf);
                     break;
                 case DRAWWIDGET:
                     gc.drawWidget((RenderTheme)(gm.getRef(buf.getInt())),
@@ -396,6 +405,95 @@ public final class GraphicsDecoder  {
     }
 
 
+    // Fills the rectangle of a FILLRECT command, together with those of the
+    // commands that immediately follow it with the same opcode and color.
+    private void fillRects(WCGraphicsContext gc, ByteBuffer buf, int op) {
+        boolean hasColor = op == FILLRECT_FFFFI;
+        int size = hasColor ? 32 : 16;
+        float x = buf.getFloat();
+        float y = buf.getFloat();
+        float w = buf.getFloat();
+        float h = buf.getFloat();
+        Color color = hasColor ? getColor(buf) : null;
+        int count = 1;
+        while (isNext(buf, op, size)
+                && (!hasColor || isColor(buf, buf.position() + 20, color))) {
+            if (count == 1) {
+                rects[0] = x;
+                rects[1] = y;
+                rects[2] = w;
+                rects[3] = h;
+            } else if (count * 4 == rects.length) {
+                rects = Arrays.copyOf(rects, rects.length * 2);
+            }
+            buf.getInt();
+            rects[count * 4] = buf.getFloat();
+            rects[count * 4 + 1] = buf.getFloat();
+            rects[count * 4 + 2] = buf.getFloat();
+            rects[count * 4 + 3] = buf.getFloat();
+            if (hasColor) {
+                buf.position(buf.position() + 16);
+            }
+            count++;
+        }
+        if (count == 1) {
+            gc.fillRect(x, y, w, h, color);
+        } else {
+            gc.fillRects(rects, count, color);
+        }
+    }
+
+    // Draws the glyphs of a DRAWSTRING_FAST command, together with those of
+    // the commands that immediately follow it with the same font.
+    private void drawStrings(WCGraphicsManager gm, WCGraphicsContext gc,
+                             BufferData bdata, ByteBuffer buf)
+    {
+        int font = buf.getInt();
+        int[] g = bdata.getIntArray(buf.getInt());
+        float[] a = bdata.getFloatArray(buf.getInt());
+        float x = buf.getFloat();
+        float y = buf.getFloat();
+        int count = 1;
+        while (isNext(buf, DRAWSTRING_FAST, 20) && buf.getInt(buf.position() + 4) == font) {
+            if (count == 1) {
+                glyphs[0] = g;
+                advances[0] = a;
+                positions[0] = x;
+                positions[1] = y;
+            } else if (count == glyphs.length) {
+                glyphs = Arrays.copyOf(glyphs, count * 2);
+                advances = Arrays.copyOf(advances, count * 2);
+                positions = Arrays.copyOf(positions, count * 4);
+            }
+            buf.position(buf.position() + 8);
+            glyphs[count] = bdata.getIntArray(buf.getInt());
+            advances[count] = bdata.getFloatArray(buf.getInt());
+            positions[count * 2] = buf.getFloat();
+            positions[count * 2 + 1] = buf.getFloat();
+            count++;
+        }
+        if (count == 1) {
+            gc.drawString((WCFont) gm.getRef(font), g, a, x, y);
+        } else {
+            gc.drawStrings((WCFont) gm.getRef(font), glyphs, advances, positions, count);
+            // Don't hold on to the arrays of the buffer
+            Arrays.fill(glyphs, 0, count, null);
+            Arrays.fill(advances, 0, count, null);
+        }
+    }
+
+    // Returns whether the next command has the given opcode and size
+    private static boolean isNext(ByteBuffer buf, int op, int size) {
+        return buf.remaining() >= 4 + size && buf.getInt(buf.position()) == op;
+    }
+
+    private static boolean isColor(ByteBuffer buf, int index, Color color) {
+        return buf.getFloat(index) == color.getRed()
+                && buf.getFloat(index + 4) == color.getGreen()
+                && buf.getFloat(index + 8) == color.getBlue()
+                && buf.getFloat(index + 12) == color.getAlpha();
+    }
+
     private static void drawPattern(
             WCGraphicsContext gc,
             Object imgFrame,
@@ -478,14 +576,26 @@ public final class GraphicsDecoder  {
                                buf.getFloat());
     }
 
-    private static Color getColor(ByteBuffer buf) {
-        return new Color(buf.getFloat(),
-                         buf.getFloat(),
-                         buf.getFloat(),
-                         buf.getFloat());
+    private Color getColor(ByteBuffer buf) {
+        float r = buf.getFloat();
+        float g = buf.getFloat();
+        float b = buf.getFloat();
+        float a = buf.getFloat();
+        int hash = Float.floatToRawIntBits(r) * 31 + Float.floatToRawIntBits(g);
+        hash = (hash * 31 + Float.floatToRawIntBits(b)) * 31 + Float.floatToRawIntBits(a);
+        // The low bits of the components are often zero, so the index is
+        // taken from the high bits of the mixed hash
+        int index = (hash * 0x9E3779B9) >>> (32 - COLOR_CACHE_BITS);
+        Color color = colors[index];
+        if (color == null || color.getRed() != r || color.getGreen() != g
+                || color.getBlue() != b || color.getAlpha() != a) {
+            color = new Color(r, g, b, a);
+            colors[index] = color;
+        }
+        return color;
     }
 
-    private static WCGradient getGradient(WCGraphicsContext gc, ByteBuffer buf) {
+    private WCGradient getGradient(WCGraphicsContext gc, ByteBuffer buf) {
         WCPoint p1 = getPoint(buf);
         WCPoint p2 = getPoint(buf);
         WCGradient gradient = getBoolean(buf)
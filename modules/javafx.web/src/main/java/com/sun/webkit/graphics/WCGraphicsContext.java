@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,18 @@ public abstract class WCGraphicsContext {
     public static final int COMPOSITE_PLUS_LIGHTER        = 13;
 
     public abstract void fillRect(float x, float y, float w, float h, Color color);
+
+    /**
+     * Fills several rectangles with the given color, or with the fill paint
+     * if the color is null. The rectangles are stored as x, y, width and
+     * height in the first {@code count * 4} elements of {@code rects}.
+     */
+    public void fillRects(float[] rects, int count, Color color) {
+        for (int i = 0; i < count * 4; i += 4) {
+            fillRect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3], color);
+        }
+    }
+
     public abstract void clearRect(float x, float y, float w, float h);
     public abstract void setFillColor(Color color);
     public abstract void setFillGradient(WCGradient gradient);
@@ -126,6 +138,19 @@ public abstract class WCGraphicsContext {
     public abstract void drawString(WCFont f, int[] glyphs,
                                     float[] advances,
                                     float x, float y);
+
+    /**
+     * Draws several runs of glyphs of the same font. The runs are drawn at
+     * the positions stored as x and y in the first {@code count * 2}
+     * elements of {@code positions}.
+     */
+    public void drawStrings(WCFont f, int[][] glyphs, float[][] advances,
+                            float[] positions, int count)
+    {
+        for (int i = 0; i < count; i++) {
+            drawString(f, glyphs[i], advances[i], positions[i * 2], positions[i * 2 + 1]);
+        }
+    }
     public abstract void drawWidget(RenderTheme theme, Ref widget, int x, int y);
     public abstract void drawScrollbar(ScrollBarTheme theme, Ref widget,
                                        int x, int y, int pressedPart, int hoveredPart);
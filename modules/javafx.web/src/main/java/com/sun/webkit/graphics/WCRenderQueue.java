@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,7 +30,7 @@ import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
 import com.sun.webkit.Invoker;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -192,49 +192,39 @@ public abstract class WCRenderQueue extends Ref {
 }
 
 final class BufferData {
-    /* For passing data that does not fit into the queue */
-    private final AtomicInteger idCount = new AtomicInteger(0);
-    private final HashMap<Integer,String> strMap =
-            new HashMap<>();
-    private final HashMap<Integer,int[]> intArrMap =
-            new HashMap<>();
-    private final HashMap<Integer,float[]> floatArrMap =
-            new HashMap<>();
+    /* For passing data that does not fit into the queue. The ID of an
+     * object is its index in the list plus one. */
+    private final ArrayList<Object> objects = new ArrayList<>();
 
     private ByteBuffer buffer;
 
-    private int createID() {
-        return idCount.incrementAndGet();
+    private int add(Object o) {
+        objects.add(o);
+        return objects.size();
     }
 
     int addIntArray(int[] a) {
-        int id = createID();
-        intArrMap.put(id, a);
-        return id;
+        return add(a);
     }
 
     int[] getIntArray(int id) {
-        return intArrMap.get(id);
+        return (int[]) objects.get(id - 1);
     }
 
     int addFloatArray(float[] a) {
-        int id = createID();
-        floatArrMap.put(id, a);
-        return id;
+        return add(a);
     }
 
     float[] getFloatArray(int id) {
-        return floatArrMap.get(id);
+        return (float[]) objects.get(id - 1);
     }
 
     int addString(String s) {
-        int id = createID();
-        strMap.put(id, s);
-        return id;
+        return add(s);
     }
 
     String getString(int id) {
-        return strMap.get(id);
+        return (String) objects.get(id - 1);
     }
 
     ByteBuffer getBuffer() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -83,6 +83,8 @@ final class HTTP2Loader extends URLLoaderBase {
     private final String headers;
     private FormDataElement[] formDataElements;
     private final long data;
+    private final HttpCache.Lookup cacheLookup;
+    private HttpCache.Writer cacheWriter = null;
     private volatile boolean canceled = false;
 
     private final CompletableFuture<Void> response;
@@ -112,7 +114,8 @@ final class HTTP2Loader extends URLLoaderBase {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data) {
+              long data,
+              HttpCache.Lookup cacheLookup) {
         if (url.startsWith("http://") || url.startsWith("https://")) {
             return new HTTP2Loader(
                 webPage,
@@ -122,7 +125,8 @@ final class HTTP2Loader extends URLLoaderBase {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                cacheLookup);
         }
         return null;
     }
@@ -356,7 +360,8 @@ final class HTTP2Loader extends URLLoaderBase {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data)
+              long data,
+              HttpCache.Lookup cacheLookup)
     {
         this.webPage = webPage;
         this.asynchronous = asynchronous;
@@ -365,6 +370,7 @@ final class HTTP2Loader extends URLLoaderBase {
         this.headers = headers;
         this.formDataElements = formDataElements;
         this.data = data;
+        this.cacheLookup = cacheLookup;
 
         URI uri;
         try {
@@ -384,8 +390,15 @@ final class HTTP2Loader extends URLLoaderBase {
                                .build();
 
         final BodyHandler<Void> bodyHandler = rsp -> {
+            if (replayIfRevalidated(rsp)) {
+                return BodySubscribers.discarding();
+            }
             if(!handleRedirectionIfNeeded(rsp)) {
                 didReceiveResponse(rsp);
+                if (cacheLookup != null) {
+                    cacheWriter = cacheLookup.newWriter(rsp.statusCode(),
+                            getContentType(rsp), "", getHeadersAsString(rsp));
+                }
             }
             return getBodySubscriber(getContentEncoding(rsp));
         };
@@ -433,6 +446,16 @@ final class HTTP2Loader extends URLLoaderBase {
         // this.response.join();
     }
 
+    // Answers a 304 response to a revalidation request with the cached response
+    private boolean replayIfRevalidated(final HttpResponse.ResponseInfo rsp) {
+        if (rsp.statusCode() != 304 || cacheLookup == null || !cacheLookup.isRevalidating()) {
+            return false;
+        }
+        final HttpCache.Entry entry = cacheLookup.revalidated(getHeadersAsString(rsp));
+        callBackIfNotCanceled(() -> HttpCacheLoader.replay(entry, data, () -> canceled));
+        return true;
+    }
+
     private boolean handleRedirectionIfNeeded(final HttpResponse.ResponseInfo rsp) {
         switch(rsp.statusCode()) {
                 case 301: // Moved Permanently
@@ -514,15 +537,22 @@ final class HTTP2Loader extends URLLoaderBase {
     // another variant to use from createZIPEncodedBodySubscriber
     private void didReceiveData(final byte[] bytes, int size) {
         callBackIfNotCanceled(() -> {
+            if (cacheWriter != null) {
+                cacheWriter.write(bytes, 0, size);
+            }
             notifyDidReceiveData(getDirectBuffer(size).put(bytes, 0, size).flip());
         });
     }
 
     private void didReceiveData(final List<ByteBuffer> bytes) {
-        callBackIfNotCanceled(() -> bytes.stream()
-                                          .map(this::copyToDirectBuffer)
-                                          .forEach(this::notifyDidReceiveData)
-        );
+        callBackIfNotCanceled(() -> {
+            if (cacheWriter != null) {
+                bytes.forEach(cacheWriter::write);
+            }
+            bytes.stream()
+                 .map(this::copyToDirectBuffer)
+                 .forEach(this::notifyDidReceiveData);
+        });
     }
 
     private void notifyDidReceiveData(ByteBuffer byteBuffer) {
@@ -542,7 +572,13 @@ final class HTTP2Loader extends URLLoaderBase {
     }
 
     private void didFinishLoading() {
-        callBackIfNotCanceled(this::notifyDidFinishLoading);
+        callBackIfNotCanceled(() -> {
+            if (cacheWriter != null) {
+                cacheWriter.commit();
+                cacheWriter = null;
+            }
+            notifyDidFinishLoading();
+        });
     }
 
     private void notifyDidFinishLoading() {
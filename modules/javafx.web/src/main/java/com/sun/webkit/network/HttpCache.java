@@ -0,0 +1,882 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.webkit.network;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.javafx.logging.PlatformLogger;
+
+/**
+ * An HTTP response cache shared by all the web engines. It keeps the
+ * cacheable responses to GET requests on disk, and the most recently used
+ * ones in memory as well. Fresh responses are served without a request,
+ * and stale responses that have an entity tag or a modification date are
+ * revalidated with a conditional request.
+ * <p>
+ * The cache is enabled by setting the {@code com.sun.webkit.httpCacheDir}
+ * system property to the directory of the cache. The
+ * {@code com.sun.webkit.httpCacheSize} and
+ * {@code com.sun.webkit.httpCacheMemorySize} system properties set the
+ * maximum size in bytes of the responses on disk and in memory. The least
+ * recently used responses are evicted when the cache is full.
+ */
+final class HttpCache {
+
+    private static final PlatformLogger logger =
+            PlatformLogger.getLogger(HttpCache.class.getName());
+
+    /**
+     * The default maximum size of the responses on disk.
+     */
+    private static final long DEFAULT_SIZE = 50L * 1024 * 1024;
+
+    /**
+     * The default maximum size of the responses in memory.
+     */
+    private static final long DEFAULT_MEMORY_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * The estimated size of an entry in addition to its body and headers.
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private static final int MAGIC = 0x57484331; // "WHC1"
+    private static final String FILE_SUFFIX = ".cache";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The request headers that make a request bypass the cache.
+     */
+    private static final List<String> BYPASS_REQUEST_HEADERS = List.of(
+            "authorization", "if-match", "if-none-match", "if-modified-since",
+            "if-unmodified-since", "if-range", "range");
+
+    /**
+     * The response headers that are not stored with a response.
+     */
+    private static final List<String> UNSTORED_RESPONSE_HEADERS = List.of(
+            "set-cookie", "set-cookie2");
+
+    /**
+     * The headers of a 304 response that do not replace the stored headers.
+     */
+    private static final List<String> UNUPDATED_RESPONSE_HEADERS = List.of(
+            "content-length", "set-cookie", "set-cookie2");
+
+    private static final HttpCache instance = createInstance();
+
+    private final Path directory;
+    private final long maxSize;
+    private final long maxMemorySize;
+    private final long maxEntrySize;
+
+    /**
+     * Writes the responses to disk and evicts them, in order.
+     */
+    private final ExecutorService writer;
+
+    // The fields below are guarded by this.
+
+    /**
+     * The responses in memory by URL, in least recently used order.
+     */
+    private final LinkedHashMap<String, Entry> memoryEntries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize = 0;
+
+    /**
+     * The sizes of the files on disk by key, in least recently used order.
+     */
+    private final LinkedHashMap<String, Long> diskEntries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long diskSize = 0;
+
+    private long requestCount = 0;
+    private long hitCount = 0;
+    private long revalidatedCount = 0;
+    private long evictionCount = 0;
+
+
+    HttpCache(Path directory, long maxSize, long maxMemorySize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.maxMemorySize = maxMemorySize;
+        this.maxEntrySize = maxSize / 8;
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "HTTP-Cache-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.execute(this::loadIndex);
+    }
+
+    private static HttpCache createInstance() {
+        String dir = System.getProperty("com.sun.webkit.httpCacheDir");
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        long size = Long.getLong("com.sun.webkit.httpCacheSize", DEFAULT_SIZE);
+        long memorySize = Long.getLong("com.sun.webkit.httpCacheMemorySize", DEFAULT_MEMORY_SIZE);
+        try {
+            return new HttpCache(Path.of(dir), size, memorySize);
+        } catch (InvalidPathException ex) {
+            logger.warning("Invalid HTTP cache directory: " + dir, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the shared cache, or {@code null} if the cache is disabled.
+     */
+    static HttpCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns whether a request can be served from the cache.
+     */
+    static boolean isCacheable(String url, String method, String headers) {
+        if (!"GET".equals(method)
+                || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return false;
+        }
+        Map<String, String> requestHeaders = parseHeaders(headers);
+        for (String name : BYPASS_REQUEST_HEADERS) {
+            if (requestHeaders.containsKey(name)) {
+                return false;
+            }
+        }
+        return getDirective(requestHeaders.get("cache-control"), "no-store") == null;
+    }
+
+    /**
+     * Looks up the response to a cacheable request.
+     */
+    Lookup lookup(String url, String headers) {
+        Map<String, String> requestHeaders = parseHeaders(headers);
+        String cacheControl = requestHeaders.get("cache-control");
+        String maxAge = getDirective(cacheControl, "max-age");
+        boolean revalidate = getDirective(cacheControl, "no-cache") != null
+                || "0".equals(maxAge)
+                || getDirective(requestHeaders.get("pragma"), "no-cache") != null;
+
+        Entry entry = get(url);
+        boolean fresh = entry != null && !revalidate
+                && System.currentTimeMillis() < entry.expirationTime;
+        if (entry != null && !fresh && !entry.hasValidator()) {
+            entry = null;
+        }
+        synchronized (this) {
+            requestCount++;
+            if (fresh) {
+                hitCount++;
+            }
+        }
+        return new Lookup(url, headers, entry, fresh);
+    }
+
+    /**
+     * Returns the number of requests served from the cache without
+     * contacting the server.
+     */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of requests served from the cache after the server
+     * confirmed that the cached response is still valid.
+     */
+    synchronized long getRevalidatedCount() {
+        return revalidatedCount;
+    }
+
+    /**
+     * Returns the number of requests that could not be served from the cache.
+     */
+    synchronized long getMissCount() {
+        return requestCount - hitCount - revalidatedCount;
+    }
+
+    /**
+     * Returns the number of responses evicted from the disk.
+     */
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the size in bytes of the responses on disk.
+     */
+    synchronized long getSize() {
+        return diskSize;
+    }
+
+    /**
+     * Returns the size in bytes of the responses in memory.
+     */
+    synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Waits until the responses put in the cache are written to disk.
+     */
+    void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException | ExecutionException ex) {
+            logger.fine("Interrupted while flushing the HTTP cache", ex);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("HttpCache[hits=%d, revalidated=%d, misses=%d, evictions=%d, "
+                + "size=%d, memorySize=%d]", hitCount, revalidatedCount,
+                requestCount - hitCount - revalidatedCount, evictionCount,
+                diskSize, memorySize);
+    }
+
+    private Entry get(String url) {
+        Entry entry;
+        synchronized (this) {
+            entry = memoryEntries.get(url);
+        }
+        if (entry != null) {
+            return entry;
+        }
+
+        String key = getKey(url);
+        Path file = directory.resolve(key + FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            entry = read(file);
+            // Keeps the eviction order across sessions
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            logger.fine("Cannot read HTTP cache file " + file, ex);
+            return null;
+        }
+        if (!entry.url.equals(url)) {
+            return null;
+        }
+        synchronized (this) {
+            diskEntries.get(key);
+            putInMemory(entry);
+        }
+        return entry;
+    }
+
+    private void put(Entry entry) {
+        synchronized (this) {
+            putInMemory(entry);
+        }
+        writer.execute(() -> write(entry));
+    }
+
+    private void putInMemory(Entry entry) {
+        Entry old = memoryEntries.remove(entry.url);
+        if (old != null) {
+            memorySize -= old.getSize();
+        }
+        if (entry.getSize() > maxMemorySize / 8) {
+            return;
+        }
+        memoryEntries.put(entry.url, entry);
+        memorySize += entry.getSize();
+        Iterator<Entry> it = memoryEntries.values().iterator();
+        while (memorySize > maxMemorySize && it.hasNext()) {
+            memorySize -= it.next().getSize();
+            it.remove();
+        }
+    }
+
+    // Called on the writer thread
+    private void loadIndex() {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path file : stream) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(FILE_SUFFIX)) {
+                        files.add(file);
+                    } else if (name.endsWith(TEMP_FILE_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            logger.warning("Cannot open HTTP cache directory " + directory, ex);
+            return;
+        }
+
+        Map<Path, Long> lastModifiedTimes = new HashMap<>();
+        Map<Path, Long> sizes = new HashMap<>();
+        for (Path file : files) {
+            try {
+                lastModifiedTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+                sizes.put(file, Files.size(file));
+            } catch (IOException ex) {
+                lastModifiedTimes.put(file, 0L);
+                sizes.put(file, 0L);
+            }
+        }
+        files.sort((a, b) -> Long.compare(lastModifiedTimes.get(a), lastModifiedTimes.get(b)));
+        synchronized (this) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String key = name.substring(0, name.length() - FILE_SUFFIX.length());
+                if (!diskEntries.containsKey(key)) {
+                    diskEntries.put(key, sizes.get(file));
+                    diskSize += sizes.get(file);
+                }
+            }
+        }
+        evict();
+    }
+
+    // Called on the writer thread
+    private void write(Entry entry) {
+        String key = getKey(entry.url);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, key, TEMP_FILE_SUFFIX);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                writeString(out, entry.url);
+                out.writeInt(entry.status);
+                writeString(out, entry.contentType);
+                writeString(out, entry.contentEncoding);
+                writeString(out, entry.headers);
+                out.writeLong(entry.expirationTime);
+                writeString(out, entry.etag);
+                writeString(out, entry.lastModified);
+                out.writeInt(entry.body.length);
+                out.write(entry.body);
+            }
+            long size = Files.size(temp);
+            Files.move(temp, directory.resolve(key + FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                Long oldSize = diskEntries.put(key, size);
+                diskSize += size - (oldSize != null ? oldSize : 0);
+            }
+        } catch (IOException ex) {
+            logger.fine("Cannot write HTTP cache file for " + entry.url, ex);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignore) {}
+            }
+            return;
+        }
+        evict();
+    }
+
+    // Called on the writer thread
+    private void evict() {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Long>> it = diskEntries.entrySet().iterator();
+            while (diskSize > maxSize && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                diskSize -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+                evictionCount++;
+            }
+        }
+        for (String key : evicted) {
+            try {
+                Files.deleteIfExists(directory.resolve(key + FILE_SUFFIX));
+            } catch (IOException ex) {
+                logger.fine("Cannot delete HTTP cache file", ex);
+            }
+        }
+    }
+
+    private static Entry read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid HTTP cache file");
+            }
+            String url = readString(in);
+            int status = in.readInt();
+            String contentType = readString(in);
+            String contentEncoding = readString(in);
+            String headers = readString(in);
+            long expirationTime = in.readLong();
+            String etag = readString(in);
+            String lastModified = readString(in);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(url, status, contentType, contentEncoding, headers,
+                    body, expirationTime, etag, lastModified);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String getKey(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    /**
+     * Parses headers in the "name: value" lines passed between WebCore and
+     * the loaders. The names are in lower case, and the values of repeated
+     * headers are joined with commas.
+     */
+    static Map<String, String> parseHeaders(String headers) {
+        Map<String, String> result = new HashMap<>();
+        if (headers == null) {
+            return result;
+        }
+        for (String line : headers.split("\n")) {
+            int i = line.indexOf(':');
+            if (i > 0) {
+                String name = line.substring(0, i).trim().toLowerCase(Locale.ROOT);
+                String value = line.substring(i + 1).trim();
+                result.merge(name, value, (a, b) -> a + ", " + b);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lower case name of a header line, or {@code null} if the
+     * line has no name, as is the case for the status line.
+     */
+    private static String getHeaderName(String line) {
+        int i = line.indexOf(':');
+        return i > 0 ? line.substring(0, i).trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Returns the response headers to store with a response, that is the
+     * headers without the cookies set by the response.
+     */
+    static String getStoredHeaders(String headers) {
+        return updateHeaders(headers, null);
+    }
+
+    /**
+     * Updates stored response headers with the headers of a 304 response,
+     * as specified by RFC 9111. The headers of the 304 response replace the
+     * stored headers with the same name, except for the cookies, which are
+     * not stored, and Content-Length.
+     */
+    static String updateHeaders(String headers, String update) {
+        if (headers == null) {
+            return null;
+        }
+        List<String> updateLines = new ArrayList<>();
+        Set<String> updateNames = new HashSet<>();
+        if (update != null) {
+            for (String line : update.split("\n")) {
+                String name = getHeaderName(line);
+                if (name != null && !UNUPDATED_RESPONSE_HEADERS.contains(name)) {
+                    updateLines.add(line);
+                    updateNames.add(name);
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder(headers.length());
+        for (String line : headers.split("\n")) {
+            String name = getHeaderName(line);
+            if (name == null ? !line.isEmpty()
+                    : !UNSTORED_RESPONSE_HEADERS.contains(name) && !updateNames.contains(name)) {
+                sb.append(line).append('\n');
+            }
+        }
+        for (String line : updateLines) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the value of a directive of a Cache-Control header, the empty
+     * string if the directive has no value, or {@code null} if the header
+     * does not have the directive.
+     */
+    static String getDirective(String header, String name) {
+        if (header == null) {
+            return null;
+        }
+        for (String directive : header.split(",")) {
+            int i = directive.indexOf('=');
+            String directiveName = (i >= 0 ? directive.substring(0, i) : directive).trim();
+            if (directiveName.equalsIgnoreCase(name)) {
+                return i >= 0 ? directive.substring(i + 1).trim().replace("\"", "") : "";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time until which a response is fresh, computed from its
+     * headers as specified by RFC 9111, or {@code Long.MIN_VALUE} if the
+     * response cannot be stored.
+     */
+    static long getExpirationTime(Map<String, String> headers, long now) {
+        String cacheControl = headers.get("cache-control");
+        if (getDirective(cacheControl, "no-store") != null
+                || headers.containsKey("content-range")) {
+            return Long.MIN_VALUE;
+        }
+        // The loaders always ask for the same encodings
+        String vary = headers.get("vary");
+        if (vary != null && !vary.isEmpty() && !vary.equalsIgnoreCase("accept-encoding")) {
+            return Long.MIN_VALUE;
+        }
+
+        long date = parseDate(headers.get("date"), now);
+        long lifetime;
+        String maxAge = getDirective(cacheControl, "max-age");
+        if (getDirective(cacheControl, "no-cache") != null) {
+            lifetime = 0;
+        } else if (maxAge != null) {
+            lifetime = parseSeconds(maxAge);
+        } else if (headers.containsKey("expires")) {
+            // An invalid date means that the response is already stale
+            lifetime = parseDate(headers.get("expires"), date) - date;
+        } else if (headers.containsKey("last-modified")) {
+            lifetime = (date - parseDate(headers.get("last-modified"), date)) / 10;
+        } else {
+            lifetime = 0;
+        }
+        long age = parseSeconds(headers.get("age"));
+        long expirationTime = now + Math.max(lifetime, 0) - age;
+
+        if (expirationTime <= now && !headers.containsKey("etag")
+                && !headers.containsKey("last-modified")) {
+            return Long.MIN_VALUE;
+        }
+        return expirationTime;
+    }
+
+    private static long parseDate(String date, long defaultValue) {
+        if (date != null) {
+            try {
+                return DateParser.parse(date);
+            } catch (ParseException ex) {
+            }
+        }
+        return defaultValue;
+    }
+
+    // Returns a number of seconds in milliseconds
+    private static long parseSeconds(String seconds) {
+        if (seconds != null) {
+            try {
+                return Math.max(Long.parseLong(seconds), 0) * 1000;
+            } catch (NumberFormatException ex) {
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A cached response, as it was passed to WebCore.
+     */
+    static final class Entry {
+        private final String url;
+        private final int status;
+        private final String contentType;
+        private final String contentEncoding;
+        private final String headers;
+        private final byte[] body;
+        private final long expirationTime;
+        private final String etag;
+        private final String lastModified;
+
+        private Entry(String url, int status, String contentType,
+                      String contentEncoding, String headers, byte[] body,
+                      long expirationTime, String etag, String lastModified)
+        {
+            this.url = url;
+            this.status = status;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+            this.headers = headers;
+            this.body = body;
+            this.expirationTime = expirationTime;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        String getHeaders() {
+            return headers;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        private boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        private long getSize() {
+            return body.length + 2L * headers.length() + ENTRY_OVERHEAD;
+        }
+    }
+
+    /**
+     * The result of looking up the response to a request.
+     */
+    final class Lookup {
+        private final String url;
+        private final String headers;
+        private final Entry entry;
+        private final boolean fresh;
+
+        private Lookup(String url, String headers, Entry entry, boolean fresh) {
+            this.url = url;
+            this.headers = headers;
+            this.entry = entry;
+            this.fresh = fresh;
+        }
+
+        /**
+         * Returns whether the cached response can be used without a request.
+         */
+        boolean isFresh() {
+            return fresh;
+        }
+
+        /**
+         * Returns whether the request is conditional on the cached response
+         * having changed, in which case a 304 response is answered with the
+         * cached response.
+         */
+        boolean isRevalidating() {
+            return !fresh && entry != null;
+        }
+
+        Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         * Returns the headers of the request, with the validators of the
+         * cached response if it needs revalidating.
+         */
+        String getRequestHeaders() {
+            if (!isRevalidating()) {
+                return headers;
+            }
+            StringBuilder sb = new StringBuilder(headers != null ? headers : "");
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n') {
+                sb.append('\n');
+            }
+            if (entry.etag != null) {
+                sb.append("If-None-Match: ").append(entry.etag).append('\n');
+            }
+            if (entry.lastModified != null) {
+                sb.append("If-Modified-Since: ").append(entry.lastModified).append('\n');
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Updates the cached response with the headers of a 304 response
+         * and returns it.
+         */
+        Entry revalidated(String responseHeaders) {
+            long now = System.currentTimeMillis();
+            String updatedHeaders = updateHeaders(entry.headers, responseHeaders);
+            Map<String, String> headers = parseHeaders(updatedHeaders);
+            long expirationTime = Math.max(getExpirationTime(headers, now), now);
+            Entry revalidated = new Entry(url, entry.status, entry.contentType,
+                    entry.contentEncoding, updatedHeaders, entry.body, expirationTime,
+                    headers.get("etag"), headers.get("last-modified"));
+            synchronized (HttpCache.this) {
+                revalidatedCount++;
+            }
+            put(revalidated);
+            return revalidated;
+        }
+
+        /**
+         * Returns a writer that stores the response to the request, or
+         * {@code null} if the response cannot be stored.
+         */
+        Writer newWriter(int status, String contentType, String contentEncoding,
+                         String responseHeaders)
+        {
+            if (status != 200) {
+                return null;
+            }
+            Map<String, String> headers = parseHeaders(responseHeaders);
+            long expirationTime = getExpirationTime(headers, System.currentTimeMillis());
+            if (expirationTime == Long.MIN_VALUE) {
+                return null;
+            }
+            return new Writer(url, status, contentType, contentEncoding,
+                    getStoredHeaders(responseHeaders), expirationTime, headers.get("etag"), headers.get("last-modified"));
+        }
+    }
+
+    /**
+     * Collects the body of a response and stores the response when it is
+     * complete. A writer is used by one thread at a time.
+     */
+    final class Writer {
+        private final String url;
+        private final int status;
+        private final String contentType;
+        private final String contentEncoding;
+        private final String headers;
+        private final long expirationTime;
+        private final String etag;
+        private final String lastModified;
+        private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private Writer(String url, int status, String contentType,
+                       String contentEncoding, String headers, long expirationTime,
+                       String etag, String lastModified)
+        {
+            this.url = url;
+            this.status = status;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+            this.headers = headers;
+            this.expirationTime = expirationTime;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Appends the remaining bytes of a buffer to the body, without
+         * changing the position of the buffer.
+         */
+        void write(ByteBuffer bytes) {
+            byte[] b = new byte[bytes.remaining()];
+            bytes.duplicate().get(b);
+            write(b, 0, b.length);
+        }
+
+        void write(byte[] bytes, int offset, int length) {
+            if (body == null) {
+                return;
+            }
+            if (body.size() + length > maxEntrySize) {
+                // Too large to be cached
+                body = null;
+                return;
+            }
+            body.write(bytes, offset, length);
+        }
+
+        /**
+         * Stores the response, once its body is complete.
+         */
+        void commit() {
+            if (body == null) {
+                return;
+            }
+            put(new Entry(url, status, contentType, contentEncoding,
+                    headers != null ? headers : "", body.toByteArray(),
+                    expirationTime, etag, lastModified));
+            body = null;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.webkit.network;
+
+import java.nio.ByteBuffer;
+import java.util.function.BooleanSupplier;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.webkit.Invoker;
+import com.sun.webkit.WebPage;
+
+/**
+ * A runnable that serves a GET request from the {@link HttpCache}, or
+ * loads it with a {@link HTTP2Loader} or a {@link URLLoader} when the
+ * cached response is missing or needs revalidating.
+ */
+final class HttpCacheLoader extends URLLoaderBase implements Runnable {
+
+    private static final PlatformLogger logger =
+            PlatformLogger.getLogger(HttpCacheLoader.class.getName());
+
+    private static final int BUFFER_SIZE = 40 * 1024;
+
+    /**
+     * The direct buffer used to pass cached bodies to native code. It is
+     * only used on the event thread.
+     */
+    private static final ByteBuffer BUFFER = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final HttpCache cache;
+    private final WebPage webPage;
+    private final ByteBufferPool byteBufferPool;
+    private final boolean asynchronous;
+    private final String url;
+    private final String method;
+    private final String headers;
+    private final long data;
+    private volatile boolean canceled = false;
+    private volatile URLLoaderBase loader = null;
+
+
+    /**
+     * Creates a new {@code HttpCacheLoader}.
+     */
+    HttpCacheLoader(HttpCache cache,
+                    WebPage webPage,
+                    ByteBufferPool byteBufferPool,
+                    boolean asynchronous,
+                    String url,
+                    String method,
+                    String headers,
+                    long data)
+    {
+        this.cache = cache;
+        this.webPage = webPage;
+        this.byteBufferPool = byteBufferPool;
+        this.asynchronous = asynchronous;
+        this.url = url;
+        this.method = method;
+        this.headers = headers;
+        this.data = data;
+    }
+
+
+    /**
+     * Cancels this loader.
+     */
+    @Override
+    public void fwkCancel() {
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(String.format("data: [0x%016X]", data));
+        }
+        canceled = true;
+        URLLoaderBase l = loader;
+        if (l != null) {
+            l.fwkCancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        HttpCache.Lookup lookup = cache.lookup(url, headers);
+        if (lookup.isFresh()) {
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest(String.format("url: [%s], data: [0x%016X]", url, data));
+            }
+            callBack(() -> replay(lookup.getEntry(), data, () -> canceled));
+            return;
+        }
+
+        URLLoaderBase l = null;
+        if (NetworkContext.canUseHTTP2Loader(asynchronous)) {
+            l = HTTP2Loader.create(
+                    webPage,
+                    byteBufferPool,
+                    asynchronous,
+                    url,
+                    method,
+                    lookup.getRequestHeaders(),
+                    null,
+                    data,
+                    lookup);
+        }
+        if (l == null) {
+            // Already on a loader thread if asynchronous
+            URLLoader urlLoader = new URLLoader(
+                    webPage,
+                    byteBufferPool,
+                    asynchronous,
+                    url,
+                    method,
+                    lookup.getRequestHeaders(),
+                    null,
+                    data,
+                    lookup);
+            setLoader(urlLoader);
+            urlLoader.run();
+        } else {
+            setLoader(l);
+        }
+    }
+
+    private void setLoader(URLLoaderBase l) {
+        loader = l;
+        if (canceled) {
+            l.fwkCancel();
+        }
+    }
+
+    private void callBack(Runnable runnable) {
+        if (asynchronous) {
+            Invoker.getInvoker().invokeOnEventThread(runnable);
+        } else {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Passes a cached response to native code, stopping if the load gets
+     * canceled. Must be called on the event thread.
+     */
+    static void replay(HttpCache.Entry entry, long data, BooleanSupplier canceled) {
+        Invoker.getInvoker().checkEventThread();
+        byte[] body = entry.getBody();
+        if (canceled.getAsBoolean()) {
+            return;
+        }
+        twkDidReceiveResponse(
+                entry.getStatus(),
+                entry.getContentType(),
+                entry.getContentEncoding(),
+                body.length,
+                entry.getHeaders(),
+                entry.getUrl(),
+                data);
+        for (int offset = 0; offset < body.length; offset += BUFFER_SIZE) {
+            if (canceled.getAsBoolean()) {
+                return;
+            }
+            int length = Math.min(BUFFER_SIZE, body.length - offset);
+            BUFFER.clear().put(body, offset, length).flip();
+            twkDidReceiveData(BUFFER, BUFFER.position(), BUFFER.remaining(), data);
+        }
+        if (!canceled.getAsBoolean()) {
+            twkDidFinishLoading(data);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,8 @@ import static com.sun.webkit.network.URLs.newURL;
 
 import java.net.MalformedURLException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -72,23 +74,33 @@ final class NetworkContext {
     private static final int BYTE_BUFFER_SIZE = 1024 * 40;
 
     /**
-     * The thread pool used to execute asynchronous loaders.
+     * The executor of asynchronous loaders. It is either a thread pool, or
+     * an executor that starts a virtual thread for each loader.
      */
-    private static final ThreadPoolExecutor threadPool;
+    private static final ExecutorService threadPool;
 
     /**
      * Can use HTTP2Loader
      */
     private static final boolean useHTTP2Loader;
     static {
-        threadPool = new ThreadPoolExecutor(
-                THREAD_POOL_SIZE,
-                THREAD_POOL_SIZE,
-                THREAD_POOL_KEEP_ALIVE_TIME,
-                TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<Runnable>(),
-                new URLLoaderThreadFactory());
-        threadPool.allowCoreThreadTimeOut(true);
+        // WebCore already limits the number of loads per host, and starts
+        // them in the order of their priority, so loaders don't need to be
+        // queued when they run on virtual threads.
+        if (Boolean.getBoolean("com.sun.webkit.useVirtualThreads")) {
+            threadPool = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("URL-Loader-", 1).factory());
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    THREAD_POOL_SIZE,
+                    THREAD_POOL_SIZE,
+                    THREAD_POOL_KEEP_ALIVE_TIME,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new URLLoaderThreadFactory());
+            pool.allowCoreThreadTimeOut(true);
+            threadPool = pool;
+        }
 
         // Use HTTP2 by default on JDK 12 or later
         final var version = Runtime.Version.parse(System.getProperty("java.version"));
@@ -158,7 +170,21 @@ final class NetworkContext {
                     Util.formatHeaders(headers)));
         }
 
-        if (useHTTP2Loader && (asynchronous || Toolkit.getToolkit().canStartNestedEventLoop())) {
+        HttpCache cache = HttpCache.getInstance();
+        if (cache != null && formDataElements == null
+                && HttpCache.isCacheable(url, method, headers)) {
+            return execute(new HttpCacheLoader(
+                    cache,
+                    webPage,
+                    byteBufferPool,
+                    asynchronous,
+                    url,
+                    method,
+                    headers,
+                    data), asynchronous);
+        }
+
+        if (canUseHTTP2Loader(asynchronous)) {
             final URLLoaderBase loader = HTTP2Loader.create(
                 webPage,
                 byteBufferPool,
@@ -167,13 +193,14 @@ final class NetworkContext {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                null);
             if (loader != null) {
                 return loader;
             }
         }
 
-        URLLoader loader = new URLLoader(
+        return execute(new URLLoader(
                 webPage,
                 byteBufferPool,
                 asynchronous,
@@ -181,10 +208,27 @@ final class NetworkContext {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                null), asynchronous);
+    }
+
+    /**
+     * Returns whether a load can use an {@link HTTP2Loader}.
+     */
+    static boolean canUseHTTP2Loader(boolean asynchronous) {
+        return useHTTP2Loader && (asynchronous || Toolkit.getToolkit().canStartNestedEventLoop());
+    }
+
+    /**
+     * Submits an asynchronous loader to the thread pool, or runs a
+     * synchronous one.
+     */
+    private static <T extends URLLoaderBase & Runnable> URLLoaderBase execute(
+            T loader, boolean asynchronous)
+    {
         if (asynchronous) {
             threadPool.submit(loader);
-            if (logger.isLoggable(Level.FINEST)) {
+            if (logger.isLoggable(Level.FINEST) && threadPool instanceof ThreadPoolExecutor pool) {
                 logger.finest(
                         "active count: [{0}], " +
                         "pool size: [{1}], " +
@@ -192,11 +236,11 @@ final class NetworkContext {
                         "task count: [{3}], " +
                         "completed task count: [{4}]",
                         new Object[] {
-                                threadPool.getActiveCount(),
-                                threadPool.getPoolSize(),
-                                threadPool.getMaximumPoolSize(),
-                                threadPool.getTaskCount(),
-                                threadPool.getCompletedTaskCount()});
+                                pool.getActiveCount(),
+                                pool.getPoolSize(),
+                                pool.getMaximumPoolSize(),
+                                pool.getTaskCount(),
+                                pool.getCompletedTaskCount()});
             }
             return loader;
         } else {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -79,6 +79,8 @@ final class URLLoader extends URLLoaderBase implements Runnable {
     private final String headers;
     private FormDataElement[] formDataElements;
     private final long data;
+    private final HttpCache.Lookup cacheLookup;
+    private HttpCache.Writer cacheWriter = null;
     private volatile boolean canceled = false;
 
 
@@ -92,7 +94,8 @@ final class URLLoader extends URLLoaderBase implements Runnable {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data)
+              long data,
+              HttpCache.Lookup cacheLookup)
     {
         this.webPage = webPage;
         this.byteBufferPool = byteBufferPool;
@@ -102,6 +105,7 @@ final class URLLoader extends URLLoaderBase implements Runnable {
         this.headers = headers;
         this.formDataElements = formDataElements;
         this.data = data;
+        this.cacheLookup = cacheLookup;
     }
 
 
@@ -405,6 +409,11 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                     break;
 
                 case 304: // Not Modified
+                    if (cacheLookup != null && cacheLookup.isRevalidating()) {
+                        HttpCache.Entry entry = cacheLookup.revalidated(extractHeaders(c));
+                        callBack(() -> HttpCacheLoader.replay(entry, data, () -> canceled));
+                        return;
+                    }
                     didReceiveResponse(c);
                     didFinishLoading();
                     return;
@@ -453,6 +462,11 @@ final class URLLoader extends URLLoaderBase implements Runnable {
 
         didReceiveResponse(c);
 
+        if (cacheLookup != null && errorStream == null) {
+            cacheWriter = cacheLookup.newWriter(extractStatus(c), c.getContentType(),
+                    extractContentEncoding(c), extractHeaders(c));
+        }
+
         if (method.equals(HEAD)) {
             didFinishLoading();
             return;
@@ -514,6 +528,10 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                         break;
                     }
 
+                    if (cacheWriter != null) {
+                        cacheWriter.write(buffer, 0, count);
+                    }
+
                     if (byteBuffer == null) {
                         byteBuffer = allocator.allocate();
                     }
@@ -542,6 +560,9 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                     didReceiveData(byteBuffer, allocator);
                     byteBuffer = null;
                 }
+                if (cacheWriter != null) {
+                    cacheWriter.commit();
+                }
                 didFinishLoading();
             }
         } finally {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -85,6 +85,15 @@ public final class WCGraphicsPerfLogger extends WCGraphicsContext {
         logger.suspendCount("DRAWSTRING_GV");
     }
 
+    @Override
+    public void drawStrings(WCFont f, int[][] glyphs, float[][] advances,
+                            float[] positions, int count)
+    {
+        logger.resumeCount("DRAWSTRINGS_GV");
+        gc.drawStrings(f, glyphs, advances, positions, count);
+        logger.suspendCount("DRAWSTRINGS_GV");
+    }
+
     @Override
     public void strokeRect(float x, float y, float w, float h, float lengthWidth) {
         logger.resumeCount("STROKERECT_FFFFF");
@@ -99,6 +108,13 @@ public final class WCGraphicsPerfLogger extends WCGraphicsContext {
         logger.suspendCount("FILLRECT_FFFFI");
     }
 
+    @Override
+    public void fillRects(float[] rects, int count, Color color) {
+        logger.resumeCount("FILLRECTS");
+        gc.fillRects(rects, count, color);
+        logger.suspendCount("FILLRECTS");
+    }
+
     @Override public void fillRoundedRect(float x, float y, float w, float h,
             float topLeftW, float topLeftH, float topRightW, float topRightH,
             float bottomLeftW, float bottomLeftH, float bottomRightW, float bottomRightH,
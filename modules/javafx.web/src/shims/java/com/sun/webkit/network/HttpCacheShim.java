@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.webkit.network;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+public class HttpCacheShim {
+
+    private final HttpCache cache;
+
+    public HttpCacheShim(Path directory, long maxSize, long maxMemorySize) {
+        cache = new HttpCache(directory, maxSize, maxMemorySize);
+    }
+
+    public static boolean isCacheable(String url, String method, String headers) {
+        return HttpCache.isCacheable(url, method, headers);
+    }
+
+    /**
+     * Stores a response the way a loader does, and returns whether it was
+     * stored.
+     */
+    public boolean store(String url, String responseHeaders, String body) {
+        HttpCache.Writer writer = cache.lookup(url, "").newWriter(
+                200, "text/plain", null, responseHeaders);
+        if (writer == null) {
+            return false;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        writer.write(bytes, 0, bytes.length);
+        writer.commit();
+        return true;
+    }
+
+    /**
+     * Returns the body of the cached response if it is fresh, or null.
+     */
+    public String getFresh(String url, String requestHeaders) {
+        HttpCache.Lookup lookup = cache.lookup(url, requestHeaders);
+        return lookup.isFresh() ? getBody(lookup.getEntry()) : null;
+    }
+
+    public String getRequestHeaders(String url, String requestHeaders) {
+        return cache.lookup(url, requestHeaders).getRequestHeaders();
+    }
+
+    /**
+     * Answers the revalidation of the cached response with a 304 response,
+     * and returns the body of the cached response, or null if the request
+     * is not a revalidation.
+     */
+    public String revalidate(String url, String responseHeaders) {
+        HttpCache.Lookup lookup = cache.lookup(url, "");
+        if (!lookup.isRevalidating()) {
+            return null;
+        }
+        return getBody(lookup.revalidated(responseHeaders));
+    }
+
+    /**
+     * Returns the stored headers of the cached response, or null.
+     */
+    public String getHeaders(String url) {
+        HttpCache.Entry entry = cache.lookup(url, "").getEntry();
+        return entry != null ? entry.getHeaders() : null;
+    }
+
+    private static String getBody(HttpCache.Entry entry) {
+        return new String(entry.getBody(), StandardCharsets.UTF_8);
+    }
+
+    public void flush() {
+        cache.flush();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getRevalidatedCount() {
+        return cache.getRevalidatedCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getSize() {
+        return cache.getSize();
+    }
+
+    public long getMemorySize() {
+        return cache.getMemorySize();
+    }
+}
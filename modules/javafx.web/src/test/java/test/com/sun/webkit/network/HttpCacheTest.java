@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.webkit.network;
+
+import com.sun.webkit.network.HttpCacheShim;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A test for the {@code HttpCache} class.
+ */
+public class HttpCacheTest {
+
+    private static final String URL = "https://example.com/app.js";
+    private static final String BODY = "console.log('cached');";
+
+    private Path directory;
+    private HttpCacheShim cache;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("HttpCacheTest");
+        cache = new HttpCacheShim(directory, 1024 * 1024, 64 * 1024);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        cache.flush();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    private static String httpDate(long secondsFromNow) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(secondsFromNow));
+    }
+
+    @Test
+    public void testCacheableRequests() {
+        assertTrue(HttpCacheShim.isCacheable(URL, "GET", "Accept: */*\n"));
+        assertTrue(HttpCacheShim.isCacheable("http://example.com/", "GET", ""));
+        assertFalse(HttpCacheShim.isCacheable(URL, "POST", ""));
+        assertFalse(HttpCacheShim.isCacheable("file:///tmp/app.js", "GET", ""));
+        assertFalse(HttpCacheShim.isCacheable(URL, "GET", "Authorization: Basic dXNlcg==\n"));
+        assertFalse(HttpCacheShim.isCacheable(URL, "GET", "Range: bytes=0-10\n"));
+        assertFalse(HttpCacheShim.isCacheable(URL, "GET", "If-None-Match: \"v1\"\n"));
+        assertFalse(HttpCacheShim.isCacheable(URL, "GET", "Cache-Control: no-store\n"));
+    }
+
+    @Test
+    public void testFreshResponseIsServedFromCache() {
+        assertTrue(cache.store(URL, "Cache-Control: public, max-age=60\n", BODY));
+        assertEquals(BODY, cache.getFresh(URL, "Accept: */*\n"));
+        assertEquals(1, cache.getHitCount());
+        assertNull(cache.getFresh("https://example.com/other.js", ""));
+    }
+
+    @Test
+    public void testUncacheableResponsesAreNotStored() {
+        assertFalse(cache.store(URL, "Cache-Control: no-store\n", BODY));
+        assertFalse(cache.store(URL, "Content-Type: text/javascript\n", BODY));
+        assertFalse(cache.store(URL, "Cache-Control: max-age=60\nVary: Cookie\n", BODY));
+        assertNull(cache.getFresh(URL, ""));
+    }
+
+    @Test
+    public void testExpiration() {
+        assertTrue(cache.store(URL, "Date: " + httpDate(0) + "\nExpires: " + httpDate(60) + "\n", BODY));
+        assertEquals(BODY, cache.getFresh(URL, ""));
+
+        assertFalse(cache.store(URL, "Date: " + httpDate(0) + "\nExpires: " + httpDate(-60) + "\n", BODY));
+        assertFalse(cache.store(URL, "Cache-Control: max-age=60\nAge: 120\n", BODY));
+        // Heuristic freshness of a tenth of the age of the response
+        assertTrue(cache.store(URL, "Date: " + httpDate(0)
+                + "\nLast-Modified: " + httpDate(-36000) + "\n", BODY));
+        assertEquals(BODY, cache.getFresh(URL, ""));
+    }
+
+    @Test
+    public void testStaleResponseIsRevalidated() {
+        assertTrue(cache.store(URL, "Cache-Control: no-cache\nETag: \"v1\"\n", BODY));
+        assertNull(cache.getFresh(URL, ""));
+        assertTrue(cache.getRequestHeaders(URL, "Accept: */*").contains("If-None-Match: \"v1\"\n"));
+
+        assertEquals(BODY, cache.revalidate(URL, "Cache-Control: max-age=60\n"));
+        assertEquals(1, cache.getRevalidatedCount());
+        assertEquals(BODY, cache.getFresh(URL, ""));
+    }
+
+    @Test
+    public void testRevalidationUpdatesStoredHeaders() {
+        assertTrue(cache.store(URL, "Cache-Control: no-cache\nETag: \"v1\"\nX-Version: 1\n", BODY));
+        assertEquals(BODY, cache.revalidate(URL,
+                "Cache-Control: max-age=60\nETag: \"v2\"\nSet-Cookie: session=secret\n"));
+        assertEquals("X-Version: 1\nCache-Control: max-age=60\nETag: \"v2\"\n", cache.getHeaders(URL));
+    }
+
+    @Test
+    public void testCookiesAreNotStored() throws IOException {
+        assertTrue(cache.store(URL, "Cache-Control: max-age=60\nSet-Cookie: session=secret\n"
+                + "set-cookie2: id=secret\n", BODY));
+        assertEquals("Cache-Control: max-age=60\n", cache.getHeaders(URL));
+        cache.flush();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                assertFalse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("secret"));
+            }
+        }
+    }
+
+    @Test
+    public void testReloadRevalidatesFreshResponse() {
+        String lastModified = httpDate(-60);
+        assertTrue(cache.store(URL, "Cache-Control: max-age=60\nLast-Modified: " + lastModified + "\n", BODY));
+        assertNull(cache.getFresh(URL, "Cache-Control: max-age=0\n"));
+        assertEquals("Cache-Control: no-cache\nIf-Modified-Since: " + lastModified + "\n",
+                cache.getRequestHeaders(URL, "Cache-Control: no-cache\n"));
+    }
+
+    @Test
+    public void testResponsesArePersisted() {
+        assertTrue(cache.store(URL, "Cache-Control: max-age=60\n", BODY));
+        cache.flush();
+        assertTrue(cache.getSize() > BODY.length());
+
+        HttpCacheShim otherCache = new HttpCacheShim(directory, 1024 * 1024, 64 * 1024);
+        assertEquals(0, otherCache.getMemorySize());
+        assertEquals(BODY, otherCache.getFresh(URL, ""));
+        assertTrue(otherCache.getMemorySize() > 0);
+        otherCache.flush();
+        assertEquals(cache.getSize(), otherCache.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponsesAreEvicted() {
+        cache = new HttpCacheShim(directory, 16 * 1024, 4 * 1024);
+        String body = "x".repeat(1000);
+        for (int i = 0; i < 32; i++) {
+            assertTrue(cache.store(URL + "?" + i, "Cache-Control: max-age=60\n", body));
+        }
+        cache.flush();
+        assertTrue(cache.getSize() <= 16 * 1024);
+        assertTrue(cache.getEvictionCount() > 0);
+        assertTrue(cache.getMemorySize() <= 4 * 1024);
+
+        HttpCacheShim otherCache = new HttpCacheShim(directory, 16 * 1024, 4 * 1024);
+        assertNull(otherCache.getFresh(URL + "?0", ""));
+        assertEquals(body, otherCache.getFresh(URL + "?31", ""));
+    }
+
+    @Test
+    public void testLargeResponseIsNotStored() {
+        cache = new HttpCacheShim(directory, 16 * 1024, 4 * 1024);
+        assertTrue(cache.store(URL, "Cache-Control: max-age=60\n", "x".repeat(4 * 1024)));
+        assertNull(cache.getFresh(URL, ""));
+        assertEquals(0, cache.getSize());
+    }
+}
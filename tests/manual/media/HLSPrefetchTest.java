@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.MediaView;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays an HLS stream served from a local directory by an HTTP server that
+ * adds latency to every request and limits the bandwidth, and counts how
+ * often playback stalls.
+ * <p>
+ * The directory must contain a playlist named {@code index.m3u8}, which can
+ * be a variant playlist, and its segments. Compare the stalls and the
+ * loaded variants with and without loading segments ahead of playback:
+ * <pre>
+ *   java HLSPrefetchTest &lt;dir&gt; [latency ms] [bandwidth kbit/s]
+ *   java -Djfxmedia.hls.prefetchSegments=3 HLSPrefetchTest &lt;dir&gt; [latency ms] [bandwidth kbit/s]
+ * </pre>
+ * The defaults are a latency of 300 ms and a bandwidth of 4000 kbit/s.
+ */
+public class HLSPrefetchTest extends Application {
+
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static volatile String lastRequest = "";
+    private static HttpServer server;
+
+    private int stalls = 0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java HLSPrefetchTest <dir> [latency ms] [bandwidth kbit/s]");
+            System.exit(1);
+        }
+        Path dir = Path.of(args[0]);
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 300;
+        long bandwidth = args.length > 2 ? Long.parseLong(args[2]) : 4000;
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> serve(exchange, dir, latency, bandwidth));
+        server.setExecutor(null);
+        server.start();
+        launch(args);
+    }
+
+    // Sends the requested file after the latency, in chunks paced to the
+    // bandwidth.
+    private static void serve(HttpExchange exchange, Path dir, long latency, long bandwidth)
+            throws IOException {
+        try (exchange) {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            Path file = dir.resolve(name).normalize();
+            requests.incrementAndGet();
+            lastRequest = name;
+            Thread.sleep(latency);
+            if (!file.startsWith(dir) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] data = Files.readAllBytes(file);
+            String type = name.endsWith(".m3u8") ? "application/vnd.apple.mpegurl" : "application/octet-stream";
+            exchange.getResponseHeaders().set("Content-Type", type);
+            exchange.sendResponseHeaders(200, data.length);
+            int chunk = (int) Math.max(1, bandwidth * 1000 / 8 / 10); // 100 ms of data
+            OutputStream out = exchange.getResponseBody();
+            for (int offset = 0; offset < data.length; offset += chunk) {
+                out.write(data, offset, Math.min(chunk, data.length - offset));
+                out.flush();
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void start(Stage stage) {
+        List<String> args = getParameters().getRaw();
+        String uri = "http://127.0.0.1:" + server.getAddress().getPort() + "/index.m3u8";
+        MediaPlayer player = new MediaPlayer(new Media(uri));
+        player.setOnStalled(() -> stalls++);
+        player.setOnError(() -> System.err.println("Error: " + player.getError()));
+
+        Label status = new Label();
+        player.currentTimeProperty().addListener((obs, oldTime, newTime) ->
+                status.setText(String.format("%s  time: %.1f s  stalls: %d  requests: %d  last: %s",
+                        args.get(0), newTime.toSeconds(), stalls, requests.get(), lastRequest)));
+
+        BorderPane root = new BorderPane(new MediaView(player));
+        root.setBottom(status);
+        stage.setScene(new Scene(root, 800, 500));
+        stage.setTitle("HLS Prefetch Test");
+        stage.setOnHidden(e -> server.stop(0));
+        stage.show();
+        player.play();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package image;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Measures how fast PNG images are decoded and how fast pixels are
+ * converted between the premultiplied and the non-premultiplied formats.
+ * <p>
+ * The PNG images are RGBA and 16-bit RGBA images whose rows are all
+ * filtered with the same filter type, so that each filter is measured
+ * separately. The pixels are converted by writing non-premultiplied pixels
+ * to a {@code WritableImage}, which stores them premultiplied, and reading
+ * them back.
+ * <p>
+ * Run it with each build to compare:
+ * <pre>
+ *   java image.ImageDecodeBenchmark
+ * </pre>
+ * The optional arguments are the size of the images and the number of
+ * iterations (default: 2048 20).
+ */
+public class ImageDecodeBenchmark {
+
+    private static final String[] FILTER_NAMES = { "None", "Sub", "Up", "Average", "Paeth" };
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2048;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Platform.startup(() -> {});
+        try {
+            for (int bitDepth : new int[] { 8, 16 }) {
+                for (int filter = 0; filter < FILTER_NAMES.length; filter++) {
+                    byte[] png = createImage(size, size, bitDepth, filter);
+                    double ms = measure(iterations, () -> {
+                        Image image = new Image(new ByteArrayInputStream(png));
+                        if (image.isError()) {
+                            throw new IllegalStateException(image.getException());
+                        }
+                    });
+                    System.out.printf("decode %2d-bit RGBA, %-7s filter: %8.2f ms, %7.1f Mpixel/s%n",
+                            bitDepth, FILTER_NAMES[filter], ms, size * (double) size / ms / 1000);
+                }
+            }
+            measureConversions(size, iterations);
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static void measureConversions(int size, int iterations) {
+        byte[] bgra = new byte[size * size * 4];
+        new Random(1).nextBytes(bgra);
+        int[] argb = new int[size * size];
+        WritableImage image = new WritableImage(size, size);
+        PixelWriter writer = image.getPixelWriter();
+        PixelReader reader = image.getPixelReader();
+
+        double ms = measure(iterations, () ->
+                writer.setPixels(0, 0, size, size, PixelFormat.getByteBgraInstance(), bgra, 0, size * 4));
+        System.out.printf("premultiply BYTE_BGRA:   %8.2f ms, %7.1f Mpixel/s%n",
+                ms, size * (double) size / ms / 1000);
+
+        ms = measure(iterations, () ->
+                reader.getPixels(0, 0, size, size, PixelFormat.getIntArgbInstance(), argb, 0, size));
+        System.out.printf("unpremultiply INT_ARGB:  %8.2f ms, %7.1f Mpixel/s%n",
+                ms, size * (double) size / ms / 1000);
+
+        ms = measure(iterations, () ->
+                writer.setPixels(0, 0, size, size, PixelFormat.getIntArgbInstance(), argb, 0, size));
+        System.out.printf("premultiply INT_ARGB:    %8.2f ms, %7.1f Mpixel/s%n",
+                ms, size * (double) size / ms / 1000);
+
+        ms = measure(iterations, () ->
+                reader.getPixels(0, 0, size, size, PixelFormat.getByteBgraInstance(), bgra, 0, size * 4));
+        System.out.printf("unpremultiply BYTE_BGRA: %8.2f ms, %7.1f Mpixel/s%n",
+                ms, size * (double) size / ms / 1000);
+    }
+
+    // Returns the average time of an iteration in milliseconds, after
+    // running as many iterations to warm up.
+    private static double measure(int iterations, Runnable task) {
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / iterations;
+    }
+
+    // Creates an RGBA image with noise over gradients, and encodes every
+    // row with the given filter.
+    private static byte[] createImage(int w, int h, int bitDepth, int filter) throws IOException {
+        int bpp = 4 * bitDepth / 8, rowSize = w * bpp;
+        byte[] pixels = new byte[rowSize * h];
+        Random random = new Random(42);
+        for (int y = 0; y < h; y++) {
+            for (int i = 0; i < rowSize; i++) {
+                pixels[y * rowSize + i] = (byte) ((i / bpp + y) / 8 + random.nextInt(32));
+            }
+        }
+
+        ByteArrayOutputStream filtered = new ByteArrayOutputStream();
+        for (int y = 0; y < h; y++) {
+            filtered.write(filter);
+            for (int i = 0; i < rowSize; i++) {
+                int pos = y * rowSize + i;
+                int a = i >= bpp ? pixels[pos - bpp] & 0xff : 0;
+                int b = y > 0 ? pixels[pos - rowSize] & 0xff : 0;
+                int c = i >= bpp && y > 0 ? pixels[pos - rowSize - bpp] & 0xff : 0;
+                int predictor = switch (filter) {
+                    case 1 -> a;
+                    case 2 -> b;
+                    case 3 -> (a + b) / 2;
+                    case 4 -> paeth(a, b, c);
+                    default -> 0;
+                };
+                filtered.write(pixels[pos] - predictor);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[] { (byte) 137, 80, 78, 71, 13, 10, 26, 10 });
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(w);
+        headerOut.writeInt(h);
+        headerOut.write(new byte[] { (byte) bitDepth, 6, 0, 0, 0 });
+        writeChunk(out, "IHDR", header.toByteArray());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            filtered.writeTo(deflater);
+        }
+        writeChunk(out, "IDAT", compressed.toByteArray());
+        writeChunk(out, "IEND", new byte[0]);
+        return bytes.toByteArray();
+    }
+
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a), pb = Math.abs(p - b), pc = Math.abs(p - c);
+        return (pa <= pb && pa <= pc) ? a : (pb <= pc) ? b : c;
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(type.getBytes(StandardCharsets.US_ASCII));
+        crc.update(data);
+        out.writeInt(data.length);
+        out.writeBytes(type);
+        out.write(data);
+        out.writeInt((int) crc.getValue());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sw;
+
+import java.util.Random;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.CubicCurve;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.stage.Stage;
+
+/**
+ * Measures how fast the software pipeline renders a large dashboard-like
+ * scene, to compare rendering on a single thread with rendering in bands.
+ * The scene is rendered with {@code Node.snapshot} so that the result does
+ * not depend on the refresh rate of the screen.
+ * <p>
+ * Run it once with each setting and compare the reported throughput:
+ * <pre>
+ *   java -Dprism.order=sw sw.SWBandBenchmark
+ *   java -Dprism.order=sw -Dprism.sw.tileThreads=8 sw.SWBandBenchmark
+ * </pre>
+ * The optional arguments are the width and height of the scene, and the
+ * number of frames to render (default: 1920 1080 200).
+ */
+public class SWBandBenchmark {
+
+    public static void main(String[] args) {
+        Application.launch(FxApp.class, args);
+    }
+
+    public static class FxApp extends Application {
+
+        private static final int WARMUP_FRAMES = 20;
+
+        @Override
+        public void start(Stage stage) {
+            var params = getParameters().getUnnamed();
+            int width = params.size() > 0 ? Integer.parseInt(params.get(0)) : 1920;
+            int height = params.size() > 1 ? Integer.parseInt(params.get(1)) : 1080;
+            int frames = params.size() > 2 ? Integer.parseInt(params.get(2)) : 200;
+
+            Pane root = new Pane(createDashboard(width, height));
+            stage.setScene(new Scene(root, width, height));
+            stage.show();
+
+            // Let the stage appear before starting to measure
+            Platform.runLater(() -> {
+                WritableImage image = new WritableImage(width, height);
+                SnapshotParameters snapshotParams = new SnapshotParameters();
+
+                for (int i = 0; i < WARMUP_FRAMES; i++) {
+                    root.snapshot(snapshotParams, image);
+                }
+
+                long start = System.nanoTime();
+                for (int i = 0; i < frames; i++) {
+                    root.snapshot(snapshotParams, image);
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf("pipeline: %s, prism.sw.tileThreads: %s%n",
+                        System.getProperty("prism.order", "default"),
+                        System.getProperty("prism.sw.tileThreads", "0"));
+                System.out.printf("%d frames of %dx%d in %.2f s: %.1f frames/s, %.1f Mpixels/s%n",
+                        frames, width, height, seconds, frames / seconds,
+                        (double) frames * width * height / seconds / 1e6);
+                Platform.exit();
+            });
+        }
+
+        private static Group createDashboard(int width, int height) {
+            Group group = new Group();
+            Random random = new Random(42);
+
+            Rectangle background = new Rectangle(width, height, new LinearGradient(0, 0, 0, 1, true,
+                    CycleMethod.NO_CYCLE, new Stop(0, Color.web("#1b2838")), new Stop(1, Color.web("#0b1118"))));
+            group.getChildren().add(background);
+
+            // Panels with gradients and rounded corners
+            int columns = 4;
+            int rows = 3;
+            double panelWidth = width / (double) columns;
+            double panelHeight = height / (double) rows;
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    Rectangle panel = new Rectangle(column * panelWidth + 8, row * panelHeight + 8,
+                            panelWidth - 16, panelHeight - 16);
+                    panel.setArcWidth(24);
+                    panel.setArcHeight(24);
+                    panel.setFill(new RadialGradient(0, 0, 0.5, 0.5, 0.8, true, CycleMethod.NO_CYCLE,
+                            new Stop(0, Color.hsb(random.nextDouble() * 360, 0.4, 0.5, 0.9)),
+                            new Stop(1, Color.hsb(random.nextDouble() * 360, 0.6, 0.2, 0.9))));
+                    panel.setStroke(Color.gray(0.8, 0.5));
+                    panel.setStrokeWidth(2);
+                    group.getChildren().add(panel);
+                }
+            }
+
+            // Large translucent shapes that overlap several panels
+            for (int i = 0; i < 12; i++) {
+                Circle circle = new Circle(random.nextDouble() * width, random.nextDouble() * height,
+                        height / 8.0 + random.nextDouble() * height / 4.0,
+                        Color.hsb(random.nextDouble() * 360, 0.7, 0.9, 0.25));
+                group.getChildren().add(circle);
+            }
+
+            // Thick curves, as found in charts
+            for (int i = 0; i < 24; i++) {
+                CubicCurve curve = new CubicCurve(
+                        0, random.nextDouble() * height,
+                        width / 3.0, random.nextDouble() * height,
+                        2 * width / 3.0, random.nextDouble() * height,
+                        width, random.nextDouble() * height);
+                curve.setFill(null);
+                curve.setStroke(Color.hsb(random.nextDouble() * 360, 0.8, 1.0, 0.6));
+                curve.setStrokeWidth(6);
+                curve.setStrokeLineJoin(StrokeLineJoin.ROUND);
+                group.getChildren().add(curve);
+            }
+            return group;
+        }
+    }
+}
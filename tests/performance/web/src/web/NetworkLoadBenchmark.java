@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package web;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Worker;
+import javafx.scene.web.WebEngine;
+
+/**
+ * Measures how long a {@code WebEngine} takes to load a page with many
+ * small subresources from a local HTTP server that adds latency to every
+ * response.
+ * <p>
+ * The subresources are images, style sheets and scripts, which are loaded
+ * from two host names of the server so that more than one host is used.
+ * Run it with each way of executing loaders to compare:
+ * <pre>
+ *   java web.NetworkLoadBenchmark
+ *   java -Dcom.sun.webkit.useVirtualThreads=true web.NetworkLoadBenchmark
+ *   java -Dcom.sun.webkit.useHTTP2Loader=false web.NetworkLoadBenchmark
+ *   java -Dcom.sun.webkit.useHTTP2Loader=false -Dcom.sun.webkit.useVirtualThreads=true web.NetworkLoadBenchmark
+ * </pre>
+ * The optional arguments are the number of subresources, the latency in
+ * milliseconds and the number of iterations (default: 300 20 10).
+ */
+public class NetworkLoadBenchmark {
+
+    // A 1x1 transparent GIF
+    private static final byte[] GIF = {
+        'G', 'I', 'F', '8', '9', 'a', 1, 0, 1, 0, (byte) 0x80, 0, 0, 0, 0, 0,
+        (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x21, (byte) 0xf9, 4, 1, 0, 0, 0, 0,
+        0x2c, 0, 0, 0, 0, 1, 0, 1, 0, 0, 2, 2, 0x44, 1, 0, 0x3b
+    };
+
+    private static final AtomicInteger requests = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> serve(exchange, count, latency));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        Platform.startup(() -> {});
+        try {
+            int port = server.getAddress().getPort();
+            WebEngine engine = callOnFxThread(WebEngine::new);
+            // The first load warms up
+            load(engine, port, 0);
+            long start = System.nanoTime();
+            requests.set(0);
+            for (int i = 1; i <= iterations; i++) {
+                load(engine, port, i);
+            }
+            double ms = (System.nanoTime() - start) / 1e6 / iterations;
+            System.out.printf("virtual threads: %s, HTTP/2 loader: %s%n",
+                    Boolean.getBoolean("com.sun.webkit.useVirtualThreads"),
+                    !"false".equalsIgnoreCase(System.getProperty("com.sun.webkit.useHTTP2Loader")));
+            System.out.printf("%d subresources, %d ms latency: %8.2f ms per page, %d requests%n",
+                    count, latency, ms, requests.get());
+        } finally {
+            Platform.exit();
+            server.stop(0);
+            System.exit(0);
+        }
+    }
+
+    // Loads the page and waits until the page and all its subresources are
+    // loaded. The query string makes sure that nothing is taken from a cache.
+    private static void load(WebEngine engine, int port, int iteration) throws Exception {
+        CompletableFuture<Worker.State> done = new CompletableFuture<>();
+        ChangeListener<Worker.State> listener = (obs, oldState, newState) -> {
+            if (newState == Worker.State.SUCCEEDED || newState == Worker.State.FAILED) {
+                done.complete(newState);
+            }
+        };
+        Platform.runLater(() -> {
+            engine.getLoadWorker().stateProperty().addListener(listener);
+            engine.load("http://127.0.0.1:" + port + "/index.html?" + iteration);
+        });
+        Worker.State state = done.get(5, TimeUnit.MINUTES);
+        Platform.runLater(() -> engine.getLoadWorker().stateProperty().removeListener(listener));
+        if (state != Worker.State.SUCCEEDED) {
+            throw new IllegalStateException("Page load failed");
+        }
+    }
+
+    private static <T> T callOnFxThread(Callable<T> callable) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(callable.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get();
+    }
+
+    private static void serve(HttpExchange exchange, int count, long latency) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            Thread.sleep(latency);
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            int port = exchange.getLocalAddress().getPort();
+            byte[] body;
+            String type;
+            if (path.equals("/index.html")) {
+                body = createPage(count, port, query).getBytes(StandardCharsets.UTF_8);
+                type = "text/html";
+            } else if (path.endsWith(".gif")) {
+                body = GIF;
+                type = "image/gif";
+            } else if (path.endsWith(".css")) {
+                body = (".c" + path.hashCode() + " { color: red; }").getBytes(StandardCharsets.UTF_8);
+                type = "text/css";
+            } else if (path.endsWith(".js")) {
+                body = "var x = 0;".getBytes(StandardCharsets.UTF_8);
+                type = "text/javascript";
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", type);
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // Creates a page whose subresources are mostly images, with a style
+    // sheet and a script for every tenth of them, spread over two hosts.
+    private static String createPage(int count, int port, String query) {
+        StringBuilder page = new StringBuilder("<!DOCTYPE html><html><head>");
+        for (int i = 0; i < count; i += 10) {
+            String base = "http://" + (i % 20 == 0 ? "127.0.0.1" : "localhost") + ":" + port;
+            page.append("<link rel='stylesheet' href='").append(base)
+                .append("/s").append(i).append(".css?").append(query).append("'>");
+            page.append("<script src='").append(base)
+                .append("/s").append(i).append(".js?").append(query).append("'></script>");
+        }
+        page.append("</head><body>");
+        for (int i = 0; i < count; i++) {
+            String base = "http://" + (i % 2 == 0 ? "127.0.0.1" : "localhost") + ":" + port;
+            page.append("<img src='").append(base)
+                .append("/i").append(i).append(".gif?").append(query).append("'>");
+        }
+        return page.append("</body></html>").toString();
+    }
+}
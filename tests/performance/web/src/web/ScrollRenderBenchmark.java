@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package web;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.concurrent.Worker;
+import javafx.scene.Scene;
+import javafx.scene.web.WebView;
+import javafx.stage.Stage;
+
+/**
+ * Measures how long rendering takes, and how much memory the render thread
+ * allocates, while a {@code WebView} scrolls through a long page.
+ * <p>
+ * The page consists of table rows with colored cells and short texts, which
+ * WebKit records as runs of rectangle fills and glyph runs in its render
+ * queues. Every frame scrolls the page by a fixed step, so that the render
+ * queues of the newly exposed part are replayed on the render thread.
+ * <pre>
+ *   java web.ScrollRenderBenchmark
+ * </pre>
+ * The optional arguments are the number of rows and the number of frames
+ * (default: 5000 600).
+ */
+public class ScrollRenderBenchmark {
+
+    private static final int STEP = 40;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+
+        CompletableFuture<WebView> loaded = new CompletableFuture<>();
+        Platform.startup(() -> {
+            WebView view = new WebView();
+            Stage stage = new Stage();
+            stage.setScene(new Scene(view, 1024, 768));
+            stage.show();
+            view.getEngine().getLoadWorker().stateProperty().addListener((obs, oldState, newState) -> {
+                if (newState == Worker.State.SUCCEEDED) {
+                    loaded.complete(view);
+                }
+            });
+            view.getEngine().loadContent(createPage(rows));
+        });
+        try {
+            WebView view = loaded.get(1, TimeUnit.MINUTES);
+            // The first pass warms up
+            scroll(view, frames);
+            long allocated = getRenderThreadAllocatedBytes();
+            double ms = scroll(view, frames);
+            allocated = getRenderThreadAllocatedBytes() - allocated;
+            System.out.printf("%d rows, %d frames: %8.2f ms per frame, %8.1f KB allocated per frame on the render thread%n",
+                    rows, frames, ms, allocated / 1024.0 / frames);
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    // Scrolls the page from the top by one step per frame, and returns the
+    // average duration of a frame in milliseconds.
+    private static double scroll(WebView view, int frames) throws Exception {
+        CompletableFuture<Double> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            view.getEngine().executeScript("window.scrollTo(0, 0)");
+            new AnimationTimer() {
+                private int frame = 0;
+                private long start;
+
+                @Override public void handle(long now) {
+                    if (frame == 0) {
+                        start = now;
+                    } else if (frame == frames) {
+                        stop();
+                        done.complete((now - start) / 1e6 / frames);
+                        return;
+                    }
+                    view.getEngine().executeScript("window.scrollBy(0, " + STEP + ")");
+                    frame++;
+                }
+            }.start();
+        });
+        return done.get(10, TimeUnit.MINUTES);
+    }
+
+    // Returns the bytes allocated so far by the threads that render scenes
+    private static long getRenderThreadAllocatedBytes() {
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("QuantumRenderer"))
+                .mapToLong(Thread::threadId)
+                .toArray();
+        return Arrays.stream(bean.getThreadAllocatedBytes(ids)).filter(b -> b > 0).sum();
+    }
+
+    private static String createPage(int rows) {
+        String[] colors = { "#f4f4f4", "#e0ecf8", "#fdf2d0", "#e6f4e6" };
+        StringBuilder page = new StringBuilder(
+                "<!DOCTYPE html><html><head><style>"
+                + "td { padding: 2px 6px; border: 1px solid #ccc; font: 13px sans-serif; }"
+                + "</style></head><body><table>");
+        for (int i = 0; i < rows; i++) {
+            page.append("<tr style='background:").append(colors[i % colors.length]).append("'>");
+            for (int j = 0; j < 8; j++) {
+                page.append("<td>Row ").append(i).append(" cell ").append(j).append("</td>");
+            }
+            page.append("</tr>");
+        }
+        return page.append("</table></body></html>").toString();
+    }
+}